@@ -0,0 +1,173 @@
+package dev.ked.stormcraft.bench;
+
+import dev.ked.stormcraft.config.StormcraftSettings;
+import dev.ked.stormcraft.model.StormProfile;
+import dev.ked.stormcraft.model.StormType;
+import dev.ked.stormcraft.model.TravelingStorm;
+import dev.ked.stormcraft.zones.ZoneManager;
+import dev.ked.stormcraft.zones.ZoneSettings;
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Builds Stormcraft objects without a running server.
+ * Worlds are dynamic proxies that only answer identity, name and UID calls;
+ * anything else returns a default value, so only pure-logic code paths can be benchmarked.
+ */
+final class BenchFixtures {
+    private BenchFixtures() {
+    }
+
+    /**
+     * Creates a stub world with the given name.
+     */
+    static World world(String name) {
+        UUID uid = UUID.nameUUIDFromBytes(name.getBytes());
+        return (World) Proxy.newProxyInstance(World.class.getClassLoader(), new Class<?>[]{World.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getName" -> name;
+                    case "getUID" -> uid;
+                    case "getMinHeight" -> -64;
+                    case "getMaxHeight" -> 320;
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "toString" -> "StubWorld{" + name + "}";
+                    default -> defaultValue(method.getReturnType());
+                });
+    }
+
+    static StormProfile profile(StormType type) {
+        return new StormProfile(type, 600, 1800, 0.5, 1.5, 0.2, 1.0, 300, 900, false, -1, 0.0);
+    }
+
+    /**
+     * Creates storms scattered around the origin, each with a short random path.
+     */
+    static List<TravelingStorm> storms(World world, int count, long seed) {
+        Random random = new Random(seed);
+        List<TravelingStorm> storms = new ArrayList<>(count);
+        StormType[] types = StormType.values();
+
+        for (int i = 0; i < count; i++) {
+            Location spawn = new Location(world, random.nextDouble() * 20000 - 10000, 64, random.nextDouble() * 20000 - 10000);
+            List<Location> waypoints = new ArrayList<>();
+            for (int w = 0; w < 4; w++) {
+                waypoints.add(new Location(world, random.nextDouble() * 20000 - 10000, 64, random.nextDouble() * 20000 - 10000));
+            }
+            int duration = 600 + random.nextInt(1200);
+            TravelingStorm storm = new TravelingStorm(profile(types[i % types.length]), duration,
+                    0.5 + random.nextDouble(), spawn, waypoints, 0.2 + random.nextDouble(),
+                    300 + random.nextDouble() * 600, 0, true, 0.30, 0.50, 0.20);
+            storm.setRemainingSeconds(random.nextInt(duration) + 1);
+            storms.add(storm);
+        }
+
+        return storms;
+    }
+
+    /**
+     * Creates a ZoneManager using circular zones without running its config-loading constructor.
+     */
+    static ZoneManager circularZones(double centerX, double centerZ,
+                                     double stormlandsRadius, double stormZoneRadius, double safeZoneRadius) {
+        try {
+            ZoneManager zoneManager = allocate(ZoneManager.class);
+            ZoneSettings settings = new ZoneSettings(1.0, new EnumMap<>(StormType.class), 1.0, 1.0, false, 0.0, false, 0.0, null);
+            StormcraftSettings.Zones zones = new StormcraftSettings.Zones(true, centerX, centerZ,
+                    stormlandsRadius, stormZoneRadius, safeZoneRadius,
+                    stormlandsRadius * stormlandsRadius, stormZoneRadius * stormZoneRadius, safeZoneRadius * safeZoneRadius,
+                    settings, settings, settings, false, 64, false, "", 16, Map.of(), Map.of());
+            set(zoneManager, "zones", zones);
+            // No per-world layouts, so every world uses the fallback layout
+            Class<?> worldZones = Class.forName(ZoneManager.class.getName() + "$WorldZones");
+            Constructor<?> constructor = worldZones.getDeclaredConstructor(World.class, StormcraftSettings.Zones.class, boolean.class);
+            constructor.setAccessible(true);
+            set(zoneManager, "worldZones", Array.newInstance(worldZones, 0));
+            set(zoneManager, "fallbackZones", constructor.newInstance(null, zones, false));
+            set(zoneManager, "enabled", true);
+            return zoneManager;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Failed to build ZoneManager fixture", e);
+        }
+    }
+
+    /**
+     * Creates an instance without running any constructor.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T allocate(Class<T> type) throws ReflectiveOperationException {
+        Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+        Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+        theUnsafe.setAccessible(true);
+        Object unsafe = theUnsafe.get(null);
+        return (T) unsafeClass.getMethod("allocateInstance", Class.class).invoke(unsafe, type);
+    }
+
+    /**
+     * Sets a field declared by the target's class or one of its superclasses.
+     */
+    static void set(Object target, String fieldName, Object value) throws ReflectiveOperationException {
+        Field field = field(target.getClass(), fieldName);
+        field.setAccessible(true);
+        field.set(target, value);
+    }
+
+    /**
+     * Reads a field declared by the target's class or one of its superclasses.
+     */
+    static Object get(Object target, String fieldName) throws ReflectiveOperationException {
+        Field field = field(target.getClass(), fieldName);
+        field.setAccessible(true);
+        return field.get(target);
+    }
+
+    private static Field field(Class<?> type, String fieldName) throws NoSuchFieldException {
+        for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+            try {
+                return current.getDeclaredField(fieldName);
+            } catch (NoSuchFieldException e) {
+                // Declared further up
+            }
+        }
+        throw new NoSuchFieldException(type.getName() + "." + fieldName);
+    }
+
+    static Object defaultValue(Class<?> type) {
+        if (!type.isPrimitive() || type == void.class) {
+            return null;
+        }
+        if (type == boolean.class) {
+            return false;
+        }
+        if (type == char.class) {
+            return '\0';
+        }
+        if (type == double.class) {
+            return 0.0;
+        }
+        if (type == float.class) {
+            return 0.0f;
+        }
+        if (type == long.class) {
+            return 0L;
+        }
+        if (type == byte.class) {
+            return (byte) 0;
+        }
+        if (type == short.class) {
+            return (short) 0;
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,264 @@
+package dev.ked.stormcraft.bench;
+
+import dev.ked.stormcraft.StormcraftPlugin;
+import dev.ked.stormcraft.perf.PerfMonitor;
+import dev.ked.stormcraft.perf.TaskTimer;
+import dev.ked.stormcraft.perf.TickRecorder;
+import org.bukkit.World;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Headless load simulation: runs the plugin's own storm tasks (StormManager, TravelingStormManager,
+ * DamageTask, StormTracker, BlockDamageTask, StormSnapshotService) against scripted players through
+ * simulated server ticks, and reports per-task cost distributions and allocations.
+ *
+ * The plugin runs on a {@link SimServer}: a stubbed Bukkit server with synthetic terrain, advanced by a
+ * manual scheduler rather than the wall clock, so an hour of play runs as fast as the CPU allows.
+ * Storms spawn, travel and end through the erratic burst schedule with no delay between bursts,
+ * which keeps the world at the storm cap. Exposure grace and contact-check sleeps follow the simulated
+ * ticks. Stub calls cost less than a real server's block and entity lookups.
+ *
+ * It lives with the benchmarks rather than in a test source set: it reports costs instead of asserting,
+ * a full run takes minutes, and the plugin module has no test dependencies.
+ *
+ * With {@code record=true} the run is also recorded with the plugin's {@link TickRecorder}, as
+ * /storm perf record would on a server, giving a trace for {@link TraceReplay}.
+ *
+ * Run: java -cp target/benchmarks.jar dev.ked.stormcraft.bench.LoadSimulation players=500 storms=40 minutes=60
+ */
+public final class LoadSimulation {
+    private static final int TICKS_PER_SECOND = 20;
+    private static final long TICK_BUDGET_NANOS = 50_000_000L;
+    private static final String WORLD_NAME = "world";
+
+    // Heightmap resolution in blocks
+    private static final int CELL_SIZE = 16;
+
+    private final int playerCount;
+    private final int stormCount;
+    private final int minutes;
+    private final double halfSize;
+    private final boolean record;
+    private final Random random;
+
+    // Whole-tick cost, kept apart from the plugin's monitor so the throttle governor doesn't count it twice
+    private final PerfMonitor tickMonitor = new PerfMonitor(null, true);
+
+    private SimServer server;
+    private StormcraftPlugin plugin;
+    private TickRecorder recorder;
+    private SimPlayer[] players;
+    private int[] heightmap;
+    private int cellsPerSide;
+    private long tick = 0;
+    private long overBudgetTicks = 0;
+    private double averageTickMillis = 0;
+
+    LoadSimulation(int playerCount, int stormCount, int minutes, double halfSize, boolean record, long seed) {
+        this.playerCount = playerCount;
+        this.stormCount = stormCount;
+        this.minutes = minutes;
+        this.halfSize = halfSize;
+        this.record = record;
+        this.random = new Random(seed);
+    }
+
+    public static void main(String[] args) throws IOException {
+        int players = 500;
+        int storms = 40;
+        int minutes = 60;
+        double halfSize = 5000;
+        boolean record = false;
+        long seed = 1L;
+
+        for (String arg : args) {
+            String[] parts = arg.split("=", 2);
+            if (parts.length != 2) {
+                System.err.println("Ignoring argument '" + arg + "' (expected key=value)");
+                continue;
+            }
+            switch (parts[0]) {
+                case "players" -> players = Integer.parseInt(parts[1]);
+                case "storms" -> storms = Integer.parseInt(parts[1]);
+                case "minutes" -> minutes = Integer.parseInt(parts[1]);
+                case "size" -> halfSize = Double.parseDouble(parts[1]) / 2.0;
+                case "record" -> record = Boolean.parseBoolean(parts[1]);
+                case "seed" -> seed = Long.parseLong(parts[1]);
+                default -> System.err.println("Unknown option: " + parts[0]);
+            }
+        }
+
+        LoadSimulation simulation = new LoadSimulation(players, storms, minutes, halfSize, record, seed);
+        simulation.setUp();
+        long wallStart = System.nanoTime();
+        simulation.run();
+        long wallNanos = System.nanoTime() - wallStart;
+        simulation.printReport(wallNanos);
+    }
+
+    private void setUp() throws IOException {
+        buildHeightmap();
+
+        server = new SimServer();
+        World world = server.addWorld(WORLD_NAME, (x, z) -> heightAt(x, z));
+
+        // Zones scaled to the map, with the storm cap reached by back-to-back bursts
+        plugin = server.enable(List.of(WORLD_NAME), Map.of(
+                "zones.stormlands.radius", halfSize / 4,
+                "zones.stormZone.radius", halfSize / 2,
+                "zones.safeZone.radius", halfSize,
+                "travelingStorms.erraticSpawning.maxConcurrentStorms", stormCount,
+                "travelingStorms.erraticSpawning.minDelaySeconds", 0,
+                "travelingStorms.erraticSpawning.maxDelaySeconds", 0));
+
+        players = new SimPlayer[playerCount];
+        for (int i = 0; i < playerCount; i++) {
+            // A quarter of players spend their time below the surface (mines, bases)
+            double x = randomCoord();
+            double z = randomCoord();
+            SimServer.PlayerState state = server.addPlayer(new UUID(0L, i), "Player" + i, world, x, 0, z);
+            players[i] = new SimPlayer(state, random.nextDouble() < 0.25);
+            players[i].pickTarget();
+        }
+
+        plugin.getStormManager().start();
+        plugin.getSnapshotService().start();
+        if (record) {
+            recorder = new TickRecorder(plugin, plugin.getConfigManager());
+            recorder.start();
+        }
+    }
+
+    private void run() {
+        long totalTicks = (long) minutes * 60 * TICKS_PER_SECOND;
+        TaskTimer tickTimer = tickMonitor.timer("Tick (plugin total)");
+        ManualScheduler scheduler = server.getScheduler();
+
+        for (tick = 1; tick <= totalTicks; tick++) {
+            // Player movement is the server's work, not the plugin's, so it stays outside the timers
+            for (SimPlayer player : players) {
+                player.step();
+            }
+
+            long tickStart = System.nanoTime();
+            tickTimer.begin();
+            scheduler.tick();
+            tickTimer.end();
+            long tickNanos = System.nanoTime() - tickStart;
+            if (tickNanos > TICK_BUDGET_NANOS) {
+                overBudgetTicks++;
+            }
+            // Paper averages over the last 100 ticks
+            averageTickMillis += (tickNanos / 1e6 - averageTickMillis) / 100.0;
+            server.setAverageTickMillis(averageTickMillis);
+
+            // Storm planning runs off the main thread on a server, so it isn't part of the tick
+            scheduler.runAsyncTasks();
+        }
+
+        if (recorder != null) {
+            recorder.stop();
+        }
+    }
+
+    // World model
+
+    /**
+     * Builds rolling terrain from a few summed sine waves; only the surface height matters for exposure.
+     */
+    private void buildHeightmap() {
+        cellsPerSide = (int) Math.ceil(halfSize * 2 / CELL_SIZE) + 1;
+        heightmap = new int[cellsPerSide * cellsPerSide];
+        double phaseA = random.nextDouble() * Math.PI * 2;
+        double phaseB = random.nextDouble() * Math.PI * 2;
+
+        for (int cz = 0; cz < cellsPerSide; cz++) {
+            for (int cx = 0; cx < cellsPerSide; cx++) {
+                double height = 70
+                        + 12 * Math.sin(cx * 0.05 + phaseA) * Math.cos(cz * 0.04 + phaseB)
+                        + 4 * Math.sin(cx * 0.31 + cz * 0.27);
+                heightmap[cz * cellsPerSide + cx] = (int) height;
+            }
+        }
+    }
+
+    private int heightAt(double x, double z) {
+        int cx = clampCell((int) ((x + halfSize) / CELL_SIZE));
+        int cz = clampCell((int) ((z + halfSize) / CELL_SIZE));
+        return heightmap[cz * cellsPerSide + cx];
+    }
+
+    private int clampCell(int cell) {
+        return Math.max(0, Math.min(cellsPerSide - 1, cell));
+    }
+
+    private double randomCoord() {
+        return random.nextDouble() * halfSize * 2 - halfSize;
+    }
+
+    // Report
+
+    private void printReport(long wallNanos) {
+        long simulatedTicks = tick - 1;
+        System.out.printf(Locale.ROOT, "%nStormcraft load simulation: %d players, up to %d storms, %d min (%d ticks), %.0fx%.0f blocks%n",
+                playerCount, stormCount, minutes, simulatedTicks, halfSize * 2, halfSize * 2);
+        System.out.printf(Locale.ROOT, "Wall time %.1fs, %.1fx real time, %d ticks over the 50ms budget, allocation tracking %s%n%n",
+                wallNanos / 1e9, (simulatedTicks / (double) TICKS_PER_SECOND) / (wallNanos / 1e9), overBudgetTicks,
+                tickMonitor.isAllocationTrackingAvailable() ? "on" : "unavailable");
+
+        PerfReport.print(plugin.getPerfMonitor(), tickMonitor);
+
+        System.out.printf(Locale.ROOT, "%nStorms active at the end: %d, throttle level: %d%n",
+                plugin.getStormManager().getActiveStorms().size(), plugin.getThrottleGovernor().getLevel());
+        System.out.printf(Locale.ROOT, "Players exposed at the end: %d, player damage dealt: %.0f%n",
+                plugin.getMetrics().getExposedPlayers(), plugin.getMetrics().getPlayerDamage());
+        if (recorder != null) {
+            File trace = recorder.getFile();
+            System.out.printf(Locale.ROOT, "Recorded %d frames (%d dropped) to %s%n",
+                    recorder.getFramesWritten(), recorder.getDroppedFrames(), trace.getAbsolutePath());
+        }
+    }
+
+    /**
+     * Scripted player walking between random targets at sprint-ish speed.
+     */
+    private final class SimPlayer {
+        private static final double BLOCKS_PER_TICK = 0.25;
+
+        private final SimServer.PlayerState state;
+        private final boolean underground;
+        private double targetX;
+        private double targetZ;
+
+        private SimPlayer(SimServer.PlayerState state, boolean underground) {
+            this.state = state;
+            this.underground = underground;
+        }
+
+        private void pickTarget() {
+            targetX = Math.max(-halfSize, Math.min(halfSize, state.x + random.nextDouble() * 600 - 300));
+            targetZ = Math.max(-halfSize, Math.min(halfSize, state.z + random.nextDouble() * 600 - 300));
+        }
+
+        private void step() {
+            double dx = targetX - state.x;
+            double dz = targetZ - state.z;
+            double distance = Math.sqrt(dx * dx + dz * dz);
+            if (distance <= BLOCKS_PER_TICK) {
+                pickTarget();
+            } else {
+                state.x += dx / distance * BLOCKS_PER_TICK;
+                state.z += dz / distance * BLOCKS_PER_TICK;
+            }
+            // Standing on the surface block, or well below it
+            state.y = heightAt(state.x, state.z) + (underground ? -12 : 1);
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package dev.ked.stormcraft.bench;
+
+import dev.ked.stormcraft.schedule.TaskHandle;
+import dev.ked.stormcraft.schedule.TaskScheduler;
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * TaskScheduler for the offline harnesses: ticks only advance when {@link #tick()} is called,
+ * so the plugin's real tasks run on simulated time as fast as the CPU allows. Its clock follows the ticks
+ * (50ms each), so the plugin's real-time timers (exposure grace, contact-check sleeps) keep their in-game length.
+ * Everything runs on the calling thread. Entity and location tasks run immediately, as on Paper's
+ * main thread; async tasks are queued and run by {@link #runAsyncTasks()}, outside the tick.
+ */
+final class ManualScheduler implements TaskScheduler {
+    private final List<Task> tasks = new ArrayList<>();
+    private final List<Runnable> asyncTasks = new ArrayList<>();
+    private final long startMillis = System.currentTimeMillis();
+    private long tick = 0;
+
+    /**
+     * Advances one tick and runs every task due in it, in the order they were scheduled.
+     * Tasks scheduled while ticking run on a later tick, as on the server.
+     */
+    void tick() {
+        tick++;
+        for (int i = 0; i < tasks.size(); i++) {
+            Task task = tasks.get(i);
+            if (task.cancelled || task.nextRun > tick) {
+                continue;
+            }
+            if (task.period > 0) {
+                task.nextRun += task.period;
+            } else {
+                task.cancelled = true;
+            }
+            task.action.run();
+        }
+        tasks.removeIf(task -> task.cancelled);
+    }
+
+    /**
+     * Runs the queued async tasks, including ones they queue in turn.
+     */
+    void runAsyncTasks() {
+        while (!asyncTasks.isEmpty()) {
+            List<Runnable> batch = new ArrayList<>(asyncTasks);
+            asyncTasks.clear();
+            for (Runnable task : batch) {
+                task.run();
+            }
+        }
+    }
+
+    long getTick() {
+        return tick;
+    }
+
+    @Override
+    public TaskHandle runTimer(Runnable task, long delayTicks, long periodTicks) {
+        return schedule(task, delayTicks, Math.max(1, periodTicks));
+    }
+
+    @Override
+    public TaskHandle runLater(Runnable task, long delayTicks) {
+        return schedule(task, delayTicks, 0);
+    }
+
+    @Override
+    public void runGlobal(Runnable task) {
+        schedule(task, 1, 0);
+    }
+
+    @Override
+    public void runAsync(Runnable task) {
+        asyncTasks.add(task);
+    }
+
+    @Override
+    public void runForEntity(Entity entity, Runnable task) {
+        task.run();
+    }
+
+    @Override
+    public void runForEntityLater(Entity entity, Runnable task, long delayTicks) {
+        schedule(task, delayTicks, 0);
+    }
+
+    @Override
+    public void runAtLocation(Location location, Runnable task) {
+        task.run();
+    }
+
+    @Override
+    public boolean isRegionThreaded() {
+        return false;
+    }
+
+    @Override
+    public long currentTimeMillis() {
+        return startMillis + tick * 50;
+    }
+
+    private Task schedule(Runnable action, long delayTicks, long periodTicks) {
+        // Like Bukkit, a delay below one tick still waits for the next tick
+        Task task = new Task(action, tick + Math.max(1, delayTicks), periodTicks);
+        tasks.add(task);
+        return task;
+    }
+
+    private static final class Task implements TaskHandle {
+        private final Runnable action;
+        private final long period;
+        private long nextRun;
+        private boolean cancelled;
+
+        private Task(Runnable action, long nextRun, long period) {
+            this.action = action;
+            this.nextRun = nextRun;
+            this.period = period;
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+}
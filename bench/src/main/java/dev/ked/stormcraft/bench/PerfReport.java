@@ -0,0 +1,63 @@
+package dev.ked.stormcraft.bench;
+
+import dev.ked.stormcraft.perf.PerfMonitor;
+import dev.ked.stormcraft.perf.TaskTimer;
+
+import java.util.Locale;
+
+/**
+ * Prints PerfMonitor timers as a console table for the offline harnesses.
+ */
+final class PerfReport {
+    private PerfReport() {
+    }
+
+    /**
+     * Prints one table with the timers of every monitor, in order.
+     */
+    static void print(PerfMonitor... perfMonitors) {
+        System.out.printf(Locale.ROOT, "%-24s %9s %10s %10s %10s %10s %10s %10s %12s %12s%n",
+                "Task", "Runs", "Mean", "p50", "p95", "p99", "Max", "Work/run", "Alloc/run", "Alloc total");
+        for (PerfMonitor perfMonitor : perfMonitors) {
+            for (TaskTimer timer : perfMonitor.getTimers()) {
+                printRow(timer);
+            }
+        }
+    }
+
+    private static void printRow(TaskTimer timer) {
+        System.out.printf(Locale.ROOT, "%-24s %9d %10s %10s %10s %10s %10s %10.1f %12s %12s%n",
+                timer.getName(), timer.getInvocations(),
+                formatNanos(timer.getMeanNanos()),
+                formatNanos(timer.getPercentileNanos(0.50)),
+                formatNanos(timer.getPercentileNanos(0.95)),
+                formatNanos(timer.getPercentileNanos(0.99)),
+                formatNanos(timer.getMaxNanos()),
+                timer.getWorkItemsPerRun(),
+                formatBytes(timer.getAllocatedBytesPerRun()),
+                formatBytes(timer.getTotalAllocatedBytes()));
+    }
+
+    static String formatNanos(double nanos) {
+        if (nanos >= 1_000_000) {
+            return String.format(Locale.ROOT, "%.2fms", nanos / 1_000_000);
+        }
+        if (nanos >= 1_000) {
+            return String.format(Locale.ROOT, "%.1fus", nanos / 1_000);
+        }
+        return String.format(Locale.ROOT, "%.0fns", nanos);
+    }
+
+    static String formatBytes(double bytes) {
+        if (bytes >= 1024 * 1024 * 1024) {
+            return String.format(Locale.ROOT, "%.2fGB", bytes / (1024.0 * 1024 * 1024));
+        }
+        if (bytes >= 1024 * 1024) {
+            return String.format(Locale.ROOT, "%.1fMB", bytes / (1024.0 * 1024));
+        }
+        if (bytes >= 1024) {
+            return String.format(Locale.ROOT, "%.1fKB", bytes / 1024.0);
+        }
+        return String.format(Locale.ROOT, "%.0fB", bytes);
+    }
+}
@@ -0,0 +1,506 @@
+package dev.ked.stormcraft.bench;
+
+import dev.ked.stormcraft.StormcraftPlugin;
+import dev.ked.stormcraft.api.StormSnapshotService;
+import dev.ked.stormcraft.config.ConfigManager;
+import dev.ked.stormcraft.debug.DebugLogger;
+import dev.ked.stormcraft.economy.EssenceAccrualLedger;
+import dev.ked.stormcraft.exposure.PlayerExposureUtil;
+import dev.ked.stormcraft.integration.WorldGuardIntegration;
+import dev.ked.stormcraft.perf.PerfMonitor;
+import dev.ked.stormcraft.perf.StormMetrics;
+import dev.ked.stormcraft.perf.ThrottleGovernor;
+import dev.ked.stormcraft.schedule.StormManager;
+import dev.ked.stormcraft.schedule.StormWorlds;
+import dev.ked.stormcraft.ui.StormUIPreferences;
+import dev.ked.stormcraft.zones.BiomeRasterCache;
+import dev.ked.stormcraft.zones.BossArenaManager;
+import dev.ked.stormcraft.zones.ZoneManager;
+import org.bukkit.Bukkit;
+import org.bukkit.Chunk;
+import org.bukkit.GameMode;
+import org.bukkit.Location;
+import org.bukkit.Material;
+import org.bukkit.Server;
+import org.bukkit.World;
+import org.bukkit.block.Biome;
+import org.bukkit.block.Block;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.entity.Player;
+import org.bukkit.generator.BiomeProvider;
+import org.bukkit.generator.WorldInfo;
+import org.bukkit.plugin.PluginManager;
+import org.bukkit.plugin.ServicesManager;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.IntBinaryOperator;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * A stand-in Bukkit server, so the offline harnesses run the plugin's real storm tasks without Paper.
+ * The server, worlds, chunks, blocks and players are dynamic proxies (like {@link BenchFixtures#world})
+ * answering the calls those tasks make; anything else returns a default value.
+ *
+ * Worlds are columns of air above a surface height, grass at it and stone below; blocks the plugin
+ * changes are remembered, but the surface height doesn't follow them. There are no entities besides
+ * players, events go nowhere, no other plugins are installed (so WorldGuard is off), and ticks only
+ * advance through the {@link ManualScheduler}, whose clock times exposure grace, cooldowns and contact-check
+ * sleeps. Storm scheduling delays and speed boosts still use the wall clock.
+ */
+final class SimServer {
+    private static final int MIN_HEIGHT = -64;
+    private static final int MAX_HEIGHT = 320;
+    private static final double MAX_HEALTH = 20.0;
+
+    // Biome lookups need the server's biome registry, so every candidate spawn site gets the neutral weight
+    private static final BiomeProvider NO_BIOMES = new BiomeProvider() {
+        @Override
+        public Biome getBiome(WorldInfo worldInfo, int x, int y, int z) {
+            return null;
+        }
+
+        @Override
+        public List<Biome> getBiomes(WorldInfo worldInfo) {
+            return List.of();
+        }
+    };
+
+    private final ManualScheduler scheduler = new ManualScheduler();
+    private final Map<String, SimWorld> worlds = new LinkedHashMap<>();
+    private final Map<UUID, PlayerState> players = new LinkedHashMap<>();
+    private final List<Player> onlinePlayers = new ArrayList<>();
+    private final Logger logger = Logger.getLogger("Stormcraft");
+    private final PluginManager pluginManager = stub(PluginManager.class);
+    private final ServicesManager servicesManager = stub(ServicesManager.class);
+    private final Server server;
+    private double averageTickMillis = 0;
+
+    /**
+     * Creates the server and installs it as Bukkit's. Only one can be installed per JVM.
+     */
+    SimServer() {
+        // Plugin info logging would drown out the report
+        logger.setLevel(Level.WARNING);
+        server = (Server) Proxy.newProxyInstance(Server.class.getClassLoader(), new Class<?>[]{Server.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "getName" -> "Stormcraft simulation";
+                    case "getVersion", "getBukkitVersion", "getMinecraftVersion" -> "simulated";
+                    case "getLogger" -> logger;
+                    case "getOnlinePlayers" -> Collections.unmodifiableList(onlinePlayers);
+                    case "getPlayer" -> findPlayer(args[0]);
+                    case "getWorld" -> findWorld(args[0]);
+                    case "getWorlds" -> new ArrayList<>(worlds.values().stream().map(SimWorld::world).toList());
+                    case "getPluginManager" -> pluginManager;
+                    case "getServicesManager" -> servicesManager;
+                    case "getCurrentTick" -> (int) scheduler.getTick();
+                    case "getAverageTickTime" -> averageTickMillis;
+                    case "isPrimaryThread", "isOwnedByCurrentRegion", "isGlobalTickThread" -> true;
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "toString" -> "SimServer";
+                    default -> BenchFixtures.defaultValue(method.getReturnType());
+                });
+
+        if (Bukkit.getServer() != null) {
+            throw new IllegalStateException("A Bukkit server is already installed");
+        }
+        // Set directly: Bukkit.setServer logs a version banner that needs Paper's build info service
+        try {
+            Field field = Bukkit.class.getDeclaredField("server");
+            field.setAccessible(true);
+            field.set(null, server);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Failed to install the simulated server", e);
+        }
+    }
+
+    ManualScheduler getScheduler() {
+        return scheduler;
+    }
+
+    /**
+     * Sets what {@code Bukkit.getAverageTickTime()} reports to the throttle governor.
+     */
+    void setAverageTickMillis(double averageTickMillis) {
+        this.averageTickMillis = averageTickMillis;
+    }
+
+    /**
+     * Adds a world whose surface height at each column is given by {@code surface(x, z)}.
+     */
+    World addWorld(String name, IntBinaryOperator surface) {
+        SimWorld world = new SimWorld(name, surface);
+        worlds.put(name, world);
+        return world.world();
+    }
+
+    /**
+     * Adds an online player in survival mode at full health.
+     */
+    PlayerState addPlayer(UUID id, String name, World world, double x, double y, double z) {
+        PlayerState state = new PlayerState(id, name, world, x, y, z);
+        players.put(id, state);
+        onlinePlayers.add(state.player);
+        return state;
+    }
+
+    PlayerState getPlayer(UUID id) {
+        return players.get(id);
+    }
+
+    /**
+     * Takes a player offline.
+     */
+    void removePlayer(UUID id) {
+        PlayerState state = players.remove(id);
+        if (state != null) {
+            state.online = false;
+            onlinePlayers.remove(state.player);
+        }
+    }
+
+    /**
+     * Builds the plugin's subsystems in the order of StormcraftPlugin.onEnable, against config.yml from
+     * the plugin jar with the given overrides. Commands, listeners, persistence, metrics, trace recording
+     * and PlaceholderAPI are left out, and nothing storm-related is started: callers start the storm
+     * manager and snapshot service themselves.
+     *
+     * The config is adjusted so the tasks only take paths the stubs can answer: potion effects, lightning,
+     * storm drops and ore generation are off (they need registries, entities or loaded chunks), and biome
+     * preferences, the biome raster, the zone image map and boss arenas are removed.
+     * @param enabledWorlds Names of worlds added with {@link #addWorld} that storms run in
+     * @param overrides Config values to set, by path
+     */
+    StormcraftPlugin enable(List<String> enabledWorlds, Map<String, Object> overrides) throws IOException {
+        File dataFolder = Files.createTempDirectory("stormcraft-sim").toFile();
+        YamlConfiguration config = loadResource("config.yml");
+        applySimDefaults(config, enabledWorlds);
+        overrides.forEach(config::set);
+        File configFile = new File(dataFolder, "config.yml");
+        config.save(configFile);
+        try (InputStream in = resource("messages.yml")) {
+            Files.copy(in, new File(dataFolder, "messages.yml").toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        try {
+            StormcraftPlugin plugin = BenchFixtures.allocate(StormcraftPlugin.class);
+            BenchFixtures.set(plugin, "server", server);
+            BenchFixtures.set(plugin, "dataFolder", dataFolder);
+            BenchFixtures.set(plugin, "configFile", configFile);
+            BenchFixtures.set(plugin, "newConfig", config);
+            BenchFixtures.set(plugin, "classLoader", StormcraftPlugin.class.getClassLoader());
+            BenchFixtures.set(plugin, "logger", logger);
+            BenchFixtures.set(plugin, "isEnabled", true);
+            BenchFixtures.set(plugin, "taskScheduler", scheduler);
+
+            ConfigManager configManager = new ConfigManager(plugin);
+            BenchFixtures.set(plugin, "configManager", configManager);
+            configManager.loadConfigs();
+
+            BenchFixtures.set(plugin, "perfMonitor", new PerfMonitor(plugin, true));
+            BenchFixtures.set(plugin, "metrics", new StormMetrics());
+
+            // Not started: debug logging is off, so nothing is ever queued for the writer
+            BenchFixtures.set(plugin, "debugLogger", new DebugLogger(plugin, configManager));
+
+            ThrottleGovernor throttleGovernor = new ThrottleGovernor(plugin, configManager);
+            BenchFixtures.set(plugin, "throttleGovernor", throttleGovernor);
+            throttleGovernor.start();
+
+            BenchFixtures.set(plugin, "uiPreferences", new StormUIPreferences(plugin));
+
+            WorldGuardIntegration worldGuard = new WorldGuardIntegration(plugin);
+            BenchFixtures.set(plugin, "worldGuardIntegration", worldGuard);
+            ZoneManager zoneManager = new ZoneManager(plugin, configManager, worldGuard);
+            BenchFixtures.set(plugin, "zoneManager", zoneManager);
+            BenchFixtures.set(plugin, "bossArenaManager", new BossArenaManager(plugin, configManager, worldGuard));
+            BenchFixtures.set(plugin, "biomeRasterCache", new BiomeRasterCache(plugin, configManager, zoneManager));
+
+            EssenceAccrualLedger essenceLedger = new EssenceAccrualLedger(plugin, configManager);
+            BenchFixtures.set(plugin, "essenceLedger", essenceLedger);
+            essenceLedger.start();
+
+            StormWorlds stormWorlds = new StormWorlds(plugin, configManager);
+            BenchFixtures.set(plugin, "stormWorlds", stormWorlds);
+            stormWorlds.refresh();
+            PlayerExposureUtil exposureUtil = new PlayerExposureUtil(plugin, configManager);
+            BenchFixtures.set(plugin, "exposureUtil", exposureUtil);
+            StormManager stormManager = new StormManager(plugin, configManager, exposureUtil, worldGuard, zoneManager);
+            BenchFixtures.set(plugin, "stormManager", stormManager);
+            BenchFixtures.set(plugin, "snapshotService", new StormSnapshotService(plugin, stormManager));
+            return plugin;
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Failed to build the plugin", e);
+        }
+    }
+
+    private static void applySimDefaults(YamlConfiguration config, List<String> enabledWorlds) {
+        config.set("enabledWorlds", enabledWorlds);
+        config.set("zones.enabled", true);
+        config.set("zones.biomeRaster.enabled", false);
+        config.set("zones.imageMap.enabled", false);
+        for (String zone : List.of("stormlands", "stormZone", "safeZone")) {
+            config.set("zones." + zone + ".biomePreferences", null);
+        }
+        config.set("travelingStorms.enabled", true);
+        for (String type : config.getConfigurationSection("damageProfiles").getKeys(false)) {
+            String effects = "damageProfiles." + type + ".extraEffects.";
+            config.set(effects + "blindness", false);
+            config.set(effects + "slownessAmplifier", -1);
+            config.set(effects + "lightningStrikeChance", 0.0);
+        }
+        config.set("bossArenas", null);
+        config.set("stormDrops.enabled", false);
+        config.set("oreGeneration.enabled", false);
+        config.set("metrics.enabled", false);
+        config.set("performance.traceRecording", false);
+        config.set("debug.logExposureSamples", false);
+        config.set("debug.logScheduling", false);
+        config.set("debug.bStats", false);
+    }
+
+    private static YamlConfiguration loadResource(String name) throws IOException {
+        try (InputStream in = resource(name)) {
+            return YamlConfiguration.loadConfiguration(new InputStreamReader(in, StandardCharsets.UTF_8));
+        }
+    }
+
+    private static InputStream resource(String name) throws IOException {
+        InputStream in = StormcraftPlugin.class.getClassLoader().getResourceAsStream(name);
+        if (in == null) {
+            throw new IOException(name + " not found in the plugin jar");
+        }
+        return in;
+    }
+
+    private Player findPlayer(Object key) {
+        if (key instanceof UUID id) {
+            PlayerState state = players.get(id);
+            return state != null ? state.player : null;
+        }
+        for (PlayerState state : players.values()) {
+            if (state.name.equalsIgnoreCase((String) key)) {
+                return state.player;
+            }
+        }
+        return null;
+    }
+
+    private World findWorld(Object key) {
+        if (key instanceof UUID id) {
+            for (SimWorld world : worlds.values()) {
+                if (world.uid.equals(id)) {
+                    return world.world();
+                }
+            }
+            return null;
+        }
+        SimWorld world = worlds.get((String) key);
+        return world != null ? world.world() : null;
+    }
+
+    private static <T> T stub(Class<T> type) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "toString" -> "Stub" + type.getSimpleName();
+                    default -> BenchFixtures.defaultValue(method.getReturnType());
+                }));
+    }
+
+    /**
+     * A scripted player. Harnesses move it by setting its fields between ticks.
+     * Damage that would kill the player respawns it at full health instead.
+     */
+    final class PlayerState {
+        private final UUID id;
+        private final String name;
+        private final Player player;
+        World world;
+        double x;
+        double y;
+        double z;
+        GameMode gameMode = GameMode.SURVIVAL;
+        double health = MAX_HEALTH;
+        private boolean online = true;
+
+        private PlayerState(UUID id, String name, World world, double x, double y, double z) {
+            this.id = id;
+            this.name = name;
+            this.world = world;
+            this.x = x;
+            this.y = y;
+            this.z = z;
+            this.player = (Player) Proxy.newProxyInstance(Player.class.getClassLoader(), new Class<?>[]{Player.class},
+                    (proxy, method, args) -> switch (method.getName()) {
+                        case "getUniqueId" -> this.id;
+                        case "getName" -> this.name;
+                        case "getWorld" -> this.world;
+                        case "getLocation" -> args == null || args.length == 0
+                                ? new Location(this.world, this.x, this.y, this.z)
+                                : fill((Location) args[0]);
+                        case "getGameMode" -> gameMode;
+                        case "isOnline", "isValid" -> online;
+                        case "isDead" -> health <= 0;
+                        case "getHealth" -> health;
+                        case "setHealth" -> {
+                            double value = (double) args[0];
+                            health = value > 0 ? value : MAX_HEALTH;
+                            yield null;
+                        }
+                        case "equals" -> proxy == args[0];
+                        case "hashCode" -> System.identityHashCode(proxy);
+                        case "toString" -> "SimPlayer{" + this.name + "}";
+                        default -> BenchFixtures.defaultValue(method.getReturnType());
+                    });
+        }
+
+        Player getPlayer() {
+            return player;
+        }
+
+        private Location fill(Location location) {
+            if (location == null) {
+                return null;
+            }
+            location.setWorld(world);
+            location.setX(x);
+            location.setY(y);
+            location.setZ(z);
+            location.setYaw(0);
+            location.setPitch(0);
+            return location;
+        }
+    }
+
+    /**
+     * A world's surface and the blocks the plugin changed. Chunks are cached so each has one instance,
+     * as on a server where the plugin collects them in sets.
+     */
+    private static final class SimWorld {
+        private final String name;
+        private final UUID uid;
+        private final IntBinaryOperator surface;
+        private final Map<Long, Material> changedBlocks = new HashMap<>();
+        private final Map<Long, Chunk> chunks = new HashMap<>();
+        private final World world;
+
+        private SimWorld(String name, IntBinaryOperator surface) {
+            this.name = name;
+            this.uid = UUID.nameUUIDFromBytes(name.getBytes(StandardCharsets.UTF_8));
+            this.surface = surface;
+            this.world = (World) Proxy.newProxyInstance(World.class.getClassLoader(), new Class<?>[]{World.class},
+                    (proxy, method, args) -> switch (method.getName()) {
+                        case "getName" -> this.name;
+                        case "getUID" -> this.uid;
+                        case "getMinHeight" -> MIN_HEIGHT;
+                        case "getMaxHeight" -> MAX_HEIGHT;
+                        case "getHighestBlockYAt" -> args[0] instanceof Location loc
+                                ? surfaceAt(loc.getBlockX(), loc.getBlockZ())
+                                : surfaceAt((int) args[0], (int) args[1]);
+                        case "getBlockAt" -> args[0] instanceof Location loc
+                                ? block(loc.getBlockX(), loc.getBlockY(), loc.getBlockZ())
+                                : block((int) args[0], (int) args[1], (int) args[2]);
+                        case "getChunkAt" -> chunkAt(args);
+                        case "isChunkLoaded" -> true;
+                        case "getLivingEntities", "getEntities" -> new ArrayList<>();
+                        case "getBiomeProvider", "vanillaBiomeProvider" -> NO_BIOMES;
+                        case "equals" -> proxy == args[0];
+                        case "hashCode" -> System.identityHashCode(proxy);
+                        case "toString" -> "SimWorld{" + this.name + "}";
+                        default -> BenchFixtures.defaultValue(method.getReturnType());
+                    });
+        }
+
+        private World world() {
+            return world;
+        }
+
+        private int surfaceAt(int x, int z) {
+            return surface.applyAsInt(x, z);
+        }
+
+        private Material typeAt(int x, int y, int z) {
+            Material changed = changedBlocks.get(blockKey(x, y, z));
+            if (changed != null) {
+                return changed;
+            }
+            int top = surfaceAt(x, z);
+            return y > top ? Material.AIR : y == top ? Material.GRASS_BLOCK : Material.STONE;
+        }
+
+        private Block block(int x, int y, int z) {
+            return (Block) Proxy.newProxyInstance(Block.class.getClassLoader(), new Class<?>[]{Block.class},
+                    (proxy, method, args) -> switch (method.getName()) {
+                        case "getType" -> typeAt(x, y, z);
+                        case "setType" -> {
+                            changedBlocks.put(blockKey(x, y, z), (Material) args[0]);
+                            yield null;
+                        }
+                        case "isEmpty" -> typeAt(x, y, z).isAir();
+                        case "getX" -> x;
+                        case "getY" -> y;
+                        case "getZ" -> z;
+                        case "getWorld" -> world;
+                        case "getLocation" -> new Location(world, x, y, z);
+                        case "getChunk" -> chunk(x >> 4, z >> 4);
+                        case "getLightFromSky" -> (byte) (y > surfaceAt(x, z) ? 15 : 0);
+                        case "equals" -> proxy == args[0];
+                        case "hashCode" -> System.identityHashCode(proxy);
+                        case "toString" -> "SimBlock{" + x + "," + y + "," + z + "}";
+                        default -> BenchFixtures.defaultValue(method.getReturnType());
+                    });
+        }
+
+        private Chunk chunkAt(Object[] args) {
+            if (args[0] instanceof Location loc) {
+                return chunk(loc.getBlockX() >> 4, loc.getBlockZ() >> 4);
+            }
+            if (args[0] instanceof Block block) {
+                return chunk(block.getX() >> 4, block.getZ() >> 4);
+            }
+            if (args[0] instanceof Long key) {
+                return chunk((int) (long) key, (int) (key >> 32));
+            }
+            return chunk((int) args[0], (int) args[1]);
+        }
+
+        private Chunk chunk(int chunkX, int chunkZ) {
+            long key = ((long) chunkZ << 32) | (chunkX & 0xFFFFFFFFL);
+            return chunks.computeIfAbsent(key, k -> (Chunk) Proxy.newProxyInstance(Chunk.class.getClassLoader(),
+                    new Class<?>[]{Chunk.class},
+                    (proxy, method, args) -> switch (method.getName()) {
+                        case "getX" -> chunkX;
+                        case "getZ" -> chunkZ;
+                        case "getWorld" -> world;
+                        case "getChunkKey" -> key;
+                        case "isLoaded" -> true;
+                        case "equals" -> proxy == args[0];
+                        case "hashCode" -> System.identityHashCode(proxy);
+                        case "toString" -> "SimChunk{" + chunkX + "," + chunkZ + "}";
+                        default -> BenchFixtures.defaultValue(method.getReturnType());
+                    }));
+        }
+
+        private static long blockKey(int x, int y, int z) {
+            return (x & 0x7FFFFFFL) | ((z & 0x7FFFFFFL) << 27) | ((long) (y - MIN_HEIGHT) << 54);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package dev.ked.stormcraft.bench;
+
+import dev.ked.stormcraft.api.StormWorldSnapshot;
+import dev.ked.stormcraft.model.TravelingStorm;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Damage stacking for every player against every storm, as in DamageTask.runMultiStormCheck.
+ * The object loop mirrors the task (sky-exposure checks excluded, they need a server);
+ * the snapshot variant runs the same query over StormWorldSnapshot's primitive arrays.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StormStackingBenchmark {
+    @Param({"50", "500"})
+    public int playerCount;
+
+    @Param({"5", "40"})
+    public int stormCount;
+
+    private List<TravelingStorm> storms;
+    private Location[] players;
+    private StormWorldSnapshot snapshot;
+    private UUID worldId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        World world = BenchFixtures.world("world");
+        worldId = world.getUID();
+        storms = BenchFixtures.storms(world, stormCount, 42L);
+
+        Random random = new Random(7L);
+        players = new Location[playerCount];
+        for (int i = 0; i < playerCount; i++) {
+            players[i] = new Location(world, random.nextDouble() * 20000 - 10000, 64, random.nextDouble() * 20000 - 10000);
+        }
+
+        snapshot = StormWorldSnapshot.capture(0L, storms);
+    }
+
+    @Benchmark
+    public void travelingStormObjects(Blackhole blackhole) {
+        for (Location player : players) {
+            double totalDamage = 0;
+            double maxDamage = 0;
+
+            for (TravelingStorm storm : storms) {
+                if (storm.isLocationInStorm(player, storm.getCurrentRadius())) {
+                    double stormDamage = storm.getCurrentDamagePerSecond();
+                    totalDamage += stormDamage;
+                    if (stormDamage > maxDamage) {
+                        maxDamage = stormDamage;
+                    }
+                }
+            }
+
+            blackhole.consume(totalDamage);
+            blackhole.consume(maxDamage);
+        }
+    }
+
+    @Benchmark
+    public void snapshotArrays(Blackhole blackhole) {
+        for (Location player : players) {
+            blackhole.consume(snapshot.damageAt(worldId, player.getX(), player.getZ()));
+        }
+    }
+}
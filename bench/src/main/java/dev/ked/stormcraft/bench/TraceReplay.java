@@ -0,0 +1,293 @@
+package dev.ked.stormcraft.bench;
+
+import dev.ked.stormcraft.StormcraftPlugin;
+import dev.ked.stormcraft.model.StormProfile;
+import dev.ked.stormcraft.model.StormType;
+import dev.ked.stormcraft.model.TravelingStorm;
+import dev.ked.stormcraft.perf.PerfMonitor;
+import dev.ked.stormcraft.perf.TaskTimer;
+import dev.ked.stormcraft.perf.TickTrace;
+import dev.ked.stormcraft.schedule.StormManager;
+import org.bukkit.GameMode;
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Offline replay of a trace recorded with /storm perf record, through the plugin's own tasks.
+ * The plugin runs on a {@link SimServer}, as in {@link LoadSimulation}. Each frame places the recorded
+ * players and storms, reseeds the tasks with the frame's seed as the recorder did, and then runs the
+ * frame's ticks of DamageTask, StormTracker and BlockDamageTask, so fixes can be benchmarked against
+ * real player movement.
+ *
+ * Players and storms hold their recorded positions between frames; storms are placed, not moved or
+ * spawned by the plugin, and are replayed without phases at their recorded radius and damage. Surface
+ * heights are only recorded where players stand, so other columns are taken to be at y=64. The config
+ * is the plugin's default, adjusted as described in {@link SimServer#enable}.
+ *
+ * Run: java -cp target/benchmarks.jar dev.ked.stormcraft.bench.TraceReplay plugins/Stormcraft/trace-...sctrace.gz
+ */
+public final class TraceReplay {
+    private static final int DEFAULT_SURFACE = 64;
+
+    private final SimServer server = new SimServer();
+    private final PerfMonitor tickMonitor = new PerfMonitor(null, true);
+    private final TaskTimer tickTimer = tickMonitor.timer("Tick (plugin total)");
+    private final Map<String, World> worlds = new HashMap<>();
+    private final Map<String, Map<Long, Integer>> surfaces = new HashMap<>();
+    private final List<TravelingStorm> replayedStorms = new ArrayList<>();
+    private Set<UUID> presentPlayers = new HashSet<>();
+
+    private StormcraftPlugin plugin;
+    private List<TravelingStorm> activeStorms;
+    private double averageTickMillis = 0;
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("Usage: TraceReplay <trace file> [repeat=1] [minDepth=1] [ignoreGameModes=CREATIVE,SPECTATOR]");
+            System.exit(1);
+        }
+
+        File file = new File(args[0]);
+        int repeat = 1;
+        Map<String, Object> overrides = new HashMap<>();
+
+        for (int i = 1; i < args.length; i++) {
+            String[] parts = args[i].split("=", 2);
+            if (parts.length != 2) {
+                System.err.println("Ignoring argument '" + args[i] + "' (expected key=value)");
+                continue;
+            }
+            switch (parts[0]) {
+                case "repeat" -> repeat = Integer.parseInt(parts[1]);
+                case "minDepth" -> overrides.put("exposure.ignoreIfUnderBlocksMinDepth", Integer.parseInt(parts[1]));
+                case "ignoreGameModes" -> {
+                    List<String> modes = new ArrayList<>();
+                    for (String mode : parts[1].split(",")) {
+                        if (!mode.isBlank()) {
+                            modes.add(GameMode.valueOf(mode.trim().toUpperCase(Locale.ROOT)).name());
+                        }
+                    }
+                    overrides.put("exposure.ignoreGameModes", modes);
+                }
+                default -> System.err.println("Unknown option: " + parts[0]);
+            }
+        }
+
+        TraceReplay replay = new TraceReplay();
+        long frames = 0;
+        int maxPlayers = 0;
+        int maxStorms = 0;
+        long lastTick = 0;
+        long wallStart = System.nanoTime();
+
+        for (int pass = 0; pass < repeat; pass++) {
+            try (TickTrace trace = TickTrace.open(file)) {
+                TickTrace.Frame frame;
+                while ((frame = trace.next()) != null) {
+                    if (replay.plugin == null) {
+                        replay.setUp(frame, overrides);
+                    }
+                    replay.replay(frame, trace.getIntervalTicks());
+                    frames++;
+                    maxPlayers = Math.max(maxPlayers, frame.getPlayerCount());
+                    maxStorms = Math.max(maxStorms, frame.getStormCount());
+                    lastTick = frame.getTick();
+                }
+            }
+        }
+
+        if (replay.plugin == null) {
+            System.err.println(file.getName() + " has no frames");
+            System.exit(1);
+        }
+
+        long wallNanos = System.nanoTime() - wallStart;
+        System.out.printf(Locale.ROOT, "%nReplayed %s: %d frames (%d pass(es)), %.1f min recorded, up to %d players and %d storms%n",
+                file.getName(), frames, repeat, lastTick / 20.0 / 60.0, maxPlayers, maxStorms);
+        System.out.printf(Locale.ROOT, "Wall time %.1fs, allocation tracking %s%n%n",
+                wallNanos / 1e9, replay.tickMonitor.isAllocationTrackingAvailable() ? "on" : "unavailable");
+        PerfReport.print(replay.plugin.getPerfMonitor(), replay.tickMonitor);
+        System.out.printf(Locale.ROOT, "%nPlayers exposed at the end: %d, player damage dealt: %.0f%n",
+                replay.plugin.getMetrics().getExposedPlayers(), replay.plugin.getMetrics().getPlayerDamage());
+    }
+
+    /**
+     * Builds the plugin with the first frame's worlds and starts the multi-storm tasks without spawning storms.
+     */
+    @SuppressWarnings("unchecked")
+    private void setUp(TickTrace.Frame frame, Map<String, Object> overrides) throws IOException {
+        List<String> enabledWorlds = new ArrayList<>();
+        for (int i = 0; i < frame.getWorldCount(); i++) {
+            world(frame.getWorldName(i));
+            if (frame.isWorldEnabled(i)) {
+                enabledWorlds.add(frame.getWorldName(i));
+            }
+        }
+        plugin = server.enable(enabledWorlds, overrides);
+
+        // Storms are replayed from the trace, so the tasks are started directly instead of through a storm spawn
+        StormManager stormManager = plugin.getStormManager();
+        try {
+            activeStorms = (List<TravelingStorm>) BenchFixtures.get(stormManager, "activeStorms");
+            Method startTasks = StormManager.class.getDeclaredMethod("startMultiStormTasks");
+            startTasks.setAccessible(true);
+            startTasks.invoke(stormManager);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Failed to start the storm tasks", e);
+        }
+        plugin.getSnapshotService().start();
+    }
+
+    private void replay(TickTrace.Frame frame, int intervalTicks) {
+        World[] frameWorlds = new World[frame.getWorldCount()];
+        for (int i = 0; i < frameWorlds.length; i++) {
+            frameWorlds[i] = world(frame.getWorldName(i));
+        }
+        placePlayers(frame, frameWorlds);
+        placeStorms(frame, frameWorlds, intervalTicks);
+        plugin.getStormManager().reseedTasks(frame.getSeed());
+
+        ManualScheduler scheduler = server.getScheduler();
+        for (int i = 0; i < intervalTicks; i++) {
+            long start = System.nanoTime();
+            tickTimer.begin();
+            scheduler.tick();
+            tickTimer.end();
+            // Paper averages over the last 100 ticks
+            averageTickMillis += ((System.nanoTime() - start) / 1e6 - averageTickMillis) / 100.0;
+            server.setAverageTickMillis(averageTickMillis);
+            scheduler.runAsyncTasks();
+        }
+    }
+
+    /**
+     * Moves recorded players into place, adding ones that joined and removing ones that left.
+     */
+    private void placePlayers(TickTrace.Frame frame, World[] frameWorlds) {
+        Set<UUID> present = new HashSet<>();
+        for (int p = 0; p < frame.getPlayerCount(); p++) {
+            int worldIndex = frame.getPlayerWorld(p);
+            if (worldIndex < 0) {
+                continue;
+            }
+            World world = frameWorlds[worldIndex];
+            UUID id = frame.getPlayerId(p);
+            double x = frame.getPlayerX(p);
+            double z = frame.getPlayerZ(p);
+            surfaces.get(world.getName()).put(columnKey((int) Math.floor(x), (int) Math.floor(z)), frame.getHighestBlockY(p));
+
+            SimServer.PlayerState state = server.getPlayer(id);
+            if (state == null) {
+                state = server.addPlayer(id, "Player-" + id.toString().substring(0, 8), world, x, frame.getPlayerY(p), z);
+            } else {
+                state.world = world;
+                state.x = x;
+                state.y = frame.getPlayerY(p);
+                state.z = z;
+            }
+            state.gameMode = frame.getGameMode(p);
+            present.add(id);
+        }
+
+        for (UUID id : presentPlayers) {
+            if (!present.contains(id)) {
+                server.removePlayer(id);
+            }
+        }
+        presentPlayers = present;
+    }
+
+    /**
+     * Replaces the plugin's active storms with the frame's. A storm whose radius and damage are unchanged
+     * keeps its object and is moved; the others are rebuilt. Players are woken when a storm spawned,
+     * as StormManager does: that is, when one has no storm of its type from the last frame within the
+     * distance it could have travelled, which also catches one storm ending as another spawns.
+     */
+    private void placeStorms(TickTrace.Frame frame, World[] frameWorlds, int intervalTicks) {
+        // Checked before any storm is moved, against where the last frame left them
+        boolean spawned = false;
+        for (int s = 0; s < frame.getStormCount(); s++) {
+            int worldIndex = frame.getStormWorld(s);
+            if (worldIndex >= 0 && !hasPredecessor(frame.getStormType(s), frameWorlds[worldIndex],
+                    frame.getStormX(s), frame.getStormZ(s), intervalTicks)) {
+                spawned = true;
+                break;
+            }
+        }
+
+        List<TravelingStorm> storms = new ArrayList<>(frame.getStormCount());
+        for (int s = 0; s < frame.getStormCount(); s++) {
+            int worldIndex = frame.getStormWorld(s);
+            if (worldIndex < 0) {
+                continue;
+            }
+            Location center = new Location(frameWorlds[worldIndex], frame.getStormX(s), DEFAULT_SURFACE, frame.getStormZ(s));
+            double radius = frame.getStormRadius(s);
+            double damage = frame.getStormDamagePerSecond(s);
+            int remaining = frame.getStormRemainingSeconds(s);
+
+            TravelingStorm previous = storms.size() < replayedStorms.size() ? replayedStorms.get(storms.size()) : null;
+            TravelingStorm storm;
+            if (previous != null && previous.getProfile().getType() == frame.getStormType(s)
+                    && previous.getCurrentRadius() == radius && previous.getCurrentDamagePerSecond() == damage) {
+                storm = previous;
+                storm.setCurrentLocation(center);
+            } else {
+                StormProfile profile = plugin.getConfigManager().getDamageProfiles().get(frame.getStormType(s));
+                storm = new TravelingStorm(profile, Math.max(1, remaining), damage, center, List.of(center),
+                        0.0, radius, 0, false, 0.30, 0.50, 0.20);
+            }
+            storm.setRemainingSeconds(remaining);
+            storms.add(storm);
+        }
+
+        replayedStorms.clear();
+        replayedStorms.addAll(storms);
+        activeStorms.clear();
+        activeStorms.addAll(storms);
+        if (spawned && plugin.getStormManager().getDamageTask() != null) {
+            plugin.getStormManager().getDamageTask().wakeAllPlayers();
+        }
+    }
+
+    /**
+     * Whether a storm of the type from the last frame is close enough to have moved to (x, z).
+     */
+    private boolean hasPredecessor(StormType type, World world, double x, double z, int intervalTicks) {
+        double reach = plugin.getConfigManager().getDamageProfiles().get(type).getMaxMovementSpeed() * intervalTicks / 20.0 + 1;
+        for (TravelingStorm previous : replayedStorms) {
+            if (previous.getProfile().getType() == type && previous.getWorld() == world
+                    && Math.abs(previous.centerX() - x) <= reach && Math.abs(previous.centerZ() - z) <= reach) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private World world(String name) {
+        World world = worlds.get(name);
+        if (world == null) {
+            Map<Long, Integer> heights = new HashMap<>();
+            surfaces.put(name, heights);
+            world = server.addWorld(name, (x, z) -> heights.getOrDefault(columnKey(x, z), DEFAULT_SURFACE));
+            worlds.put(name, world);
+        }
+        return world;
+    }
+
+    private static long columnKey(int x, int z) {
+        return ((long) z << 32) | (x & 0xFFFFFFFFL);
+    }
+}
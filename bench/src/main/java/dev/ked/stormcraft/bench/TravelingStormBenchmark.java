@@ -0,0 +1,53 @@
+package dev.ked.stormcraft.bench;
+
+import dev.ked.stormcraft.model.TravelingStorm;
+import org.bukkit.World;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-storm math that runs every tick for every storm:
+ * movement, phase-scaled radius and phase damage multiplier.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TravelingStormBenchmark {
+    @Param({"1", "40"})
+    public int stormCount;
+
+    private List<TravelingStorm> storms;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        World world = BenchFixtures.world("world");
+        storms = BenchFixtures.storms(world, stormCount, 42L);
+    }
+
+    @Benchmark
+    public void move(Blackhole blackhole) {
+        for (TravelingStorm storm : storms) {
+            blackhole.consume(storm.move(1.0));
+        }
+    }
+
+    @Benchmark
+    public void currentRadius(Blackhole blackhole) {
+        for (TravelingStorm storm : storms) {
+            blackhole.consume(storm.getCurrentRadius());
+        }
+    }
+
+    @Benchmark
+    public void phaseMultiplier(Blackhole blackhole) {
+        for (TravelingStorm storm : storms) {
+            blackhole.consume(storm.getPhaseMultiplier());
+        }
+    }
+}
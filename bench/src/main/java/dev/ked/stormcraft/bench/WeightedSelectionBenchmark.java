@@ -0,0 +1,55 @@
+package dev.ked.stormcraft.bench;
+
+import dev.ked.stormcraft.config.WeightedTable;
+import dev.ked.stormcraft.model.StormType;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Weighted storm type and burst size selection (WeightedTable, as built on config load).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class WeightedSelectionBenchmark {
+    private final Map<StormType, Double> stormWeights = new EnumMap<>(StormType.class);
+    private final Map<Integer, Double> burstWeights = new LinkedHashMap<>();
+    private final SplittableRandom random = new SplittableRandom(3L);
+    private WeightedTable<StormType> stormTypeTable;
+    private WeightedTable<Integer> burstSizeTable;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        stormWeights.put(StormType.SHORT_WEAK, 0.20);
+        stormWeights.put(StormType.MEDIUM, 0.65);
+        stormWeights.put(StormType.LONG_DANGEROUS, 0.15);
+
+        burstWeights.put(1, 0.40);
+        burstWeights.put(2, 0.25);
+        burstWeights.put(3, 0.15);
+        burstWeights.put(4, 0.10);
+        burstWeights.put(5, 0.06);
+        burstWeights.put(6, 0.04);
+
+        stormTypeTable = WeightedTable.of(stormWeights);
+        burstSizeTable = WeightedTable.of(burstWeights);
+    }
+
+    @Benchmark
+    public StormType stormType() {
+        return stormTypeTable.pick(random.nextDouble(), StormType.MEDIUM);
+    }
+
+    @Benchmark
+    public Integer burstSize() {
+        return burstSizeTable.pick(random.nextDouble(), 1);
+    }
+}
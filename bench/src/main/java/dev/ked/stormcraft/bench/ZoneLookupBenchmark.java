@@ -0,0 +1,45 @@
+package dev.ked.stormcraft.bench;
+
+import dev.ked.stormcraft.zones.ZoneManager;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ZoneManager.getZoneAt with circular zones (the WorldGuard path needs a server).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ZoneLookupBenchmark {
+    private static final int SAMPLES = 1024;
+
+    private ZoneManager zoneManager;
+    private Location[] locations;
+    private int index;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        World world = BenchFixtures.world("world");
+        zoneManager = BenchFixtures.circularZones(0, 0, 2500, 5000, 10000);
+
+        Random random = new Random(11L);
+        locations = new Location[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            locations[i] = new Location(world, random.nextDouble() * 24000 - 12000, 64, random.nextDouble() * 24000 - 12000);
+        }
+    }
+
+    @Benchmark
+    public void getZoneAt(Blackhole blackhole) {
+        index = (index + 1) & (SAMPLES - 1);
+        blackhole.consume(zoneManager.getZoneAt(locations[index]));
+    }
+}
@@ -1,46 +1,92 @@
 package dev.ked.stormcraft;
 
+import dev.ked.stormcraft.api.StormSnapshotService;
 import dev.ked.stormcraft.command.InfuseCommand;
 import dev.ked.stormcraft.command.StormcraftCommand;
 import dev.ked.stormcraft.config.ConfigManager;
 import dev.ked.stormcraft.config.PersistenceManager;
+import dev.ked.stormcraft.debug.DebugLogger;
+import dev.ked.stormcraft.economy.EssenceAccrualLedger;
 import dev.ked.stormcraft.exposure.PlayerExposureUtil;
 import dev.ked.stormcraft.integration.PlaceholderAPIIntegration;
 import dev.ked.stormcraft.integration.WorldGuardIntegration;
 import dev.ked.stormcraft.listener.PlayerJoinListener;
+import dev.ked.stormcraft.listener.PlayerQuitListener;
+import dev.ked.stormcraft.listener.PlayerTeleportListener;
 import dev.ked.stormcraft.listener.WeatherControlListener;
+import dev.ked.stormcraft.listener.WorldLoadListener;
+import dev.ked.stormcraft.perf.MetricsExporter;
+import dev.ked.stormcraft.perf.PerfMonitor;
+import dev.ked.stormcraft.perf.StormMetrics;
+import dev.ked.stormcraft.perf.ThrottleGovernor;
+import dev.ked.stormcraft.perf.TickRecorder;
 import dev.ked.stormcraft.schedule.StormManager;
+import dev.ked.stormcraft.schedule.StormWorlds;
+import dev.ked.stormcraft.schedule.TaskHandle;
+import dev.ked.stormcraft.schedule.TaskScheduler;
+import dev.ked.stormcraft.zones.BiomeRasterCache;
 import dev.ked.stormcraft.zones.BossArenaManager;
 import dev.ked.stormcraft.zones.ZoneManager;
 import org.bukkit.Bukkit;
 import org.bukkit.command.PluginCommand;
 import org.bukkit.plugin.java.JavaPlugin;
-import org.bukkit.scheduler.BukkitTask;
+
+import java.io.IOException;
 
 /**
  * Main plugin class for Stormcraft.
  * Manages plugin lifecycle, initialization, and shutdown.
  */
 public class StormcraftPlugin extends JavaPlugin {
+    private TaskScheduler taskScheduler;
     private ConfigManager configManager;
     private PersistenceManager persistenceManager;
     private WorldGuardIntegration worldGuardIntegration;
     private ZoneManager zoneManager;
+    private StormWorlds stormWorlds;
+    private BossArenaManager bossArenaManager;
+    private BiomeRasterCache biomeRasterCache;
     private PlayerExposureUtil exposureUtil;
     private StormManager stormManager;
     private PlaceholderAPIIntegration placeholderAPIIntegration;
     private dev.ked.stormcraft.ui.StormUIPreferences uiPreferences;
+    private EssenceAccrualLedger essenceLedger;
+    private StormSnapshotService snapshotService;
+    private PerfMonitor perfMonitor;
+    private TickRecorder tickRecorder;
+    private StormMetrics metrics;
+    private DebugLogger debugLogger;
+    private ThrottleGovernor throttleGovernor;
+    private MetricsExporter metricsExporter;
 
-    private BukkitTask autosaveTask;
+    private TaskHandle autosaveTask;
 
     @Override
     public void onEnable() {
         getLogger().info("Starting Stormcraft...");
 
+        // Main-thread scheduling on Paper, region schedulers on Folia
+        taskScheduler = TaskScheduler.create(this);
+        if (taskScheduler.isRegionThreaded()) {
+            getLogger().info("Folia detected, using region schedulers");
+        }
+
         // Initialize configuration
         configManager = new ConfigManager(this);
         configManager.loadConfigs();
 
+        // Initialize subsystem timings (shown by /storm perf)
+        perfMonitor = new PerfMonitor(this, configManager.isProfilerEnabled());
+        metrics = new StormMetrics();
+
+        // Sampled debug logging, written off the main thread
+        debugLogger = new DebugLogger(this, configManager);
+        debugLogger.start();
+
+        // Back off storm side effects while the server lags
+        throttleGovernor = new ThrottleGovernor(this, configManager);
+        throttleGovernor.start();
+
         // Initialize persistence
         persistenceManager = new PersistenceManager(this, configManager);
 
@@ -53,7 +99,20 @@ public class StormcraftPlugin extends JavaPlugin {
         // Initialize zone system (WorldGuard regions have priority over circular zones)
         zoneManager = new ZoneManager(this, configManager, worldGuardIntegration);
 
+        // Boss arenas with storm protection are exempt from storm damage and block degradation
+        bossArenaManager = new BossArenaManager(this, configManager, worldGuardIntegration);
+
+        // Precomputed spawn weights, built in the background on first start
+        biomeRasterCache = new BiomeRasterCache(this, configManager, zoneManager);
+        biomeRasterCache.warm();
+
+        // Initialize essence accrual (batches award events for Stormcraft-Essence)
+        essenceLedger = new EssenceAccrualLedger(this, configManager);
+        essenceLedger.start();
+
         // Initialize core systems
+        stormWorlds = new StormWorlds(this, configManager);
+        stormWorlds.refresh();
         exposureUtil = new PlayerExposureUtil(this, configManager);
         stormManager = new StormManager(this, configManager, exposureUtil, worldGuardIntegration, zoneManager);
 
@@ -66,24 +125,50 @@ public class StormcraftPlugin extends JavaPlugin {
         // Start storm manager
         stormManager.start();
 
+        // Publish thread-safe storm snapshots for other plugins
+        snapshotService = new StormSnapshotService(this, stormManager);
+        snapshotService.start();
+
+        // Serve Prometheus metrics (opt-in)
+        if (configManager.isMetricsEnabled()) {
+            metricsExporter = new MetricsExporter(this, configManager, metrics);
+            try {
+                metricsExporter.start();
+            } catch (IOException e) {
+                getLogger().warning("Failed to start metrics endpoint: " + e.getMessage());
+                metricsExporter = null;
+            }
+        }
+
+        // Record tick inputs for offline replay (opt-in)
+        tickRecorder = new TickRecorder(this, configManager);
+        if (configManager.isTraceRecordingEnabled()) {
+            try {
+                tickRecorder.start();
+            } catch (IOException e) {
+                getLogger().warning("Failed to start trace recording: " + e.getMessage());
+            }
+        }
+
         // Register listeners
         registerListeners();
 
         // Start periodic weather enforcement task (every 5 seconds = 100 ticks)
-        Bukkit.getScheduler().runTaskTimer(this, this::enforceWeatherControl, 100L, 100L);
+        getTaskScheduler().runTimer(this::enforceWeatherControl, 100L, 100L);
 
         // Register commands
         registerCommands();
 
         // Initialize PlaceholderAPI if available
         if (Bukkit.getPluginManager().getPlugin("PlaceholderAPI") != null) {
-            placeholderAPIIntegration = new PlaceholderAPIIntegration(this, stormManager);
+            placeholderAPIIntegration = new PlaceholderAPIIntegration(this, stormManager, zoneManager);
             placeholderAPIIntegration.register();
+            placeholderAPIIntegration.start();
             getLogger().info("PlaceholderAPI integration enabled.");
         }
 
         // Start autosave task (every 10 seconds = 200 ticks)
-        autosaveTask = Bukkit.getScheduler().runTaskTimer(this, this::autosave, 200L, 200L);
+        autosaveTask = getTaskScheduler().runTimer(this::autosave, 200L, 200L);
 
         getLogger().info("Stormcraft enabled successfully!");
     }
@@ -92,6 +177,25 @@ public class StormcraftPlugin extends JavaPlugin {
     public void onDisable() {
         getLogger().info("Shutting down Stormcraft...");
 
+        // Pay out accrued essence while players are still online
+        if (essenceLedger != null) {
+            essenceLedger.stop();
+        }
+
+        if (metricsExporter != null) {
+            metricsExporter.stop();
+        }
+
+        // Finish the trace before the storms it reads from go away
+        if (tickRecorder != null) {
+            tickRecorder.stop();
+        }
+
+        // Stop publishing snapshots
+        if (snapshotService != null) {
+            snapshotService.stop();
+        }
+
         // Stop storm manager
         if (stormManager != null) {
             stormManager.stop();
@@ -109,9 +213,19 @@ public class StormcraftPlugin extends JavaPlugin {
 
         // Unregister PlaceholderAPI
         if (placeholderAPIIntegration != null) {
+            placeholderAPIIntegration.stop();
             placeholderAPIIntegration.unregister();
         }
 
+        if (throttleGovernor != null) {
+            throttleGovernor.stop();
+        }
+
+        // Write out buffered debug samples
+        if (debugLogger != null) {
+            debugLogger.stop();
+        }
+
         getLogger().info("Stormcraft disabled.");
     }
 
@@ -123,6 +237,18 @@ public class StormcraftPlugin extends JavaPlugin {
         // Register player join listener for storm info message
         PlayerJoinListener joinListener = new PlayerJoinListener(this, configManager, stormManager);
         Bukkit.getPluginManager().registerEvents(joinListener, this);
+
+        // Register player quit listener to settle essence and exposure state
+        PlayerQuitListener quitListener = new PlayerQuitListener(this, stormManager, essenceLedger);
+        Bukkit.getPluginManager().registerEvents(quitListener, this);
+
+        // Register teleport listener so players skipped as far from storms are re-checked after jumping
+        PlayerTeleportListener teleportListener = new PlayerTeleportListener(stormManager);
+        Bukkit.getPluginManager().registerEvents(teleportListener, this);
+
+        // Register world listener so worlds loaded after startup get storms too
+        WorldLoadListener worldListener = new WorldLoadListener(stormWorlds, zoneManager);
+        Bukkit.getPluginManager().registerEvents(worldListener, this);
     }
 
     private void registerCommands() {
@@ -177,9 +303,9 @@ public class StormcraftPlugin extends JavaPlugin {
         }
 
         // Clear any vanilla weather that snuck through
-        for (String worldName : configManager.getEnabledWorlds()) {
-            org.bukkit.World world = Bukkit.getWorld(worldName);
-            if (world != null && (world.hasStorm() || world.isThundering())) {
+        for (StormWorlds.Partition partition : stormWorlds.all()) {
+            org.bukkit.World world = partition.getWorld();
+            if (world.hasStorm() || world.isThundering()) {
                 world.setStorm(false);
                 world.setThundering(false);
                 world.setWeatherDuration(0);
@@ -188,6 +314,26 @@ public class StormcraftPlugin extends JavaPlugin {
     }
 
     // Public getters for external API access
+    public TaskScheduler getTaskScheduler() {
+        return taskScheduler;
+    }
+
+    public BiomeRasterCache getBiomeRasterCache() {
+        return biomeRasterCache;
+    }
+
+    public ZoneManager getZoneManager() {
+        return zoneManager;
+    }
+
+    public BossArenaManager getBossArenaManager() {
+        return bossArenaManager;
+    }
+
+    public StormWorlds getStormWorlds() {
+        return stormWorlds;
+    }
+
     public StormManager getStormManager() {
         return stormManager;
     }
@@ -207,4 +353,36 @@ public class StormcraftPlugin extends JavaPlugin {
     public dev.ked.stormcraft.ui.StormUIPreferences getUIPreferences() {
         return uiPreferences;
     }
+
+    public PlaceholderAPIIntegration getPlaceholderAPIIntegration() {
+        return placeholderAPIIntegration;
+    }
+
+    public EssenceAccrualLedger getEssenceLedger() {
+        return essenceLedger;
+    }
+
+    public StormSnapshotService getSnapshotService() {
+        return snapshotService;
+    }
+
+    public PerfMonitor getPerfMonitor() {
+        return perfMonitor;
+    }
+
+    public TickRecorder getTickRecorder() {
+        return tickRecorder;
+    }
+
+    public StormMetrics getMetrics() {
+        return metrics;
+    }
+
+    public DebugLogger getDebugLogger() {
+        return debugLogger;
+    }
+
+    public ThrottleGovernor getThrottleGovernor() {
+        return throttleGovernor;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,90 @@
+package dev.ked.stormcraft.api;
+
+import dev.ked.stormcraft.StormcraftPlugin;
+import dev.ked.stormcraft.model.TravelingStorm;
+import dev.ked.stormcraft.schedule.StormManager;
+import dev.ked.stormcraft.schedule.TaskHandle;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.plugin.ServicePriority;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Public read-only access to storm state for other plugins and web maps.
+ * A fresh {@link StormWorldSnapshot} is built on the main thread every tick and
+ * published through a volatile reference, so any thread can query it safely.
+ *
+ * Obtain it with {@code Bukkit.getServicesManager().load(StormSnapshotService.class)}.
+ */
+public class StormSnapshotService {
+    private final StormcraftPlugin plugin;
+    private final StormManager stormManager;
+
+    private volatile StormWorldSnapshot snapshot = StormWorldSnapshot.EMPTY;
+    private TaskHandle publishTask;
+    private long tick = 0;
+
+    public StormSnapshotService(StormcraftPlugin plugin, StormManager stormManager) {
+        this.plugin = plugin;
+        this.stormManager = stormManager;
+    }
+
+    public void start() {
+        publish();
+        publishTask = plugin.getTaskScheduler().runTimer(this::publish, 1L, 1L);
+        Bukkit.getServicesManager().register(StormSnapshotService.class, this, plugin, ServicePriority.Normal);
+    }
+
+    public void stop() {
+        Bukkit.getServicesManager().unregister(StormSnapshotService.class, this);
+        if (publishTask != null) {
+            publishTask.cancel();
+            publishTask = null;
+        }
+        snapshot = StormWorldSnapshot.EMPTY;
+    }
+
+    /**
+     * Builds a snapshot from the live storms and publishes it. Main thread only.
+     */
+    private void publish() {
+        tick++;
+
+        List<TravelingStorm> storms = new ArrayList<>(stormManager.getActiveStorms());
+        TravelingStorm legacyStorm = stormManager.getTravelingStorm();
+        if (legacyStorm != null && !storms.contains(legacyStorm)) {
+            storms.add(legacyStorm);
+        }
+
+        snapshot = StormWorldSnapshot.capture(tick, storms);
+    }
+
+    /**
+     * Gets the most recently published snapshot. Safe to call from any thread.
+     * Hold on to the returned instance when several queries must agree with each other.
+     */
+    public StormWorldSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    // Convenience queries against the latest snapshot
+
+    public boolean isInsideAnyStorm(Location location) {
+        return snapshot.isInsideAny(location);
+    }
+
+    public boolean isInsideAnyStorm(UUID worldId, double x, double z) {
+        return snapshot.isInsideAny(worldId, x, z);
+    }
+
+    public double distanceToNearestStormEdge(UUID worldId, double x, double z) {
+        return snapshot.distanceToNearestEdge(worldId, x, z);
+    }
+
+    public double damageAt(UUID worldId, double x, double z) {
+        return snapshot.damageAt(worldId, x, z);
+    }
+}
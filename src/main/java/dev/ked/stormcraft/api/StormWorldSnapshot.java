@@ -0,0 +1,332 @@
+package dev.ked.stormcraft.api;
+
+import dev.ked.stormcraft.model.StormPhase;
+import dev.ked.stormcraft.model.StormType;
+import dev.ked.stormcraft.model.TravelingStorm;
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Immutable view of every traveling storm at a single server tick.
+ * Storm data is held in parallel primitive arrays indexed 0..size()-1, so a
+ * snapshot can be read from any thread without copying or locking.
+ * Instances are published by {@link StormSnapshotService} and never change after construction.
+ */
+public final class StormWorldSnapshot {
+    private static final StormPhase[] PHASES = StormPhase.values();
+    private static final StormType[] TYPES = StormType.values();
+
+    /** Snapshot with no storms, used before the first publish. */
+    public static final StormWorldSnapshot EMPTY = new StormWorldSnapshot(0L, 0L, 0,
+            new UUID[0], new double[0], new double[0], new double[0], new double[0], new double[0],
+            new double[0], new double[0], new double[0], new byte[0], new byte[0], new int[0]);
+
+    private final long tick;
+    private final long createdMillis;
+    private final int size;
+
+    private final UUID[] worldIds;
+    private final double[] centerX;
+    private final double[] centerZ;
+    private final double[] radius;
+    private final double[] fullRadius;
+    private final double[] speed;
+    private final double[] targetX;
+    private final double[] targetZ;
+    private final double[] damagePerSecond;
+    private final byte[] phase;
+    private final byte[] type;
+    private final int[] remainingSeconds;
+
+    StormWorldSnapshot(long tick, long createdMillis, int size, UUID[] worldIds,
+                       double[] centerX, double[] centerZ, double[] radius, double[] fullRadius,
+                       double[] speed, double[] targetX, double[] targetZ, double[] damagePerSecond,
+                       byte[] phase, byte[] type, int[] remainingSeconds) {
+        this.tick = tick;
+        this.createdMillis = createdMillis;
+        this.size = size;
+        this.worldIds = worldIds;
+        this.centerX = centerX;
+        this.centerZ = centerZ;
+        this.radius = radius;
+        this.fullRadius = fullRadius;
+        this.speed = speed;
+        this.targetX = targetX;
+        this.targetZ = targetZ;
+        this.damagePerSecond = damagePerSecond;
+        this.phase = phase;
+        this.type = type;
+        this.remainingSeconds = remainingSeconds;
+    }
+
+    /**
+     * Copies the current state of the given storms into a new snapshot.
+     * Must be called on the thread that mutates the storms (the main thread).
+     */
+    public static StormWorldSnapshot capture(long tick, Collection<TravelingStorm> storms) {
+        int capacity = storms.size();
+        UUID[] worldIds = new UUID[capacity];
+        double[] centerX = new double[capacity];
+        double[] centerZ = new double[capacity];
+        double[] radius = new double[capacity];
+        double[] fullRadius = new double[capacity];
+        double[] speed = new double[capacity];
+        double[] targetX = new double[capacity];
+        double[] targetZ = new double[capacity];
+        double[] damagePerSecond = new double[capacity];
+        byte[] phase = new byte[capacity];
+        byte[] type = new byte[capacity];
+        int[] remainingSeconds = new int[capacity];
+
+        int size = 0;
+        for (TravelingStorm storm : storms) {
+            // Ended storms can linger in the manager's list until cleanup
+            if (storm.isExpired()) {
+                continue;
+            }
+
+            World world = storm.getWorld();
+            if (world == null) {
+                continue;
+            }
+
+            worldIds[size] = world.getUID();
+            centerX[size] = storm.centerX();
+            centerZ[size] = storm.centerZ();
+            radius[size] = storm.getCurrentRadius();
+            fullRadius[size] = storm.getDamageRadius();
+            speed[size] = storm.getCurrentSpeed();
+            targetX[size] = storm.targetX();
+            targetZ[size] = storm.targetZ();
+            damagePerSecond[size] = storm.getCurrentDamagePerSecond();
+            phase[size] = (byte) storm.getCurrentPhase().ordinal();
+            type[size] = (byte) storm.getProfile().getType().ordinal();
+            remainingSeconds[size] = storm.getRemainingSeconds();
+            size++;
+        }
+
+        return new StormWorldSnapshot(tick, System.currentTimeMillis(), size, worldIds,
+                centerX, centerZ, radius, fullRadius, speed, targetX, targetZ, damagePerSecond, phase, type, remainingSeconds);
+    }
+
+    // Per-storm accessors
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public UUID getWorldId(int index) {
+        return worldIds[index];
+    }
+
+    public double getCenterX(int index) {
+        return centerX[index];
+    }
+
+    public double getCenterZ(int index) {
+        return centerZ[index];
+    }
+
+    public double getRadius(int index) {
+        return radius[index];
+    }
+
+    /**
+     * Radius without phase scaling, the largest the storm gets.
+     */
+    public double getFullRadius(int index) {
+        return fullRadius[index];
+    }
+
+    /**
+     * Current movement speed in blocks per second, including temporary boosts.
+     */
+    public double getSpeed(int index) {
+        return speed[index];
+    }
+
+    /**
+     * X coordinate of the waypoint the storm is moving toward.
+     */
+    public double getTargetX(int index) {
+        return targetX[index];
+    }
+
+    public double getTargetZ(int index) {
+        return targetZ[index];
+    }
+
+    public double getDamagePerSecond(int index) {
+        return damagePerSecond[index];
+    }
+
+    public StormPhase getPhase(int index) {
+        return PHASES[phase[index]];
+    }
+
+    public StormType getType(int index) {
+        return TYPES[type[index]];
+    }
+
+    public int getRemainingSeconds(int index) {
+        return remainingSeconds[index];
+    }
+
+    // Spatial queries
+
+    /**
+     * Gets the index of the storm whose center is closest to the given point.
+     * @return Storm index, or -1 if there are no storms in that world
+     */
+    public int findNearest(UUID worldId, double x, double z) {
+        int nearest = -1;
+        double nearestDistSq = Double.MAX_VALUE;
+
+        for (int i = 0; i < size; i++) {
+            if (!worldIds[i].equals(worldId)) {
+                continue;
+            }
+            double dx = x - centerX[i];
+            double dz = z - centerZ[i];
+            double distSq = dx * dx + dz * dz;
+            if (distSq < nearestDistSq) {
+                nearestDistSq = distSq;
+                nearest = i;
+            }
+        }
+
+        return nearest;
+    }
+
+    /**
+     * Gets the index of the first storm covering the given point.
+     * @return Storm index, or -1 if the point is outside every storm
+     */
+    public int findContaining(UUID worldId, double x, double z) {
+        for (int i = 0; i < size; i++) {
+            if (!worldIds[i].equals(worldId)) {
+                continue;
+            }
+            double dx = x - centerX[i];
+            double dz = z - centerZ[i];
+            if (dx * dx + dz * dz <= radius[i] * radius[i]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Checks if the given point is inside any storm.
+     */
+    public boolean isInsideAny(UUID worldId, double x, double z) {
+        return findContaining(worldId, x, z) >= 0;
+    }
+
+    public boolean isInsideAny(Location location) {
+        return location.getWorld() != null
+                && isInsideAny(location.getWorld().getUID(), location.getX(), location.getZ());
+    }
+
+    /**
+     * Gets the index of the storm whose edge is closest to the given point. Inside a storm,
+     * that's the storm the point is deepest in.
+     * @return Storm index, or -1 if there are no storms in that world
+     */
+    public int findNearestEdge(UUID worldId, double x, double z) {
+        int nearest = -1;
+        double best = Double.MAX_VALUE;
+
+        for (int i = 0; i < size; i++) {
+            if (!worldIds[i].equals(worldId)) {
+                continue;
+            }
+            double edgeDistance = edgeDistance(i, x, z);
+            if (edgeDistance < best) {
+                best = edgeDistance;
+                nearest = i;
+            }
+        }
+
+        return nearest;
+    }
+
+    /**
+     * Gets the signed distance from the point to one storm's edge. Negative inside the storm.
+     */
+    public double edgeDistance(int index, double x, double z) {
+        double dx = x - centerX[index];
+        double dz = z - centerZ[index];
+        return Math.sqrt(dx * dx + dz * dz) - radius[index];
+    }
+
+    /**
+     * Gets the signed distance from the point to the nearest storm edge.
+     * Negative values mean the point is inside a storm.
+     * @return Distance in blocks, or Double.MAX_VALUE if there are no storms in that world
+     */
+    public double distanceToNearestEdge(UUID worldId, double x, double z) {
+        int nearest = findNearestEdge(worldId, x, z);
+        return nearest >= 0 ? edgeDistance(nearest, x, z) : Double.MAX_VALUE;
+    }
+
+    /**
+     * Gets the summed damage per second of every storm covering the point.
+     */
+    public double damageAt(UUID worldId, double x, double z) {
+        double total = 0.0;
+
+        for (int i = 0; i < size; i++) {
+            if (!worldIds[i].equals(worldId)) {
+                continue;
+            }
+            double dx = x - centerX[i];
+            double dz = z - centerZ[i];
+            if (dx * dx + dz * dz <= radius[i] * radius[i]) {
+                total += damagePerSecond[i];
+            }
+        }
+
+        return total;
+    }
+
+    /**
+     * Gets the indices of every storm whose edge is within range of the point.
+     */
+    public int[] findWithin(UUID worldId, double x, double z, double range) {
+        int[] matches = new int[size];
+        int count = 0;
+
+        for (int i = 0; i < size; i++) {
+            if (!worldIds[i].equals(worldId)) {
+                continue;
+            }
+            double dx = x - centerX[i];
+            double dz = z - centerZ[i];
+            double reach = radius[i] + range;
+            if (dx * dx + dz * dz <= reach * reach) {
+                matches[count++] = i;
+            }
+        }
+
+        return java.util.Arrays.copyOf(matches, count);
+    }
+
+    /**
+     * Server tick counter at which this snapshot was published.
+     */
+    public long getTick() {
+        return tick;
+    }
+
+    public long getCreatedMillis() {
+        return createdMillis;
+    }
+}
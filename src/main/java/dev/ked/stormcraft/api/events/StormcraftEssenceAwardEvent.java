@@ -1,12 +1,16 @@
 package dev.ked.stormcraft.api.events;
 
 import dev.ked.stormcraft.model.StormType;
+import dev.ked.stormcraft.zones.ZoneManager;
 import org.bukkit.Location;
 import org.bukkit.entity.Player;
 import org.bukkit.event.Cancellable;
 import org.bukkit.event.Event;
 import org.bukkit.event.HandlerList;
 
+import java.util.Collections;
+import java.util.Map;
+
 /**
  * Called when a player should be awarded essence for storm exposure.
  * Fired BEFORE essence is deposited - handlers (like Stormcraft-Essence) are responsible
@@ -14,6 +18,10 @@ import org.bukkit.event.HandlerList;
  *
  * This event can be cancelled to prevent essence awards.
  * Stormcraft no longer directly deposits essence - it only fires this event.
+ *
+ * Essence is aggregated between awards, so a single event may cover several exposure
+ * checks across different storm types and zones. The storm type reported is the one
+ * that contributed the most; the full breakdown is available from the getters below.
  */
 public class StormcraftEssenceAwardEvent extends Event implements Cancellable {
     private static final HandlerList handlers = new HandlerList();
@@ -23,14 +31,25 @@ public class StormcraftEssenceAwardEvent extends Event implements Cancellable {
     private final StormType stormType;
     private final long exposureTicks;
     private final Location location;
+    private final Map<StormType, Double> essenceByStormType;
+    private final Map<ZoneManager.ZoneType, Double> essenceByZone;
     private boolean cancelled = false;
 
-    public StormcraftEssenceAwardEvent(Player player, double essenceAmount, StormType stormType, long exposureTicks, Location location) {
+    public StormcraftEssenceAwardEvent(Player player, double essenceAmount, StormType stormType, long exposureTicks,
+                                       Location location, Map<StormType, Double> essenceByStormType,
+                                       Map<ZoneManager.ZoneType, Double> essenceByZone) {
         this.player = player;
         this.essenceAmount = essenceAmount;
         this.stormType = stormType;
         this.exposureTicks = exposureTicks;
         this.location = location;
+        this.essenceByStormType = Collections.unmodifiableMap(essenceByStormType);
+        this.essenceByZone = Collections.unmodifiableMap(essenceByZone);
+    }
+
+    public StormcraftEssenceAwardEvent(Player player, double essenceAmount, StormType stormType, long exposureTicks, Location location) {
+        this(player, essenceAmount, stormType, exposureTicks, location,
+             Map.of(stormType, essenceAmount), Collections.emptyMap());
     }
 
     // Backward compatibility constructor
@@ -81,6 +100,20 @@ public class StormcraftEssenceAwardEvent extends Event implements Cancellable {
         return location;
     }
 
+    /**
+     * @return The base essence earned per storm type during this award cycle
+     */
+    public Map<StormType, Double> getEssenceByStormType() {
+        return essenceByStormType;
+    }
+
+    /**
+     * @return The base essence earned per zone during this award cycle (empty if unknown)
+     */
+    public Map<ZoneManager.ZoneType, Double> getEssenceByZone() {
+        return essenceByZone;
+    }
+
     @Override
     public boolean isCancelled() {
         return cancelled;
@@ -10,6 +10,8 @@ import java.util.List;
 /**
  * Called each exposure check interval during an active storm.
  * Contains the list of exposed players who will receive damage.
+ * On Folia, players are checked on their own region threads, so the event is fired on the global region
+ * one interval late: it lists the players found exposed (and already damaged) in the previous interval.
  */
 public class StormcraftStormTickEvent extends Event {
     private static final HandlerList handlers = new HandlerList();
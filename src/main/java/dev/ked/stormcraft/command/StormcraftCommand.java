@@ -5,17 +5,25 @@ import dev.ked.stormcraft.config.ConfigManager;
 import dev.ked.stormcraft.model.ActiveStorm;
 import dev.ked.stormcraft.model.StormType;
 import dev.ked.stormcraft.model.TravelingStorm;
+import dev.ked.stormcraft.perf.PerfMonitor;
+import dev.ked.stormcraft.perf.TaskTimer;
+import dev.ked.stormcraft.perf.ThrottleGovernor;
+import dev.ked.stormcraft.perf.TickRecorder;
 import dev.ked.stormcraft.schedule.StormManager;
+import dev.ked.stormcraft.zones.BossArenaManager;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.format.TextDecoration;
 import org.bukkit.Location;
+import org.bukkit.World;
 import org.bukkit.command.Command;
 import org.bukkit.command.CommandExecutor;
 import org.bukkit.command.CommandSender;
 import org.bukkit.command.TabCompleter;
 import org.bukkit.entity.Player;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -54,6 +62,8 @@ public class StormcraftCommand implements CommandExecutor, TabCompleter {
             case "reload" -> handleReload(sender);
             case "testdamage" -> handleTestDamage(sender, args);
             case "weights" -> handleWeights(sender);
+            case "perf" -> handlePerf(sender, args);
+            case "arenas" -> handleArenas(sender);
             default -> sender.sendMessage(Component.text("Unknown subcommand. Use /storm for help.")
                     .color(NamedTextColor.RED));
         }
@@ -269,6 +279,16 @@ public class StormcraftCommand implements CommandExecutor, TabCompleter {
         }
 
         config.reload();
+        plugin.getStormWorlds().refresh();
+        plugin.getPerfMonitor().setEnabled(config.isProfilerEnabled());
+        plugin.getDebugLogger().reload();
+        plugin.getWorldGuardIntegration().invalidateProtectionCache();
+        plugin.getZoneManager().loadZoneConfig();
+        plugin.getBossArenaManager().reload();
+        plugin.getEssenceLedger().reload();
+        if (plugin.getPlaceholderAPIIntegration() != null) {
+            plugin.getPlaceholderAPIIntegration().reload();
+        }
         sender.sendMessage(Component.text("Configuration reloaded.").color(NamedTextColor.GREEN));
     }
 
@@ -299,7 +319,7 @@ public class StormcraftCommand implements CommandExecutor, TabCompleter {
         sender.sendMessage(Component.text("Testing damage for " + testDuration + " seconds...")
                 .color(NamedTextColor.YELLOW));
 
-        plugin.getServer().getScheduler().runTaskLater(plugin, () -> {
+        plugin.getTaskScheduler().runForEntityLater(player, () -> {
             double totalDamage = 2.0 * testDuration;
             double newHealth = Math.max(0, player.getHealth() - totalDamage);
             player.setHealth(newHealth);
@@ -326,11 +346,168 @@ public class StormcraftCommand implements CommandExecutor, TabCompleter {
         }
     }
 
+    private void handleArenas(CommandSender sender) {
+        if (!sender.hasPermission("stormcraft.admin")) {
+            sender.sendMessage(Component.text("You don't have permission.").color(NamedTextColor.RED));
+            return;
+        }
+
+        BossArenaManager arenaManager = plugin.getBossArenaManager();
+        List<BossArenaManager.BossArena> arenas = arenaManager.getArenas();
+        sender.sendMessage(Component.text("=== Boss Arenas (" + arenas.size() + ") ===").color(NamedTextColor.GOLD));
+        if (arenas.isEmpty()) {
+            sender.sendMessage(Component.text("No arenas defined under bossArenas.").color(NamedTextColor.GRAY));
+            return;
+        }
+
+        for (BossArenaManager.BossArena arena : arenas) {
+            String area;
+            if (arena.getWorldGuardRegion() != null) {
+                area = "region " + arena.getWorldGuardRegion();
+            } else if (arena.hasBounds()) {
+                area = String.format("%s (%.0f, %.0f, %.0f) to (%.0f, %.0f, %.0f)", arena.getWorldName(),
+                        arena.getMinX(), arena.getMinY(), arena.getMinZ(), arena.getMaxX(), arena.getMaxY(), arena.getMaxZ());
+            } else {
+                area = "no region or bounds";
+            }
+            sender.sendMessage(Component.text(arena.getName() + ": ", NamedTextColor.YELLOW)
+                    .append(Component.text(arena.getDescription() + " — " + area, NamedTextColor.WHITE))
+                    .append(arena.hasStormProtection()
+                            ? Component.text(" [protected]", NamedTextColor.GREEN)
+                            : Component.text(" [unprotected]", NamedTextColor.RED)));
+        }
+
+        for (String worldName : config.getEnabledWorlds()) {
+            World world = plugin.getServer().getWorld(worldName);
+            if (world == null) {
+                continue;
+            }
+            BossArenaManager.IndexStats stats = arenaManager.getIndexStats(world);
+            sender.sendMessage(Component.text(String.format("Index %s: %d arenas in %d cells, %d oversized",
+                    worldName, stats.arenas(), stats.cells(), stats.oversized()), NamedTextColor.GRAY));
+        }
+
+        if (sender instanceof Player player) {
+            BossArenaManager.BossArena here = arenaManager.getArenaAt(player.getLocation());
+            sender.sendMessage(here != null
+                    ? Component.text("You are in " + here.getName() + ".", NamedTextColor.AQUA)
+                    : Component.text("You are not in a boss arena.", NamedTextColor.GRAY));
+        }
+    }
+
+    private void handlePerf(CommandSender sender, String[] args) {
+        if (!sender.hasPermission("stormcraft.admin")) {
+            sender.sendMessage(Component.text("You don't have permission.").color(NamedTextColor.RED));
+            return;
+        }
+
+        PerfMonitor perfMonitor = plugin.getPerfMonitor();
+        String action = args.length >= 2 ? args[1].toLowerCase() : "show";
+
+        switch (action) {
+            case "reset" -> {
+                perfMonitor.reset();
+                sender.sendMessage(Component.text("Performance timings reset.").color(NamedTextColor.GREEN));
+            }
+            case "export" -> {
+                try {
+                    File file = perfMonitor.exportJson();
+                    sender.sendMessage(Component.text("Timings exported to " + file.getName()).color(NamedTextColor.GREEN));
+                } catch (IOException e) {
+                    sender.sendMessage(Component.text("Failed to export timings: " + e.getMessage()).color(NamedTextColor.RED));
+                }
+            }
+            case "record" -> handleRecord(sender, args);
+            default -> showPerf(sender, perfMonitor);
+        }
+    }
+
+    private void handleRecord(CommandSender sender, String[] args) {
+        TickRecorder recorder = plugin.getTickRecorder();
+        String action = args.length >= 3 ? args[2].toLowerCase() : "status";
+
+        switch (action) {
+            case "start" -> {
+                if (recorder.isRecording()) {
+                    sender.sendMessage(Component.text("Already recording to " + recorder.getFile().getName()).color(NamedTextColor.YELLOW));
+                    return;
+                }
+                try {
+                    File file = recorder.start();
+                    sender.sendMessage(Component.text("Recording storm ticks to " + file.getName()).color(NamedTextColor.GREEN));
+                } catch (IOException e) {
+                    sender.sendMessage(Component.text("Failed to start recording: " + e.getMessage()).color(NamedTextColor.RED));
+                }
+            }
+            case "stop" -> {
+                if (!recorder.isRecording()) {
+                    sender.sendMessage(Component.text("Not recording.").color(NamedTextColor.YELLOW));
+                    return;
+                }
+                recorder.stop();
+                sender.sendMessage(Component.text("Saved " + recorder.getFile().getName() + " (" +
+                        recorder.getFramesWritten() + " frames, " + recorder.getDroppedFrames() + " dropped)")
+                        .color(NamedTextColor.GREEN));
+            }
+            default -> {
+                if (recorder.isRecording()) {
+                    sender.sendMessage(Component.text("Recording to " + recorder.getFile().getName() + " (" +
+                            recorder.getFramesWritten() + " frames, " + recorder.getDroppedFrames() + " dropped)")
+                            .color(NamedTextColor.YELLOW));
+                } else {
+                    sender.sendMessage(Component.text("Not recording. Use /storm perf record start|stop").color(NamedTextColor.GRAY));
+                }
+            }
+        }
+    }
+
+    private void showPerf(CommandSender sender, PerfMonitor perfMonitor) {
+        long windowSeconds = (System.currentTimeMillis() - perfMonitor.getStartedMillis()) / 1000;
+        sender.sendMessage(Component.text("=== Stormcraft Timings (" + formatTime((int) windowSeconds) + ") ===")
+                .color(NamedTextColor.GOLD));
+
+        if (!perfMonitor.isEnabled()) {
+            sender.sendMessage(Component.text("Profiler is disabled (performance.profilerEnabled).").color(NamedTextColor.YELLOW));
+        }
+
+        ThrottleGovernor governor = plugin.getThrottleGovernor();
+        NamedTextColor throttleColor = governor.getLevel() == 0 ? NamedTextColor.GREEN : NamedTextColor.RED;
+        sender.sendMessage(Component.text("Throttle: ", NamedTextColor.YELLOW)
+                .append(Component.text(String.format("level %d (x%d intervals)", governor.getLevel(),
+                        governor.getIntervalMultiplier()), throttleColor))
+                .append(Component.text(String.format(" — server %.1f MSPT, Stormcraft %.2f ms/tick",
+                        governor.getLastMspt(), governor.getLastPluginMsPerTick()), NamedTextColor.GRAY)));
+
+        List<TaskTimer> timers = perfMonitor.getTimers();
+        if (timers.isEmpty()) {
+            sender.sendMessage(Component.text("No tasks have run yet.").color(NamedTextColor.GRAY));
+            return;
+        }
+
+        for (TaskTimer timer : timers) {
+            sender.sendMessage(Component.text(timer.getName() + ": ", NamedTextColor.YELLOW)
+                    .append(Component.text(String.format("%d runs, p50 %.2fms, p95 %.2fms, p99 %.2fms, max %.2fms",
+                            timer.getInvocations(),
+                            timer.getPercentileNanos(0.50) / 1_000_000.0,
+                            timer.getPercentileNanos(0.95) / 1_000_000.0,
+                            timer.getPercentileNanos(0.99) / 1_000_000.0,
+                            timer.getMaxNanos() / 1_000_000.0), NamedTextColor.WHITE)));
+
+            String allocation = perfMonitor.isAllocationTrackingAvailable()
+                    ? String.format(", %.1f KB/run", timer.getAllocatedBytesPerRun() / 1024.0)
+                    : "";
+            sender.sendMessage(Component.text(String.format("  %.1f items/run, %.2fms total%s",
+                    timer.getWorkItemsPerRun(), timer.getTotalNanos() / 1_000_000.0, allocation), NamedTextColor.GRAY));
+        }
+
+        sender.sendMessage(Component.text("Use /storm perf reset|export|record", NamedTextColor.DARK_GRAY));
+    }
+
     @Override
     public List<String> onTabComplete(CommandSender sender, Command command,
                                      String alias, String[] args) {
         if (args.length == 1) {
-            return Arrays.asList("start", "stop", "next", "reload", "testdamage", "weights").stream()
+            return Arrays.asList("start", "stop", "next", "reload", "testdamage", "weights", "perf", "arenas").stream()
                     .filter(s -> s.startsWith(args[0].toLowerCase()))
                     .collect(Collectors.toList());
         }
@@ -341,6 +518,18 @@ public class StormcraftCommand implements CommandExecutor, TabCompleter {
                     .collect(Collectors.toList());
         }
 
+        if (args.length == 2 && args[0].equalsIgnoreCase("perf")) {
+            return Arrays.asList("reset", "export", "record").stream()
+                    .filter(s -> s.startsWith(args[1].toLowerCase()))
+                    .collect(Collectors.toList());
+        }
+
+        if (args.length == 3 && args[0].equalsIgnoreCase("perf") && args[1].equalsIgnoreCase("record")) {
+            return Arrays.asList("start", "stop").stream()
+                    .filter(s -> s.startsWith(args[2].toLowerCase()))
+                    .collect(Collectors.toList());
+        }
+
         return new ArrayList<>();
     }
 
@@ -1,12 +1,14 @@
 package dev.ked.stormcraft.config;
 
 import dev.ked.stormcraft.StormcraftPlugin;
+import dev.ked.stormcraft.debug.DebugCategory;
 import dev.ked.stormcraft.model.StormProfile;
 import dev.ked.stormcraft.model.StormType;
 import dev.ked.stormcraft.zones.ZoneSettings;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.minimessage.MiniMessage;
 import org.bukkit.GameMode;
+import org.bukkit.Material;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.FileConfiguration;
 import org.bukkit.configuration.file.YamlConfiguration;
@@ -14,108 +16,44 @@ import org.bukkit.configuration.file.YamlConfiguration;
 import java.io.File;
 import java.util.*;
 
+/**
+ * Loads config.yml and messages.yml into an immutable {@link StormcraftSettings} snapshot.
+ * The getters below read the current snapshot; code that reads several values together
+ * (or runs off the main thread) should take {@link #getSettings()} once and read from that.
+ */
 public class ConfigManager {
     private final StormcraftPlugin plugin;
     private final MiniMessage miniMessage = MiniMessage.miniMessage();
 
+    // Materials whose cover status depends on config
+    private static final Set<Material> LEAF_MATERIALS = Set.of(
+        Material.OAK_LEAVES, Material.SPRUCE_LEAVES, Material.BIRCH_LEAVES,
+        Material.JUNGLE_LEAVES, Material.ACACIA_LEAVES, Material.DARK_OAK_LEAVES,
+        Material.AZALEA_LEAVES, Material.FLOWERING_AZALEA_LEAVES,
+        Material.MANGROVE_LEAVES, Material.CHERRY_LEAVES
+    );
+
+    private static final Set<Material> GLASS_MATERIALS = Set.of(
+        Material.GLASS, Material.GLASS_PANE,
+        Material.WHITE_STAINED_GLASS, Material.ORANGE_STAINED_GLASS, Material.MAGENTA_STAINED_GLASS,
+        Material.LIGHT_BLUE_STAINED_GLASS, Material.YELLOW_STAINED_GLASS, Material.LIME_STAINED_GLASS,
+        Material.PINK_STAINED_GLASS, Material.GRAY_STAINED_GLASS, Material.LIGHT_GRAY_STAINED_GLASS,
+        Material.CYAN_STAINED_GLASS, Material.PURPLE_STAINED_GLASS, Material.BLUE_STAINED_GLASS,
+        Material.BROWN_STAINED_GLASS, Material.GREEN_STAINED_GLASS, Material.RED_STAINED_GLASS,
+        Material.BLACK_STAINED_GLASS,
+        Material.WHITE_STAINED_GLASS_PANE, Material.ORANGE_STAINED_GLASS_PANE, Material.MAGENTA_STAINED_GLASS_PANE,
+        Material.LIGHT_BLUE_STAINED_GLASS_PANE, Material.YELLOW_STAINED_GLASS_PANE, Material.LIME_STAINED_GLASS_PANE,
+        Material.PINK_STAINED_GLASS_PANE, Material.GRAY_STAINED_GLASS_PANE, Material.LIGHT_GRAY_STAINED_GLASS_PANE,
+        Material.CYAN_STAINED_GLASS_PANE, Material.PURPLE_STAINED_GLASS_PANE, Material.BLUE_STAINED_GLASS_PANE,
+        Material.BROWN_STAINED_GLASS_PANE, Material.GREEN_STAINED_GLASS_PANE, Material.RED_STAINED_GLASS_PANE,
+        Material.BLACK_STAINED_GLASS_PANE, Material.TINTED_GLASS
+    );
+
     private FileConfiguration config;
     private FileConfiguration messages;
 
-    // Config values
-    private List<String> enabledWorlds;
-    private int minDelayBetweenStormsSeconds;
-    private int maxDelayBetweenStormsSeconds;
-    private int countdownDurationSeconds;
-    private int gracePeriodSeconds;
-    private List<Integer> countdownAnnounceScheduleSeconds;
-
-    private Map<StormType, Double> stormWeights;
-    private Map<StormType, StormProfile> damageProfiles;
-
-    private int exposureCheckIntervalTicks;
-    private boolean treatLeavesAsCover;
-    private boolean treatGlassAsCover;
-    private Set<GameMode> ignoreGameModes;
-    private int ignoreIfUnderBlocksMinDepth;
-    private boolean worldGuardProtection;
-    private double stormGracePeriodSeconds;
-    private double exposureCooldownSeconds;
-
-    private boolean logExposureSamples;
-    private boolean logScheduling;
-    private boolean bStats;
-
-    // Economy
-    private boolean economyEnabled;
-    private double essencePerTick;
-    private Map<StormType, Double> essenceMultipliers;
-
-    // Zone System
-    private boolean zoneSystemEnabled;
-    private double zoneCenterX;
-    private double zoneCenterZ;
-    private double stormlandsRadius;
-    private double stormZoneRadius;
-    private double safeZoneRadius;
-    private ZoneSettings stormlandsSettings;
-    private ZoneSettings stormZoneSettings;
-    private ZoneSettings safeZoneSettings;
-
-    // Traveling Storm System
-    private boolean travelingStormsEnabled;
-    private double stormMovementSpeed;
-    private double stormDamageRadius;
-
-    // Erratic Spawning
-    private boolean erraticSpawningEnabled;
-    private int minBurstSize;
-    private int maxBurstSize;
-    private int maxConcurrentStorms;
-    private int minBurstDelaySeconds;
-    private int maxBurstDelaySeconds;
-    private Map<Integer, Double> burstChanceWeights;
-
-    // Spawn Location
-    private boolean spawnAtBorder;
-    private double borderBias;
-    private double borderSpread;
-
-    // Damage Ramp-Up
-    private boolean damageRampUpEnabled;
-    private int damageRampUpSeconds;
-
-    // Block Damage
-    private boolean blockDamageEnabled;
-    private double blockDamageChance;
-    private int blockDamageMaxChecksPerTick;
-
-    // Storm Drops
-    private boolean stormDropsEnabled;
-    private double stormDropChanceStormlands;
-    private double stormDropChanceStormZone;
-    private int stormDropsCheckIntervalTicks;
-
-    // Ore Generation
-    private boolean oreGenerationEnabled;
-    private double oreGenerationChance;
-    private int oreGenerationChunksPerTick;
-    private int oreGenerationAttemptsPerChunk;
-
-    // Storm Tracker
-    private String stormTrackerMode;
-    private double stormTrackerRange;
-    private int stormTrackerUpdateInterval;
-
-    // Messages
-    private String messagePrefix;
-    private String messageCountdown;
-    private String messageGrace;
-    private String messageLandfall;
-    private String messageTickWarn;
-    private String messageCleared;
-    private String messageStatusIdle;
-    private String messageStatusCountdown;
-    private String messageStatusActive;
+    // Replaced as a whole on reload, never modified
+    private volatile StormcraftSettings settings;
 
     public ConfigManager(StormcraftPlugin plugin) {
         this.plugin = plugin;
@@ -129,29 +67,52 @@ public class ConfigManager {
         config = plugin.getConfig();
         messages = loadMessagesFile();
 
-        loadMainConfig();
-        loadMessages();
+        StormcraftSettings loaded = compile();
+        validateConfig(loaded);
+        settings = loaded;
+    }
 
-        validateConfig();
+    /**
+     * Builds a settings snapshot from the loaded files.
+     */
+    private StormcraftSettings compile() {
+        StormcraftSettings.Schedule schedule = loadSchedule();
+        return new StormcraftSettings(
+                loadWorlds(),
+                schedule,
+                loadExposure(),
+                loadEconomy(),
+                loadZones(schedule.stormWeights()),
+                loadTravel(),
+                loadBlockDamage(),
+                loadStormDrops(),
+                loadOreGeneration(),
+                loadTracker(),
+                loadPhases(),
+                loadPerformance(),
+                loadGovernor(),
+                loadDebug(),
+                loadMetrics(),
+                loadMessages(),
+                config.getBoolean("customWelcome.enabled", true));
     }
 
-    private void loadMainConfig() {
-        enabledWorlds = config.getStringList("enabledWorlds");
+    private StormcraftSettings.Worlds loadWorlds() {
+        List<String> enabledWorlds = config.getStringList("enabledWorlds");
         if (enabledWorlds.isEmpty()) {
             enabledWorlds = List.of("world");
         }
+        return new StormcraftSettings.Worlds(List.copyOf(enabledWorlds), Set.copyOf(enabledWorlds));
+    }
 
-        minDelayBetweenStormsSeconds = config.getInt("minDelayBetweenStormsSeconds", 900);
-        maxDelayBetweenStormsSeconds = config.getInt("maxDelayBetweenStormsSeconds", 2400);
-        countdownDurationSeconds = config.getInt("countdownDurationSeconds", 900);
-        gracePeriodSeconds = config.getInt("gracePeriodSeconds", 180);
-        countdownAnnounceScheduleSeconds = config.getIntegerList("countdownAnnounceScheduleSeconds");
+    private StormcraftSettings.Schedule loadSchedule() {
+        List<Integer> countdownAnnounceScheduleSeconds = config.getIntegerList("countdownAnnounceScheduleSeconds");
         if (countdownAnnounceScheduleSeconds.isEmpty()) {
             countdownAnnounceScheduleSeconds = List.of(900, 600, 420, 300, 120, 60, 10);
         }
 
         // Load storm weights
-        stormWeights = new HashMap<>();
+        Map<StormType, Double> stormWeights = new EnumMap<>(StormType.class);
         ConfigurationSection weightsSection = config.getConfigurationSection("stormWeights");
         if (weightsSection != null) {
             for (StormType type : StormType.values()) {
@@ -166,7 +127,7 @@ public class ConfigManager {
         }
 
         // Load damage profiles
-        damageProfiles = new HashMap<>();
+        Map<StormType, StormProfile> damageProfiles = new EnumMap<>(StormType.class);
         ConfigurationSection profilesSection = config.getConfigurationSection("damageProfiles");
         if (profilesSection != null) {
             for (StormType type : StormType.values()) {
@@ -191,213 +152,108 @@ public class ConfigManager {
             }
         }
 
-        // Load exposure settings
-        ConfigurationSection exposureSection = config.getConfigurationSection("exposure");
-        if (exposureSection != null) {
-            exposureCheckIntervalTicks = exposureSection.getInt("checkIntervalTicks", 20);
-            treatLeavesAsCover = exposureSection.getBoolean("treatLeavesAsCover", true);
-            treatGlassAsCover = exposureSection.getBoolean("treatGlassAsCover", true);
-            ignoreIfUnderBlocksMinDepth = exposureSection.getInt("ignoreIfUnderBlocksMinDepth", 1);
-            stormGracePeriodSeconds = exposureSection.getDouble("gracePeriodSeconds", 15.0);
-            exposureCooldownSeconds = exposureSection.getDouble("cooldownSeconds", 60.0);
-
-            List<String> gameModeStrings = exposureSection.getStringList("ignoreGameModes");
-            ignoreGameModes = new HashSet<>();
-            for (String gmStr : gameModeStrings) {
-                try {
-                    ignoreGameModes.add(GameMode.valueOf(gmStr.toUpperCase()));
-                } catch (IllegalArgumentException e) {
-                    plugin.getLogger().warning("Invalid game mode in config: " + gmStr);
-                }
-            }
+        return new StormcraftSettings.Schedule(
+                config.getInt("minDelayBetweenStormsSeconds", 900),
+                config.getInt("maxDelayBetweenStormsSeconds", 2400),
+                config.getInt("countdownDurationSeconds", 900),
+                config.getInt("gracePeriodSeconds", 180),
+                List.copyOf(countdownAnnounceScheduleSeconds),
+                Collections.unmodifiableMap(stormWeights),
+                WeightedTable.of(stormWeights),
+                Collections.unmodifiableMap(damageProfiles));
+    }
 
-            ConfigurationSection hookSection = exposureSection.getConfigurationSection("protectedRegionsHook");
-            worldGuardProtection = hookSection != null && hookSection.getBoolean("worldGuard", true);
+    private StormcraftSettings.Exposure loadExposure() {
+        ConfigurationSection exposureSection = config.getConfigurationSection("exposure");
+        if (exposureSection == null) {
+            return new StormcraftSettings.Exposure(20, true, true, Set.of(), 1, false, 15.0, 60.0, coverTable(true, true));
         }
 
-        // Load economy settings
-        ConfigurationSection economySection = config.getConfigurationSection("economy");
-        if (economySection != null) {
-            economyEnabled = economySection.getBoolean("enabled", true);
-            essencePerTick = economySection.getDouble("essencePerTick", 0.1);
-
-            essenceMultipliers = new HashMap<>();
-            ConfigurationSection multipliersSection = economySection.getConfigurationSection("essenceMultipliers");
-            if (multipliersSection != null) {
-                for (StormType type : StormType.values()) {
-                    double multiplier = multipliersSection.getDouble(type.getConfigKey(), 1.0);
-                    essenceMultipliers.put(type, multiplier);
-                }
-            } else {
-                // Defaults
-                essenceMultipliers.put(StormType.SHORT_WEAK, 1.0);
-                essenceMultipliers.put(StormType.MEDIUM, 2.0);
-                essenceMultipliers.put(StormType.LONG_DANGEROUS, 4.0);
+        List<String> gameModeStrings = exposureSection.getStringList("ignoreGameModes");
+        Set<GameMode> ignoreGameModes = EnumSet.noneOf(GameMode.class);
+        for (String gmStr : gameModeStrings) {
+            try {
+                ignoreGameModes.add(GameMode.valueOf(gmStr.toUpperCase()));
+            } catch (IllegalArgumentException e) {
+                plugin.getLogger().warning("Invalid game mode in config: " + gmStr);
             }
-        } else {
-            economyEnabled = false;
-            essencePerTick = 0.1;
-            essenceMultipliers = new HashMap<>();
         }
 
-        // Load zone system settings
-        loadZoneSettings();
-
-        // Load traveling storm settings
-        ConfigurationSection travelingStormSection = config.getConfigurationSection("travelingStorms");
-        if (travelingStormSection != null) {
-            travelingStormsEnabled = travelingStormSection.getBoolean("enabled", true);
-            stormMovementSpeed = travelingStormSection.getDouble("movementSpeed", 5.0);
-            stormDamageRadius = travelingStormSection.getDouble("damageRadius", 50.0);
-
-            // Load erratic spawning settings
-            ConfigurationSection erraticSection = travelingStormSection.getConfigurationSection("erraticSpawning");
-            if (erraticSection != null) {
-                erraticSpawningEnabled = erraticSection.getBoolean("enabled", true);
-                minBurstSize = erraticSection.getInt("minBurstSize", 1);
-                maxBurstSize = erraticSection.getInt("maxBurstSize", 6);
-                maxConcurrentStorms = erraticSection.getInt("maxConcurrentStorms", 12);
-                minBurstDelaySeconds = erraticSection.getInt("minDelaySeconds", 180);
-                maxBurstDelaySeconds = erraticSection.getInt("maxDelaySeconds", 900);
+        ConfigurationSection hookSection = exposureSection.getConfigurationSection("protectedRegionsHook");
+        boolean treatLeavesAsCover = exposureSection.getBoolean("treatLeavesAsCover", true);
+        boolean treatGlassAsCover = exposureSection.getBoolean("treatGlassAsCover", true);
+        return new StormcraftSettings.Exposure(
+                exposureSection.getInt("checkIntervalTicks", 20),
+                treatLeavesAsCover,
+                treatGlassAsCover,
+                Collections.unmodifiableSet(ignoreGameModes),
+                exposureSection.getInt("ignoreIfUnderBlocksMinDepth", 1),
+                hookSection != null && hookSection.getBoolean("worldGuard", true),
+                exposureSection.getDouble("gracePeriodSeconds", 15.0),
+                exposureSection.getDouble("cooldownSeconds", 60.0),
+                coverTable(treatLeavesAsCover, treatGlassAsCover));
+    }
 
-                // Load burst chance weights
-                burstChanceWeights = new HashMap<>();
-                ConfigurationSection burstWeightsSection = erraticSection.getConfigurationSection("burstChanceWeights");
-                if (burstWeightsSection != null) {
-                    for (String key : burstWeightsSection.getKeys(false)) {
-                        int burstSize = Integer.parseInt(key);
-                        double weight = burstWeightsSection.getDouble(key);
-                        burstChanceWeights.put(burstSize, weight);
-                    }
-                }
-            } else {
-                erraticSpawningEnabled = false;
-                minBurstSize = 1;
-                maxBurstSize = 1;
-                maxConcurrentStorms = 12;
-                minBurstDelaySeconds = 900;
-                maxBurstDelaySeconds = 2400;
-                burstChanceWeights = new HashMap<>();
-                burstChanceWeights.put(1, 1.0);
+    /**
+     * Works out which block materials shelter players, indexed by ordinal.
+     * Leaves and glass follow their settings; every other solid block counts.
+     */
+    private static boolean[] coverTable(boolean treatLeavesAsCover, boolean treatGlassAsCover) {
+        Material[] materials = Material.values();
+        boolean[] cover = new boolean[materials.length];
+        for (Material material : materials) {
+            if (material.isLegacy() || !material.isBlock() || material.isAir()) {
+                continue;
             }
-
-            // Load spawn location settings
-            ConfigurationSection spawnLocationSection = travelingStormSection.getConfigurationSection("spawnLocation");
-            if (spawnLocationSection != null) {
-                spawnAtBorder = spawnLocationSection.getBoolean("spawnAtBorder", true);
-                borderBias = spawnLocationSection.getDouble("borderBias", 0.7);
-                borderSpread = spawnLocationSection.getDouble("borderSpread", 500.0);
-            } else {
-                spawnAtBorder = false;
-                borderBias = 0.7;
-                borderSpread = 500.0;
-            }
-
-            // Load damage ramp-up settings
-            ConfigurationSection rampUpSection = travelingStormSection.getConfigurationSection("damageRampUp");
-            if (rampUpSection != null) {
-                damageRampUpEnabled = rampUpSection.getBoolean("enabled", true);
-                damageRampUpSeconds = rampUpSection.getInt("rampUpSeconds", 60);
+            if (LEAF_MATERIALS.contains(material)) {
+                cover[material.ordinal()] = treatLeavesAsCover;
+            } else if (GLASS_MATERIALS.contains(material)) {
+                cover[material.ordinal()] = treatGlassAsCover;
             } else {
-                damageRampUpEnabled = false;
-                damageRampUpSeconds = 0;
+                cover[material.ordinal()] = material.isSolid();
             }
-        } else {
-            travelingStormsEnabled = true;
-            stormMovementSpeed = 5.0;
-            stormDamageRadius = 50.0;
-            erraticSpawningEnabled = false;
-            minBurstSize = 1;
-            maxBurstSize = 1;
-            minBurstDelaySeconds = 900;
-            maxBurstDelaySeconds = 2400;
-            burstChanceWeights = new HashMap<>();
-            burstChanceWeights.put(1, 1.0);
-            spawnAtBorder = false;
-            borderBias = 0.7;
-            borderSpread = 500.0;
-            damageRampUpEnabled = false;
-            damageRampUpSeconds = 0;
-        }
-
-        // Load block damage settings
-        ConfigurationSection blockDamageSection = config.getConfigurationSection("blockDamage");
-        if (blockDamageSection != null) {
-            blockDamageEnabled = blockDamageSection.getBoolean("enabled", true);
-            blockDamageChance = blockDamageSection.getDouble("baseChance", 0.01);
-            blockDamageMaxChecksPerTick = blockDamageSection.getInt("maxChecksPerTick", 50);
-        } else {
-            blockDamageEnabled = true;
-            blockDamageChance = 0.01;
-            blockDamageMaxChecksPerTick = 50;
-        }
-
-        // Load storm drops settings
-        ConfigurationSection stormDropsSection = config.getConfigurationSection("stormDrops");
-        if (stormDropsSection != null) {
-            stormDropsEnabled = stormDropsSection.getBoolean("enabled", true);
-            stormDropChanceStormlands = stormDropsSection.getDouble("chanceStormlands", 0.1);
-            stormDropChanceStormZone = stormDropsSection.getDouble("chanceStormZone", 0.05);
-            stormDropsCheckIntervalTicks = stormDropsSection.getInt("checkIntervalTicks", 100);
-        } else {
-            stormDropsEnabled = true;
-            stormDropChanceStormlands = 0.1;
-            stormDropChanceStormZone = 0.05;
-            stormDropsCheckIntervalTicks = 100;
         }
+        return cover;
+    }
 
-        // Load storm tracker settings
-        ConfigurationSection stormTrackerSection = config.getConfigurationSection("stormTracker");
-        if (stormTrackerSection != null) {
-            stormTrackerMode = stormTrackerSection.getString("mode", "actionbar");
-            stormTrackerRange = stormTrackerSection.getDouble("range", 500.0);
-            stormTrackerUpdateInterval = stormTrackerSection.getInt("updateInterval", 20);
-        } else {
-            stormTrackerMode = "actionbar";
-            stormTrackerRange = 500.0;
-            stormTrackerUpdateInterval = 20;
+    private StormcraftSettings.Economy loadEconomy() {
+        ConfigurationSection economySection = config.getConfigurationSection("economy");
+        if (economySection == null) {
+            return new StormcraftSettings.Economy(false, 0.1, Map.of(), 60);
         }
 
-        // Load ore generation settings
-        ConfigurationSection oreGenSection = config.getConfigurationSection("oreGeneration");
-        if (oreGenSection != null) {
-            oreGenerationEnabled = oreGenSection.getBoolean("enabled", true);
-            oreGenerationChance = oreGenSection.getDouble("baseChance", 0.001);
-            oreGenerationChunksPerTick = oreGenSection.getInt("chunksPerTick", 2);
-            oreGenerationAttemptsPerChunk = oreGenSection.getInt("attemptsPerChunk", 3);
+        Map<StormType, Double> essenceMultipliers = new EnumMap<>(StormType.class);
+        ConfigurationSection multipliersSection = economySection.getConfigurationSection("essenceMultipliers");
+        if (multipliersSection != null) {
+            for (StormType type : StormType.values()) {
+                double multiplier = multipliersSection.getDouble(type.getConfigKey(), 1.0);
+                essenceMultipliers.put(type, multiplier);
+            }
         } else {
-            oreGenerationEnabled = true;
-            oreGenerationChance = 0.001;
-            oreGenerationChunksPerTick = 2;
-            oreGenerationAttemptsPerChunk = 3;
+            // Defaults
+            essenceMultipliers.put(StormType.SHORT_WEAK, 1.0);
+            essenceMultipliers.put(StormType.MEDIUM, 2.0);
+            essenceMultipliers.put(StormType.LONG_DANGEROUS, 4.0);
         }
 
-        // Load debug settings
-        ConfigurationSection debugSection = config.getConfigurationSection("debug");
-        if (debugSection != null) {
-            logExposureSamples = debugSection.getBoolean("logExposureSamples", false);
-            logScheduling = debugSection.getBoolean("logScheduling", false);
-            bStats = debugSection.getBoolean("bStats", true);
-        }
+        return new StormcraftSettings.Economy(
+                economySection.getBoolean("enabled", true),
+                economySection.getDouble("essencePerTick", 0.1),
+                Collections.unmodifiableMap(essenceMultipliers),
+                economySection.getInt("flushIntervalSeconds", 60));
     }
 
-    private void loadMessages() {
-        messagePrefix = messages.getString("prefix", "<dark_gray>[<yellow>Stormcraft</yellow>]</dark_gray> ");
-        messageCountdown = messages.getString("countdown", "<yellow>⚠</yellow> <gold>Storm Warning:</gold> <white>{time}</white> until arrival — Type: <aqua>{type}</aqua> (<gold>{dps} HP/s</gold>)");
-        messageGrace = messages.getString("grace", "<red>⛈ STORM INCOMING</red> <white>{time}</white> — <yellow>Seek shelter now!</yellow>");
-        messageLandfall = messages.getString("landfall", "<red><bold>⚡ STORM ACTIVE!</bold></red> <gold>{dps} HP/s</gold> for <white>{duration}</white> — <gray>Stay indoors!</gray>");
-        messageTickWarn = messages.getString("tickWarn", "<gray>You feel the air crackle…</gray>");
-        messageCleared = messages.getString("cleared", "<green>✓ Storm cleared.</green> Next storm in <white>{next}</white>.");
-
-        ConfigurationSection statusSection = messages.getConfigurationSection("status");
-        if (statusSection != null) {
-            messageStatusIdle = statusSection.getString("idle", "Next storm in {next}.");
-            messageStatusCountdown = statusSection.getString("countdown", "Storm in {time} — {type} — {dps} HP/s");
-            messageStatusActive = statusSection.getString("active", "Storm active: {type} — {time} left — {dps} HP/s");
-        }
-    }
+    private StormcraftSettings.Zones loadZones(Map<StormType, Double> stormWeights) {
+        boolean zoneSystemEnabled;
+        double zoneCenterX;
+        double zoneCenterZ;
+        double stormlandsRadius;
+        double stormZoneRadius;
+        double safeZoneRadius;
+        ZoneSettings stormlandsSettings;
+        ZoneSettings stormZoneSettings;
+        ZoneSettings safeZoneSettings;
 
-    private void loadZoneSettings() {
         ConfigurationSection zonesSection = config.getConfigurationSection("zones");
         if (zonesSection != null) {
             zoneSystemEnabled = zonesSection.getBoolean("enabled", false);
@@ -407,17 +263,17 @@ public class ConfigManager {
             // Load Stormlands settings
             ConfigurationSection stormlandsSection = zonesSection.getConfigurationSection("stormlands");
             stormlandsRadius = stormlandsSection != null ? stormlandsSection.getDouble("radius", 2500) : 2500;
-            stormlandsSettings = loadZoneSettingsFromSection(stormlandsSection, 3.0, true, true);
+            stormlandsSettings = loadZoneSettingsFromSection(stormlandsSection, stormWeights, 3.0, true, true);
 
             // Load Storm Zone settings
             ConfigurationSection stormZoneSection = zonesSection.getConfigurationSection("stormZone");
             stormZoneRadius = stormZoneSection != null ? stormZoneSection.getDouble("radius", 5000) : 5000;
-            stormZoneSettings = loadZoneSettingsFromSection(stormZoneSection, 1.5, false, true);
+            stormZoneSettings = loadZoneSettingsFromSection(stormZoneSection, stormWeights, 1.5, false, true);
 
             // Load Safe Zone settings
             ConfigurationSection safeZoneSection = zonesSection.getConfigurationSection("safeZone");
             safeZoneRadius = safeZoneSection != null ? safeZoneSection.getDouble("radius", 10000) : 10000;
-            safeZoneSettings = loadZoneSettingsFromSection(safeZoneSection, 0.3, false, false);
+            safeZoneSettings = loadZoneSettingsFromSection(safeZoneSection, stormWeights, 0.3, false, false);
         } else {
             zoneSystemEnabled = false;
             zoneCenterX = 0;
@@ -432,10 +288,94 @@ public class ConfigManager {
             stormZoneSettings = new ZoneSettings(1.5, defaultWeights, 1.5, 1.5, false, 0.0, true, 0.05, null);
             safeZoneSettings = new ZoneSettings(0.3, defaultWeights, 1.0, 1.0, false, 0.0, false, 0.0, null);
         }
+
+        // Zone map colors, e.g. "#FF4444"
+        Map<String, Integer> imageMapColors = new HashMap<>();
+        ConfigurationSection colorsSection = config.getConfigurationSection("zones.imageMap.colors");
+        if (colorsSection != null) {
+            for (String zone : colorsSection.getKeys(false)) {
+                String value = colorsSection.getString(zone, "");
+                try {
+                    imageMapColors.put(zone, Integer.parseInt(value.replace("#", ""), 16) & 0xFFFFFF);
+                } catch (NumberFormatException e) {
+                    plugin.getLogger().warning("Invalid zone map color for " + zone + ": " + value);
+                }
+            }
+        }
+
+        StormcraftSettings.Zones zones = new StormcraftSettings.Zones(
+                zoneSystemEnabled,
+                zoneCenterX,
+                zoneCenterZ,
+                stormlandsRadius,
+                stormZoneRadius,
+                safeZoneRadius,
+                stormlandsRadius * stormlandsRadius,
+                stormZoneRadius * stormZoneRadius,
+                safeZoneRadius * safeZoneRadius,
+                stormlandsSettings,
+                stormZoneSettings,
+                safeZoneSettings,
+                config.getBoolean("zones.biomeRaster.enabled", true),
+                Math.max(16, config.getInt("zones.biomeRaster.cellSize", 64)),
+                config.getBoolean("zones.imageMap.enabled", false),
+                config.getString("zones.imageMap.file", "zone-map.png"),
+                Math.max(1, config.getInt("zones.imageMap.blocksPerPixel", 16)),
+                Map.copyOf(imageMapColors),
+                Map.of());
+
+        // Per-world layouts: geometry and zone map overridden, zone settings shared
+        ConfigurationSection worldsSection = config.getConfigurationSection("zones.worlds");
+        if (worldsSection == null) {
+            return zones;
+        }
+        Map<String, StormcraftSettings.Zones> worldZones = new HashMap<>();
+        for (String worldName : worldsSection.getKeys(false)) {
+            ConfigurationSection section = worldsSection.getConfigurationSection(worldName);
+            if (section != null) {
+                worldZones.put(worldName, loadWorldZones(section, zones));
+            }
+        }
+        return new StormcraftSettings.Zones(zones.enabled(), zones.centerX(), zones.centerZ(),
+                zones.stormlandsRadius(), zones.stormZoneRadius(), zones.safeZoneRadius(),
+                zones.stormlandsRadiusSquared(), zones.stormZoneRadiusSquared(), zones.safeZoneRadiusSquared(),
+                stormlandsSettings, stormZoneSettings, safeZoneSettings,
+                zones.biomeRasterEnabled(), zones.biomeRasterCellSize(),
+                zones.imageMapEnabled(), zones.imageMapFile(), zones.imageMapBlocksPerPixel(), zones.imageMapColors(),
+                Map.copyOf(worldZones));
+    }
+
+    /**
+     * Reads one world's section under zones.worlds. Keys it leaves out keep the values of the main layout.
+     */
+    private StormcraftSettings.Zones loadWorldZones(ConfigurationSection section, StormcraftSettings.Zones base) {
+        double stormlandsRadius = section.getDouble("stormlands.radius", base.stormlandsRadius());
+        double stormZoneRadius = section.getDouble("stormZone.radius", base.stormZoneRadius());
+        double safeZoneRadius = section.getDouble("safeZone.radius", base.safeZoneRadius());
+        return new StormcraftSettings.Zones(
+                section.getBoolean("enabled", base.enabled()),
+                section.getDouble("centerX", base.centerX()),
+                section.getDouble("centerZ", base.centerZ()),
+                stormlandsRadius,
+                stormZoneRadius,
+                safeZoneRadius,
+                stormlandsRadius * stormlandsRadius,
+                stormZoneRadius * stormZoneRadius,
+                safeZoneRadius * safeZoneRadius,
+                base.stormlandsSettings(),
+                base.stormZoneSettings(),
+                base.safeZoneSettings(),
+                base.biomeRasterEnabled(),
+                base.biomeRasterCellSize(),
+                section.getBoolean("imageMap.enabled", base.imageMapEnabled()),
+                section.getString("imageMap.file", base.imageMapFile()),
+                Math.max(1, section.getInt("imageMap.blocksPerPixel", base.imageMapBlocksPerPixel())),
+                base.imageMapColors(),
+                Map.of());
     }
 
-    private ZoneSettings loadZoneSettingsFromSection(ConfigurationSection section, double defaultFreq,
-                                                     boolean defaultBlockDamage, boolean defaultStormDrops) {
+    private ZoneSettings loadZoneSettingsFromSection(ConfigurationSection section, Map<StormType, Double> stormWeights,
+                                                     double defaultFreq, boolean defaultBlockDamage, boolean defaultStormDrops) {
         if (section == null) {
             return new ZoneSettings(defaultFreq, new HashMap<>(stormWeights), 1.0, 1.0,
                                   defaultBlockDamage, 0.01, defaultStormDrops, 0.05, null);
@@ -480,13 +420,229 @@ public class ConfigManager {
                               blockDmg, blockDmgChance, stormDrops, stormDropChance, biomePrefs);
     }
 
-    private void validateConfig() {
-        double totalWeight = stormWeights.values().stream().mapToDouble(Double::doubleValue).sum();
+    private StormcraftSettings.Travel loadTravel() {
+        boolean travelingStormsEnabled = true;
+        double stormMovementSpeed = 5.0;
+        double stormDamageRadius = 50.0;
+        boolean erraticSpawningEnabled = false;
+        int minBurstSize = 1;
+        int maxBurstSize = 1;
+        int maxConcurrentStorms = 12;
+        int minBurstDelaySeconds = 900;
+        int maxBurstDelaySeconds = 2400;
+        Map<Integer, Double> burstChanceWeights = Map.of(1, 1.0);
+        boolean spawnAtBorder = false;
+        double borderBias = 0.7;
+        double borderSpread = 500.0;
+        boolean damageRampUpEnabled = false;
+        int damageRampUpSeconds = 0;
+
+        ConfigurationSection travelingStormSection = config.getConfigurationSection("travelingStorms");
+        if (travelingStormSection != null) {
+            travelingStormsEnabled = travelingStormSection.getBoolean("enabled", true);
+            stormMovementSpeed = travelingStormSection.getDouble("movementSpeed", 5.0);
+            stormDamageRadius = travelingStormSection.getDouble("damageRadius", 50.0);
+
+            // Load erratic spawning settings
+            ConfigurationSection erraticSection = travelingStormSection.getConfigurationSection("erraticSpawning");
+            if (erraticSection != null) {
+                erraticSpawningEnabled = erraticSection.getBoolean("enabled", true);
+                minBurstSize = erraticSection.getInt("minBurstSize", 1);
+                maxBurstSize = erraticSection.getInt("maxBurstSize", 6);
+                maxConcurrentStorms = erraticSection.getInt("maxConcurrentStorms", 12);
+                minBurstDelaySeconds = erraticSection.getInt("minDelaySeconds", 180);
+                maxBurstDelaySeconds = erraticSection.getInt("maxDelaySeconds", 900);
+
+                // Load burst chance weights
+                Map<Integer, Double> weights = new HashMap<>();
+                ConfigurationSection burstWeightsSection = erraticSection.getConfigurationSection("burstChanceWeights");
+                if (burstWeightsSection != null) {
+                    for (String key : burstWeightsSection.getKeys(false)) {
+                        try {
+                            weights.put(Integer.parseInt(key), burstWeightsSection.getDouble(key));
+                        } catch (NumberFormatException e) {
+                            plugin.getLogger().warning("Invalid burst size in config: " + key);
+                        }
+                    }
+                }
+                burstChanceWeights = Map.copyOf(weights);
+            }
+
+            // Load spawn location settings
+            ConfigurationSection spawnLocationSection = travelingStormSection.getConfigurationSection("spawnLocation");
+            if (spawnLocationSection != null) {
+                spawnAtBorder = spawnLocationSection.getBoolean("spawnAtBorder", true);
+                borderBias = spawnLocationSection.getDouble("borderBias", 0.7);
+                borderSpread = spawnLocationSection.getDouble("borderSpread", 500.0);
+            }
+
+            // Load damage ramp-up settings
+            ConfigurationSection rampUpSection = travelingStormSection.getConfigurationSection("damageRampUp");
+            if (rampUpSection != null) {
+                damageRampUpEnabled = rampUpSection.getBoolean("enabled", true);
+                damageRampUpSeconds = rampUpSection.getInt("rampUpSeconds", 60);
+            }
+        }
+
+        return new StormcraftSettings.Travel(
+                travelingStormsEnabled,
+                stormMovementSpeed,
+                stormDamageRadius,
+                stormDamageRadius * stormDamageRadius,
+                erraticSpawningEnabled,
+                minBurstSize,
+                maxBurstSize,
+                maxConcurrentStorms,
+                minBurstDelaySeconds,
+                maxBurstDelaySeconds,
+                burstChanceWeights,
+                WeightedTable.of(burstChanceWeights),
+                spawnAtBorder,
+                borderBias,
+                borderSpread,
+                damageRampUpEnabled,
+                damageRampUpSeconds);
+    }
+
+    private StormcraftSettings.BlockDamage loadBlockDamage() {
+        ConfigurationSection blockDamageSection = config.getConfigurationSection("blockDamage");
+        if (blockDamageSection == null) {
+            return new StormcraftSettings.BlockDamage(true, 0.01, 50);
+        }
+        return new StormcraftSettings.BlockDamage(
+                blockDamageSection.getBoolean("enabled", true),
+                blockDamageSection.getDouble("baseChance", 0.01),
+                blockDamageSection.getInt("maxChecksPerTick", 50));
+    }
+
+    private StormcraftSettings.StormDrops loadStormDrops() {
+        ConfigurationSection stormDropsSection = config.getConfigurationSection("stormDrops");
+        if (stormDropsSection == null) {
+            return new StormcraftSettings.StormDrops(true, 0.1, 0.05, 100);
+        }
+        return new StormcraftSettings.StormDrops(
+                stormDropsSection.getBoolean("enabled", true),
+                stormDropsSection.getDouble("chanceStormlands", 0.1),
+                stormDropsSection.getDouble("chanceStormZone", 0.05),
+                stormDropsSection.getInt("checkIntervalTicks", 100));
+    }
+
+    private StormcraftSettings.OreGeneration loadOreGeneration() {
+        ConfigurationSection oreGenSection = config.getConfigurationSection("oreGeneration");
+        if (oreGenSection == null) {
+            return new StormcraftSettings.OreGeneration(true, 0.001, 2, 3);
+        }
+        return new StormcraftSettings.OreGeneration(
+                oreGenSection.getBoolean("enabled", true),
+                oreGenSection.getDouble("baseChance", 0.001),
+                oreGenSection.getInt("chunksPerTick", 2),
+                oreGenSection.getInt("attemptsPerChunk", 3));
+    }
+
+    private StormcraftSettings.Tracker loadTracker() {
+        ConfigurationSection stormTrackerSection = config.getConfigurationSection("stormTracker");
+        if (stormTrackerSection == null) {
+            return new StormcraftSettings.Tracker("actionbar", 500.0, 20);
+        }
+        return new StormcraftSettings.Tracker(
+                stormTrackerSection.getString("mode", "actionbar"),
+                stormTrackerSection.getDouble("range", 500.0),
+                stormTrackerSection.getInt("updateInterval", 20));
+    }
+
+    private StormcraftSettings.Phases loadPhases() {
+        return new StormcraftSettings.Phases(
+                config.getBoolean("stormPhases.enabled", true),
+                config.getDouble("stormPhases.formingPercent", 0.30),
+                config.getDouble("stormPhases.peakPercent", 0.50),
+                config.getDouble("stormPhases.dissipatingPercent", 0.20),
+                config.getInt("stormPhases.phaseChangeWarningSeconds", 30));
+    }
+
+    private StormcraftSettings.Performance loadPerformance() {
+        double stormActiveRange = config.getDouble("performance.stormActiveRange", 2000.0);
+        return new StormcraftSettings.Performance(
+                stormActiveRange,
+                stormActiveRange * stormActiveRange,
+                config.getInt("performance.dormantUpdateInterval", 1200),
+                config.getInt("performance.activeUpdateInterval", 20),
+                config.getInt("performance.mobDamageCheckInterval", 100),
+                config.getBoolean("performance.profilerEnabled", true),
+                Math.max(1, config.getInt("performance.placeholderRefreshTicks", 1)),
+                config.getBoolean("performance.traceRecording", false),
+                Math.max(1, config.getInt("performance.traceIntervalTicks", 20)),
+                Math.max(1, config.getInt("performance.traceQueueFrames", 200)),
+                Math.max(1, config.getInt("performance.seedStormsPerRun", 2)),
+                Math.max(1, config.getInt("performance.seedIntervalTicks", 10)),
+                config.getBoolean("performance.contactScheduling.enabled", true),
+                Math.max(1.0, config.getDouble("performance.contactScheduling.maxPlayerSpeed", 40.0)),
+                Math.max(0.0, config.getDouble("performance.contactScheduling.maxSleepSeconds", 15.0)));
+    }
+
+    private StormcraftSettings.Governor loadGovernor() {
+        return new StormcraftSettings.Governor(
+                config.getBoolean("performance.governor.enabled", true),
+                config.getDouble("performance.governor.highMspt", 45.0),
+                config.getDouble("performance.governor.lowMspt", 35.0),
+                config.getDouble("performance.governor.pluginBudgetMs", 5.0),
+                Math.max(1, config.getInt("performance.governor.recoverSeconds", 10)),
+                Math.max(0, Math.min(4, config.getInt("performance.governor.maxLevel", 3))));
+    }
+
+    private StormcraftSettings.Debug loadDebug() {
+        DebugCategory[] categories = DebugCategory.values();
+        double[] sampleRates = new double[categories.length];
+        int[] maxPerSecond = new int[categories.length];
+        for (DebugCategory category : categories) {
+            String path = "debug.sampling." + category.getConfigKey();
+            sampleRates[category.ordinal()] = config.getDouble(path + ".rate", 1.0);
+            maxPerSecond[category.ordinal()] = config.getInt(path + ".maxPerSecond", 20);
+        }
+
+        return new StormcraftSettings.Debug(
+                config.getBoolean("debug.logExposureSamples", false),
+                config.getBoolean("debug.logScheduling", false),
+                config.getBoolean("debug.bStats", true),
+                Math.max(64, config.getInt("debug.bufferSize", 8192)),
+                Math.max(1, config.getLong("debug.maxFileSizeMb", 10)) * 1024L * 1024L,
+                Math.max(1, config.getInt("debug.maxFiles", 3)),
+                sampleRates,
+                maxPerSecond);
+    }
+
+    private StormcraftSettings.Metrics loadMetrics() {
+        return new StormcraftSettings.Metrics(
+                config.getBoolean("metrics.enabled", false),
+                config.getString("metrics.bindAddress", "127.0.0.1"),
+                config.getInt("metrics.port", 9464));
+    }
+
+    private StormcraftSettings.Messages loadMessages() {
+        String prefix = messages.getString("prefix", "<dark_gray>[<yellow>Stormcraft</yellow>]</dark_gray> ");
+        return new StormcraftSettings.Messages(
+                prefix,
+                compileMessage(prefix, "countdown", "<yellow>⚠</yellow> <gold>Storm Warning:</gold> <white>{time}</white> until arrival — Type: <aqua>{type}</aqua> (<gold>{dps} HP/s</gold>)"),
+                compileMessage(prefix, "grace", "<red>⛈ STORM INCOMING</red> <white>{time}</white> — <yellow>Seek shelter now!</yellow>"),
+                compileMessage(prefix, "landfall", "<red><bold>⚡ STORM ACTIVE!</bold></red> <gold>{dps} HP/s</gold> for <white>{duration}</white> — <gray>Stay indoors!</gray>"),
+                compileMessage(prefix, "tickWarn", "<gray>You feel the air crackle…</gray>"),
+                compileMessage(prefix, "cleared", "<green>✓ Storm cleared.</green> Next storm in <white>{next}</white>."),
+                compileMessage(prefix, "status.idle", "Next storm in {next}."),
+                compileMessage(prefix, "status.countdown", "Storm in {time} — {type} — {dps} HP/s"),
+                compileMessage(prefix, "status.active", "Storm active: {type} — {time} left — {dps} HP/s"),
+                compileMessage("", "welcome", "<yellow>⚡</yellow> <gray>The next storm is in:</gray> <white>{time}</white>"));
+    }
+
+    private MessageTemplate compileMessage(String prefix, String key, String defaultText) {
+        return MessageTemplate.compile(miniMessage, prefix + messages.getString(key, defaultText));
+    }
+
+    private void validateConfig(StormcraftSettings loaded) {
+        double totalWeight = loaded.schedule().stormWeights().values().stream().mapToDouble(Double::doubleValue).sum();
         if (Math.abs(totalWeight - 1.0) > 0.1) {
             plugin.getLogger().warning("Storm weights sum to " + totalWeight + " (expected ~1.0). Weights will be normalized.");
         }
 
-        if (minDelayBetweenStormsSeconds >= maxDelayBetweenStormsSeconds) {
+        if (loaded.schedule().minDelaySeconds() >= loaded.schedule().maxDelaySeconds()) {
             plugin.getLogger().warning("minDelayBetweenStormsSeconds should be less than maxDelayBetweenStormsSeconds!");
         }
     }
@@ -509,121 +665,178 @@ public class ConfigManager {
         plugin.getLogger().info("Configuration reloaded.");
     }
 
+    /**
+     * Gets the current settings snapshot. It never changes; a reload replaces it.
+     */
+    public StormcraftSettings getSettings() { return settings; }
+
     // Getters
-    public List<String> getEnabledWorlds() { return enabledWorlds; }
-    public int getMinDelayBetweenStormsSeconds() { return minDelayBetweenStormsSeconds; }
-    public int getMaxDelayBetweenStormsSeconds() { return maxDelayBetweenStormsSeconds; }
-    public int getCountdownDurationSeconds() { return countdownDurationSeconds; }
-    public int getGracePeriodSeconds() { return gracePeriodSeconds; }
-    public List<Integer> getCountdownAnnounceScheduleSeconds() { return countdownAnnounceScheduleSeconds; }
-    public Map<StormType, Double> getStormWeights() { return stormWeights; }
-    public Map<StormType, StormProfile> getDamageProfiles() { return damageProfiles; }
-    public int getExposureCheckIntervalTicks() { return exposureCheckIntervalTicks; }
-    public boolean isTreatLeavesAsCover() { return treatLeavesAsCover; }
-    public boolean isTreatGlassAsCover() { return treatGlassAsCover; }
-    public Set<GameMode> getIgnoreGameModes() { return ignoreGameModes; }
-    public int getIgnoreIfUnderBlocksMinDepth() { return ignoreIfUnderBlocksMinDepth; }
-    public boolean isWorldGuardProtection() { return worldGuardProtection; }
-    public double getStormGracePeriodSeconds() { return stormGracePeriodSeconds; }
-    public double getExposureCooldownSeconds() { return exposureCooldownSeconds; }
-    public boolean isCustomWelcomeEnabled() { return config.getBoolean("customWelcome.enabled", true); }
-    public boolean isLogExposureSamples() { return logExposureSamples; }
-    public boolean isLogScheduling() { return logScheduling; }
-    public boolean isBStats() { return bStats; }
-    public boolean isEconomyEnabled() { return economyEnabled; }
-    public double getEssencePerTick() { return essencePerTick; }
-    public Map<StormType, Double> getEssenceMultipliers() { return essenceMultipliers; }
+    public List<String> getEnabledWorlds() { return settings.worlds().names(); }
+    public int getMinDelayBetweenStormsSeconds() { return settings.schedule().minDelaySeconds(); }
+    public int getMaxDelayBetweenStormsSeconds() { return settings.schedule().maxDelaySeconds(); }
+    public int getCountdownDurationSeconds() { return settings.schedule().countdownDurationSeconds(); }
+    public int getGracePeriodSeconds() { return settings.schedule().gracePeriodSeconds(); }
+    public List<Integer> getCountdownAnnounceScheduleSeconds() { return settings.schedule().countdownAnnounceScheduleSeconds(); }
+    public Map<StormType, Double> getStormWeights() { return settings.schedule().stormWeights(); }
+    public WeightedTable<StormType> getStormTypeTable() { return settings.schedule().stormTypeTable(); }
+    public Map<StormType, StormProfile> getDamageProfiles() { return settings.schedule().damageProfiles(); }
+    public int getExposureCheckIntervalTicks() { return settings.exposure().checkIntervalTicks(); }
+    public boolean isTreatLeavesAsCover() { return settings.exposure().treatLeavesAsCover(); }
+    public boolean isTreatGlassAsCover() { return settings.exposure().treatGlassAsCover(); }
+    public Set<GameMode> getIgnoreGameModes() { return settings.exposure().ignoreGameModes(); }
+    public int getIgnoreIfUnderBlocksMinDepth() { return settings.exposure().ignoreIfUnderBlocksMinDepth(); }
+    public boolean isWorldGuardProtection() { return settings.exposure().worldGuardProtection(); }
+    public double getStormGracePeriodSeconds() { return settings.exposure().gracePeriodSeconds(); }
+    public double getExposureCooldownSeconds() { return settings.exposure().cooldownSeconds(); }
+    public boolean isCustomWelcomeEnabled() { return settings.customWelcomeEnabled(); }
+    public boolean isLogExposureSamples() { return settings.debug().logExposureSamples(); }
+    public boolean isLogScheduling() { return settings.debug().logScheduling(); }
+    public boolean isBStats() { return settings.debug().bStats(); }
+    public boolean isEconomyEnabled() { return settings.economy().enabled(); }
+    public double getEssencePerTick() { return settings.economy().essencePerTick(); }
+    public Map<StormType, Double> getEssenceMultipliers() { return settings.economy().essenceMultipliers(); }
+    public int getEssenceFlushIntervalSeconds() { return settings.economy().flushIntervalSeconds(); }
 
     // Zone System getters
-    public boolean isZoneSystemEnabled() { return zoneSystemEnabled; }
-    public double getZoneCenterX() { return zoneCenterX; }
-    public double getZoneCenterZ() { return zoneCenterZ; }
-    public double getStormlandsRadius() { return stormlandsRadius; }
-    public double getStormZoneRadius() { return stormZoneRadius; }
-    public double getSafeZoneRadius() { return safeZoneRadius; }
-    public ZoneSettings getStormlandsSettings() { return stormlandsSettings; }
-    public ZoneSettings getStormZoneSettings() { return stormZoneSettings; }
-    public ZoneSettings getSafeZoneSettings() { return safeZoneSettings; }
+    public boolean isZoneSystemEnabled() { return settings.zones().enabled(); }
+    public double getZoneCenterX() { return settings.zones().centerX(); }
+    public double getZoneCenterZ() { return settings.zones().centerZ(); }
+    public double getStormlandsRadius() { return settings.zones().stormlandsRadius(); }
+    public double getStormZoneRadius() { return settings.zones().stormZoneRadius(); }
+    public double getSafeZoneRadius() { return settings.zones().safeZoneRadius(); }
+    public ZoneSettings getStormlandsSettings() { return settings.zones().stormlandsSettings(); }
+    public ZoneSettings getStormZoneSettings() { return settings.zones().stormZoneSettings(); }
+    public ZoneSettings getSafeZoneSettings() { return settings.zones().safeZoneSettings(); }
+    public boolean isBiomeRasterEnabled() { return settings.zones().biomeRasterEnabled(); }
+    public int getBiomeRasterCellSize() { return settings.zones().biomeRasterCellSize(); }
+    public boolean isZoneMapEnabled() { return settings.zones().imageMapEnabled(); }
+    public String getZoneMapFile() { return settings.zones().imageMapFile(); }
+    public int getZoneMapBlocksPerPixel() { return settings.zones().imageMapBlocksPerPixel(); }
+
+    /**
+     * Gets the RGB color a zone is drawn with in the zone map, e.g. "#FF4444".
+     */
+    public int getZoneMapColor(String zone, int defaultColor) {
+        return settings.zones().imageMapColors().getOrDefault(zone, defaultColor);
+    }
 
     // Traveling Storm getters
-    public boolean isTravelingStormsEnabled() { return travelingStormsEnabled; }
-    public double getStormMovementSpeed() { return stormMovementSpeed; }
-    public double getStormDamageRadius() { return stormDamageRadius; }
-
-    public boolean isErraticSpawningEnabled() { return erraticSpawningEnabled; }
-    public int getMinBurstSize() { return minBurstSize; }
-    public int getMaxBurstSize() { return maxBurstSize; }
-    public int getMaxConcurrentStorms() { return maxConcurrentStorms; }
-    public int getMinBurstDelaySeconds() { return minBurstDelaySeconds; }
-    public int getMaxBurstDelaySeconds() { return maxBurstDelaySeconds; }
-    public Map<Integer, Double> getBurstChanceWeights() { return burstChanceWeights; }
-
-    public boolean isSpawnAtBorder() { return spawnAtBorder; }
-    public double getBorderBias() { return borderBias; }
-    public double getBorderSpread() { return borderSpread; }
-
-    public boolean isDamageRampUpEnabled() { return damageRampUpEnabled; }
-    public int getDamageRampUpSeconds() { return damageRampUpSeconds; }
+    public boolean isTravelingStormsEnabled() { return settings.travel().enabled(); }
+    public double getStormMovementSpeed() { return settings.travel().movementSpeed(); }
+    public double getStormDamageRadius() { return settings.travel().damageRadius(); }
+    public double getStormDamageRadiusSquared() { return settings.travel().damageRadiusSquared(); }
+
+    public boolean isErraticSpawningEnabled() { return settings.travel().erraticSpawningEnabled(); }
+    public int getMinBurstSize() { return settings.travel().minBurstSize(); }
+    public int getMaxBurstSize() { return settings.travel().maxBurstSize(); }
+    public int getMaxConcurrentStorms() { return settings.travel().maxConcurrentStorms(); }
+    public int getMinBurstDelaySeconds() { return settings.travel().minBurstDelaySeconds(); }
+    public int getMaxBurstDelaySeconds() { return settings.travel().maxBurstDelaySeconds(); }
+    public Map<Integer, Double> getBurstChanceWeights() { return settings.travel().burstChanceWeights(); }
+    public WeightedTable<Integer> getBurstSizeTable() { return settings.travel().burstSizeTable(); }
+
+    public boolean isSpawnAtBorder() { return settings.travel().spawnAtBorder(); }
+    public double getBorderBias() { return settings.travel().borderBias(); }
+    public double getBorderSpread() { return settings.travel().borderSpread(); }
+
+    public boolean isDamageRampUpEnabled() { return settings.travel().damageRampUpEnabled(); }
+    public int getDamageRampUpSeconds() { return settings.travel().damageRampUpSeconds(); }
 
     // Block Damage getters
-    public boolean isBlockDamageEnabled() { return blockDamageEnabled; }
-    public double getBlockDamageChance() { return blockDamageChance; }
-    public int getBlockDamageMaxChecksPerTick() { return blockDamageMaxChecksPerTick; }
+    public boolean isBlockDamageEnabled() { return settings.blockDamage().enabled(); }
+    public double getBlockDamageChance() { return settings.blockDamage().chance(); }
+    public int getBlockDamageMaxChecksPerTick() { return settings.blockDamage().maxChecksPerTick(); }
 
     // Storm Drops getters
-    public boolean isStormDropsEnabled() { return stormDropsEnabled; }
-    public double getStormDropChanceStormlands() { return stormDropChanceStormlands; }
-    public double getStormDropChanceStormZone() { return stormDropChanceStormZone; }
-    public int getStormDropsCheckIntervalTicks() { return stormDropsCheckIntervalTicks; }
+    public boolean isStormDropsEnabled() { return settings.stormDrops().enabled(); }
+    public double getStormDropChanceStormlands() { return settings.stormDrops().chanceStormlands(); }
+    public double getStormDropChanceStormZone() { return settings.stormDrops().chanceStormZone(); }
+    public int getStormDropsCheckIntervalTicks() { return settings.stormDrops().checkIntervalTicks(); }
 
     // Ore Generation getters
-    public boolean isOreGenerationEnabled() { return oreGenerationEnabled; }
-    public double getOreGenerationChance() { return oreGenerationChance; }
-    public int getOreGenerationChunksPerTick() { return oreGenerationChunksPerTick; }
-    public int getOreGenerationAttemptsPerChunk() { return oreGenerationAttemptsPerChunk; }
+    public boolean isOreGenerationEnabled() { return settings.oreGeneration().enabled(); }
+    public double getOreGenerationChance() { return settings.oreGeneration().chance(); }
+    public int getOreGenerationChunksPerTick() { return settings.oreGeneration().chunksPerTick(); }
+    public int getOreGenerationAttemptsPerChunk() { return settings.oreGeneration().attemptsPerChunk(); }
 
-    public String getStormTrackerMode() { return stormTrackerMode; }
-    public double getStormTrackerRange() { return stormTrackerRange; }
-    public int getStormTrackerUpdateInterval() { return stormTrackerUpdateInterval; }
+    public String getStormTrackerMode() { return settings.tracker().mode(); }
+    public double getStormTrackerRange() { return settings.tracker().range(); }
+    public int getStormTrackerUpdateInterval() { return settings.tracker().updateInterval(); }
 
     // Storm phase settings
-    public boolean isStormPhasesEnabled() { return config.getBoolean("stormPhases.enabled", true); }
-    public double getFormingPercent() { return config.getDouble("stormPhases.formingPercent", 0.30); }
-    public double getPeakPercent() { return config.getDouble("stormPhases.peakPercent", 0.50); }
-    public double getDissipatingPercent() { return config.getDouble("stormPhases.dissipatingPercent", 0.20); }
-    public int getPhaseChangeWarningSeconds() { return config.getInt("stormPhases.phaseChangeWarningSeconds", 30); }
+    public boolean isStormPhasesEnabled() { return settings.phases().enabled(); }
+    public double getFormingPercent() { return settings.phases().formingPercent(); }
+    public double getPeakPercent() { return settings.phases().peakPercent(); }
+    public double getDissipatingPercent() { return settings.phases().dissipatingPercent(); }
+    public int getPhaseChangeWarningSeconds() { return settings.phases().phaseChangeWarningSeconds(); }
 
     // Performance settings
-    public double getStormActiveRange() { return config.getDouble("performance.stormActiveRange", 2000.0); }
-    public int getDormantUpdateInterval() { return config.getInt("performance.dormantUpdateInterval", 1200); }
-    public int getActiveUpdateInterval() { return config.getInt("performance.activeUpdateInterval", 20); }
-    public int getMobDamageCheckInterval() { return config.getInt("performance.mobDamageCheckInterval", 100); }
+    public double getStormActiveRange() { return settings.performance().stormActiveRange(); }
+    public double getStormActiveRangeSquared() { return settings.performance().stormActiveRangeSquared(); }
+    public int getDormantUpdateInterval() { return settings.performance().dormantUpdateInterval(); }
+    public int getActiveUpdateInterval() { return settings.performance().activeUpdateInterval(); }
+    public int getMobDamageCheckInterval() { return settings.performance().mobDamageCheckInterval(); }
+    public boolean isProfilerEnabled() { return settings.performance().profilerEnabled(); }
+    public int getPlaceholderRefreshTicks() { return settings.performance().placeholderRefreshTicks(); }
+    public boolean isTraceRecordingEnabled() { return settings.performance().traceRecording(); }
+    public int getTraceIntervalTicks() { return settings.performance().traceIntervalTicks(); }
+    public int getTraceQueueFrames() { return settings.performance().traceQueueFrames(); }
+    public int getSeedStormsPerRun() { return settings.performance().seedStormsPerRun(); }
+    public int getSeedIntervalTicks() { return settings.performance().seedIntervalTicks(); }
+    public boolean isContactSchedulingEnabled() { return settings.performance().contactSchedulingEnabled(); }
+    public double getContactMaxPlayerSpeed() { return settings.performance().contactMaxPlayerSpeed(); }
+    public double getContactMaxSleepSeconds() { return settings.performance().contactMaxSleepSeconds(); }
+
+    // Throttle governor
+    public boolean isGovernorEnabled() { return settings.governor().enabled(); }
+    public double getGovernorHighMspt() { return settings.governor().highMspt(); }
+    public double getGovernorLowMspt() { return settings.governor().lowMspt(); }
+    public double getGovernorPluginBudgetMs() { return settings.governor().pluginBudgetMs(); }
+    public int getGovernorRecoverSeconds() { return settings.governor().recoverSeconds(); }
+    public int getGovernorMaxLevel() { return settings.governor().maxLevel(); }
+
+    // Debug log (sampled, written off-thread to debug.log)
+    public int getDebugBufferSize() { return settings.debug().bufferSize(); }
+    public long getDebugMaxFileBytes() { return settings.debug().maxFileBytes(); }
+    public int getDebugMaxFiles() { return settings.debug().maxFiles(); }
+    public double getDebugSampleRate(DebugCategory category) { return settings.debug().sampleRates()[category.ordinal()]; }
+    public int getDebugMaxPerSecond(DebugCategory category) { return settings.debug().maxPerSecond()[category.ordinal()]; }
+
+    // Metrics endpoint
+    public boolean isMetricsEnabled() { return settings.metrics().enabled(); }
+    public String getMetricsBindAddress() { return settings.metrics().bindAddress(); }
+    public int getMetricsPort() { return settings.metrics().port(); }
 
     // Message formatters
     public Component formatMessage(String messageKey, Map<String, String> placeholders) {
-        String message = switch (messageKey) {
-            case "countdown" -> messageCountdown;
-            case "grace" -> messageGrace;
-            case "landfall" -> messageLandfall;
-            case "tickWarn" -> messageTickWarn;
-            case "cleared" -> messageCleared;
-            case "status.idle" -> messageStatusIdle;
-            case "status.countdown" -> messageStatusCountdown;
-            case "status.active" -> messageStatusActive;
-            default -> messageKey;
+        StormcraftSettings.Messages templates = settings.messages();
+        MessageTemplate template = switch (messageKey) {
+            case "countdown" -> templates.countdown();
+            case "grace" -> templates.grace();
+            case "landfall" -> templates.landfall();
+            case "tickWarn" -> templates.tickWarn();
+            case "cleared" -> templates.cleared();
+            case "status.idle" -> templates.statusIdle();
+            case "status.countdown" -> templates.statusCountdown();
+            case "status.active" -> templates.statusActive();
+            case "welcome" -> templates.welcome();
+            default -> null;
         };
+        if (template != null) {
+            return template.render(placeholders);
+        }
 
-        // Replace placeholders
+        // Not a configured message, so the key is the text itself
+        String message = messageKey;
         if (placeholders != null) {
             for (Map.Entry<String, String> entry : placeholders.entrySet()) {
                 message = message.replace("{" + entry.getKey() + "}", entry.getValue());
             }
         }
-
-        return miniMessage.deserialize(messagePrefix + message);
+        return miniMessage.deserialize(templates.prefix() + message);
     }
 
     public Component formatMessageNoPrefix(String text) {
         return miniMessage.deserialize(text);
     }
-}
\ No newline at end of file
+}
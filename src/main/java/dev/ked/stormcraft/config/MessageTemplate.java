@@ -0,0 +1,121 @@
+package dev.ked.stormcraft.config;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.minimessage.tag.resolver.Placeholder;
+import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
+
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * A MiniMessage string with {@code {name}} placeholders, prepared once when messages load.
+ * Placeholders in the message text are rewritten to {@code <name>} tags, which {@link #render(Map)} fills
+ * with {@link Placeholder#unparsed} resolvers: values go in as plain text and keep the styling around them.
+ * Placeholders inside a tag's arguments (e.g. {@code <click:run_command:'/warp {x}'>}) can't be tags, so
+ * they are substituted into the markup before it is parsed, as before.
+ * A template without placeholders is parsed once and renders to the same shared component; one with
+ * placeholders is parsed on each render, so callers render once per broadcast. Immutable.
+ */
+public final class MessageTemplate {
+    private static final Pattern PLACEHOLDER = Pattern.compile("\\{([A-Za-z0-9_]+)}");
+    private static final String[] NONE = new String[0];
+
+    private final MiniMessage miniMessage;
+    private final String markup;
+    private final Component component;
+    // Placeholders rendered as tags, by key and by (lowercase) tag name
+    private final String[] tagKeys;
+    private final String[] tagNames;
+    // Placeholders inside tag arguments
+    private final String[] argumentKeys;
+
+    private MessageTemplate(MiniMessage miniMessage, String markup, Component component,
+                            String[] tagKeys, String[] argumentKeys) {
+        this.miniMessage = miniMessage;
+        this.markup = markup;
+        this.component = component;
+        this.tagKeys = tagKeys;
+        this.argumentKeys = argumentKeys;
+        this.tagNames = new String[tagKeys.length];
+        for (int i = 0; i < tagKeys.length; i++) {
+            tagNames[i] = tagKeys[i].toLowerCase(Locale.ROOT);
+        }
+    }
+
+    /**
+     * Prepares a MiniMessage string with {@code {name}} placeholders.
+     */
+    public static MessageTemplate compile(MiniMessage miniMessage, String text) {
+        Matcher matcher = PLACEHOLDER.matcher(text);
+        if (!matcher.find()) {
+            return new MessageTemplate(miniMessage, text, miniMessage.deserialize(text), NONE, NONE);
+        }
+        matcher.reset();
+
+        StringBuilder markup = new StringBuilder(text.length());
+        Set<String> tagKeys = new LinkedHashSet<>();
+        Set<String> argumentKeys = new LinkedHashSet<>();
+        int scanned = 0;
+        boolean inTag = false;
+        while (matcher.find()) {
+            inTag = isTagOpen(text, scanned, matcher.start(), inTag);
+            scanned = matcher.start();
+            String key = matcher.group(1);
+            if (inTag) {
+                argumentKeys.add(key);
+                matcher.appendReplacement(markup, Matcher.quoteReplacement(matcher.group()));
+            } else {
+                tagKeys.add(key);
+                matcher.appendReplacement(markup, "<" + key.toLowerCase(Locale.ROOT) + ">");
+            }
+        }
+        matcher.appendTail(markup);
+        return new MessageTemplate(miniMessage, markup.toString(), null,
+                tagKeys.toArray(NONE), argumentKeys.toArray(NONE));
+    }
+
+    /**
+     * Whether a tag is open at {@code end}, given whether one was at {@code start}. Escaped brackets don't count.
+     */
+    private static boolean isTagOpen(String text, int start, int end, boolean inTag) {
+        for (int i = start; i < end; i++) {
+            char c = text.charAt(i);
+            if (c == '\\') {
+                i++;
+            } else if (c == '<') {
+                inTag = true;
+            } else if (c == '>') {
+                inTag = false;
+            }
+        }
+        return inTag;
+    }
+
+    /**
+     * Fills in the placeholders. Ones without a value are left as {@code {name}}.
+     */
+    public Component render(Map<String, String> placeholders) {
+        if (component != null) {
+            return component;
+        }
+        String text = markup;
+        for (String key : argumentKeys) {
+            text = text.replace("{" + key + "}", valueOf(placeholders, key));
+        }
+        TagResolver.Builder resolvers = TagResolver.builder();
+        for (int i = 0; i < tagKeys.length; i++) {
+            resolvers.resolver(Placeholder.unparsed(tagNames[i], valueOf(placeholders, tagKeys[i])));
+        }
+        return miniMessage.deserialize(text, resolvers.build());
+    }
+
+    private static String valueOf(Map<String, String> placeholders, String key) {
+        String value = placeholders != null ? placeholders.get(key) : null;
+        return value != null ? value : "{" + key + "}";
+    }
+}
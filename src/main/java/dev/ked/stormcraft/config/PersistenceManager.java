@@ -7,6 +7,7 @@ import dev.ked.stormcraft.StormcraftPlugin;
 import dev.ked.stormcraft.model.ActiveStorm;
 import dev.ked.stormcraft.model.StormProfile;
 import dev.ked.stormcraft.model.StormType;
+import dev.ked.stormcraft.perf.TaskTimer;
 import dev.ked.stormcraft.schedule.StormManager;
 
 import java.io.File;
@@ -22,18 +23,29 @@ public class PersistenceManager {
     private final ConfigManager config;
     private final File dataFile;
     private final Gson gson;
+    private final TaskTimer perfTimer;
 
     public PersistenceManager(StormcraftPlugin plugin, ConfigManager config) {
         this.plugin = plugin;
         this.config = config;
         this.dataFile = new File(plugin.getDataFolder(), "data.json");
         this.gson = new GsonBuilder().setPrettyPrinting().create();
+        this.perfTimer = plugin.getPerfMonitor().timer("PersistenceManager.saveState");
     }
 
     /**
      * Saves the current storm state to data.json.
      */
     public void saveState(StormManager stormManager) {
+        perfTimer.begin();
+        try {
+            writeState(stormManager);
+        } finally {
+            perfTimer.end();
+        }
+    }
+
+    private void writeState(StormManager stormManager) {
         JsonObject data = new JsonObject();
 
         data.addProperty("nextStormTimeMillis", stormManager.getSecondsUntilNextStorm() * 1000 + System.currentTimeMillis());
@@ -50,6 +62,7 @@ public class PersistenceManager {
                 stormData.addProperty("startTimeMillis", storm.getStartTimeMillis());
                 stormData.addProperty("actualDamagePerSecond", storm.getActualDamagePerSecond());
                 data.add("activeStorm", stormData);
+                perfTimer.addWork(1);
             }
         }
 
@@ -59,6 +72,7 @@ public class PersistenceManager {
             countdownData.addProperty("type", stormManager.getUpcomingStormType().name());
             countdownData.addProperty("remainingSeconds", stormManager.getCountdownRemainingSeconds());
             data.add("countdown", countdownData);
+            perfTimer.addWork(1);
         }
 
         try {
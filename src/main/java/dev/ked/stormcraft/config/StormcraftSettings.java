@@ -0,0 +1,198 @@
+package dev.ked.stormcraft.config;
+
+import dev.ked.stormcraft.model.StormProfile;
+import dev.ked.stormcraft.model.StormType;
+import dev.ked.stormcraft.zones.ZoneSettings;
+import org.bukkit.GameMode;
+import org.bukkit.Material;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * One compiled, immutable view of config.yml and messages.yml, built by {@link ConfigManager} on load.
+ * Derived values (squared radii, weight tables, cover lookups, message templates) are worked out here
+ * once instead of on every read. A reload builds a new graph and swaps it in with a single write, so a
+ * task that grabs {@link ConfigManager#getSettings()} once sees every value from the same load, even mid-reload.
+ *
+ * Arrays in these records are lookup tables; don't modify them.
+ */
+public record StormcraftSettings(
+        Worlds worlds,
+        Schedule schedule,
+        Exposure exposure,
+        Economy economy,
+        Zones zones,
+        Travel travel,
+        BlockDamage blockDamage,
+        StormDrops stormDrops,
+        OreGeneration oreGeneration,
+        Tracker tracker,
+        Phases phases,
+        Performance performance,
+        Governor governor,
+        Debug debug,
+        Metrics metrics,
+        Messages messages,
+        boolean customWelcomeEnabled) {
+
+    public record Worlds(List<String> names, Set<String> nameSet) {
+    }
+
+    public record Schedule(int minDelaySeconds,
+                           int maxDelaySeconds,
+                           int countdownDurationSeconds,
+                           int gracePeriodSeconds,
+                           List<Integer> countdownAnnounceScheduleSeconds,
+                           Map<StormType, Double> stormWeights,
+                           WeightedTable<StormType> stormTypeTable,
+                           Map<StormType, StormProfile> damageProfiles) {
+    }
+
+    public record Exposure(int checkIntervalTicks,
+                           boolean treatLeavesAsCover,
+                           boolean treatGlassAsCover,
+                           Set<GameMode> ignoreGameModes,
+                           int ignoreIfUnderBlocksMinDepth,
+                           boolean worldGuardProtection,
+                           double gracePeriodSeconds,
+                           double cooldownSeconds,
+                           boolean[] coverMaterials) {
+
+        /**
+         * Checks if a block material shelters players, per the leaves and glass settings.
+         */
+        public boolean isCover(Material material) {
+            return coverMaterials[material.ordinal()];
+        }
+    }
+
+    public record Economy(boolean enabled,
+                          double essencePerTick,
+                          Map<StormType, Double> essenceMultipliers,
+                          int flushIntervalSeconds) {
+    }
+
+    public record Zones(boolean enabled,
+                        double centerX,
+                        double centerZ,
+                        double stormlandsRadius,
+                        double stormZoneRadius,
+                        double safeZoneRadius,
+                        double stormlandsRadiusSquared,
+                        double stormZoneRadiusSquared,
+                        double safeZoneRadiusSquared,
+                        ZoneSettings stormlandsSettings,
+                        ZoneSettings stormZoneSettings,
+                        ZoneSettings safeZoneSettings,
+                        boolean biomeRasterEnabled,
+                        int biomeRasterCellSize,
+                        boolean imageMapEnabled,
+                        String imageMapFile,
+                        int imageMapBlocksPerPixel,
+                        Map<String, Integer> imageMapColors,
+                        Map<String, Zones> worlds) {
+        /**
+         * Gets the zone layout for a world: its override under zones.worlds, or this one.
+         */
+        public Zones forWorld(String worldName) {
+            Zones zones = worlds.get(worldName);
+            return zones != null ? zones : this;
+        }
+    }
+
+    public record Travel(boolean enabled,
+                         double movementSpeed,
+                         double damageRadius,
+                         double damageRadiusSquared,
+                         boolean erraticSpawningEnabled,
+                         int minBurstSize,
+                         int maxBurstSize,
+                         int maxConcurrentStorms,
+                         int minBurstDelaySeconds,
+                         int maxBurstDelaySeconds,
+                         Map<Integer, Double> burstChanceWeights,
+                         WeightedTable<Integer> burstSizeTable,
+                         boolean spawnAtBorder,
+                         double borderBias,
+                         double borderSpread,
+                         boolean damageRampUpEnabled,
+                         int damageRampUpSeconds) {
+    }
+
+    public record BlockDamage(boolean enabled, double chance, int maxChecksPerTick) {
+    }
+
+    public record StormDrops(boolean enabled, double chanceStormlands, double chanceStormZone, int checkIntervalTicks) {
+    }
+
+    public record OreGeneration(boolean enabled, double chance, int chunksPerTick, int attemptsPerChunk) {
+    }
+
+    public record Tracker(String mode, double range, int updateInterval) {
+    }
+
+    public record Phases(boolean enabled,
+                         double formingPercent,
+                         double peakPercent,
+                         double dissipatingPercent,
+                         int phaseChangeWarningSeconds) {
+    }
+
+    public record Performance(double stormActiveRange,
+                              double stormActiveRangeSquared,
+                              int dormantUpdateInterval,
+                              int activeUpdateInterval,
+                              int mobDamageCheckInterval,
+                              boolean profilerEnabled,
+                              int placeholderRefreshTicks,
+                              boolean traceRecording,
+                              int traceIntervalTicks,
+                              int traceQueueFrames,
+                              int seedStormsPerRun,
+                              int seedIntervalTicks,
+                              boolean contactSchedulingEnabled,
+                              double contactMaxPlayerSpeed,
+                              double contactMaxSleepSeconds) {
+    }
+
+    public record Governor(boolean enabled,
+                           double highMspt,
+                           double lowMspt,
+                           double pluginBudgetMs,
+                           int recoverSeconds,
+                           int maxLevel) {
+    }
+
+    /**
+     * Debug log settings. Sampling rates and rate limits are indexed by DebugCategory ordinal.
+     */
+    public record Debug(boolean logExposureSamples,
+                        boolean logScheduling,
+                        boolean bStats,
+                        int bufferSize,
+                        long maxFileBytes,
+                        int maxFiles,
+                        double[] sampleRates,
+                        int[] maxPerSecond) {
+    }
+
+    public record Metrics(boolean enabled, String bindAddress, int port) {
+    }
+
+    /**
+     * Message templates, compiled once per load. Broadcast templates include the prefix.
+     */
+    public record Messages(String prefix,
+                           MessageTemplate countdown,
+                           MessageTemplate grace,
+                           MessageTemplate landfall,
+                           MessageTemplate tickWarn,
+                           MessageTemplate cleared,
+                           MessageTemplate statusIdle,
+                           MessageTemplate statusCountdown,
+                           MessageTemplate statusActive,
+                           MessageTemplate welcome) {
+    }
+}
@@ -0,0 +1,52 @@
+package dev.ked.stormcraft.config;
+
+import java.util.Map;
+
+/**
+ * Weighted random picker built once from a weight map. Keys sit next to their running totals
+ * in plain arrays, so a draw is a scan of doubles with no summing or unboxing. Immutable.
+ */
+public final class WeightedTable<K> {
+    private final Object[] keys;
+    private final double[] cumulative;
+    private final double total;
+
+    private WeightedTable(Object[] keys, double[] cumulative, double total) {
+        this.keys = keys;
+        this.cumulative = cumulative;
+        this.total = total;
+    }
+
+    /**
+     * Builds a table from relative weights (need not sum to 1).
+     */
+    public static <K> WeightedTable<K> of(Map<K, Double> weights) {
+        Object[] keys = new Object[weights.size()];
+        double[] cumulative = new double[weights.size()];
+        double total = 0.0;
+        int i = 0;
+        for (Map.Entry<K, Double> entry : weights.entrySet()) {
+            total += entry.getValue();
+            keys[i] = entry.getKey();
+            cumulative[i] = total;
+            i++;
+        }
+        return new WeightedTable<>(keys, cumulative, total);
+    }
+
+    /**
+     * Picks a key.
+     * @param roll Uniform random value in [0, 1)
+     * @param fallback Returned if the table is empty or rounding leaves no match
+     */
+    @SuppressWarnings("unchecked")
+    public K pick(double roll, K fallback) {
+        double target = roll * total;
+        for (int i = 0; i < cumulative.length; i++) {
+            if (target <= cumulative[i]) {
+                return (K) keys[i];
+            }
+        }
+        return fallback;
+    }
+}
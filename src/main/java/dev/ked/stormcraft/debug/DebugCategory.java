@@ -0,0 +1,35 @@
+package dev.ked.stormcraft.debug;
+
+/**
+ * Diagnostic categories with their own sampling rate and rate limit.
+ * Categories are switched on by the existing debug flags (logExposureSamples / logScheduling).
+ */
+public enum DebugCategory {
+    EXPOSURE("exposure", true),
+    COVER("cover", true),
+    BLOCKS("blocks", false),
+    ORES("ores", false),
+    DROPS("drops", false);
+
+    private final String configKey;
+    private final boolean exposureFlag;
+
+    DebugCategory(String configKey, boolean exposureFlag) {
+        this.configKey = configKey;
+        this.exposureFlag = exposureFlag;
+    }
+
+    /**
+     * Key under debug.sampling in config.yml.
+     */
+    public String getConfigKey() {
+        return configKey;
+    }
+
+    /**
+     * Whether the category is enabled by logExposureSamples (true) or logScheduling (false).
+     */
+    public boolean isExposureFlag() {
+        return exposureFlag;
+    }
+}
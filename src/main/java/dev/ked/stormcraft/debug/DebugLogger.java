@@ -0,0 +1,234 @@
+package dev.ked.stormcraft.debug;
+
+import dev.ked.stormcraft.StormcraftPlugin;
+import dev.ked.stormcraft.config.ConfigManager;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.IllegalFormatException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Sampled, rate-limited debug logging that is safe to leave on in production.
+ * Call sites check {@link #shouldLog(DebugCategory)} and then {@link #log(DebugCategory, String, Object...)}:
+ * the entry is stored unformatted in a preallocated ring buffer, and a background thread formats
+ * it and appends it to a rotating debug log in the data folder. When the buffer is full, entries are dropped.
+ *
+ * Arguments are formatted later on another thread, so only pass immutable values (strings, numbers, enums).
+ */
+public class DebugLogger {
+    private static final DebugCategory[] CATEGORIES = DebugCategory.values();
+    private static final long DRAIN_INTERVAL_NANOS = 100_000_000L;
+
+    private final StormcraftPlugin plugin;
+    private final ConfigManager config;
+
+    // Ring buffer (written under the producer lock, drained by the writer thread)
+    private final int capacity;
+    private final int mask;
+    private final long[] timestamps;
+    private final DebugCategory[] categories;
+    private final String[] patterns;
+    private final Object[][] arguments;
+    private volatile long head;
+    private volatile long tail;
+    private long droppedEntries;
+
+    // Sampling and rate limiting, per category
+    private final double[] sampleRates = new double[CATEGORIES.length];
+    private final int[] maxPerSecond = new int[CATEGORIES.length];
+    private final int[] windowCounts = new int[CATEGORIES.length];
+    private long windowStartMillis;
+
+    private Thread writerThread;
+    private volatile boolean running;
+
+    public DebugLogger(StormcraftPlugin plugin, ConfigManager config) {
+        this.plugin = plugin;
+        this.config = config;
+
+        // Round up to a power of two so slots can be masked
+        this.capacity = Integer.highestOneBit(Math.max(64, config.getDebugBufferSize() - 1)) << 1;
+        this.mask = capacity - 1;
+        this.timestamps = new long[capacity];
+        this.categories = new DebugCategory[capacity];
+        this.patterns = new String[capacity];
+        this.arguments = new Object[capacity][];
+        reload();
+    }
+
+    /**
+     * Re-reads sampling rates and rate limits from config.
+     */
+    public void reload() {
+        for (DebugCategory category : CATEGORIES) {
+            sampleRates[category.ordinal()] = config.getDebugSampleRate(category);
+            maxPerSecond[category.ordinal()] = config.getDebugMaxPerSecond(category);
+        }
+    }
+
+    public void start() {
+        running = true;
+        writerThread = new Thread(this::drainLoop, "Stormcraft-DebugLog");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    /**
+     * Stops the writer after it has written everything still buffered.
+     */
+    public void stop() {
+        running = false;
+        if (writerThread != null) {
+            LockSupport.unpark(writerThread);
+            try {
+                writerThread.join(2000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            writerThread = null;
+        }
+    }
+
+    /**
+     * Checks if an entry in this category should be logged now: the category's debug flag is on,
+     * the entry passes sampling, and the per-second limit isn't exhausted.
+     */
+    public boolean shouldLog(DebugCategory category) {
+        boolean enabled = category.isExposureFlag() ? config.isLogExposureSamples() : config.isLogScheduling();
+        if (!enabled || !running) {
+            return false;
+        }
+
+        int index = category.ordinal();
+        double rate = sampleRates[index];
+        if (rate < 1.0 && ThreadLocalRandom.current().nextDouble() >= rate) {
+            return false;
+        }
+
+        synchronized (this) {
+            long now = System.currentTimeMillis();
+            if (now - windowStartMillis >= 1000) {
+                windowStartMillis = now;
+                java.util.Arrays.fill(windowCounts, 0);
+            }
+            if (windowCounts[index] >= maxPerSecond[index]) {
+                return false;
+            }
+            windowCounts[index]++;
+        }
+        return true;
+    }
+
+    /**
+     * Buffers an entry. The pattern uses {@link String#format} syntax and is only formatted by the writer thread.
+     */
+    public synchronized void log(DebugCategory category, String pattern, Object... args) {
+        long position = head;
+        if (position - tail >= capacity) {
+            droppedEntries++;
+            return;
+        }
+
+        int slot = (int) (position & mask);
+        timestamps[slot] = System.currentTimeMillis();
+        categories[slot] = category;
+        patterns[slot] = pattern;
+        arguments[slot] = args;
+        head = position + 1;
+    }
+
+    private void drainLoop() {
+        BufferedWriter writer = null;
+        File file = new File(plugin.getDataFolder(), "debug.log");
+        SimpleDateFormat timeFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss.SSS");
+        long reportedDrops = 0;
+
+        try {
+            while (running || tail != head) {
+                if (tail == head) {
+                    LockSupport.parkNanos(DRAIN_INTERVAL_NANOS);
+                    continue;
+                }
+
+                if (writer == null || file.length() >= config.getDebugMaxFileBytes()) {
+                    if (writer != null) {
+                        writer.close();
+                        rotate(file);
+                    }
+                    file.getParentFile().mkdirs();
+                    writer = new BufferedWriter(new FileWriter(file, true));
+                }
+
+                long end = head;
+                for (long position = tail; position < end; position++) {
+                    int slot = (int) (position & mask);
+                    writer.write(timeFormat.format(new Date(timestamps[slot])));
+                    writer.write(" [");
+                    writer.write(categories[slot].name());
+                    writer.write("] ");
+                    writer.write(format(patterns[slot], arguments[slot]));
+                    writer.newLine();
+
+                    // Release references so the buffer doesn't keep arguments alive
+                    patterns[slot] = null;
+                    arguments[slot] = null;
+                }
+                tail = end;
+
+                long dropped = droppedEntries;
+                if (dropped != reportedDrops) {
+                    writer.write("... " + (dropped - reportedDrops) + " entries dropped (buffer full)");
+                    writer.newLine();
+                    reportedDrops = dropped;
+                }
+                writer.flush();
+            }
+        } catch (IOException e) {
+            plugin.getLogger().warning("Debug log writer stopped: " + e.getMessage());
+        } finally {
+            if (writer != null) {
+                try {
+                    writer.close();
+                } catch (IOException ignored) {
+                }
+            }
+        }
+    }
+
+    /**
+     * Shifts debug.log to debug.1.log, debug.1.log to debug.2.log, ... dropping the oldest.
+     */
+    private void rotate(File file) {
+        int maxFiles = config.getDebugMaxFiles();
+        File folder = file.getParentFile();
+        new File(folder, "debug." + maxFiles + ".log").delete();
+        for (int i = maxFiles - 1; i >= 1; i--) {
+            File older = new File(folder, "debug." + i + ".log");
+            if (older.exists()) {
+                older.renameTo(new File(folder, "debug." + (i + 1) + ".log"));
+            }
+        }
+        file.renameTo(new File(folder, "debug.1.log"));
+    }
+
+    private static String format(String pattern, Object[] args) {
+        if (args == null || args.length == 0) {
+            return pattern;
+        }
+        try {
+            return String.format(pattern, args);
+        } catch (IllegalFormatException e) {
+            return pattern + " " + java.util.Arrays.toString(args);
+        }
+    }
+
+    public long getDroppedEntries() {
+        return droppedEntries;
+    }
+}
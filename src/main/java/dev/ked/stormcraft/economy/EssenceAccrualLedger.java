@@ -0,0 +1,198 @@
+package dev.ked.stormcraft.economy;
+
+import dev.ked.stormcraft.StormcraftPlugin;
+import dev.ked.stormcraft.api.events.StormcraftEssenceAwardEvent;
+import dev.ked.stormcraft.config.ConfigManager;
+import dev.ked.stormcraft.model.StormType;
+import dev.ked.stormcraft.schedule.TaskHandle;
+import dev.ked.stormcraft.zones.ZoneManager;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Accumulates essence earned from storm exposure and pays it out in batches.
+ * Instead of one award event per exposure check, essence is summed per player, storm type
+ * and zone, then flushed as a single event per player on a fixed interval, when the player
+ * leaves the storm, when they quit, and on shutdown. Total payouts are unchanged.
+ */
+public class EssenceAccrualLedger {
+    private static final StormType[] STORM_TYPES = StormType.values();
+    private static final ZoneManager.ZoneType[] ZONE_TYPES = ZoneManager.ZoneType.values();
+
+    private final StormcraftPlugin plugin;
+    private final ConfigManager config;
+    private final Map<UUID, Accrual> accruals = new ConcurrentHashMap<>();
+
+    private TaskHandle flushTask;
+    private int flushIntervalTicks;
+
+    public EssenceAccrualLedger(StormcraftPlugin plugin, ConfigManager config) {
+        this.plugin = plugin;
+        this.config = config;
+    }
+
+    /**
+     * Starts the periodic flush task. Does nothing if aggregation is disabled.
+     */
+    public void start() {
+        flushIntervalTicks = config.getEssenceFlushIntervalSeconds() * 20;
+        if (flushIntervalTicks > 0) {
+            flushTask = plugin.getTaskScheduler().runTimer(this::flushAll, flushIntervalTicks, flushIntervalTicks);
+        }
+    }
+
+    /**
+     * Reschedules the flush task if a config reload changed the flush interval.
+     */
+    public void reload() {
+        if (config.getEssenceFlushIntervalSeconds() * 20 == flushIntervalTicks) {
+            return;
+        }
+        if (flushTask != null) {
+            flushTask.cancel();
+            flushTask = null;
+        }
+        // Pays out what was batched under the old interval
+        flushAll();
+        start();
+    }
+
+    /**
+     * Stops the flush task and pays out everything still pending.
+     */
+    public void stop() {
+        if (flushTask != null) {
+            flushTask.cancel();
+            flushTask = null;
+        }
+        // Fired directly: on Folia a disabling plugin can't schedule entity tasks anymore
+        flushAll(false);
+    }
+
+    /**
+     * Records essence earned by a player during one exposure check.
+     * If aggregation is disabled (flush interval of 0), the award event fires immediately.
+     */
+    public void accrue(Player player, StormType stormType, ZoneManager.ZoneType zone,
+                       double essence, long exposureTicks) {
+        Accrual accrual = accruals.computeIfAbsent(player.getUniqueId(), id -> new Accrual());
+        accrual.add(stormType, zone, essence, exposureTicks);
+
+        if (config.getEssenceFlushIntervalSeconds() <= 0) {
+            flush(player);
+        }
+    }
+
+    /**
+     * Checks if a player has essence waiting to be paid out.
+     */
+    public boolean hasPending(UUID playerId) {
+        return accruals.containsKey(playerId);
+    }
+
+    /**
+     * Pays out a single player's pending essence (used when leaving a storm or quitting).
+     */
+    public void flush(Player player) {
+        Accrual accrual = accruals.remove(player.getUniqueId());
+        if (accrual != null) {
+            fireAward(player, accrual);
+        }
+    }
+
+    /**
+     * Pays out pending essence for every player.
+     */
+    public void flushAll() {
+        flushAll(true);
+    }
+
+    /**
+     * Pays out pending essence for every player, firing each event on the player's own thread
+     * unless {@code onEntityThread} is false.
+     */
+    private void flushAll(boolean onEntityThread) {
+        Iterator<Map.Entry<UUID, Accrual>> iterator = accruals.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<UUID, Accrual> entry = iterator.next();
+            iterator.remove();
+
+            // Players are flushed on quit, so an offline entry has nothing left to pay
+            Player player = Bukkit.getPlayer(entry.getKey());
+            if (player == null) {
+                continue;
+            }
+            Accrual accrual = entry.getValue();
+            if (onEntityThread) {
+                plugin.getTaskScheduler().runForEntity(player, () -> fireAward(player, accrual));
+            } else {
+                fireAward(player, accrual);
+            }
+        }
+    }
+
+    /**
+     * Fires one aggregated award event for a player.
+     * The event's storm type is the type that contributed the most essence.
+     */
+    private void fireAward(Player player, Accrual accrual) {
+        double total = 0;
+        StormType dominantType = null;
+        double dominantAmount = -1;
+        Map<StormType, Double> byStormType = new EnumMap<>(StormType.class);
+        Map<ZoneManager.ZoneType, Double> byZone = new EnumMap<>(ZoneManager.ZoneType.class);
+
+        for (StormType type : STORM_TYPES) {
+            double typeTotal = 0;
+            for (ZoneManager.ZoneType zone : ZONE_TYPES) {
+                double amount = accrual.get(type, zone);
+                if (amount == 0) {
+                    continue;
+                }
+                typeTotal += amount;
+                byZone.merge(zone, amount, Double::sum);
+            }
+            if (typeTotal == 0) {
+                continue;
+            }
+            byStormType.put(type, typeTotal);
+            total += typeTotal;
+            if (typeTotal > dominantAmount) {
+                dominantAmount = typeTotal;
+                dominantType = type;
+            }
+        }
+
+        if (dominantType == null) {
+            return; // Nothing earned
+        }
+
+        StormcraftEssenceAwardEvent essenceEvent = new StormcraftEssenceAwardEvent(
+                player, total, dominantType, accrual.exposureTicks, player.getLocation(), byStormType, byZone
+        );
+        Bukkit.getPluginManager().callEvent(essenceEvent);
+    }
+
+    /**
+     * Pending essence for one player, indexed by storm type and zone.
+     */
+    private static final class Accrual {
+        private final double[] essence = new double[STORM_TYPES.length * ZONE_TYPES.length];
+        private long exposureTicks;
+
+        void add(StormType type, ZoneManager.ZoneType zone, double amount, long ticks) {
+            essence[type.ordinal() * ZONE_TYPES.length + zone.ordinal()] += amount;
+            exposureTicks += ticks;
+        }
+
+        double get(StormType type, ZoneManager.ZoneType zone) {
+            return essence[type.ordinal() * ZONE_TYPES.length + zone.ordinal()];
+        }
+    }
+}
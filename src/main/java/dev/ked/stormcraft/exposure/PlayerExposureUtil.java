@@ -2,48 +2,27 @@ package dev.ked.stormcraft.exposure;
 
 import dev.ked.stormcraft.StormcraftPlugin;
 import dev.ked.stormcraft.config.ConfigManager;
+import dev.ked.stormcraft.config.StormcraftSettings;
+import dev.ked.stormcraft.debug.DebugCategory;
+import dev.ked.stormcraft.debug.DebugLogger;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.World;
 import org.bukkit.block.Block;
 import org.bukkit.entity.Player;
 
-import java.util.Set;
-
 /**
  * Utility class for determining if a player is exposed to a storm.
  */
 public class PlayerExposureUtil {
     private final StormcraftPlugin plugin;
     private final ConfigManager config;
-
-    // Materials that count as transparent/cover depending on config
-    private static final Set<Material> LEAF_MATERIALS = Set.of(
-        Material.OAK_LEAVES, Material.SPRUCE_LEAVES, Material.BIRCH_LEAVES,
-        Material.JUNGLE_LEAVES, Material.ACACIA_LEAVES, Material.DARK_OAK_LEAVES,
-        Material.AZALEA_LEAVES, Material.FLOWERING_AZALEA_LEAVES,
-        Material.MANGROVE_LEAVES, Material.CHERRY_LEAVES
-    );
-
-    private static final Set<Material> GLASS_MATERIALS = Set.of(
-        Material.GLASS, Material.GLASS_PANE,
-        Material.WHITE_STAINED_GLASS, Material.ORANGE_STAINED_GLASS, Material.MAGENTA_STAINED_GLASS,
-        Material.LIGHT_BLUE_STAINED_GLASS, Material.YELLOW_STAINED_GLASS, Material.LIME_STAINED_GLASS,
-        Material.PINK_STAINED_GLASS, Material.GRAY_STAINED_GLASS, Material.LIGHT_GRAY_STAINED_GLASS,
-        Material.CYAN_STAINED_GLASS, Material.PURPLE_STAINED_GLASS, Material.BLUE_STAINED_GLASS,
-        Material.BROWN_STAINED_GLASS, Material.GREEN_STAINED_GLASS, Material.RED_STAINED_GLASS,
-        Material.BLACK_STAINED_GLASS,
-        Material.WHITE_STAINED_GLASS_PANE, Material.ORANGE_STAINED_GLASS_PANE, Material.MAGENTA_STAINED_GLASS_PANE,
-        Material.LIGHT_BLUE_STAINED_GLASS_PANE, Material.YELLOW_STAINED_GLASS_PANE, Material.LIME_STAINED_GLASS_PANE,
-        Material.PINK_STAINED_GLASS_PANE, Material.GRAY_STAINED_GLASS_PANE, Material.LIGHT_GRAY_STAINED_GLASS_PANE,
-        Material.CYAN_STAINED_GLASS_PANE, Material.PURPLE_STAINED_GLASS_PANE, Material.BLUE_STAINED_GLASS_PANE,
-        Material.BROWN_STAINED_GLASS_PANE, Material.GREEN_STAINED_GLASS_PANE, Material.RED_STAINED_GLASS_PANE,
-        Material.BLACK_STAINED_GLASS_PANE, Material.TINTED_GLASS
-    );
+    private final DebugLogger debugLog;
 
     public PlayerExposureUtil(StormcraftPlugin plugin, ConfigManager config) {
         this.plugin = plugin;
         this.config = config;
+        this.debugLog = plugin.getDebugLogger();
     }
 
     /**
@@ -53,17 +32,18 @@ public class PlayerExposureUtil {
      */
     public boolean isPlayerExposed(Player player) {
         // Check if world is enabled
-        if (!config.getEnabledWorlds().contains(player.getWorld().getName())) {
+        if (!plugin.getStormWorlds().isEnabled(player.getWorld())) {
             return false;
         }
 
         // Check game mode
-        if (config.getIgnoreGameModes().contains(player.getGameMode())) {
+        StormcraftSettings.Exposure exposure = config.getSettings().exposure();
+        if (exposure.ignoreGameModes().contains(player.getGameMode())) {
             return false;
         }
 
         // Check sky access
-        return hasSkyAccess(player);
+        return hasSkyAccess(player, exposure);
     }
 
     /**
@@ -72,7 +52,7 @@ public class PlayerExposureUtil {
      * @param player The player to check
      * @return true if player can see sky, false if covered
      */
-    private boolean hasSkyAccess(Player player) {
+    private boolean hasSkyAccess(Player player, StormcraftSettings.Exposure exposure) {
         Location loc = player.getLocation();
         World world = loc.getWorld();
 
@@ -85,10 +65,10 @@ public class PlayerExposureUtil {
         int playerY = loc.getBlockY();
 
         // If player is below the highest block by at least minDepth, check if they have overhead protection
-        int minDepth = config.getIgnoreIfUnderBlocksMinDepth();
+        int minDepth = exposure.ignoreIfUnderBlocksMinDepth();
         if (highestBlockY - playerY >= minDepth) {
             // Only need overhead blocks for protection
-            return !hasBlocksOverhead(player, minDepth);
+            return !hasBlocksOverhead(player, minDepth, exposure);
         }
 
         // Player is at or near surface level
@@ -99,9 +79,10 @@ public class PlayerExposureUtil {
      * Checks if there are solid blocks overhead that provide cover.
      * @param player The player to check
      * @param minDepth Minimum number of solid blocks required for cover
+     * @param exposure The settings the check started with
      * @return true if sufficiently covered, false if exposed
      */
-    private boolean hasBlocksOverhead(Player player, int minDepth) {
+    private boolean hasBlocksOverhead(Player player, int minDepth, StormcraftSettings.Exposure exposure) {
         Location loc = player.getLocation(); // Use feet location, not eye
         World world = loc.getWorld();
 
@@ -123,16 +104,16 @@ public class PlayerExposureUtil {
             }
 
             // Check if this material counts as cover
-            if (isCoverMaterial(material)) {
+            if (exposure.isCover(material)) {
                 solidBlockCount++;
-                if (config.isLogExposureSamples()) {
-                    plugin.getLogger().info("Found cover block: " + material.name() + " at Y=" + y + ", count=" + solidBlockCount);
+                if (debugLog.shouldLog(DebugCategory.COVER)) {
+                    debugLog.log(DebugCategory.COVER, "Found cover block: %s at Y=%d, count=%d", material, y, solidBlockCount);
                 }
                 if (solidBlockCount >= minDepth) {
                     return true;
                 }
-            } else if (config.isLogExposureSamples()) {
-                plugin.getLogger().info("Skipping non-cover block: " + material.name() + " at Y=" + y);
+            } else if (debugLog.shouldLog(DebugCategory.COVER)) {
+                debugLog.log(DebugCategory.COVER, "Skipping non-cover block: %s at Y=%d", material, y);
             }
         }
 
@@ -170,7 +151,7 @@ public class PlayerExposureUtil {
             Material material = block.getType();
 
             // Check if this is a solid wall block
-            if (isCoverMaterial(material)) {
+            if (config.getSettings().exposure().isCover(material)) {
                 return true; // Found at least one wall
             }
         }
@@ -178,31 +159,6 @@ public class PlayerExposureUtil {
         return false; // No adjacent walls found
     }
 
-    /**
-     * Determines if a material counts as cover based on config settings.
-     * @param material The material to check
-     * @return true if this material provides cover
-     */
-    private boolean isCoverMaterial(Material material) {
-        // Air never counts as cover
-        if (material.isAir()) {
-            return false;
-        }
-
-        // Check leaves
-        if (LEAF_MATERIALS.contains(material)) {
-            return config.isTreatLeavesAsCover();
-        }
-
-        // Check glass
-        if (GLASS_MATERIALS.contains(material)) {
-            return config.isTreatGlassAsCover();
-        }
-
-        // All other solid blocks count as cover
-        return material.isSolid();
-    }
-
     /**
      * Gets a display name for logging/debugging.
      * @param player The player
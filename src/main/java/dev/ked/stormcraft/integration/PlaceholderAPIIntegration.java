@@ -1,21 +1,87 @@
 package dev.ked.stormcraft.integration;
 
 import dev.ked.stormcraft.StormcraftPlugin;
+import dev.ked.stormcraft.api.StormWorldSnapshot;
+import dev.ked.stormcraft.config.ConfigManager;
+import dev.ked.stormcraft.model.PlayerStormExposure;
+import dev.ked.stormcraft.model.StormProfile;
+import dev.ked.stormcraft.schedule.DamageTask;
 import dev.ked.stormcraft.schedule.StormManager;
+import dev.ked.stormcraft.schedule.TaskHandle;
+import dev.ked.stormcraft.zones.ZoneManager;
 import me.clip.placeholderapi.expansion.PlaceholderExpansion;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
 import org.bukkit.entity.Player;
 
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+
 /**
  * PlaceholderAPI integration for Stormcraft.
  * Provides placeholders like %stormcraft_status%, %stormcraft_time_left%, etc.
+ * Per-player placeholders cover the nearest storm, exposure, immunity and zone.
+ *
+ * All values are formatted on the main thread by a refresh task and published as
+ * immutable maps, so a placeholder request is a map lookup and safe from async scoreboards.
  */
 public class PlaceholderAPIIntegration extends PlaceholderExpansion {
+    private static final String[] DIRECTIONS = {"N", "NE", "E", "SE", "S", "SW", "W", "NW"};
+
+    // Values served to players we have not cached yet (e.g. joined this tick)
+    private static final Map<String, String> PLAYER_DEFAULTS = Map.of(
+            "nearest_distance", "-",
+            "nearest_direction", "-",
+            "in_storm", "false",
+            "exposure", "0",
+            "immunity", "0",
+            "zone", "-"
+    );
+
     private final StormcraftPlugin plugin;
     private final StormManager stormManager;
+    private final ConfigManager config;
+    private final ZoneManager zoneManager;
 
-    public PlaceholderAPIIntegration(StormcraftPlugin plugin, StormManager stormManager) {
+    private volatile Map<String, String> globalValues = Map.of();
+    private volatile Map<UUID, Map<String, String>> playerValues = Map.of();
+    private TaskHandle refreshTask;
+    private int refreshTicks;
+
+    public PlaceholderAPIIntegration(StormcraftPlugin plugin, StormManager stormManager, ZoneManager zoneManager) {
         this.plugin = plugin;
         this.stormManager = stormManager;
+        this.config = plugin.getConfigManager();
+        this.zoneManager = zoneManager;
+    }
+
+    /**
+     * Starts the task that rebuilds the placeholder cache.
+     */
+    public void start() {
+        refresh();
+        refreshTicks = config.getPlaceholderRefreshTicks();
+        refreshTask = plugin.getTaskScheduler().runTimer(this::refresh, refreshTicks, refreshTicks);
+    }
+
+    /**
+     * Reschedules the refresh task if a config reload changed the refresh interval.
+     */
+    public void reload() {
+        if (config.getPlaceholderRefreshTicks() == refreshTicks) {
+            return;
+        }
+        stop();
+        start();
+    }
+
+    public void stop() {
+        if (refreshTask != null) {
+            refreshTask.cancel();
+            refreshTask = null;
+        }
     }
 
     @Override
@@ -40,18 +106,90 @@ public class PlaceholderAPIIntegration extends PlaceholderExpansion {
 
     @Override
     public String onPlaceholderRequest(Player player, String params) {
-        return switch (params.toLowerCase()) {
-            case "status" -> getStatusString();
-            case "time_left" -> getTimeLeftString();
-            case "type" -> getStormTypeString();
-            case "dps" -> getDpsString();
-            case "next_storm" -> getNextStormString();
-            default -> null;
-        };
+        String value = lookup(player, params);
+        if (value == null) {
+            // Placeholders are usually lower case already, only normalise on a miss
+            value = lookup(player, params.toLowerCase(Locale.ROOT));
+        }
+        return value;
+    }
+
+    private String lookup(Player player, String key) {
+        String value = globalValues.get(key);
+        if (value != null || player == null) {
+            return value;
+        }
+
+        Map<String, String> values = playerValues.get(player.getUniqueId());
+        plugin.getMetrics().recordCacheLookup("placeholders", values != null);
+        return (values != null ? values : PLAYER_DEFAULTS).get(key);
+    }
+
+    /**
+     * Rebuilds every placeholder value. Runs on the main thread.
+     */
+    private void refresh() {
+        globalValues = buildGlobalValues();
+
+        StormWorldSnapshot snapshot = plugin.getSnapshotService() != null
+                ? plugin.getSnapshotService().getSnapshot()
+                : StormWorldSnapshot.EMPTY;
+        DamageTask damageTask = stormManager.getDamageTask();
+
+        Map<UUID, Map<String, String>> values = new HashMap<>();
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            values.put(player.getUniqueId(), buildPlayerValues(player, snapshot, damageTask));
+        }
+        playerValues = values;
+    }
+
+    private Map<String, String> buildGlobalValues() {
+        Map<String, String> values = new HashMap<>();
+        values.put("status", getStatusString());
+        values.put("time_left", getTimeLeftString());
+        values.put("type", getStormTypeString());
+        values.put("dps", getDpsString());
+        values.put("next_storm", getNextStormString());
+        return Map.copyOf(values);
+    }
+
+    private Map<String, String> buildPlayerValues(Player player, StormWorldSnapshot snapshot, DamageTask damageTask) {
+        Map<String, String> values = new HashMap<>(PLAYER_DEFAULTS);
+        Location location = player.getLocation();
+        UUID worldId = player.getWorld().getUID();
+
+        // Nearest storm, by edge, so distance, direction and in_storm all describe the same storm
+        int nearest = snapshot.findNearestEdge(worldId, location.getX(), location.getZ());
+        if (nearest >= 0) {
+            double dx = snapshot.getCenterX(nearest) - location.getX();
+            double dz = snapshot.getCenterZ(nearest) - location.getZ();
+            double edgeDistance = snapshot.edgeDistance(nearest, location.getX(), location.getZ());
+
+            values.put("nearest_distance", String.valueOf((int) Math.max(0, edgeDistance)));
+            values.put("nearest_direction", getDirection(dx, dz));
+            values.put("in_storm", String.valueOf(edgeDistance <= 0));
+        }
+
+        // Exposure and immunity
+        PlayerStormExposure exposure = damageTask != null ? damageTask.getPlayerExposure(player.getUniqueId()) : null;
+        if (exposure != null) {
+            if (exposure.isInStorm()) {
+                double multiplier = exposure.getDamageMultiplier(config.getStormGracePeriodSeconds());
+                values.put("exposure", String.valueOf((int) (multiplier * 100)));
+            }
+            values.put("immunity", String.valueOf(exposure.getRemainingImmunitySeconds()));
+        }
+
+        // Local zone
+        if (zoneManager.isEnabled(location.getWorld())) {
+            values.put("zone", zoneManager.getZoneAt(location).getDisplayName());
+        }
+
+        return Map.copyOf(values);
     }
 
     private String getStatusString() {
-        if (stormManager.hasActiveStorm()) {
+        if (stormManager.hasActiveStorm() || stormManager.hasActiveStorms()) {
             return "Active";
         } else if (stormManager.isCountdownActive()) {
             return "Countdown";
@@ -61,9 +199,10 @@ public class PlaceholderAPIIntegration extends PlaceholderExpansion {
     }
 
     private String getTimeLeftString() {
-        if (stormManager.hasActiveStorm()) {
-            int seconds = stormManager.getActiveStorm().getRemainingSeconds();
-            return formatTime(seconds);
+        if (stormManager.getActiveStorm() != null) {
+            return formatTime(stormManager.getActiveStorm().getRemainingSeconds());
+        } else if (stormManager.getTravelingStorm() != null) {
+            return formatTime(stormManager.getTravelingStorm().getRemainingSeconds());
         } else if (stormManager.isCountdownActive()) {
             int seconds = stormManager.getCountdownRemainingSeconds();
             return formatTime(seconds);
@@ -74,9 +213,10 @@ public class PlaceholderAPIIntegration extends PlaceholderExpansion {
     }
 
     private String getStormTypeString() {
-        if (stormManager.hasActiveStorm()) {
-            return formatStormType(stormManager.getActiveStorm().getProfile().getType().name());
-        } else if (stormManager.isCountdownActive()) {
+        StormProfile profile = getCurrentProfile();
+        if (profile != null) {
+            return formatStormType(profile.getType().name());
+        } else if (stormManager.isCountdownActive() && stormManager.getUpcomingStormType() != null) {
             return formatStormType(stormManager.getUpcomingStormType().name());
         } else {
             return "None";
@@ -84,8 +224,9 @@ public class PlaceholderAPIIntegration extends PlaceholderExpansion {
     }
 
     private String getDpsString() {
-        if (stormManager.hasActiveStorm()) {
-            return String.format("%.1f", stormManager.getActiveStorm().getProfile().getDamagePerSecond());
+        StormProfile profile = getCurrentProfile();
+        if (profile != null) {
+            return String.format("%.1f", profile.getDamagePerSecond());
         } else if (stormManager.isCountdownActive() && stormManager.getUpcomingProfile() != null) {
             return String.format("%.1f", stormManager.getUpcomingProfile().getDamagePerSecond());
         } else {
@@ -98,6 +239,31 @@ public class PlaceholderAPIIntegration extends PlaceholderExpansion {
         return formatTime((int) seconds);
     }
 
+    /**
+     * Gets the profile of the running single storm, stationary or traveling.
+     */
+    private StormProfile getCurrentProfile() {
+        if (stormManager.getActiveStorm() != null) {
+            return stormManager.getActiveStorm().getProfile();
+        }
+        if (stormManager.getTravelingStorm() != null) {
+            return stormManager.getTravelingStorm().getProfile();
+        }
+        return null;
+    }
+
+    /**
+     * Converts dx, dz to an 8-way cardinal direction (North = -Z).
+     */
+    private String getDirection(double dx, double dz) {
+        double angle = Math.toDegrees(Math.atan2(dz, dx));
+        angle = (angle + 90) % 360;
+        if (angle < 0) angle += 360;
+
+        int index = (int) Math.round(angle / 45.0) % 8;
+        return DIRECTIONS[index];
+    }
+
     private String formatTime(int seconds) {
         if (seconds >= 60) {
             int minutes = seconds / 60;
@@ -116,4 +282,4 @@ public class PlaceholderAPIIntegration extends PlaceholderExpansion {
             default -> enumName;
         };
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,199 @@
+package dev.ked.stormcraft.integration;
+
+import com.sk89q.worldedit.bukkit.BukkitAdapter;
+import com.sk89q.worldedit.math.BlockVector3;
+import com.sk89q.worldedit.util.Location;
+import com.sk89q.worldguard.WorldGuard;
+import com.sk89q.worldguard.protection.flags.StateFlag;
+import com.sk89q.worldguard.protection.managers.RegionManager;
+import com.sk89q.worldguard.protection.regions.ProtectedCuboidRegion;
+import com.sk89q.worldguard.protection.regions.ProtectedRegion;
+import com.sk89q.worldguard.protection.regions.RegionContainer;
+import dev.ked.stormcraft.StormcraftPlugin;
+import org.bukkit.World;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Caches the stormcraft-protect flag per chunk.
+ * A chunk where every region setting the flag (directly or through a parent) covers the whole chunk
+ * at full height gets one answer for all its blocks. Boundary chunks are answered per block, through
+ * a small LRU of recent positions.
+ *
+ * WorldGuard has no change events, so every few seconds a lookup fingerprints each cached world's
+ * regions (identity, priority, parent and flag value) and drops the world's cache if anything changed.
+ * Lookups answered without asking WorldGuard count as hits in the "protection" cache metrics.
+ * Safe to call from any thread.
+ */
+class ProtectionCache {
+    private static final byte UNPROTECTED = 0;
+    private static final byte PROTECTED = 1;
+    private static final byte BOUNDARY = 2;
+
+    private static final long VALIDATE_INTERVAL_NANOS = 5_000_000_000L;
+    private static final int MAX_CHUNKS = 65536;
+    private static final int MAX_BLOCKS = 1024;
+
+    private final StormcraftPlugin plugin;
+    private final StateFlag flag;
+    private final Map<UUID, WorldProtection> worlds = new ConcurrentHashMap<>();
+    private volatile long nextValidateNanos = System.nanoTime() + VALIDATE_INTERVAL_NANOS;
+
+    ProtectionCache(StormcraftPlugin plugin, StateFlag flag) {
+        this.plugin = plugin;
+        this.flag = flag;
+    }
+
+    boolean isProtected(World world, int x, int y, int z) {
+        long now = System.nanoTime();
+        if (now - nextValidateNanos >= 0) {
+            nextValidateNanos = now + VALIDATE_INTERVAL_NANOS;
+            validate();
+        }
+
+        RegionManager manager = regionManager(world);
+        if (manager == null) {
+            return false;
+        }
+        WorldProtection protection = worlds.computeIfAbsent(world.getUID(), id -> new WorldProtection(world, fingerprint(manager)));
+        return protection.isProtected(manager, x, y, z);
+    }
+
+    void invalidate() {
+        worlds.clear();
+    }
+
+    private void validate() {
+        for (WorldProtection protection : worlds.values()) {
+            RegionManager manager = regionManager(protection.world);
+            if (manager == null || fingerprint(manager) != protection.fingerprint) {
+                worlds.remove(protection.world.getUID(), protection);
+            }
+        }
+    }
+
+    private static RegionManager regionManager(World world) {
+        RegionContainer container = WorldGuard.getInstance().getPlatform().getRegionContainer();
+        return container.get(BukkitAdapter.adapt(world));
+    }
+
+    private long fingerprint(RegionManager manager) {
+        long hash = manager.size();
+        for (ProtectedRegion region : manager.getRegions().values()) {
+            hash = hash * 31 + System.identityHashCode(region);
+            hash = hash * 31 + region.getPriority();
+            hash = hash * 31 + System.identityHashCode(region.getParent());
+            hash = hash * 31 + Objects.hashCode(region.getFlag(flag));
+        }
+        return hash;
+    }
+
+    private final class WorldProtection {
+        final World world;
+        final long fingerprint;
+        final Map<Long, Byte> chunks = new ConcurrentHashMap<>();
+        final Map<Long, Boolean> blocks = new LinkedHashMap<>(MAX_BLOCKS, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Boolean> eldest) {
+                return size() > MAX_BLOCKS;
+            }
+        };
+
+        WorldProtection(World world, long fingerprint) {
+            this.world = world;
+            this.fingerprint = fingerprint;
+        }
+
+        boolean isProtected(RegionManager manager, int x, int y, int z) {
+            long chunkKey = ((long) (x >> 4) << 32) | ((z >> 4) & 0xFFFFFFFFL);
+            Byte state = chunks.get(chunkKey);
+            boolean hit = state != null;
+            if (state == null) {
+                if (chunks.size() >= MAX_CHUNKS) {
+                    chunks.clear();
+                }
+                state = classify(manager, x >> 4, z >> 4);
+                chunks.put(chunkKey, state);
+            }
+            if (state != BOUNDARY) {
+                plugin.getMetrics().recordCacheLookup("protection", hit);
+                return state == PROTECTED;
+            }
+
+            long blockKey = ((long) (x & 0x3FFFFFF) << 38) | ((long) (z & 0x3FFFFFF) << 12) | (y & 0xFFF);
+            synchronized (blocks) {
+                Boolean cached = blocks.get(blockKey);
+                if (cached != null) {
+                    plugin.getMetrics().recordCacheLookup("protection", true);
+                    return cached;
+                }
+            }
+            plugin.getMetrics().recordCacheLookup("protection", false);
+            boolean result = query(x, y, z);
+            synchronized (blocks) {
+                blocks.put(blockKey, result);
+            }
+            return result;
+        }
+
+        /**
+         * Decides whether one answer holds for the whole chunk.
+         */
+        private byte classify(RegionManager manager, int chunkX, int chunkZ) {
+            int minX = chunkX << 4;
+            int minZ = chunkZ << 4;
+            ProtectedRegion chunkRegion = new ProtectedCuboidRegion("__stormcraft_chunk__",
+                    BlockVector3.at(minX, world.getMinHeight(), minZ),
+                    BlockVector3.at(minX + 15, world.getMaxHeight() - 1, minZ + 15));
+
+            for (ProtectedRegion region : manager.getApplicableRegions(chunkRegion)) {
+                if (setsFlag(region) && !coversChunk(region, minX, minZ)) {
+                    return BOUNDARY;
+                }
+            }
+            // Every region that could set the flag covers the chunk (or none touches it), so any point answers for all
+            return query(minX + 8, world.getMinHeight(), minZ + 8) ? PROTECTED : UNPROTECTED;
+        }
+
+        private boolean setsFlag(ProtectedRegion region) {
+            for (ProtectedRegion current = region; current != null; current = current.getParent()) {
+                if (current.getFlag(flag) != null) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean coversChunk(ProtectedRegion region, int minX, int minZ) {
+            BlockVector3 min = region.getMinimumPoint();
+            BlockVector3 max = region.getMaximumPoint();
+            if (min.getY() > world.getMinHeight() || max.getY() < world.getMaxHeight() - 1) {
+                return false;
+            }
+            if (minX < min.getX() || minX + 15 > max.getX() || minZ < min.getZ() || minZ + 15 > max.getZ()) {
+                return false;
+            }
+            if (region instanceof ProtectedCuboidRegion) {
+                return true;
+            }
+            for (int dx = 0; dx < 16; dx++) {
+                for (int dz = 0; dz < 16; dz++) {
+                    if (!region.contains(minX + dx, world.getMinHeight(), minZ + dz)) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+
+        private boolean query(int x, int y, int z) {
+            Location location = new Location(BukkitAdapter.adapt(world), x + 0.5, y, z + 0.5);
+            RegionContainer container = WorldGuard.getInstance().getPlatform().getRegionContainer();
+            return container.createQuery().queryState(location, null, flag) == StateFlag.State.ALLOW;
+        }
+    }
+}
@@ -2,16 +2,13 @@ package dev.ked.stormcraft.integration;
 
 import com.sk89q.worldedit.bukkit.BukkitAdapter;
 import com.sk89q.worldedit.math.BlockVector3;
-import com.sk89q.worldedit.util.Location;
 import com.sk89q.worldguard.WorldGuard;
-import com.sk89q.worldguard.protection.ApplicableRegionSet;
 import com.sk89q.worldguard.protection.flags.StateFlag;
 import com.sk89q.worldguard.protection.flags.registry.FlagConflictException;
 import com.sk89q.worldguard.protection.flags.registry.FlagRegistry;
 import com.sk89q.worldguard.protection.managers.RegionManager;
 import com.sk89q.worldguard.protection.regions.ProtectedRegion;
 import com.sk89q.worldguard.protection.regions.RegionContainer;
-import com.sk89q.worldguard.protection.regions.RegionQuery;
 import dev.ked.stormcraft.StormcraftPlugin;
 import org.bukkit.World;
 import org.bukkit.plugin.Plugin;
@@ -25,6 +22,7 @@ public class WorldGuardIntegration {
     private final StormcraftPlugin plugin;
     private boolean enabled = false;
     private StateFlag stormcraftProtectFlag;
+    private ProtectionCache protectionCache;
 
     public WorldGuardIntegration(StormcraftPlugin plugin) {
         this.plugin = plugin;
@@ -59,6 +57,10 @@ public class WorldGuardIntegration {
             plugin.getLogger().info("WorldGuard integration enabled (zone detection only - flag registration failed: " + e.getMessage() + ")");
             stormcraftProtectFlag = null;
         }
+
+        if (stormcraftProtectFlag != null) {
+            protectionCache = new ProtectionCache(plugin, stormcraftProtectFlag);
+        }
     }
 
     /**
@@ -67,26 +69,38 @@ public class WorldGuardIntegration {
      * @return true if the location is protected from storms
      */
     public boolean isInProtectedRegion(org.bukkit.Location location) {
-        if (!enabled || stormcraftProtectFlag == null) {
+        if (location.getWorld() == null) {
             return false;
         }
+        return isInProtectedRegion(location.getWorld(), location.getBlockX(), location.getBlockY(), location.getBlockZ());
+    }
 
-        try {
-            Location wgLocation = BukkitAdapter.adapt(location);
-            RegionContainer container = WorldGuard.getInstance().getPlatform().getRegionContainer();
-            RegionQuery query = container.createQuery();
-
-            ApplicableRegionSet regions = query.getApplicableRegions(wgLocation);
+    /**
+     * Checks if a block position is within a protected region (flag set to ALLOW).
+     * Answers come from a per-chunk cache, so this is cheap away from region boundaries.
+     */
+    public boolean isInProtectedRegion(World world, int x, int y, int z) {
+        if (!enabled || protectionCache == null) {
+            return false;
+        }
 
-            // Check if the flag is set to ALLOW (which means protect from storms)
-            StateFlag.State state = regions.queryState(null, stormcraftProtectFlag);
-            return state == StateFlag.State.ALLOW;
+        try {
+            return protectionCache.isProtected(world, x, y, z);
         } catch (Exception e) {
             plugin.getLogger().warning("Error checking WorldGuard region: " + e.getMessage());
             return false;
         }
     }
 
+    /**
+     * Drops cached protection answers. They are also refreshed automatically when regions change.
+     */
+    public void invalidateProtectionCache() {
+        if (protectionCache != null) {
+            protectionCache.invalidate();
+        }
+    }
+
     public boolean isEnabled() {
         return enabled;
     }
@@ -3,15 +3,14 @@ package dev.ked.stormcraft.listener;
 import dev.ked.stormcraft.StormcraftPlugin;
 import dev.ked.stormcraft.config.ConfigManager;
 import dev.ked.stormcraft.schedule.StormManager;
-import net.kyori.adventure.text.Component;
-import net.kyori.adventure.text.minimessage.MiniMessage;
-import org.bukkit.Bukkit;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerJoinEvent;
 
+import java.util.Map;
+
 /**
  * Handles custom join messages with storm information.
  */
@@ -19,7 +18,6 @@ public class PlayerJoinListener implements Listener {
     private final StormcraftPlugin plugin;
     private final ConfigManager config;
     private final StormManager stormManager;
-    private final MiniMessage miniMessage = MiniMessage.miniMessage();
 
     public PlayerJoinListener(StormcraftPlugin plugin, ConfigManager config, StormManager stormManager) {
         this.plugin = plugin;
@@ -37,7 +35,7 @@ public class PlayerJoinListener implements Listener {
         Player player = event.getPlayer();
 
         // Delay by 1 tick to ensure player is fully loaded
-        Bukkit.getScheduler().runTaskLater(plugin, () -> {
+        plugin.getTaskScheduler().runForEntityLater(player, () -> {
             sendWelcomeMessage(player);
         }, 1L);
     }
@@ -46,7 +44,7 @@ public class PlayerJoinListener implements Listener {
         // Only show storm countdown for global (non-traveling) storms
         if (!config.isTravelingStormsEnabled()) {
             String timeLeft = getFormattedTimeLeft();
-            player.sendMessage(miniMessage.deserialize("<yellow>⚡</yellow> <gray>The next storm is in:</gray> <white>" + timeLeft + "</white>"));
+            player.sendMessage(config.getSettings().messages().welcome().render(Map.of("time", timeLeft)));
         }
     }
 
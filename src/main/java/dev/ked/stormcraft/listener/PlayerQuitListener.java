@@ -0,0 +1,39 @@
+package dev.ked.stormcraft.listener;
+
+import dev.ked.stormcraft.StormcraftPlugin;
+import dev.ked.stormcraft.economy.EssenceAccrualLedger;
+import dev.ked.stormcraft.schedule.DamageTask;
+import dev.ked.stormcraft.schedule.StormManager;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerQuitEvent;
+
+/**
+ * Settles per-player storm state when a player leaves the server.
+ */
+public class PlayerQuitListener implements Listener {
+    private final StormcraftPlugin plugin;
+    private final StormManager stormManager;
+    private final EssenceAccrualLedger essenceLedger;
+
+    public PlayerQuitListener(StormcraftPlugin plugin, StormManager stormManager, EssenceAccrualLedger essenceLedger) {
+        this.plugin = plugin;
+        this.stormManager = stormManager;
+        this.essenceLedger = essenceLedger;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        Player player = event.getPlayer();
+
+        // Pay out any essence accrued since the last flush
+        essenceLedger.flush(player);
+
+        DamageTask damageTask = stormManager.getDamageTask();
+        if (damageTask != null) {
+            damageTask.clearPlayerExposure(player.getUniqueId());
+        }
+    }
+}
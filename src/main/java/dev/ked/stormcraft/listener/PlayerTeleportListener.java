@@ -0,0 +1,45 @@
+package dev.ked.stormcraft.listener;
+
+import dev.ked.stormcraft.schedule.DamageTask;
+import dev.ked.stormcraft.schedule.StormManager;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerRespawnEvent;
+import org.bukkit.event.player.PlayerTeleportEvent;
+
+/**
+ * Makes the damage check pick up players that jumped somewhere else, since the time they were
+ * skipped for assumed they could only get closer to a storm at running speed.
+ */
+public class PlayerTeleportListener implements Listener {
+    private final StormManager stormManager;
+
+    public PlayerTeleportListener(StormManager stormManager) {
+        this.stormManager = stormManager;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onPlayerTeleport(PlayerTeleportEvent event) {
+        wake(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerChangedWorld(PlayerChangedWorldEvent event) {
+        wake(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerRespawn(PlayerRespawnEvent event) {
+        wake(event.getPlayer());
+    }
+
+    private void wake(Player player) {
+        DamageTask damageTask = stormManager.getDamageTask();
+        if (damageTask != null) {
+            damageTask.wakePlayer(player.getUniqueId());
+        }
+    }
+}
@@ -33,7 +33,7 @@ public class WeatherControlListener implements Listener {
         World world = event.getWorld();
 
         // Only control weather in enabled worlds
-        if (!config.getEnabledWorlds().contains(world.getName())) {
+        if (!plugin.getStormWorlds().isEnabled(world)) {
             return;
         }
 
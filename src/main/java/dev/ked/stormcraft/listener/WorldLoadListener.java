@@ -0,0 +1,36 @@
+package dev.ked.stormcraft.listener;
+
+import dev.ked.stormcraft.schedule.StormWorlds;
+import dev.ked.stormcraft.zones.ZoneManager;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.world.WorldLoadEvent;
+import org.bukkit.event.world.WorldUnloadEvent;
+
+/**
+ * Keeps the storm world table and the per-world zone layouts in step with worlds loaded or unloaded
+ * after startup (e.g. by a world manager plugin).
+ */
+public class WorldLoadListener implements Listener {
+    private final StormWorlds stormWorlds;
+    private final ZoneManager zoneManager;
+
+    public WorldLoadListener(StormWorlds stormWorlds, ZoneManager zoneManager) {
+        this.stormWorlds = stormWorlds;
+        this.zoneManager = zoneManager;
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWorldLoad(WorldLoadEvent event) {
+        stormWorlds.refresh();
+        zoneManager.loadZoneConfig();
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR, ignoreCancelled = true)
+    public void onWorldUnload(WorldUnloadEvent event) {
+        // Fired while the world is still loaded, so it's left out explicitly
+        stormWorlds.refresh(event.getWorld());
+        zoneManager.forgetWorld(event.getWorld());
+    }
+}
@@ -1,12 +1,15 @@
 package dev.ked.stormcraft.model;
 
 import java.util.UUID;
+import java.util.function.LongSupplier;
 
 /**
  * Tracks a player's storm exposure state, including ramp-up time and cooldowns.
+ * Times are read from the given clock (the scheduler's, on a server the system clock).
  */
 public class PlayerStormExposure {
     private final UUID playerId;
+    private final LongSupplier clock;
     private long firstExposureTime; // When player first entered storm
     private long lastExposureTime; // Last time player was in storm
     private long lastDamageTime; // Last time player took storm damage
@@ -18,8 +21,9 @@ public class PlayerStormExposure {
     private long immunityExpiry; // Timestamp when immunity expires
     private String immunitySource; // Source of immunity (boss, ability, etc.)
 
-    public PlayerStormExposure(UUID playerId) {
+    public PlayerStormExposure(UUID playerId, LongSupplier clock) {
         this.playerId = playerId;
+        this.clock = clock;
         this.firstExposureTime = 0;
         this.lastExposureTime = 0;
         this.lastDamageTime = 0;
@@ -34,7 +38,7 @@ public class PlayerStormExposure {
      * Called when player enters a storm.
      */
     public void enterStorm() {
-        long now = System.currentTimeMillis();
+        long now = clock.getAsLong();
 
         if (!inStorm) {
             inStorm = true;
@@ -59,7 +63,7 @@ public class PlayerStormExposure {
         if (inStorm) {
             inStorm = false;
             onCooldown = true;
-            lastExposureTime = System.currentTimeMillis();
+            lastExposureTime = clock.getAsLong();
         }
     }
 
@@ -100,7 +104,7 @@ public class PlayerStormExposure {
      * @param source Source of immunity (for tracking/display)
      */
     public void grantImmunity(int durationSeconds, String source) {
-        long now = System.currentTimeMillis();
+        long now = clock.getAsLong();
         this.immunityExpiry = now + (durationSeconds * 1000L);
         this.immunitySource = source;
     }
@@ -109,7 +113,7 @@ public class PlayerStormExposure {
      * Checks if player currently has storm immunity.
      */
     public boolean hasImmunity() {
-        return System.currentTimeMillis() < immunityExpiry;
+        return clock.getAsLong() < immunityExpiry;
     }
 
     /**
@@ -119,7 +123,7 @@ public class PlayerStormExposure {
         if (!hasImmunity()) {
             return 0;
         }
-        long remaining = immunityExpiry - System.currentTimeMillis();
+        long remaining = immunityExpiry - clock.getAsLong();
         return (int)(remaining / 1000);
     }
 
@@ -135,7 +139,7 @@ public class PlayerStormExposure {
      * Records that damage was applied.
      */
     public void recordDamage() {
-        this.lastDamageTime = System.currentTimeMillis();
+        this.lastDamageTime = clock.getAsLong();
     }
 
     /**
@@ -143,7 +147,7 @@ public class PlayerStormExposure {
      */
     public boolean isCooldownExpired() {
         if (!onCooldown) return true;
-        return (System.currentTimeMillis() - lastExposureTime) > getCooldownMillis();
+        return (clock.getAsLong() - lastExposureTime) > getCooldownMillis();
     }
 
     /**
@@ -203,7 +207,7 @@ public class PlayerStormExposure {
                 return "§cFull Exposure";
             }
         } else if (onCooldown && !isCooldownExpired()) {
-            int cooldownRemaining = (int)((getCooldownMillis() - (System.currentTimeMillis() - lastExposureTime)) / 1000);
+            int cooldownRemaining = (int)((getCooldownMillis() - (clock.getAsLong() - lastExposureTime)) / 1000);
             return "§7Cooldown (" + cooldownRemaining + "s)";
         } else {
             return "§7Not Exposed";
@@ -3,9 +3,12 @@ package dev.ked.stormcraft.model;
 import org.bukkit.Location;
 import org.bukkit.World;
 import java.util.List;
+import java.util.UUID;
 
 /**
  * Represents a storm that moves across the map following a path.
+ * Position and waypoints are kept as primitives so per-player and per-block checks can use
+ * {@link #centerX()}, {@link #containsXZ(double, double)} etc. without allocating Locations.
  */
 public class TravelingStorm {
     private final StormProfile profile;
@@ -21,8 +24,16 @@ public class TravelingStorm {
     private final double peakPercent;
     private final double dissipatingPercent;
 
-    private Location currentLocation;
-    private List<Location> waypoints; // Path waypoints
+    // Current position (written by the movement task, read from player/region threads)
+    private volatile World world;
+    private volatile double x;
+    private volatile double y;
+    private volatile double z;
+
+    // Path waypoints
+    private double[] waypointX;
+    private double[] waypointY;
+    private double[] waypointZ;
     private int currentWaypointIndex; // Current target waypoint
     private double movementSpeed; // Blocks per second
     private int remainingSeconds;
@@ -31,6 +42,9 @@ public class TravelingStorm {
     private double tempSpeedBoost = 0;
     private long tempSpeedBoostExpiry = 0;
 
+    // Told when another plugin moves the storm or changes its speed
+    private Runnable changeListener;
+
     public TravelingStorm(StormProfile profile, int durationSeconds, double actualDamagePerSecond,
                          Location spawnLocation, List<Location> waypoints, double movementSpeed,
                          double damageRadius, int rampUpSeconds,
@@ -42,8 +56,8 @@ public class TravelingStorm {
         this.damageRadius = damageRadius;
         this.rampUpSeconds = rampUpSeconds;
         this.remainingSeconds = durationSeconds;
-        this.currentLocation = spawnLocation.clone();
-        this.waypoints = waypoints;
+        setCurrentLocation(spawnLocation);
+        setWaypoints(waypoints);
         this.currentWaypointIndex = 0;
         this.movementSpeed = movementSpeed;
         this.phasesEnabled = phasesEnabled;
@@ -67,71 +81,124 @@ public class TravelingStorm {
      * @return true if storm moved, false if at end of path
      */
     public boolean move(double deltaSeconds) {
-        if (waypoints.isEmpty() || currentWaypointIndex >= waypoints.size()) {
+        if (currentWaypointIndex >= waypointX.length) {
             return false; // No more waypoints
         }
 
-        Location currentTarget = waypoints.get(currentWaypointIndex);
-        double distanceToTarget = currentLocation.distance(currentTarget);
+        double distanceToTarget = distanceToWaypoint(currentWaypointIndex);
 
         // If reached current waypoint, move to next
         if (distanceToTarget < 1.0) {
             currentWaypointIndex++;
-            if (currentWaypointIndex >= waypoints.size()) {
+            if (currentWaypointIndex >= waypointX.length) {
                 return false; // Reached end of path
             }
-            currentTarget = waypoints.get(currentWaypointIndex);
-            distanceToTarget = currentLocation.distance(currentTarget);
+            distanceToTarget = distanceToWaypoint(currentWaypointIndex);
         }
+        double targetX = waypointX[currentWaypointIndex];
+        double targetZ = waypointZ[currentWaypointIndex];
 
         // Calculate how far to move this tick (with temp speed boost if active)
-        double effectiveSpeed = movementSpeed;
-        if (tempSpeedBoostExpiry > System.currentTimeMillis()) {
-            effectiveSpeed = tempSpeedBoost;
-        }
-        double moveDistance = effectiveSpeed * deltaSeconds;
+        double moveDistance = getCurrentSpeed() * deltaSeconds;
 
         // Don't overshoot current waypoint
         if (moveDistance >= distanceToTarget) {
-            currentLocation = currentTarget.clone();
+            x = targetX;
+            y = waypointY[currentWaypointIndex];
+            z = targetZ;
             return true;
         }
 
         // Calculate direction vector
-        double dx = currentTarget.getX() - currentLocation.getX();
-        double dz = currentTarget.getZ() - currentLocation.getZ();
+        double dx = targetX - x;
+        double dz = targetZ - z;
         double distance = Math.sqrt(dx * dx + dz * dz);
 
         // Normalize and scale by move distance
-        double moveX = (dx / distance) * moveDistance;
-        double moveZ = (dz / distance) * moveDistance;
-
-        // Update location
-        currentLocation.add(moveX, 0, moveZ);
+        x += (dx / distance) * moveDistance;
+        z += (dz / distance) * moveDistance;
         return true;
     }
 
+    private double distanceToWaypoint(int index) {
+        double dx = waypointX[index] - x;
+        double dy = waypointY[index] - y;
+        double dz = waypointZ[index] - z;
+        return Math.sqrt(dx * dx + dy * dy + dz * dz);
+    }
+
     /**
      * Checks if a location is within the storm's damage radius.
      */
     public boolean isLocationInStorm(Location location, double damageRadius) {
-        if (!location.getWorld().equals(currentLocation.getWorld())) {
+        if (location.getWorld() != world) {
             return false;
         }
 
-        double distanceSquared = getDistanceSquaredXZ(location, currentLocation);
+        double distanceSquared = distanceSqXZ(location.getX(), location.getZ());
         return distanceSquared <= (damageRadius * damageRadius);
     }
 
+    // Primitive geometry (no allocation, safe to call per player or per block)
+
+    public double centerX() {
+        return x;
+    }
+
+    public double centerZ() {
+        return z;
+    }
+
+    public double centerY() {
+        return y;
+    }
+
+    public World getWorld() {
+        return world;
+    }
+
+    public UUID worldId() {
+        return world.getUID();
+    }
+
+    /**
+     * Checks if the storm is in the given world.
+     */
+    public boolean isInWorld(World other) {
+        return world == other;
+    }
+
     /**
-     * Gets horizontal distance squared between two locations (ignoring Y).
+     * Square of the current (phase-scaled) radius.
      */
-    private double getDistanceSquaredXZ(Location loc1, Location loc2) {
-        double dx = loc1.getX() - loc2.getX();
-        double dz = loc1.getZ() - loc2.getZ();
+    public double radiusSq() {
+        double radius = getCurrentRadius();
+        return radius * radius;
+    }
+
+    /**
+     * Horizontal distance squared from the storm center.
+     */
+    public double distanceSqXZ(double px, double pz) {
+        double dx = px - x;
+        double dz = pz - z;
         return dx * dx + dz * dz;
     }
 
+    /**
+     * Checks if a horizontal position is within the current radius. The caller checks the world.
+     */
+    public boolean containsXZ(double px, double pz) {
+        return distanceSqXZ(px, pz) <= radiusSq();
+    }
+
+    /**
+     * Horizontal distance from a position to the storm's edge, 0 if inside.
+     */
+    public double edgeDistance(double px, double pz) {
+        return Math.max(0, Math.sqrt(distanceSqXZ(px, pz)) - getCurrentRadius());
+    }
+
     public void decrementRemaining(int seconds) {
         this.remainingSeconds = Math.max(0, this.remainingSeconds - seconds);
     }
@@ -141,7 +208,7 @@ public class TravelingStorm {
     }
 
     public boolean hasReachedTarget() {
-        return currentWaypointIndex >= waypoints.size();
+        return currentWaypointIndex >= waypointX.length;
     }
 
     // Getters
@@ -277,23 +344,43 @@ public class TravelingStorm {
         return damageRadius * getRadiusMultiplier();
     }
 
+    /**
+     * Gets a copy of the current position. Hot paths should use {@link #centerX()} / {@link #centerZ()}.
+     */
     public Location getCurrentLocation() {
-        return currentLocation.clone();
+        return new Location(world, x, y, z);
     }
 
+    /**
+     * Gets a copy of the current waypoint, or the last one if at the end.
+     */
     public Location getTargetLocation() {
-        // Return current waypoint or last waypoint if at end
-        if (waypoints.isEmpty()) {
-            return currentLocation.clone();
+        if (waypointX.length == 0) {
+            return getCurrentLocation();
         }
-        int targetIndex = Math.min(currentWaypointIndex, waypoints.size() - 1);
-        return waypoints.get(targetIndex);
+        int targetIndex = Math.min(currentWaypointIndex, waypointX.length - 1);
+        return new Location(world, waypointX[targetIndex], waypointY[targetIndex], waypointZ[targetIndex]);
+    }
+
+    public double targetX() {
+        return waypointX.length == 0 ? x : waypointX[Math.min(currentWaypointIndex, waypointX.length - 1)];
+    }
+
+    public double targetZ() {
+        return waypointZ.length == 0 ? z : waypointZ[Math.min(currentWaypointIndex, waypointZ.length - 1)];
     }
 
     public double getMovementSpeed() {
         return movementSpeed;
     }
 
+    /**
+     * Gets the speed the storm is moving at right now, including any temporary boost.
+     */
+    public double getCurrentSpeed() {
+        return tempSpeedBoostExpiry > System.currentTimeMillis() ? tempSpeedBoost : movementSpeed;
+    }
+
     public double getDamageRadius() {
         return damageRadius;
     }
@@ -315,7 +402,42 @@ public class TravelingStorm {
     }
 
     public void setCurrentLocation(Location location) {
-        this.currentLocation = location.clone();
+        this.world = location.getWorld();
+        this.x = location.getX();
+        this.y = location.getY();
+        this.z = location.getZ();
+        notifyChanged();
+    }
+
+    /**
+     * Sets the callback run after {@link #setCurrentLocation}, {@link #setTargetLocation} or
+     * {@link #setTempSpeedBoost} change the storm from outside its movement task.
+     */
+    public void setChangeListener(Runnable listener) {
+        this.changeListener = listener;
+    }
+
+    private void notifyChanged() {
+        Runnable listener = changeListener;
+        if (listener != null) {
+            listener.run();
+        }
+    }
+
+    private void setWaypoints(List<Location> waypoints) {
+        int count = waypoints.size();
+        double[] newX = new double[count];
+        double[] newY = new double[count];
+        double[] newZ = new double[count];
+        for (int i = 0; i < count; i++) {
+            Location waypoint = waypoints.get(i);
+            newX[i] = waypoint.getX();
+            newY[i] = waypoint.getY();
+            newZ[i] = waypoint.getZ();
+        }
+        this.waypointX = newX;
+        this.waypointY = newY;
+        this.waypointZ = newZ;
     }
 
     /**
@@ -326,6 +448,7 @@ public class TravelingStorm {
     public void setTempSpeedBoost(double speed, int durationSeconds) {
         this.tempSpeedBoost = speed;
         this.tempSpeedBoostExpiry = System.currentTimeMillis() + (durationSeconds * 1000L);
+        notifyChanged();
     }
 
     /**
@@ -333,9 +456,10 @@ public class TravelingStorm {
      */
     public void setTargetLocation(Location newTarget) {
         // Replace current waypoint with new target
-        if (!waypoints.isEmpty() && currentWaypointIndex < waypoints.size()) {
-            waypoints = List.of(newTarget);
+        if (currentWaypointIndex < waypointX.length) {
+            setWaypoints(List.of(newTarget));
             currentWaypointIndex = 0;
+            notifyChanged();
         }
     }
 }
\ No newline at end of file
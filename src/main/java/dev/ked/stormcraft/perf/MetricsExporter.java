@@ -0,0 +1,209 @@
+package dev.ked.stormcraft.perf;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import dev.ked.stormcraft.StormcraftPlugin;
+import dev.ked.stormcraft.api.StormWorldSnapshot;
+import dev.ked.stormcraft.config.ConfigManager;
+import dev.ked.stormcraft.model.StormPhase;
+import dev.ked.stormcraft.model.StormType;
+import dev.ked.stormcraft.schedule.TaskHandle;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Serves Stormcraft metrics in Prometheus text format from the JDK's built-in HTTP server.
+ * Bound to loopback by default. Counters come from {@link StormMetrics} and the published storm
+ * snapshot; task timers aren't thread-safe, so they are copied on the main thread once a second.
+ */
+public class MetricsExporter {
+    // Histogram bounds in seconds (100us to 100ms, the tick budget is 50ms)
+    private static final double[] BUCKET_BOUNDS = {0.0001, 0.00025, 0.0005, 0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1};
+
+    private final StormcraftPlugin plugin;
+    private final ConfigManager config;
+    private final StormMetrics metrics;
+
+    private HttpServer server;
+    private ExecutorService executor;
+    private TaskHandle sampleTask;
+    private volatile List<TimerSample> timerSamples = List.of();
+
+    public MetricsExporter(StormcraftPlugin plugin, ConfigManager config, StormMetrics metrics) {
+        this.plugin = plugin;
+        this.config = config;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Binds the HTTP endpoint and starts sampling task timers.
+     */
+    public void start() throws IOException {
+        String address = config.getMetricsBindAddress();
+        int port = config.getMetricsPort();
+
+        server = HttpServer.create(new InetSocketAddress(address, port), 0);
+        server.createContext("/metrics", this::handle);
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "Stormcraft-Metrics");
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(executor);
+        server.start();
+
+        sampleTimers();
+        sampleTask = plugin.getTaskScheduler().runTimer(this::sampleTimers, 20L, 20L);
+        plugin.getLogger().info("Metrics available at http://" + address + ":" + port + "/metrics");
+    }
+
+    public void stop() {
+        if (sampleTask != null) {
+            sampleTask.cancel();
+            sampleTask = null;
+        }
+        if (server != null) {
+            server.stop(0);
+            server = null;
+        }
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    /**
+     * Copies every task timer into an immutable sample. Main thread only.
+     */
+    private void sampleTimers() {
+        List<TimerSample> samples = new ArrayList<>();
+        for (TaskTimer timer : plugin.getPerfMonitor().getTimers()) {
+            long[] buckets = new long[BUCKET_BOUNDS.length];
+            for (int i = 0; i < BUCKET_BOUNDS.length; i++) {
+                buckets[i] = timer.countAtOrBelow((long) (BUCKET_BOUNDS[i] * 1_000_000_000L));
+            }
+            samples.add(new TimerSample(timer.getName(), timer.getInvocations(), timer.getTotalNanos(),
+                    timer.getTotalWorkItems(), buckets));
+        }
+        timerSamples = List.copyOf(samples);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+
+            byte[] body = render().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "text/plain; version=0.0.4; charset=utf-8");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        }
+    }
+
+    /**
+     * Renders all metrics. Runs on the exporter thread, so it only reads thread-safe state.
+     */
+    String render() {
+        StringBuilder out = new StringBuilder(4096);
+
+        // Active storms by type and phase
+        StormWorldSnapshot snapshot = plugin.getSnapshotService() != null
+                ? plugin.getSnapshotService().getSnapshot()
+                : StormWorldSnapshot.EMPTY;
+        int[][] stormCounts = new int[StormType.values().length][StormPhase.values().length];
+        for (int i = 0; i < snapshot.size(); i++) {
+            stormCounts[snapshot.getType(i).ordinal()][snapshot.getPhase(i).ordinal()]++;
+        }
+        header(out, "stormcraft_active_storms", "gauge", "Active storms by type and phase");
+        for (StormType type : StormType.values()) {
+            for (StormPhase phase : StormPhase.values()) {
+                out.append("stormcraft_active_storms{type=\"").append(type.name().toLowerCase(Locale.ROOT))
+                        .append("\",phase=\"").append(phase.name().toLowerCase(Locale.ROOT)).append("\"} ")
+                        .append(stormCounts[type.ordinal()][phase.ordinal()]).append('\n');
+            }
+        }
+
+        header(out, "stormcraft_exposed_players", "gauge", "Players exposed at the latest damage check");
+        sample(out, "stormcraft_exposed_players", snapshot.isEmpty() ? 0 : metrics.getExposedPlayers());
+
+        header(out, "stormcraft_damage_dealt_total", "counter", "Storm damage dealt in health points");
+        out.append("stormcraft_damage_dealt_total{target=\"player\"} ").append(format(metrics.getPlayerDamage())).append('\n');
+        out.append("stormcraft_damage_dealt_total{target=\"mob\"} ").append(format(metrics.getMobDamage())).append('\n');
+
+        header(out, "stormcraft_blocks_degraded_total", "counter", "Blocks degraded by storms");
+        sample(out, "stormcraft_blocks_degraded_total", metrics.getBlocksDegraded());
+
+        header(out, "stormcraft_drops_spawned_total", "counter", "Storm drops spawned");
+        sample(out, "stormcraft_drops_spawned_total", metrics.getDropsSpawned());
+
+        header(out, "stormcraft_ores_generated_total", "counter", "Ores generated by storms");
+        sample(out, "stormcraft_ores_generated_total", metrics.getOresGenerated());
+
+        // Cache hit rates
+        header(out, "stormcraft_cache_hits_total", "counter", "Cache lookups served from the cache");
+        for (Map.Entry<String, StormMetrics.CacheCounters> entry : metrics.getCaches().entrySet()) {
+            out.append("stormcraft_cache_hits_total{cache=\"").append(entry.getKey()).append("\"} ")
+                    .append(entry.getValue().getHits()).append('\n');
+        }
+        header(out, "stormcraft_cache_misses_total", "counter", "Cache lookups that missed");
+        for (Map.Entry<String, StormMetrics.CacheCounters> entry : metrics.getCaches().entrySet()) {
+            out.append("stormcraft_cache_misses_total{cache=\"").append(entry.getKey()).append("\"} ")
+                    .append(entry.getValue().getMisses()).append('\n');
+        }
+
+        // Per-task timings (includes PersistenceManager.saveState write latency)
+        List<TimerSample> samples = timerSamples;
+        header(out, "stormcraft_task_duration_seconds", "histogram", "Run time of each Stormcraft task");
+        for (TimerSample timer : samples) {
+            String label = "task=\"" + timer.name() + "\"";
+            for (int i = 0; i < BUCKET_BOUNDS.length; i++) {
+                out.append("stormcraft_task_duration_seconds_bucket{").append(label)
+                        .append(",le=\"").append(format(BUCKET_BOUNDS[i])).append("\"} ")
+                        .append(timer.buckets()[i]).append('\n');
+            }
+            out.append("stormcraft_task_duration_seconds_bucket{").append(label).append(",le=\"+Inf\"} ")
+                    .append(timer.count()).append('\n');
+            out.append("stormcraft_task_duration_seconds_sum{").append(label).append("} ")
+                    .append(format(timer.totalNanos() / 1e9)).append('\n');
+            out.append("stormcraft_task_duration_seconds_count{").append(label).append("} ")
+                    .append(timer.count()).append('\n');
+        }
+
+        header(out, "stormcraft_task_work_items_total", "counter", "Items processed by each task (players, blocks, ...)");
+        for (TimerSample timer : samples) {
+            out.append("stormcraft_task_work_items_total{task=\"").append(timer.name()).append("\"} ")
+                    .append(timer.workItems()).append('\n');
+        }
+
+        return out.toString();
+    }
+
+    private static void header(StringBuilder out, String name, String type, String help) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void sample(StringBuilder out, String name, long value) {
+        out.append(name).append(' ').append(value).append('\n');
+    }
+
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%s", value);
+    }
+
+    private record TimerSample(String name, long count, long totalNanos, long workItems, long[] buckets) {
+    }
+}
@@ -0,0 +1,144 @@
+package dev.ked.stormcraft.perf;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import dev.ked.stormcraft.StormcraftPlugin;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Registry of per-subsystem {@link TaskTimer}s, shown by /storm perf.
+ * Timers are created on first use and live for the lifetime of the plugin,
+ * so tasks that are recreated per storm keep adding to the same histogram.
+ * The plugin may be null when used outside a server (e.g. the bench harness); export then needs a data folder.
+ */
+public class PerfMonitor {
+    private final StormcraftPlugin plugin;
+    private final Map<String, TaskTimer> timers = new LinkedHashMap<>();
+    private final com.sun.management.ThreadMXBean allocationBean;
+    private final Gson gson = new GsonBuilder().setPrettyPrinting().create();
+
+    private boolean enabled;
+    private long startedMillis = System.currentTimeMillis();
+
+    public PerfMonitor(StormcraftPlugin plugin, boolean enabled) {
+        this.plugin = plugin;
+        this.enabled = enabled;
+        this.allocationBean = findAllocationBean();
+    }
+
+    /**
+     * Gets or creates the timer for a subsystem.
+     */
+    public TaskTimer timer(String name) {
+        return timers.computeIfAbsent(name, key -> new TaskTimer(key, this));
+    }
+
+    public List<TaskTimer> getTimers() {
+        return new ArrayList<>(timers.values());
+    }
+
+    /**
+     * Clears every timer and restarts the measurement window.
+     */
+    public void reset() {
+        for (TaskTimer timer : timers.values()) {
+            timer.reset();
+        }
+        startedMillis = System.currentTimeMillis();
+    }
+
+    /**
+     * Writes all timers to perf-&lt;timestamp&gt;.json in the data folder.
+     * @return The written file
+     */
+    public File exportJson() throws IOException {
+        JsonObject root = new JsonObject();
+        root.addProperty("startedMillis", startedMillis);
+        root.addProperty("exportedMillis", System.currentTimeMillis());
+        root.addProperty("allocationTracking", allocationBean != null);
+
+        JsonArray entries = new JsonArray();
+        for (TaskTimer timer : timers.values()) {
+            JsonObject entry = new JsonObject();
+            entry.addProperty("name", timer.getName());
+            entry.addProperty("invocations", timer.getInvocations());
+            entry.addProperty("totalNanos", timer.getTotalNanos());
+            entry.addProperty("meanNanos", timer.getMeanNanos());
+            entry.addProperty("p50Nanos", timer.getPercentileNanos(0.50));
+            entry.addProperty("p95Nanos", timer.getPercentileNanos(0.95));
+            entry.addProperty("p99Nanos", timer.getPercentileNanos(0.99));
+            entry.addProperty("maxNanos", timer.getMaxNanos());
+            entry.addProperty("totalWorkItems", timer.getTotalWorkItems());
+            entry.addProperty("workItemsPerRun", timer.getWorkItemsPerRun());
+            entry.addProperty("allocatedBytesPerRun", timer.getAllocatedBytesPerRun());
+            entries.add(entry);
+        }
+        root.add("timers", entries);
+
+        File folder = plugin.getDataFolder();
+        if (!folder.exists()) {
+            folder.mkdirs();
+        }
+        String stamp = new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date());
+        File file = new File(folder, "perf-" + stamp + ".json");
+        try (FileWriter writer = new FileWriter(file)) {
+            gson.toJson(root, writer);
+        }
+        return file;
+    }
+
+    /**
+     * Gets bytes allocated so far by the current thread, or 0 if the JVM can't report it.
+     */
+    long currentThreadAllocatedBytes() {
+        if (allocationBean == null) {
+            return 0;
+        }
+        return allocationBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    private com.sun.management.ThreadMXBean findAllocationBean() {
+        try {
+            if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                    && bean.isThreadAllocatedMemorySupported()) {
+                if (!bean.isThreadAllocatedMemoryEnabled()) {
+                    bean.setThreadAllocatedMemoryEnabled(true);
+                }
+                return bean;
+            }
+        } catch (UnsupportedOperationException | SecurityException e) {
+            if (plugin != null) {
+                plugin.getLogger().info("Per-task allocation tracking unavailable: " + e.getMessage());
+            }
+        }
+        return null;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public boolean isAllocationTrackingAvailable() {
+        return allocationBean != null;
+    }
+
+    public long getStartedMillis() {
+        return startedMillis;
+    }
+}
@@ -0,0 +1,104 @@
+package dev.ked.stormcraft.perf;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Operational counters for the metrics endpoint.
+ * Hot paths only increment striped adders, so recording never blocks and costs a few nanoseconds;
+ * the exporter reads the totals from its own thread.
+ */
+public class StormMetrics {
+    private final DoubleAdder playerDamage = new DoubleAdder();
+    private final DoubleAdder mobDamage = new DoubleAdder();
+    private final LongAdder blocksDegraded = new LongAdder();
+    private final LongAdder dropsSpawned = new LongAdder();
+    private final LongAdder oresGenerated = new LongAdder();
+    private final Map<String, CacheCounters> caches = new ConcurrentHashMap<>();
+
+    private volatile int exposedPlayers;
+
+    public void recordPlayerDamage(double amount) {
+        playerDamage.add(amount);
+    }
+
+    public void recordMobDamage(double amount) {
+        mobDamage.add(amount);
+    }
+
+    public void recordBlockDegraded() {
+        blocksDegraded.increment();
+    }
+
+    public void recordDropSpawned() {
+        dropsSpawned.increment();
+    }
+
+    public void recordOreGenerated() {
+        oresGenerated.increment();
+    }
+
+    /**
+     * Records a lookup against a named cache (e.g. "placeholders").
+     */
+    public void recordCacheLookup(String cache, boolean hit) {
+        CacheCounters counters = caches.computeIfAbsent(cache, key -> new CacheCounters());
+        (hit ? counters.hits : counters.misses).increment();
+    }
+
+    /**
+     * Sets the number of players found exposed by the latest damage check.
+     */
+    public void setExposedPlayers(int exposedPlayers) {
+        this.exposedPlayers = exposedPlayers;
+    }
+
+    // Getters (any thread)
+
+    public double getPlayerDamage() {
+        return playerDamage.sum();
+    }
+
+    public double getMobDamage() {
+        return mobDamage.sum();
+    }
+
+    public long getBlocksDegraded() {
+        return blocksDegraded.sum();
+    }
+
+    public long getDropsSpawned() {
+        return dropsSpawned.sum();
+    }
+
+    public long getOresGenerated() {
+        return oresGenerated.sum();
+    }
+
+    public int getExposedPlayers() {
+        return exposedPlayers;
+    }
+
+    public Map<String, CacheCounters> getCaches() {
+        return Collections.unmodifiableMap(caches);
+    }
+
+    /**
+     * Hit and miss totals for a single cache.
+     */
+    public static final class CacheCounters {
+        private final LongAdder hits = new LongAdder();
+        private final LongAdder misses = new LongAdder();
+
+        public long getHits() {
+            return hits.sum();
+        }
+
+        public long getMisses() {
+            return misses.sum();
+        }
+    }
+}
@@ -0,0 +1,183 @@
+package dev.ked.stormcraft.perf;
+
+/**
+ * Timing histogram for a single Stormcraft subsystem.
+ * Wrap each run in {@link #begin()} / {@link #end()} and report processed items with {@link #addWork(int)}.
+ *
+ * Durations are bucketed logarithmically (4 buckets per power of two), so percentiles
+ * are accurate to within ~20% while recording stays allocation free.
+ * Not thread-safe: a timer must only be driven from the thread its task runs on (the main thread).
+ */
+public class TaskTimer {
+    private static final int SUB_BUCKETS = 4;
+    private static final int BUCKET_COUNT = 64 * SUB_BUCKETS;
+
+    private final String name;
+    private final PerfMonitor monitor;
+    private final long[] buckets = new long[BUCKET_COUNT];
+
+    private long invocations;
+    private long totalNanos;
+    private long maxNanos;
+    private long totalWorkItems;
+    private long totalAllocatedBytes;
+
+    // Current run
+    private long startNanos;
+    private long startAllocatedBytes;
+    private int currentWork;
+    private boolean running;
+
+    TaskTimer(String name, PerfMonitor monitor) {
+        this.name = name;
+        this.monitor = monitor;
+    }
+
+    /**
+     * Marks the start of a run.
+     */
+    public void begin() {
+        if (!monitor.isEnabled()) {
+            return;
+        }
+        running = true;
+        currentWork = 0;
+        startAllocatedBytes = monitor.currentThreadAllocatedBytes();
+        startNanos = System.nanoTime();
+    }
+
+    /**
+     * Adds processed work items (players checked, blocks probed, ...) to the current run.
+     */
+    public void addWork(int items) {
+        currentWork += items;
+    }
+
+    /**
+     * Marks the end of a run and records it.
+     */
+    public void end() {
+        if (!running) {
+            return;
+        }
+        long elapsed = System.nanoTime() - startNanos;
+        long allocated = monitor.currentThreadAllocatedBytes() - startAllocatedBytes;
+        running = false;
+
+        invocations++;
+        totalNanos += elapsed;
+        totalWorkItems += currentWork;
+        if (allocated > 0) {
+            totalAllocatedBytes += allocated;
+        }
+        if (elapsed > maxNanos) {
+            maxNanos = elapsed;
+        }
+        buckets[bucketFor(elapsed)]++;
+    }
+
+    /**
+     * Clears all recorded runs.
+     */
+    public void reset() {
+        java.util.Arrays.fill(buckets, 0);
+        invocations = 0;
+        totalNanos = 0;
+        maxNanos = 0;
+        totalWorkItems = 0;
+        totalAllocatedBytes = 0;
+        running = false;
+    }
+
+    /**
+     * Gets the approximate duration at the given percentile.
+     * @param percentile Percentile between 0.0 and 1.0
+     * @return Upper bound of the matching bucket in nanoseconds (capped at max)
+     */
+    public long getPercentileNanos(double percentile) {
+        if (invocations == 0) {
+            return 0;
+        }
+
+        long target = (long) Math.ceil(invocations * percentile);
+        long cumulative = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            cumulative += buckets[i];
+            if (cumulative >= Math.max(1, target)) {
+                return Math.min(bucketUpperBound(i), maxNanos);
+            }
+        }
+        return maxNanos;
+    }
+
+    /**
+     * Gets the number of recorded runs that took at most the given duration.
+     * Counts whole buckets, so runs are attributed to the bound their bucket ends below.
+     */
+    public long countAtOrBelow(long nanos) {
+        long count = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            if (bucketUpperBound(i) > nanos) {
+                break;
+            }
+            count += buckets[i];
+        }
+        return count;
+    }
+
+    private static int bucketFor(long nanos) {
+        if (nanos < SUB_BUCKETS) {
+            return (int) Math.max(0, nanos);
+        }
+        int octave = 63 - Long.numberOfLeadingZeros(nanos);
+        int sub = (int) ((nanos >>> (octave - 2)) & (SUB_BUCKETS - 1));
+        return Math.min(BUCKET_COUNT - 1, octave * SUB_BUCKETS + sub);
+    }
+
+    private static long bucketUpperBound(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int octave = bucket / SUB_BUCKETS;
+        int sub = bucket % SUB_BUCKETS;
+        long base = 1L << octave;
+        return base + ((base >>> 2) * (sub + 1)) - 1;
+    }
+
+    // Getters
+    public String getName() {
+        return name;
+    }
+
+    public long getInvocations() {
+        return invocations;
+    }
+
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    public double getMeanNanos() {
+        return invocations == 0 ? 0 : (double) totalNanos / invocations;
+    }
+
+    public long getTotalWorkItems() {
+        return totalWorkItems;
+    }
+
+    public double getWorkItemsPerRun() {
+        return invocations == 0 ? 0 : (double) totalWorkItems / invocations;
+    }
+
+    public long getTotalAllocatedBytes() {
+        return totalAllocatedBytes;
+    }
+
+    public double getAllocatedBytesPerRun() {
+        return invocations == 0 ? 0 : (double) totalAllocatedBytes / invocations;
+    }
+}
@@ -0,0 +1,141 @@
+package dev.ked.stormcraft.perf;
+
+import dev.ked.stormcraft.StormcraftPlugin;
+import dev.ked.stormcraft.config.ConfigManager;
+import dev.ked.stormcraft.schedule.TaskHandle;
+import org.bukkit.Bukkit;
+
+/**
+ * Backs off Stormcraft's cosmetic and world-altering side effects while the server is lagging.
+ * Once a second it reads Paper's average tick time (MSPT) and Stormcraft's own task cost:
+ * above the high-water mark the throttle level rises by one, and after the server has stayed
+ * below the low-water mark for a while it falls by one.
+ *
+ * Each level doubles the interval of the throttled subsystems and halves their per-run budgets.
+ * Player damage is never throttled.
+ */
+public class ThrottleGovernor {
+    /**
+     * Subsystems that may be slowed down.
+     */
+    public enum Subsystem {
+        BLOCK_DAMAGE,
+        DROPS,
+        ORE_GENERATION,
+        TRACKER
+    }
+
+    private static final int EVALUATE_INTERVAL_TICKS = 20;
+
+    private final StormcraftPlugin plugin;
+    private final ConfigManager config;
+    private final int[] runCounters = new int[Subsystem.values().length];
+
+    private TaskHandle evaluateTask;
+    private int level = 0;
+    private int calmEvaluations = 0;
+    private double lastMspt = 0;
+    private double lastPluginMsPerTick = 0;
+    private long lastPluginNanos = -1;
+
+    public ThrottleGovernor(StormcraftPlugin plugin, ConfigManager config) {
+        this.plugin = plugin;
+        this.config = config;
+    }
+
+    public void start() {
+        evaluateTask = plugin.getTaskScheduler().runTimer(this::evaluate,
+                EVALUATE_INTERVAL_TICKS, EVALUATE_INTERVAL_TICKS);
+    }
+
+    public void stop() {
+        if (evaluateTask != null) {
+            evaluateTask.cancel();
+            evaluateTask = null;
+        }
+        level = 0;
+    }
+
+    /**
+     * Re-reads server load and adjusts the throttle level. Main thread only.
+     */
+    private void evaluate() {
+        lastMspt = Bukkit.getAverageTickTime();
+
+        long pluginNanos = 0;
+        for (TaskTimer timer : plugin.getPerfMonitor().getTimers()) {
+            pluginNanos += timer.getTotalNanos();
+        }
+        // Timers can be reset from /storm perf, which would make the delta negative
+        if (lastPluginNanos >= 0 && pluginNanos >= lastPluginNanos) {
+            lastPluginMsPerTick = (pluginNanos - lastPluginNanos) / 1_000_000.0 / EVALUATE_INTERVAL_TICKS;
+        }
+        lastPluginNanos = pluginNanos;
+
+        if (!config.isGovernorEnabled()) {
+            level = 0;
+            return;
+        }
+
+        boolean struggling = lastMspt > config.getGovernorHighMspt()
+                || (lastMspt > config.getGovernorLowMspt() && lastPluginMsPerTick > config.getGovernorPluginBudgetMs());
+
+        if (struggling) {
+            calmEvaluations = 0;
+            if (level < config.getGovernorMaxLevel()) {
+                level++;
+                plugin.getLogger().info(String.format("Server at %.1f MSPT, throttling storm side effects (level %d)", lastMspt, level));
+            }
+        } else if (level > 0 && lastMspt < config.getGovernorLowMspt()) {
+            calmEvaluations++;
+            if (calmEvaluations >= config.getGovernorRecoverSeconds()) {
+                calmEvaluations = 0;
+                level--;
+                plugin.getLogger().info(String.format("Server at %.1f MSPT, easing storm throttle (level %d)", lastMspt, level));
+            }
+        } else {
+            calmEvaluations = 0;
+        }
+    }
+
+    /**
+     * Checks if a throttled subsystem should do its work on this scheduled run.
+     * At level N only every 2^N-th run goes ahead.
+     */
+    public boolean shouldRun(Subsystem subsystem) {
+        int multiplier = getIntervalMultiplier();
+        if (multiplier == 1) {
+            runCounters[subsystem.ordinal()] = 0;
+            return true;
+        }
+        int count = ++runCounters[subsystem.ordinal()];
+        if (count >= multiplier) {
+            runCounters[subsystem.ordinal()] = 0;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Scales a per-run budget (checks, chunks, ...) down for the current level, keeping at least 1.
+     */
+    public int scaleBudget(int budget) {
+        return Math.max(1, budget / getIntervalMultiplier());
+    }
+
+    public int getIntervalMultiplier() {
+        return 1 << level;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public double getLastMspt() {
+        return lastMspt;
+    }
+
+    public double getLastPluginMsPerTick() {
+        return lastPluginMsPerTick;
+    }
+}
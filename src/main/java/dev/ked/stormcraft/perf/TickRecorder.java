@@ -0,0 +1,216 @@
+package dev.ked.stormcraft.perf;
+
+import dev.ked.stormcraft.StormcraftPlugin;
+import dev.ked.stormcraft.api.StormWorldSnapshot;
+import dev.ked.stormcraft.config.ConfigManager;
+import dev.ked.stormcraft.schedule.TaskHandle;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Opt-in recorder of the inputs Stormcraft's tasks see each tick: player positions, game modes,
+ * surface heights and storm states, plus a per-frame RNG seed. The damage and block damage tasks are
+ * reseeded with it as the frame is captured, so their random draws until the next frame can be replayed.
+ * Frames are encoded on the main thread and handed to a background thread that writes them to a
+ * gzip-compressed trace in the data folder. Read traces back with {@link TickTrace}.
+ */
+public class TickRecorder {
+    private static final byte[] END_OF_STREAM = new byte[0];
+
+    private final StormcraftPlugin plugin;
+    private final ConfigManager config;
+    private final Random seedSource = new Random();
+    private final ByteArrayOutputStream frameBuffer = new ByteArrayOutputStream(16 * 1024);
+
+    private BlockingQueue<byte[]> queue;
+    private Thread writerThread;
+    private TaskHandle captureTask;
+    private File file;
+    private long tick;
+    private int intervalTicks;
+    private volatile long framesWritten;
+    private long droppedFrames;
+
+    public TickRecorder(StormcraftPlugin plugin, ConfigManager config) {
+        this.plugin = plugin;
+        this.config = config;
+    }
+
+    /**
+     * Opens a new trace file and starts capturing frames.
+     * @return The trace file being written
+     */
+    public File start() throws IOException {
+        if (isRecording()) {
+            return file;
+        }
+
+        File folder = plugin.getDataFolder();
+        if (!folder.exists()) {
+            folder.mkdirs();
+        }
+        String stamp = new SimpleDateFormat("yyyyMMdd-HHmmss").format(new Date());
+        file = new File(folder, "trace-" + stamp + TickTrace.FILE_EXTENSION);
+
+        intervalTicks = config.getTraceIntervalTicks();
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                new GZIPOutputStream(new FileOutputStream(file), 64 * 1024)));
+        out.writeInt(TickTrace.MAGIC);
+        out.writeShort(TickTrace.VERSION);
+        out.writeLong(System.currentTimeMillis());
+        out.writeInt(intervalTicks);
+
+        queue = new ArrayBlockingQueue<>(config.getTraceQueueFrames());
+        tick = 0;
+        framesWritten = 0;
+        droppedFrames = 0;
+
+        writerThread = new Thread(() -> writeFrames(out), "Stormcraft-TraceWriter");
+        writerThread.setDaemon(true);
+        writerThread.start();
+
+        captureTask = plugin.getTaskScheduler().runTimer(this::capture, intervalTicks, intervalTicks);
+        plugin.getLogger().info("Recording storm ticks to " + file.getName());
+        return file;
+    }
+
+    /**
+     * Stops capturing and waits for the writer to flush the trace.
+     */
+    public void stop() {
+        if (!isRecording()) {
+            return;
+        }
+
+        captureTask.cancel();
+        captureTask = null;
+
+        try {
+            queue.put(END_OF_STREAM);
+            writerThread.join(5000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writerThread = null;
+
+        plugin.getLogger().info("Stopped trace " + file.getName() + " (" + framesWritten + " frames, "
+                + droppedFrames + " dropped)");
+    }
+
+    /**
+     * Encodes the current tick's inputs and queues them for the writer. Main thread only.
+     */
+    private void capture() {
+        tick += intervalTicks;
+
+        try {
+            frameBuffer.reset();
+            DataOutputStream out = new DataOutputStream(frameBuffer);
+            long seed = seedSource.nextLong();
+            plugin.getStormManager().reseedTasks(seed);
+            out.writeLong(tick);
+            out.writeLong(seed);
+
+            // World table, referenced by index from players and storms
+            List<World> worlds = Bukkit.getWorlds();
+            Map<UUID, Integer> worldIndex = new HashMap<>();
+            out.writeShort(worlds.size());
+            for (int i = 0; i < worlds.size(); i++) {
+                World world = worlds.get(i);
+                worldIndex.put(world.getUID(), i);
+                out.writeUTF(world.getName());
+                out.writeBoolean(plugin.getStormWorlds().isEnabled(world));
+            }
+
+            // Folia doesn't allow reading other regions' heightmaps here, so players are recorded at the surface
+            boolean readHeightmap = !plugin.getTaskScheduler().isRegionThreaded();
+            out.writeInt(Bukkit.getOnlinePlayers().size());
+            for (Player player : Bukkit.getOnlinePlayers()) {
+                Location loc = player.getLocation();
+                UUID playerId = player.getUniqueId();
+                out.writeLong(playerId.getMostSignificantBits());
+                out.writeLong(playerId.getLeastSignificantBits());
+                out.writeShort(worldIndex.getOrDefault(loc.getWorld().getUID(), -1));
+                out.writeDouble(loc.getX());
+                out.writeDouble(loc.getY());
+                out.writeDouble(loc.getZ());
+                out.writeByte(player.getGameMode().ordinal());
+                out.writeInt(readHeightmap ? loc.getWorld().getHighestBlockYAt(loc) : loc.getBlockY());
+            }
+
+            StormWorldSnapshot snapshot = plugin.getSnapshotService().getSnapshot();
+            out.writeInt(snapshot.size());
+            for (int i = 0; i < snapshot.size(); i++) {
+                out.writeShort(worldIndex.getOrDefault(snapshot.getWorldId(i), -1));
+                out.writeDouble(snapshot.getCenterX(i));
+                out.writeDouble(snapshot.getCenterZ(i));
+                out.writeDouble(snapshot.getRadius(i));
+                out.writeDouble(snapshot.getDamagePerSecond(i));
+                out.writeByte(snapshot.getPhase(i).ordinal());
+                out.writeByte(snapshot.getType(i).ordinal());
+                out.writeInt(snapshot.getRemainingSeconds(i));
+            }
+        } catch (IOException e) {
+            // ByteArrayOutputStream doesn't throw
+            throw new IllegalStateException(e);
+        }
+
+        // Never block the main thread on disk; drop the frame if the writer is behind
+        if (!queue.offer(frameBuffer.toByteArray())) {
+            droppedFrames++;
+        }
+    }
+
+    private void writeFrames(DataOutputStream out) {
+        try (out) {
+            while (true) {
+                byte[] frame = queue.take();
+                if (frame == END_OF_STREAM) {
+                    break;
+                }
+                out.writeInt(frame.length);
+                out.write(frame);
+                framesWritten++;
+            }
+        } catch (IOException e) {
+            plugin.getLogger().warning("Failed to write trace " + file.getName() + ": " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public boolean isRecording() {
+        return captureTask != null;
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    public long getFramesWritten() {
+        return framesWritten;
+    }
+
+    public long getDroppedFrames() {
+        return droppedFrames;
+    }
+}
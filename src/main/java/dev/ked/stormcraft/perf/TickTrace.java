@@ -0,0 +1,278 @@
+package dev.ked.stormcraft.perf;
+
+import dev.ked.stormcraft.model.StormPhase;
+import dev.ked.stormcraft.model.StormType;
+import org.bukkit.GameMode;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Reader for traces written by {@link TickRecorder}. Needs no server, so recorded
+ * production ticks can be replayed offline.
+ */
+public class TickTrace implements Closeable {
+    static final int MAGIC = 0x53435452; // "SCTR"
+    static final int VERSION = 1;
+    static final String FILE_EXTENSION = ".sctrace.gz";
+
+    private static final GameMode[] GAME_MODES = GameMode.values();
+    private static final StormPhase[] PHASES = StormPhase.values();
+    private static final StormType[] TYPES = StormType.values();
+
+    private final DataInputStream in;
+    private final long startedMillis;
+    private final int intervalTicks;
+
+    private TickTrace(DataInputStream in, long startedMillis, int intervalTicks) {
+        this.in = in;
+        this.startedMillis = startedMillis;
+        this.intervalTicks = intervalTicks;
+    }
+
+    /**
+     * Opens a trace and validates its header.
+     */
+    public static TickTrace open(File file) throws IOException {
+        DataInputStream in = new DataInputStream(new BufferedInputStream(
+                new GZIPInputStream(new FileInputStream(file), 64 * 1024)));
+        try {
+            if (in.readInt() != MAGIC) {
+                throw new IOException(file.getName() + " is not a Stormcraft trace");
+            }
+            int version = in.readShort();
+            if (version != VERSION) {
+                throw new IOException("Unsupported trace version " + version);
+            }
+            return new TickTrace(in, in.readLong(), in.readInt());
+        } catch (IOException e) {
+            in.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Reads the next frame.
+     * @return The frame, or null at the end of the trace (including a truncated final frame)
+     */
+    public Frame next() throws IOException {
+        try {
+            in.readInt(); // Frame length, only needed by readers that skip frames
+            long tick = in.readLong();
+            long seed = in.readLong();
+
+            int worldCount = in.readShort();
+            String[] worldNames = new String[worldCount];
+            boolean[] worldEnabled = new boolean[worldCount];
+            for (int i = 0; i < worldCount; i++) {
+                worldNames[i] = in.readUTF();
+                worldEnabled[i] = in.readBoolean();
+            }
+
+            int playerCount = in.readInt();
+            Frame frame = new Frame(tick, seed, worldNames, worldEnabled, playerCount);
+            for (int i = 0; i < playerCount; i++) {
+                frame.playerIds[i] = new UUID(in.readLong(), in.readLong());
+                frame.playerWorld[i] = in.readShort();
+                frame.playerX[i] = in.readDouble();
+                frame.playerY[i] = in.readDouble();
+                frame.playerZ[i] = in.readDouble();
+                frame.gameMode[i] = in.readByte();
+                frame.highestBlockY[i] = in.readInt();
+            }
+
+            int stormCount = in.readInt();
+            frame.allocateStorms(stormCount);
+            for (int i = 0; i < stormCount; i++) {
+                frame.stormWorld[i] = in.readShort();
+                frame.stormX[i] = in.readDouble();
+                frame.stormZ[i] = in.readDouble();
+                frame.stormRadius[i] = in.readDouble();
+                frame.stormDamagePerSecond[i] = in.readDouble();
+                frame.stormPhase[i] = in.readByte();
+                frame.stormType[i] = in.readByte();
+                frame.stormRemainingSeconds[i] = in.readInt();
+            }
+            return frame;
+        } catch (EOFException e) {
+            // Server stopped mid-write; everything before this frame is intact
+            return null;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+
+    public long getStartedMillis() {
+        return startedMillis;
+    }
+
+    public int getIntervalTicks() {
+        return intervalTicks;
+    }
+
+    /**
+     * Inputs of a single recorded tick, held in parallel arrays like {@link dev.ked.stormcraft.api.StormWorldSnapshot}.
+     * World indices refer to {@link #getWorldName(int)}; -1 means a world that wasn't loaded.
+     */
+    public static final class Frame {
+        private final long tick;
+        private final long seed;
+        private final String[] worldNames;
+        private final boolean[] worldEnabled;
+
+        private final int playerCount;
+        private final UUID[] playerIds;
+        private final short[] playerWorld;
+        private final double[] playerX;
+        private final double[] playerY;
+        private final double[] playerZ;
+        private final byte[] gameMode;
+        private final int[] highestBlockY;
+
+        // Storms are allocated once their count has been read
+        private int stormCount;
+        private short[] stormWorld;
+        private double[] stormX;
+        private double[] stormZ;
+        private double[] stormRadius;
+        private double[] stormDamagePerSecond;
+        private byte[] stormPhase;
+        private byte[] stormType;
+        private int[] stormRemainingSeconds;
+
+        private Frame(long tick, long seed, String[] worldNames, boolean[] worldEnabled, int playerCount) {
+            this.tick = tick;
+            this.seed = seed;
+            this.worldNames = worldNames;
+            this.worldEnabled = worldEnabled;
+            this.playerCount = playerCount;
+            this.playerIds = new UUID[playerCount];
+            this.playerWorld = new short[playerCount];
+            this.playerX = new double[playerCount];
+            this.playerY = new double[playerCount];
+            this.playerZ = new double[playerCount];
+            this.gameMode = new byte[playerCount];
+            this.highestBlockY = new int[playerCount];
+        }
+
+        private void allocateStorms(int count) {
+            stormCount = count;
+            stormWorld = new short[count];
+            stormX = new double[count];
+            stormZ = new double[count];
+            stormRadius = new double[count];
+            stormDamagePerSecond = new double[count];
+            stormPhase = new byte[count];
+            stormType = new byte[count];
+            stormRemainingSeconds = new int[count];
+        }
+
+        /**
+         * Server tick (counted from the start of recording) this frame was captured at.
+         */
+        public long getTick() {
+            return tick;
+        }
+
+        /**
+         * Seed the damage and block damage tasks were reseeded with when the frame was captured.
+         */
+        public long getSeed() {
+            return seed;
+        }
+
+        public int getWorldCount() {
+            return worldNames.length;
+        }
+
+        public String getWorldName(int world) {
+            return worldNames[world];
+        }
+
+        public boolean isWorldEnabled(int world) {
+            return world >= 0 && worldEnabled[world];
+        }
+
+        // Players
+
+        public int getPlayerCount() {
+            return playerCount;
+        }
+
+        public UUID getPlayerId(int index) {
+            return playerIds[index];
+        }
+
+        public int getPlayerWorld(int index) {
+            return playerWorld[index];
+        }
+
+        public double getPlayerX(int index) {
+            return playerX[index];
+        }
+
+        public double getPlayerY(int index) {
+            return playerY[index];
+        }
+
+        public double getPlayerZ(int index) {
+            return playerZ[index];
+        }
+
+        public GameMode getGameMode(int index) {
+            return GAME_MODES[gameMode[index]];
+        }
+
+        public int getHighestBlockY(int index) {
+            return highestBlockY[index];
+        }
+
+        // Storms
+
+        public int getStormCount() {
+            return stormCount;
+        }
+
+        public int getStormWorld(int index) {
+            return stormWorld[index];
+        }
+
+        public double getStormX(int index) {
+            return stormX[index];
+        }
+
+        public double getStormZ(int index) {
+            return stormZ[index];
+        }
+
+        public double getStormRadius(int index) {
+            return stormRadius[index];
+        }
+
+        public double getStormDamagePerSecond(int index) {
+            return stormDamagePerSecond[index];
+        }
+
+        public StormPhase getStormPhase(int index) {
+            return PHASES[stormPhase[index]];
+        }
+
+        public StormType getStormType(int index) {
+            return TYPES[stormType[index]];
+        }
+
+        public int getStormRemainingSeconds(int index) {
+            return stormRemainingSeconds[index];
+        }
+    }
+}
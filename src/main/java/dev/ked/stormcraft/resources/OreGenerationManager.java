@@ -2,12 +2,19 @@ package dev.ked.stormcraft.resources;
 
 import dev.ked.stormcraft.StormcraftPlugin;
 import dev.ked.stormcraft.config.ConfigManager;
+import dev.ked.stormcraft.debug.DebugCategory;
+import dev.ked.stormcraft.debug.DebugLogger;
+import dev.ked.stormcraft.perf.TaskTimer;
+import dev.ked.stormcraft.perf.ThrottleGovernor;
+import dev.ked.stormcraft.schedule.StormTask;
+import dev.ked.stormcraft.schedule.StormWorlds;
+import dev.ked.stormcraft.zones.ZoneImageMap;
 import dev.ked.stormcraft.zones.ZoneManager;
 import org.bukkit.Chunk;
+import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.World;
 import org.bukkit.block.Block;
-import org.bukkit.scheduler.BukkitRunnable;
 
 import java.util.*;
 
@@ -15,11 +22,13 @@ import java.util.*;
  * Manages passive ore regeneration in the Stormlands.
  * Slowly spawns valuable ores in stone blocks within the Stormlands zone.
  */
-public class OreGenerationManager extends BukkitRunnable {
+public class OreGenerationManager extends StormTask {
     private final StormcraftPlugin plugin;
     private final ConfigManager config;
     private final ZoneManager zoneManager;
     private final Random random = new Random();
+    private final TaskTimer perfTimer;
+    private final DebugLogger debugLog;
 
     // Ore generation weights for Stormlands
     private static final Map<Material, Integer> STORMLANDS_ORES = new HashMap<>();
@@ -79,32 +88,89 @@ public class OreGenerationManager extends BukkitRunnable {
         this.plugin = plugin;
         this.config = config;
         this.zoneManager = zoneManager;
+        this.perfTimer = plugin.getPerfMonitor().timer("OreGenerationManager");
+        this.debugLog = plugin.getDebugLogger();
     }
 
     @Override
     public void run() {
+        // Skipped runs while the server is lagging
+        if (!plugin.getThrottleGovernor().shouldRun(ThrottleGovernor.Subsystem.ORE_GENERATION)) {
+            return;
+        }
+
+        perfTimer.begin();
+        try {
+            runOreGeneration();
+        } finally {
+            perfTimer.end();
+        }
+    }
+
+    private void runOreGeneration() {
         if (!config.isOreGenerationEnabled() || !zoneManager.isEnabled()) {
             return;
         }
 
         // Get enabled worlds
-        for (String worldName : config.getEnabledWorlds()) {
-            World world = plugin.getServer().getWorld(worldName);
-            if (world == null) {
+        for (StormWorlds.Partition partition : plugin.getStormWorlds().all()) {
+            World world = partition.getWorld();
+            if (!zoneManager.isEnabled(world)) {
                 continue;
             }
 
             // Sample random chunks in Stormlands and Storm Zone
-            int chunksToCheck = config.getOreGenerationChunksPerTick();
+            int chunksToCheck = plugin.getThrottleGovernor().scaleBudget(config.getOreGenerationChunksPerTick());
+            if (plugin.getTaskScheduler().isRegionThreaded()) {
+                scheduleRegionizedOreGeneration(world, chunksToCheck);
+                continue;
+            }
             for (int i = 0; i < chunksToCheck; i++) {
                 Chunk chunk = getRandomChunkInZone(world);
                 if (chunk != null) {
+                    perfTimer.addWork(config.getOreGenerationAttemptsPerChunk());
                     attemptOreGeneration(chunk);
                 }
             }
         }
     }
 
+    /**
+     * Folia variant: the loaded chunk list can't be read from the global region, so random chunk
+     * positions in the Storm Zone (or the zone map's storm cells) are picked instead, and each is handled by
+     * its owning region if it's loaded.
+     */
+    private void scheduleRegionizedOreGeneration(World world, int chunksToCheck) {
+        double maxRadius = zoneManager.getStormZoneRadius(world);
+        ZoneImageMap map = zoneManager.getZoneMap(world);
+
+        for (int i = 0; i < chunksToCheck; i++) {
+            int chunkX;
+            int chunkZ;
+            if (map != null) {
+                Location point = map.sampleStormArea(world, random);
+                if (point == null) {
+                    return;
+                }
+                chunkX = point.getBlockX() >> 4;
+                chunkZ = point.getBlockZ() >> 4;
+            } else {
+                double angle = random.nextDouble() * 2 * Math.PI;
+                double distance = Math.sqrt(random.nextDouble()) * maxRadius;
+                chunkX = (int) Math.floor(zoneManager.getCenterX(world) + Math.cos(angle) * distance) >> 4;
+                chunkZ = (int) Math.floor(zoneManager.getCenterZ(world) + Math.sin(angle) * distance) >> 4;
+            }
+
+            perfTimer.addWork(config.getOreGenerationAttemptsPerChunk());
+            Location chunkCenter = new Location(world, (chunkX << 4) + 8, 0, (chunkZ << 4) + 8);
+            plugin.getTaskScheduler().runAtLocation(chunkCenter, () -> {
+                if (world.isChunkLoaded(chunkX, chunkZ)) {
+                    attemptOreGeneration(world.getChunkAt(chunkX, chunkZ));
+                }
+            });
+        }
+    }
+
     /**
      * Gets a random chunk within the Stormlands or Storm Zone.
      * Only returns chunks that are already loaded to avoid blocking the main thread.
@@ -116,9 +182,10 @@ public class OreGenerationManager extends BukkitRunnable {
             return null;
         }
 
-        double centerX = zoneManager.getCenterX();
-        double centerZ = zoneManager.getCenterZ();
-        double maxRadius = zoneManager.getStormZoneRadius();
+        double centerX = zoneManager.getCenterX(world);
+        double centerZ = zoneManager.getCenterZ(world);
+        double maxRadius = zoneManager.getStormZoneRadius(world);
+        ZoneImageMap map = zoneManager.getZoneMap(world);
 
         // Try to find a loaded chunk within the zone (max 10 attempts)
         for (int attempt = 0; attempt < 10; attempt++) {
@@ -127,6 +194,12 @@ public class OreGenerationManager extends BukkitRunnable {
             // Check if chunk is within the Storm Zone radius
             double chunkCenterX = (chunk.getX() << 4) + 8;
             double chunkCenterZ = (chunk.getZ() << 4) + 8;
+            if (map != null) {
+                if (map.getZone((int) chunkCenterX, (int) chunkCenterZ) != ZoneManager.ZoneType.SAFE_ZONE) {
+                    return chunk;
+                }
+                continue;
+            }
             double distance = Math.sqrt(
                 Math.pow(chunkCenterX - centerX, 2) +
                 Math.pow(chunkCenterZ - centerZ, 2)
@@ -180,10 +253,11 @@ public class OreGenerationManager extends BukkitRunnable {
                 Material ore = selectRandomOre(zone, y);
                 if (ore != null) {
                     block.setType(ore);
+                    plugin.getMetrics().recordOreGenerated();
 
-                    if (config.isLogScheduling()) {
-                        plugin.getLogger().info("Generated " + ore.name() + " at " +
-                                              x + ", " + y + ", " + z + " in " + zone.getDisplayName());
+                    if (debugLog.shouldLog(DebugCategory.ORES)) {
+                        debugLog.log(DebugCategory.ORES, "Generated %s at %d, %d, %d in %s",
+                                ore, x, y, z, zone.getDisplayName());
                     }
                 }
             }
@@ -2,14 +2,18 @@ package dev.ked.stormcraft.resources;
 
 import dev.ked.stormcraft.StormcraftPlugin;
 import dev.ked.stormcraft.config.ConfigManager;
+import dev.ked.stormcraft.debug.DebugCategory;
+import dev.ked.stormcraft.debug.DebugLogger;
 import dev.ked.stormcraft.model.TravelingStorm;
+import dev.ked.stormcraft.perf.TaskTimer;
+import dev.ked.stormcraft.perf.ThrottleGovernor;
+import dev.ked.stormcraft.schedule.StormTask;
 import dev.ked.stormcraft.zones.ZoneManager;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.World;
 import org.bukkit.entity.Item;
 import org.bukkit.inventory.ItemStack;
-import org.bukkit.scheduler.BukkitRunnable;
 
 import java.util.*;
 
@@ -17,11 +21,13 @@ import java.util.*;
  * Manages "storm drops" - valuable items that spawn during storms in the Stormlands.
  * Provides resource rewards for braving the dangerous zones.
  */
-public class StormDropsManager extends BukkitRunnable {
+public class StormDropsManager extends StormTask {
     private final StormcraftPlugin plugin;
     private final ConfigManager config;
     private final ZoneManager zoneManager;
     private final Random random = new Random();
+    private final TaskTimer perfTimer;
+    private final DebugLogger debugLog;
 
     private TravelingStorm activeStorm;
     private List<TravelingStorm> activeStorms = new ArrayList<>();
@@ -62,6 +68,8 @@ public class StormDropsManager extends BukkitRunnable {
         this.plugin = plugin;
         this.config = config;
         this.zoneManager = zoneManager;
+        this.perfTimer = plugin.getPerfMonitor().timer("StormDropsManager");
+        this.debugLog = plugin.getDebugLogger();
     }
 
     public void setActiveStorm(TravelingStorm storm) {
@@ -74,6 +82,20 @@ public class StormDropsManager extends BukkitRunnable {
 
     @Override
     public void run() {
+        // Skipped runs while the server is lagging
+        if (!plugin.getThrottleGovernor().shouldRun(ThrottleGovernor.Subsystem.DROPS)) {
+            return;
+        }
+
+        perfTimer.begin();
+        try {
+            runDrops();
+        } finally {
+            perfTimer.end();
+        }
+    }
+
+    private void runDrops() {
         // Multi-storm system
         if (!activeStorms.isEmpty()) {
             runMultiStormDrops();
@@ -85,6 +107,7 @@ public class StormDropsManager extends BukkitRunnable {
             return;
         }
 
+        perfTimer.addWork(1);
         Location stormCenter = activeStorm.getCurrentLocation();
         World world = stormCenter.getWorld();
 
@@ -111,19 +134,13 @@ public class StormDropsManager extends BukkitRunnable {
         }
 
         // Spawn a drop at a random location within the storm
-        Location dropLocation = getRandomLocationInStorm(stormCenter, config.getStormDamageRadius());
+        Location dropColumn = getRandomColumnInStorm(stormCenter, config.getStormDamageRadius());
 
         // Determine drop rarity based on zone and storm type
         ItemStack drop = selectRandomDrop(zone, activeStorm.getProfile().getType());
 
         if (drop != null) {
-            spawnDrop(dropLocation, drop);
-
-            if (config.isLogScheduling()) {
-                plugin.getLogger().info("Storm dropped " + drop.getType() + " x" + drop.getAmount() +
-                                      " at (" + (int)dropLocation.getX() + ", " +
-                                      (int)dropLocation.getY() + ", " + (int)dropLocation.getZ() + ")");
-            }
+            plugin.getTaskScheduler().runAtLocation(dropColumn, () -> spawnDropInColumn(dropColumn, drop));
         }
     }
 
@@ -137,6 +154,7 @@ public class StormDropsManager extends BukkitRunnable {
 
         // Check each storm for potential drops
         for (TravelingStorm storm : activeStorms) {
+            perfTimer.addWork(1);
             Location stormCenter = storm.getCurrentLocation();
             World world = stormCenter.getWorld();
 
@@ -163,29 +181,21 @@ public class StormDropsManager extends BukkitRunnable {
             }
 
             // Spawn a drop at a random location within the storm
-            Location dropLocation = getRandomLocationInStorm(stormCenter, config.getStormDamageRadius());
+            Location dropColumn = getRandomColumnInStorm(stormCenter, config.getStormDamageRadius());
 
             // Determine drop rarity based on zone and storm type
             ItemStack drop = selectRandomDrop(zone, storm.getProfile().getType());
 
             if (drop != null) {
-                spawnDrop(dropLocation, drop);
-
-                if (config.isLogScheduling()) {
-                    plugin.getLogger().info("Storm dropped " + drop.getType() + " x" + drop.getAmount() +
-                                          " at (" + (int)dropLocation.getX() + ", " +
-                                          (int)dropLocation.getY() + ", " + (int)dropLocation.getZ() + ")");
-                }
+                plugin.getTaskScheduler().runAtLocation(dropColumn, () -> spawnDropInColumn(dropColumn, drop));
             }
         }
     }
 
     /**
-     * Gets a random location within the storm radius.
+     * Gets a random column within the storm radius. The Y is filled in by {@link #spawnDropInColumn}.
      */
-    private Location getRandomLocationInStorm(Location center, double radius) {
-        World world = center.getWorld();
-
+    private Location getRandomColumnInStorm(Location center, double radius) {
         // Random angle and distance
         double angle = random.nextDouble() * 2 * Math.PI;
         double distance = random.nextDouble() * radius;
@@ -193,10 +203,23 @@ public class StormDropsManager extends BukkitRunnable {
         double x = center.getX() + (Math.cos(angle) * distance);
         double z = center.getZ() + (Math.sin(angle) * distance);
 
-        // Find highest solid block at this XZ
-        int y = world.getHighestBlockYAt((int)x, (int)z);
+        return new Location(center.getWorld(), x, center.getY(), z);
+    }
+
+    /**
+     * Spawns a drop on top of the highest solid block in a column. Runs on the region owning the column.
+     */
+    private void spawnDropInColumn(Location column, ItemStack drop) {
+        World world = column.getWorld();
+        int y = world.getHighestBlockYAt((int) column.getX(), (int) column.getZ());
+        Location dropLocation = new Location(world, column.getX(), y + 1, column.getZ());
 
-        return new Location(world, x, y + 1, z);
+        spawnDrop(dropLocation, drop);
+
+        if (debugLog.shouldLog(DebugCategory.DROPS)) {
+            debugLog.log(DebugCategory.DROPS, "Storm dropped %s x%d at (%d, %d, %d)", drop.getType(), drop.getAmount(),
+                    dropLocation.getBlockX(), dropLocation.getBlockY(), dropLocation.getBlockZ());
+        }
     }
 
     /**
@@ -282,5 +305,6 @@ public class StormDropsManager extends BukkitRunnable {
         Item droppedItem = world.dropItemNaturally(location, item);
         droppedItem.setPickupDelay(20); // 1 second delay
         droppedItem.setGlowing(true); // Make it glow so players can see it
+        plugin.getMetrics().recordDropSpawned();
     }
 }
\ No newline at end of file
@@ -2,28 +2,37 @@ package dev.ked.stormcraft.schedule;
 
 import dev.ked.stormcraft.StormcraftPlugin;
 import dev.ked.stormcraft.config.ConfigManager;
+import dev.ked.stormcraft.debug.DebugCategory;
+import dev.ked.stormcraft.debug.DebugLogger;
 import dev.ked.stormcraft.integration.WorldGuardIntegration;
 import dev.ked.stormcraft.model.TravelingStorm;
+import dev.ked.stormcraft.perf.TaskTimer;
+import dev.ked.stormcraft.perf.ThrottleGovernor;
+import dev.ked.stormcraft.zones.BossArenaManager;
 import dev.ked.stormcraft.zones.ZoneManager;
+import org.bukkit.Bukkit;
 import org.bukkit.Chunk;
 import org.bukkit.Location;
 import org.bukkit.Material;
 import org.bukkit.World;
 import org.bukkit.block.Block;
-import org.bukkit.scheduler.BukkitRunnable;
 
 import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
 
 /**
  * Handles block damage during storms in the Stormlands.
  * Buildings slowly degrade, creating a maintenance cost for living there.
  */
-public class BlockDamageTask extends BukkitRunnable {
+public class BlockDamageTask extends StormTask {
     private final StormcraftPlugin plugin;
     private final ConfigManager config;
     private final ZoneManager zoneManager;
     private final WorldGuardIntegration worldGuardIntegration;
+    private final BossArenaManager bossArenas;
     private final Random random = new Random();
+    private final TaskTimer perfTimer;
+    private final DebugLogger debugLog;
 
     private TravelingStorm activeStorm;
     private List<TravelingStorm> activeStorms = new ArrayList<>();
@@ -122,6 +131,9 @@ public class BlockDamageTask extends BukkitRunnable {
         this.config = config;
         this.zoneManager = zoneManager;
         this.worldGuardIntegration = worldGuardIntegration;
+        this.bossArenas = plugin.getBossArenaManager();
+        this.perfTimer = plugin.getPerfMonitor().timer("BlockDamageTask");
+        this.debugLog = plugin.getDebugLogger();
     }
 
     public void setActiveStorm(TravelingStorm storm) {
@@ -132,8 +144,36 @@ public class BlockDamageTask extends BukkitRunnable {
         this.activeStorms = storms;
     }
 
+    /**
+     * Restarts the random block sampling from a seed, so a recorded trace can reproduce it.
+     * The region-threaded path samples with ThreadLocalRandom and isn't affected.
+     */
+    public void reseed(long seed) {
+        random.setSeed(seed);
+    }
+
     @Override
     public void run() {
+        // Skipped runs while the server is lagging
+        if (!plugin.getThrottleGovernor().shouldRun(ThrottleGovernor.Subsystem.BLOCK_DAMAGE)) {
+            return;
+        }
+
+        perfTimer.begin();
+        try {
+            runBlockDamage();
+        } finally {
+            perfTimer.end();
+        }
+    }
+
+    private void runBlockDamage() {
+        // Folia: blocks are sampled on the region that owns each storm's center
+        if (plugin.getTaskScheduler().isRegionThreaded()) {
+            runRegionizedBlockDamage();
+            return;
+        }
+
         // Multi-storm system
         if (!activeStorms.isEmpty()) {
             runMultiStormBlockDamage();
@@ -145,12 +185,11 @@ public class BlockDamageTask extends BukkitRunnable {
             return;
         }
 
-        World world = activeStorm.getCurrentLocation().getWorld();
-        if (world == null) {
+        Location stormCenter = activeStorm.getCurrentLocation();
+        if (stormCenter.getWorld() == null) {
             return;
         }
 
-        Location stormCenter = activeStorm.getCurrentLocation();
         double damageRadius = config.getStormDamageRadius();
 
         // Check if storm is in Stormlands (only damage blocks there)
@@ -163,7 +202,7 @@ public class BlockDamageTask extends BukkitRunnable {
 
         int blocksChecked = 0;
         int blocksDamaged = 0;
-        int maxChecksPerTick = config.getBlockDamageMaxChecksPerTick();
+        int maxChecksPerTick = plugin.getThrottleGovernor().scaleBudget(config.getBlockDamageMaxChecksPerTick());
 
         // Randomly sample blocks from affected chunks
         for (Chunk chunk : affectedChunks) {
@@ -179,8 +218,9 @@ public class BlockDamageTask extends BukkitRunnable {
 
                 Block block = getRandomBlockInChunk(chunk);
                 blocksChecked++;
+                perfTimer.addWork(1);
 
-                if (canDamageBlock(block, stormCenter, damageRadius)) {
+                if (canDamageBlock(block, stormCenter.getX(), stormCenter.getY(), stormCenter.getZ(), damageRadius)) {
                     if (attemptBlockDamage(block)) {
                         blocksDamaged++;
                     }
@@ -188,8 +228,8 @@ public class BlockDamageTask extends BukkitRunnable {
             }
         }
 
-        if (config.isLogScheduling() && blocksDamaged > 0) {
-            plugin.getLogger().info("Storm damaged " + blocksDamaged + " blocks (checked " + blocksChecked + ")");
+        if (blocksDamaged > 0 && debugLog.shouldLog(DebugCategory.BLOCKS)) {
+            debugLog.log(DebugCategory.BLOCKS, "Storm damaged %d blocks (checked %d)", blocksDamaged, blocksChecked);
         }
     }
 
@@ -203,7 +243,7 @@ public class BlockDamageTask extends BukkitRunnable {
 
         int blocksChecked = 0;
         int blocksDamaged = 0;
-        int maxChecksPerTick = config.getBlockDamageMaxChecksPerTick();
+        int maxChecksPerTick = plugin.getThrottleGovernor().scaleBudget(config.getBlockDamageMaxChecksPerTick());
         double damageRadius = config.getStormDamageRadius();
 
         // Collect all affected chunks from all storms
@@ -231,10 +271,12 @@ public class BlockDamageTask extends BukkitRunnable {
 
                 Block block = getRandomBlockInChunk(chunk);
                 blocksChecked++;
+                perfTimer.addWork(1);
 
                 // Check if block is in any storm's radius
-                TravelingStorm closestStorm = findClosestStorm(block.getLocation());
-                if (closestStorm != null && canDamageBlock(block, closestStorm.getCurrentLocation(), damageRadius)) {
+                TravelingStorm closestStorm = findClosestStorm(block);
+                if (closestStorm != null && canDamageBlock(block, closestStorm.centerX(), closestStorm.centerY(),
+                        closestStorm.centerZ(), damageRadius)) {
                     if (attemptBlockDamage(block)) {
                         blocksDamaged++;
                     }
@@ -242,25 +284,85 @@ public class BlockDamageTask extends BukkitRunnable {
             }
         }
 
-        if (config.isLogScheduling() && blocksDamaged > 0) {
-            plugin.getLogger().info("Storms damaged " + blocksDamaged + " blocks (checked " + blocksChecked + ")");
+        if (blocksDamaged > 0 && debugLog.shouldLog(DebugCategory.BLOCKS)) {
+            debugLog.log(DebugCategory.BLOCKS, "Storms damaged %d blocks (checked %d)", blocksDamaged, blocksChecked);
         }
     }
 
     /**
-     * Finds the closest storm to a location that is within damage radius.
+     * Region-threaded variant: the check budget is split between storms in the Stormlands,
+     * and each storm's share is sampled by a task on the region owning its center.
      */
-    private TravelingStorm findClosestStorm(Location location) {
-        TravelingStorm closest = null;
-        double closestDistance = Double.MAX_VALUE;
+    private void runRegionizedBlockDamage() {
+        if (!config.isBlockDamageEnabled()) {
+            return;
+        }
+
+        List<TravelingStorm> storms = !activeStorms.isEmpty() ? List.copyOf(activeStorms)
+                : activeStorm != null ? List.of(activeStorm) : List.of();
+        List<Location> centers = new ArrayList<>();
+        for (TravelingStorm storm : storms) {
+            Location stormCenter = storm.getCurrentLocation();
+            if (stormCenter.getWorld() != null && zoneManager.isInStormlands(stormCenter)) {
+                centers.add(stormCenter);
+            }
+        }
+        if (centers.isEmpty()) {
+            return;
+        }
+
+        int maxChecksPerTick = plugin.getThrottleGovernor().scaleBudget(config.getBlockDamageMaxChecksPerTick());
+        int budget = Math.max(1, maxChecksPerTick / centers.size());
         double damageRadius = config.getStormDamageRadius();
+        for (Location stormCenter : centers) {
+            plugin.getTaskScheduler().runAtLocation(stormCenter,
+                    () -> sampleAroundStorm(stormCenter, damageRadius, budget));
+        }
+    }
+
+    /**
+     * Samples random blocks around a storm center, skipping chunks that aren't loaded or belong to another region.
+     */
+    private void sampleAroundStorm(Location stormCenter, double damageRadius, int budget) {
+        World world = stormCenter.getWorld();
+        ThreadLocalRandom rng = ThreadLocalRandom.current();
+        int radius = (int) Math.ceil(damageRadius);
+        int blocksChecked = 0;
+        int blocksDamaged = 0;
+
+        for (int i = 0; i < budget; i++) {
+            int x = stormCenter.getBlockX() + rng.nextInt(-radius, radius + 1);
+            int z = stormCenter.getBlockZ() + rng.nextInt(-radius, radius + 1);
+            if (!world.isChunkLoaded(x >> 4, z >> 4) || !Bukkit.isOwnedByCurrentRegion(world, x >> 4, z >> 4)) {
+                continue;
+            }
+
+            Block block = world.getBlockAt(x, rng.nextInt(world.getMinHeight(), world.getMaxHeight()), z);
+            blocksChecked++;
+            if (canDamageBlock(block, stormCenter.getX(), stormCenter.getY(), stormCenter.getZ(), damageRadius)
+                    && attemptBlockDamage(block)) {
+                blocksDamaged++;
+            }
+        }
+
+        if (blocksDamaged > 0 && debugLog.shouldLog(DebugCategory.BLOCKS)) {
+            debugLog.log(DebugCategory.BLOCKS, "Storm damaged %d blocks (checked %d)", blocksDamaged, blocksChecked);
+        }
+    }
+
+    /**
+     * Finds the closest storm to a block that is within damage radius.
+     */
+    private TravelingStorm findClosestStorm(Block block) {
+        TravelingStorm closest = null;
+        double closestDistanceSq = Double.MAX_VALUE;
+        double damageRadiusSq = config.getStormDamageRadiusSquared();
 
         for (TravelingStorm storm : activeStorms) {
-            Location stormLoc = storm.getCurrentLocation();
-            if (stormLoc.getWorld().equals(location.getWorld())) {
-                double distance = location.distance(stormLoc);
-                if (distance <= damageRadius && distance < closestDistance) {
-                    closestDistance = distance;
+            if (storm.isInWorld(block.getWorld())) {
+                double distanceSq = distanceSq(block, storm.centerX(), storm.centerY(), storm.centerZ());
+                if (distanceSq <= damageRadiusSq && distanceSq < closestDistanceSq) {
+                    closestDistanceSq = distanceSq;
                     closest = storm;
                 }
             }
@@ -269,6 +371,13 @@ public class BlockDamageTask extends BukkitRunnable {
         return closest;
     }
 
+    private static double distanceSq(Block block, double x, double y, double z) {
+        double dx = block.getX() - x;
+        double dy = block.getY() - y;
+        double dz = block.getZ() - z;
+        return dx * dx + dy * dy + dz * dz;
+    }
+
     /**
      * Gets all chunks within a radius of a location.
      */
@@ -304,9 +413,9 @@ public class BlockDamageTask extends BukkitRunnable {
     /**
      * Checks if a block can be damaged.
      */
-    private boolean canDamageBlock(Block block, Location stormCenter, double damageRadius) {
+    private boolean canDamageBlock(Block block, double centerX, double centerY, double centerZ, double damageRadius) {
         // Check if block is in storm radius
-        if (block.getLocation().distance(stormCenter) > damageRadius) {
+        if (distanceSq(block, centerX, centerY, centerZ) > damageRadius * damageRadius) {
             return false;
         }
 
@@ -329,11 +438,16 @@ public class BlockDamageTask extends BukkitRunnable {
 
         // Check WorldGuard protection
         if (worldGuardIntegration != null && worldGuardIntegration.isEnabled()) {
-            if (worldGuardIntegration.isInProtectedRegion(block.getLocation())) {
+            if (worldGuardIntegration.isInProtectedRegion(block.getWorld(), block.getX(), block.getY(), block.getZ())) {
                 return false;
             }
         }
 
+        // Skip blocks in storm-protected boss arenas
+        if (bossArenas != null && bossArenas.isStormProtected(block.getWorld(), block.getX() + 0.5, block.getY() + 0.5, block.getZ() + 0.5)) {
+            return false;
+        }
+
         // Check if block has sky access (only damage exposed blocks)
         return block.getLightFromSky() > 0;
     }
@@ -354,6 +468,7 @@ public class BlockDamageTask extends BukkitRunnable {
             Material degradedMaterial = DEGRADATION_MAP.get(type);
             if (degradedMaterial != null) {
                 block.setType(degradedMaterial);
+                plugin.getMetrics().recordBlockDegraded();
                 return true;
             }
         }
@@ -0,0 +1,90 @@
+package dev.ked.stormcraft.schedule;
+
+import dev.ked.stormcraft.config.ConfigManager;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Lets the damage check skip players who can't possibly have reached a storm yet.
+ * After a check finds a player outside every storm, the earliest time they could touch one
+ * is estimated from the gap to each storm's full radius and the closing speed (storm speed
+ * plus the configured maximum player speed). The player sleeps until then, capped by maxSleepSeconds.
+ *
+ * Sleeps are cancelled when the player teleports, changes world or respawns, and for everyone
+ * when a new storm spawns. Safe to use from player threads on Folia.
+ * Sleeps are timed on the scheduler's clock ({@link TaskScheduler#currentTimeMillis}).
+ */
+public class ContactScheduler {
+    private final ConfigManager config;
+    private final LongSupplier clock;
+    private final Map<UUID, Long> wakeMillis = new ConcurrentHashMap<>();
+
+    public ContactScheduler(ConfigManager config, LongSupplier clock) {
+        this.config = config;
+        this.clock = clock;
+    }
+
+    /**
+     * Seconds until a player at the given distance from a storm center could be inside it.
+     */
+    public static double secondsUntilContact(double distance, double maxRadius, double stormSpeed, double playerSpeed) {
+        double gap = distance - maxRadius;
+        if (gap <= 0) {
+            return 0;
+        }
+        return gap / (stormSpeed + playerSpeed);
+    }
+
+    /**
+     * Checks if a player needs to be checked on this run.
+     */
+    public boolean isDue(UUID playerId) {
+        Long wake = wakeMillis.get(playerId);
+        if (wake == null) {
+            return true;
+        }
+        if (clock.getAsLong() >= wake) {
+            wakeMillis.remove(playerId);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Skips a player until they could first reach a storm.
+     * @param secondsUntilContact from {@link #secondsUntilContact}, infinite if no storm is in their world
+     */
+    public void sleep(UUID playerId, double secondsUntilContact) {
+        if (!config.isContactSchedulingEnabled()) {
+            return;
+        }
+        double seconds = Math.min(secondsUntilContact, config.getContactMaxSleepSeconds());
+        // Not worth tracking if they'd be due again by the next check anyway
+        if (seconds * 20 < config.getExposureCheckIntervalTicks()) {
+            return;
+        }
+        wakeMillis.put(playerId, clock.getAsLong() + (long) (seconds * 1000L));
+    }
+
+    public void wake(UUID playerId) {
+        wakeMillis.remove(playerId);
+    }
+
+    public void wakeAll() {
+        wakeMillis.clear();
+    }
+
+    public double getMaxPlayerSpeed() {
+        return config.getContactMaxPlayerSpeed();
+    }
+
+    /**
+     * Number of players currently being skipped.
+     */
+    public int getSleepingCount() {
+        return wakeMillis.size();
+    }
+}
@@ -6,7 +6,6 @@ import dev.ked.stormcraft.model.StormProfile;
 import dev.ked.stormcraft.zones.ZoneManager;
 import net.kyori.adventure.text.Component;
 import org.bukkit.Bukkit;
-import org.bukkit.scheduler.BukkitRunnable;
 
 import java.util.HashMap;
 import java.util.List;
@@ -15,7 +14,7 @@ import java.util.Map;
 /**
  * Handles countdown announcements before a storm reaches landfall.
  */
-public class CountdownTask extends BukkitRunnable {
+public class CountdownTask extends StormTask {
     private final StormcraftPlugin plugin;
     private final ConfigManager config;
     private final ZoneManager zoneManager;
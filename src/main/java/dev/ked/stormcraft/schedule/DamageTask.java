@@ -1,16 +1,23 @@
 package dev.ked.stormcraft.schedule;
 
 import dev.ked.stormcraft.StormcraftPlugin;
-import dev.ked.stormcraft.api.events.StormcraftEssenceAwardEvent;
+import dev.ked.stormcraft.api.StormWorldSnapshot;
 import dev.ked.stormcraft.api.events.StormcraftExposureCheckEvent;
 import dev.ked.stormcraft.api.events.StormcraftStormTickEvent;
 import dev.ked.stormcraft.config.ConfigManager;
+import dev.ked.stormcraft.config.StormcraftSettings;
+import dev.ked.stormcraft.debug.DebugCategory;
+import dev.ked.stormcraft.debug.DebugLogger;
+import dev.ked.stormcraft.economy.EssenceAccrualLedger;
 import dev.ked.stormcraft.exposure.PlayerExposureUtil;
 import dev.ked.stormcraft.integration.WorldGuardIntegration;
 import dev.ked.stormcraft.model.ActiveStorm;
 import dev.ked.stormcraft.model.PlayerStormExposure;
 import dev.ked.stormcraft.model.StormProfile;
+import dev.ked.stormcraft.model.StormType;
 import dev.ked.stormcraft.model.TravelingStorm;
+import dev.ked.stormcraft.perf.TaskTimer;
+import dev.ked.stormcraft.zones.BossArenaManager;
 import dev.ked.stormcraft.zones.ZoneManager;
 import dev.ked.stormcraft.zones.ZoneSettings;
 import org.bukkit.Bukkit;
@@ -20,35 +27,51 @@ import org.bukkit.entity.LivingEntity;
 import org.bukkit.entity.Player;
 import org.bukkit.potion.PotionEffect;
 import org.bukkit.potion.PotionEffectType;
-import org.bukkit.scheduler.BukkitRunnable;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Random;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
 
 /**
  * Handles periodic exposure checks and damage application during active storms.
  */
-public class DamageTask extends BukkitRunnable {
+public class DamageTask extends StormTask {
     private final StormcraftPlugin plugin;
     private final ConfigManager config;
     private final PlayerExposureUtil exposureUtil;
     private final WorldGuardIntegration worldGuardIntegration;
+    private final BossArenaManager bossArenas;
     private final ZoneManager zoneManager;
     private final Random random = new Random();
 
-    private ActiveStorm activeStorm;
-    private TravelingStorm travelingStorm;
-    private List<TravelingStorm> activeStorms = new ArrayList<>();
+    private volatile ActiveStorm activeStorm;
+    private volatile TravelingStorm travelingStorm;
+    private volatile List<TravelingStorm> activeStorms = new ArrayList<>();
 
-    // Player exposure tracking
-    private final Map<UUID, PlayerStormExposure> playerExposure = new HashMap<>();
+    // Multi-storm check state, reused between runs (main thread only)
+    private final ContactScheduler contactScheduler;
+    private int[] stormCandidates = new int[0];
+    private final List<Player> multiExposedPlayers = new ArrayList<>();
+    // Used when the storm manager isn't building the shared snapshot
+    private final ProximitySnapshot fallbackProximity = new ProximitySnapshot();
+
+    // Player exposure tracking (written from entity threads on Folia)
+    private final Map<UUID, PlayerStormExposure> playerExposure = new ConcurrentHashMap<>();
+    private final LongSupplier clock;
+    private final AtomicInteger regionExposedCount = new AtomicInteger();
+    private final Queue<Player> regionExposedPlayers = new ConcurrentLinkedQueue<>();
 
     // Performance optimization: track tick count for mob damage checks
     private int tickCounter = 0;
+    private final TaskTimer perfTimer;
+    private final DebugLogger debugLog;
 
     public DamageTask(StormcraftPlugin plugin, ConfigManager config,
                      PlayerExposureUtil exposureUtil, WorldGuardIntegration worldGuardIntegration,
@@ -57,7 +80,16 @@ public class DamageTask extends BukkitRunnable {
         this.config = config;
         this.exposureUtil = exposureUtil;
         this.worldGuardIntegration = worldGuardIntegration;
+        this.bossArenas = plugin.getBossArenaManager();
         this.zoneManager = zoneManager;
+        this.perfTimer = plugin.getPerfMonitor().timer("DamageTask");
+        this.debugLog = plugin.getDebugLogger();
+        this.clock = plugin.getTaskScheduler()::currentTimeMillis;
+        this.contactScheduler = new ContactScheduler(config, clock);
+    }
+
+    private PlayerStormExposure newExposure(UUID playerId) {
+        return new PlayerStormExposure(playerId, clock);
     }
 
     public void setActiveStorm(ActiveStorm activeStorm) {
@@ -72,6 +104,13 @@ public class DamageTask extends BukkitRunnable {
         this.activeStorms = storms;
     }
 
+    /**
+     * Restarts the random draws (lightning strikes) from a seed, so a recorded trace can reproduce them.
+     */
+    public void reseed(long seed) {
+        random.setSeed(seed);
+    }
+
     /**
      * Grants storm immunity to a player (e.g., after defeating a boss).
      * @param player The player to grant immunity to
@@ -80,7 +119,7 @@ public class DamageTask extends BukkitRunnable {
      */
     public void grantStormImmunity(Player player, int durationSeconds, String source) {
         UUID playerId = player.getUniqueId();
-        PlayerStormExposure exposure = playerExposure.computeIfAbsent(playerId, PlayerStormExposure::new);
+        PlayerStormExposure exposure = playerExposure.computeIfAbsent(playerId, this::newExposure);
         exposure.grantImmunity(durationSeconds, source);
 
         player.sendMessage(net.kyori.adventure.text.Component.text(
@@ -96,11 +135,33 @@ public class DamageTask extends BukkitRunnable {
         return exposure != null && exposure.hasImmunity();
     }
 
+    /**
+     * Gets the tracked exposure state for a player, or null if they have none.
+     */
+    public PlayerStormExposure getPlayerExposure(UUID playerId) {
+        return playerExposure.get(playerId);
+    }
+
     /**
      * Clears all exposure data for a player (used on quit/death).
      */
     public void clearPlayerExposure(UUID playerId) {
         playerExposure.remove(playerId);
+        contactScheduler.wake(playerId);
+    }
+
+    /**
+     * Makes the next check include a player who was being skipped (teleport, world change, respawn).
+     */
+    public void wakePlayer(UUID playerId) {
+        contactScheduler.wake(playerId);
+    }
+
+    /**
+     * Makes the next check include every player, e.g. after a new storm spawned.
+     */
+    public void wakeAllPlayers() {
+        contactScheduler.wakeAll();
     }
 
     /**
@@ -141,8 +202,23 @@ public class DamageTask extends BukkitRunnable {
 
     @Override
     public void run() {
+        perfTimer.begin();
+        try {
+            runDamageCheck();
+        } finally {
+            perfTimer.end();
+        }
+    }
+
+    private void runDamageCheck() {
         tickCounter++;
 
+        // Folia: every player is checked on their own region thread
+        if (plugin.getTaskScheduler().isRegionThreaded()) {
+            runRegionizedCheck();
+            return;
+        }
+
         // Multi-storm system (erratic spawning)
         if (!activeStorms.isEmpty()) {
             runMultiStormCheck();
@@ -161,12 +237,13 @@ public class DamageTask extends BukkitRunnable {
 
         // Check all online players
         for (Player player : Bukkit.getOnlinePlayers()) {
+            perfTimer.addWork(1);
             boolean exposed = isPlayerExposedToStorm(player);
 
             // Debug logging
-            if (config.isLogExposureSamples()) {
-                plugin.getLogger().info(String.format("Player %s: exposed=%s, world=%s, gamemode=%s",
-                    player.getName(), exposed, player.getWorld().getName(), player.getGameMode()));
+            if (debugLog.shouldLog(DebugCategory.EXPOSURE)) {
+                debugLog.log(DebugCategory.EXPOSURE, "Player %s: exposed=%s, world=%s, gamemode=%s",
+                    player.getName(), exposed, player.getWorld().getName(), player.getGameMode());
             }
 
             if (exposed) {
@@ -174,7 +251,7 @@ public class DamageTask extends BukkitRunnable {
 
                 // Update exposure tracking
                 UUID playerId = player.getUniqueId();
-                PlayerStormExposure exposure = playerExposure.computeIfAbsent(playerId, PlayerStormExposure::new);
+                PlayerStormExposure exposure = playerExposure.computeIfAbsent(playerId, this::newExposure);
                 exposure.enterStorm();
             } else {
                 // Player not in storm - update tracking if they were previously
@@ -183,9 +260,12 @@ public class DamageTask extends BukkitRunnable {
                 if (exposure != null && exposure.isInStorm()) {
                     exposure.leaveStorm();
                 }
+                flushEssence(player);
             }
         }
 
+        plugin.getMetrics().setExposedPlayers(exposedPlayers.size());
+
         // Fire tick event (use activeStorm if available, for backwards compatibility)
         if (activeStorm != null) {
             StormcraftStormTickEvent tickEvent = new StormcraftStormTickEvent(activeStorm, exposedPlayers);
@@ -201,18 +281,21 @@ public class DamageTask extends BukkitRunnable {
         }
 
         // Apply damage to exposed mobs (less frequently than players for performance)
-        int mobCheckInterval = config.getMobDamageCheckInterval();
+        int mobCheckInterval = config.getMobDamageCheckInterval() * plugin.getThrottleGovernor().getIntervalMultiplier();
         if (tickCounter % mobCheckInterval == 0) {
-            Location stormLoc = (activeStorm != null) ?
-                new Location(Bukkit.getWorld(config.getEnabledWorlds().get(0)), 0, 64, 0) :
-                travelingStorm.getCurrentLocation();
-
-            checkMobsNearStorm(stormLoc, profile, actualDamage);
+            if (activeStorm != null) {
+                // Stationary storms cover every enabled world
+                for (StormWorlds.Partition partition : plugin.getStormWorlds().all()) {
+                    checkMobsNearStorm(new Location(partition.getWorld(), 0, 64, 0), profile, actualDamage);
+                }
+            } else {
+                checkMobsNearStorm(travelingStorm.getCurrentLocation(), profile, actualDamage);
+            }
         }
 
         // Log exposure samples if enabled
-        if (config.isLogExposureSamples() && !exposedPlayers.isEmpty()) {
-            plugin.getLogger().info("Exposed players (" + exposedPlayers.size() + "): " +
+        if (!exposedPlayers.isEmpty() && debugLog.shouldLog(DebugCategory.EXPOSURE)) {
+            debugLog.log(DebugCategory.EXPOSURE, "Exposed players (%d): %s", exposedPlayers.size(),
                     String.join(", ", exposedPlayers.stream().map(Player::getName).toList()));
         }
     }
@@ -222,26 +305,40 @@ public class DamageTask extends BukkitRunnable {
      * DPS from multiple overlapping storms stacks together.
      */
     private void runMultiStormCheck() {
-        List<Player> exposedPlayers = new ArrayList<>();
-        Map<Player, Double> playerTotalDamage = new HashMap<>();
-        Map<Player, StormProfile> playerStrongestProfile = new HashMap<>();
-
-        // Check all online players against all active storms
-        for (Player player : Bukkit.getOnlinePlayers()) {
+        // Positions and covering storms are shared with the tracker; captured here if the manager isn't building them
+        ProximitySnapshot proximity = plugin.getStormManager().getProximitySnapshot();
+        if (proximity == null) {
+            proximity = fallbackProximity;
+            proximity.refresh(tickCounter, Bukkit.getOnlinePlayers(), activeStorms);
+        }
+        StormTable storms = proximity.getStorms();
+        List<Player> exposedPlayers = multiExposedPlayers;
+        exposedPlayers.clear();
+
+        // Check all online players against all active storms, skipping those still far from every storm
+        for (int index = 0; index < proximity.size(); index++) {
+            Player player = proximity.getPlayer(index);
+            UUID playerId = player.getUniqueId();
+            if (!player.isOnline() || !contactScheduler.isDue(playerId)) {
+                continue;
+            }
+            perfTimer.addWork(1);
             double totalDamage = 0;
             StormProfile strongestProfile = null;
-            double maxDamage = 0;
 
-            // Check player against each storm
-            for (TravelingStorm storm : activeStorms) {
-                if (isPlayerExposedToMultiStorm(player, storm)) {
-                    double stormDamage = storm.getCurrentDamagePerSecond();
+            // Storms whose radius contains the player; sky and WorldGuard checks don't depend on the storm
+            int count = proximity.getCoverCount(index);
+            if (count > 0 && isPlayerExposedAt(player, proximity.getLocation(index))) {
+                double maxDamage = 0;
+                for (int n = 0; n < count; n++) {
+                    int stormIndex = proximity.getCoveringStorm(index, n);
+                    double stormDamage = storms.damagePerSecond(stormIndex);
                     totalDamage += stormDamage;
 
                     // Track strongest storm for effects/essence
                     if (stormDamage > maxDamage) {
                         maxDamage = stormDamage;
-                        strongestProfile = storm.getProfile();
+                        strongestProfile = storms.storm(stormIndex).getProfile();
                     }
                 }
             }
@@ -249,33 +346,184 @@ public class DamageTask extends BukkitRunnable {
             // Apply stacked damage if exposed to any storms
             if (totalDamage > 0 && strongestProfile != null) {
                 exposedPlayers.add(player);
-                playerTotalDamage.put(player, totalDamage);
-                playerStrongestProfile.put(player, strongestProfile);
+                playerExposure.computeIfAbsent(playerId, this::newExposure).enterStorm();
+                applyStormEffects(player, strongestProfile, totalDamage);
+                awardEssence(player, strongestProfile);
+            } else {
+                PlayerStormExposure exposure = playerExposure.get(playerId);
+                if (exposure != null && exposure.isInStorm()) {
+                    exposure.leaveStorm();
+                }
+                flushEssence(player);
+
+                if (count == 0) {
+                    contactScheduler.sleep(playerId, storms.secondsUntilContact(proximity.getWorld(index),
+                            proximity.getX(index), proximity.getZ(index), contactScheduler.getMaxPlayerSpeed()));
+                }
             }
         }
 
-        // Apply damage and effects to exposed players
-        for (Player player : exposedPlayers) {
-            double totalDamage = playerTotalDamage.get(player);
-            StormProfile profile = playerStrongestProfile.get(player);
-
-            applyStormEffects(player, profile, totalDamage);
-            awardEssence(player, profile);
-        }
+        plugin.getMetrics().setExposedPlayers(exposedPlayers.size());
 
         // Apply damage to exposed mobs (less frequently for performance)
-        int mobCheckInterval = config.getMobDamageCheckInterval();
+        int mobCheckInterval = config.getMobDamageCheckInterval() * plugin.getThrottleGovernor().getIntervalMultiplier();
         if (tickCounter % mobCheckInterval == 0) {
-            checkMobsNearMultiStorms();
+            checkMobsNearMultiStorms(storms);
         }
 
         // Log exposure samples if enabled
-        if (config.isLogExposureSamples() && !exposedPlayers.isEmpty()) {
-            plugin.getLogger().info("Exposed players (" + exposedPlayers.size() + "): " +
+        if (!exposedPlayers.isEmpty() && debugLog.shouldLog(DebugCategory.EXPOSURE)) {
+            debugLog.log(DebugCategory.EXPOSURE, "Exposed players (%d): %s", exposedPlayers.size(),
                     String.join(", ", exposedPlayers.stream().map(Player::getName).toList()));
         }
     }
 
+    /**
+     * Region-threaded variant of the damage check. Each player's exposure, damage and essence are
+     * handled by a task on the player's own thread, and mobs are damaged by a task at each storm's center.
+     * Those tasks read traveling storms from the published {@link StormWorldSnapshot}, never the live
+     * storms, which only the global region may touch.
+     * The exposed-player gauge and the stationary storm's tick event lag one run behind: both report the
+     * players the previous run's tasks found exposed, and the event is fired here on the global region.
+     */
+    private void runRegionizedCheck() {
+        StormWorldSnapshot snapshot = plugin.getSnapshotService().getSnapshot();
+        boolean multiStorm = !activeStorms.isEmpty();
+        ActiveStorm legacyStorm = activeStorm;
+
+        plugin.getMetrics().setExposedPlayers(regionExposedCount.getAndSet(0));
+        List<Player> previouslyExposed = new ArrayList<>();
+        Player exposedPlayer;
+        while ((exposedPlayer = regionExposedPlayers.poll()) != null) {
+            previouslyExposed.add(exposedPlayer);
+        }
+        if (legacyStorm != null) {
+            Bukkit.getPluginManager().callEvent(new StormcraftStormTickEvent(legacyStorm, previouslyExposed));
+        }
+        if (!multiStorm && legacyStorm == null && travelingStorm == null) {
+            return;
+        }
+
+        // Profiles for the effects of the strongest storm, by type (storms take theirs from this map)
+        Map<StormType, StormProfile> profiles = config.getDamageProfiles();
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            if (multiStorm && !contactScheduler.isDue(player.getUniqueId())) {
+                continue;
+            }
+            perfTimer.addWork(1);
+            plugin.getTaskScheduler().runForEntity(player,
+                    () -> checkPlayerOnOwnThread(player, legacyStorm, snapshot, profiles, multiStorm));
+        }
+
+        int mobCheckInterval = config.getMobDamageCheckInterval() * plugin.getThrottleGovernor().getIntervalMultiplier();
+        if (tickCounter % mobCheckInterval == 0 && legacyStorm == null) {
+            for (int index = 0; index < snapshot.size(); index++) {
+                World world = Bukkit.getWorld(snapshot.getWorldId(index));
+                if (world == null) {
+                    continue;
+                }
+                int stormIndex = index;
+                Location stormLoc = new Location(world, snapshot.getCenterX(index), 64, snapshot.getCenterZ(index));
+                plugin.getTaskScheduler().runAtLocation(stormLoc, () -> damageMobsNearStorm(snapshot, stormIndex, stormLoc));
+            }
+        }
+    }
+
+    /**
+     * Checks one player against the traveling storms in the snapshot (or the stationary storm, if one is
+     * running) and applies the result. Runs on the player's thread.
+     */
+    private void checkPlayerOnOwnThread(Player player, ActiveStorm legacyStorm, StormWorldSnapshot snapshot,
+                                        Map<StormType, StormProfile> profiles, boolean multiStorm) {
+        double totalDamage = 0;
+        StormProfile strongestProfile = null;
+        double secondsUntilContact = Double.POSITIVE_INFINITY;
+
+        if (legacyStorm == null) {
+            Location playerLoc = player.getLocation();
+            UUID worldId = playerLoc.getWorld().getUID();
+            double maxDamage = 0;
+            boolean checkedExposure = false;
+            boolean exposed = false;
+            for (int index = 0; index < snapshot.size(); index++) {
+                if (!snapshot.getWorldId(index).equals(worldId)) {
+                    continue;
+                }
+                double dx = playerLoc.getX() - snapshot.getCenterX(index);
+                double dz = playerLoc.getZ() - snapshot.getCenterZ(index);
+                double distanceSq = dx * dx + dz * dz;
+                secondsUntilContact = Math.min(secondsUntilContact, ContactScheduler.secondsUntilContact(
+                        Math.sqrt(distanceSq), snapshot.getFullRadius(index),
+                        snapshot.getSpeed(index), contactScheduler.getMaxPlayerSpeed()));
+
+                double radius = snapshot.getRadius(index);
+                if (distanceSq > radius * radius) {
+                    continue;
+                }
+                // Sky and WorldGuard checks don't depend on the storm
+                if (!checkedExposure) {
+                    exposed = isPlayerExposedAt(player, playerLoc);
+                    checkedExposure = true;
+                }
+                if (exposed) {
+                    double stormDamage = snapshot.getDamagePerSecond(index);
+                    totalDamage += stormDamage;
+                    if (stormDamage > maxDamage) {
+                        maxDamage = stormDamage;
+                        strongestProfile = profiles.get(snapshot.getType(index));
+                    }
+                }
+            }
+        } else if (isPlayerExposedToStorm(player)) {
+            totalDamage = legacyStorm.getActualDamagePerSecond();
+            strongestProfile = legacyStorm.getProfile();
+        }
+
+        UUID playerId = player.getUniqueId();
+        if (totalDamage > 0 && strongestProfile != null) {
+            regionExposedCount.incrementAndGet();
+            if (legacyStorm != null) {
+                regionExposedPlayers.add(player);
+            }
+            playerExposure.computeIfAbsent(playerId, this::newExposure).enterStorm();
+            applyStormEffects(player, strongestProfile, totalDamage);
+            awardEssence(player, strongestProfile);
+        } else {
+            PlayerStormExposure exposure = playerExposure.get(playerId);
+            if (exposure != null && exposure.isInStorm()) {
+                exposure.leaveStorm();
+            }
+            flushEssence(player);
+
+            if (multiStorm) {
+                contactScheduler.sleep(playerId, secondsUntilContact);
+            }
+        }
+    }
+
+    /**
+     * Damages exposed mobs around one snapshot storm's center. Runs on the region owning the center, so only
+     * mobs in that region are seen.
+     */
+    private void damageMobsNearStorm(StormWorldSnapshot snapshot, int index, Location stormLoc) {
+        World world = stormLoc.getWorld();
+        double radius = snapshot.getRadius(index);
+        double radiusSquared = radius * radius;
+        double damage = snapshot.getDamagePerSecond(index);
+        double height = world.getMaxHeight() - world.getMinHeight();
+        for (LivingEntity entity : stormLoc.getNearbyLivingEntities(radius, height, radius)) {
+            if (entity instanceof Player || !Bukkit.isOwnedByCurrentRegion(entity)) {
+                continue;
+            }
+            Location loc = entity.getLocation();
+            double dx = loc.getX() - stormLoc.getX();
+            double dz = loc.getZ() - stormLoc.getZ();
+            if (dx * dx + dz * dz <= radiusSquared && isEntityExposedAt(entity, loc)) {
+                applyMobDamage(entity, damage);
+            }
+        }
+    }
+
     /**
      * Finds the closest storm to a player.
      */
@@ -283,12 +531,12 @@ public class DamageTask extends BukkitRunnable {
         TravelingStorm closest = null;
         double closestDistance = Double.MAX_VALUE;
 
+        Location playerLoc = player.getLocation();
         for (TravelingStorm storm : activeStorms) {
-            Location stormLoc = storm.getCurrentLocation();
-            if (stormLoc.getWorld().equals(player.getWorld())) {
-                double distance = player.getLocation().distance(stormLoc);
-                if (distance < closestDistance) {
-                    closestDistance = distance;
+            if (storm.isInWorld(playerLoc.getWorld())) {
+                double distanceSq = storm.distanceSqXZ(playerLoc.getX(), playerLoc.getZ());
+                if (distanceSq < closestDistance) {
+                    closestDistance = distanceSq;
                     closest = storm;
                 }
             }
@@ -305,11 +553,10 @@ public class DamageTask extends BukkitRunnable {
         double closestDistance = Double.MAX_VALUE;
 
         for (TravelingStorm storm : activeStorms) {
-            Location stormLoc = storm.getCurrentLocation();
-            if (stormLoc.getWorld().equals(location.getWorld())) {
-                double distance = location.distance(stormLoc);
-                if (distance < closestDistance) {
-                    closestDistance = distance;
+            if (storm.isInWorld(location.getWorld())) {
+                double distanceSq = storm.distanceSqXZ(location.getX(), location.getZ());
+                if (distanceSq < closestDistance) {
+                    closestDistance = distanceSq;
                     closest = storm;
                 }
             }
@@ -319,16 +566,9 @@ public class DamageTask extends BukkitRunnable {
     }
 
     /**
-     * Checks if a player is exposed to a specific storm in multi-storm mode.
+     * Storm-independent part of the multi-storm exposure check: sky access, WorldGuard protection and boss arenas.
      */
-    private boolean isPlayerExposedToMultiStorm(Player player, TravelingStorm storm) {
-        Location playerLoc = player.getLocation();
-
-        // Check if player is within storm radius (use storm's current radius)
-        if (!storm.isLocationInStorm(playerLoc, storm.getCurrentRadius())) {
-            return false;
-        }
-
+    private boolean isPlayerExposedAt(Player player, Location playerLoc) {
         // Basic exposure check (sky access)
         boolean exposed = exposureUtil.isPlayerExposed(player);
         if (!exposed) {
@@ -342,23 +582,33 @@ public class DamageTask extends BukkitRunnable {
             }
         }
 
-        return true;
+        return !isInProtectedArena(playerLoc);
     }
 
     /**
      * Checks if an entity is exposed to a specific storm in multi-storm mode.
      */
-    private boolean isEntityExposedToMultiStorm(LivingEntity entity, TravelingStorm storm) {
-        Location loc = entity.getLocation();
+    private boolean isEntityExposedToMultiStorm(LivingEntity entity, Location loc, TravelingStorm storm) {
+        // Check if entity is within storm radius (use storm's current radius)
+        if (!storm.isInWorld(loc.getWorld()) || !storm.containsXZ(loc.getX(), loc.getZ())) {
+            return false;
+        }
+
+        return isEntityExposedAt(entity, loc);
+    }
+
+    /**
+     * Storm-independent part of the mob exposure check: enabled world, boss arenas and overhead cover.
+     */
+    private boolean isEntityExposedAt(LivingEntity entity, Location loc) {
         World world = loc.getWorld();
 
         // Check if in enabled world
-        if (world == null || !config.getEnabledWorlds().contains(world.getName())) {
+        if (world == null || !plugin.getStormWorlds().isEnabled(world)) {
             return false;
         }
 
-        // Check if entity is within storm radius (use storm's current radius)
-        if (!storm.isLocationInStorm(loc, storm.getCurrentRadius())) {
+        if (isInProtectedArena(loc)) {
             return false;
         }
 
@@ -383,7 +633,7 @@ public class DamageTask extends BukkitRunnable {
         // If using traveling storm, check if player is within storm's current radius
         if (travelingStorm != null && config.isTravelingStormsEnabled()) {
             Location playerLoc = player.getLocation();
-            if (!travelingStorm.isLocationInStorm(playerLoc, travelingStorm.getCurrentRadius())) {
+            if (!travelingStorm.isInWorld(playerLoc.getWorld()) || !travelingStorm.containsXZ(playerLoc.getX(), playerLoc.getZ())) {
                 return false; // Player not in storm radius
             }
         }
@@ -402,7 +652,15 @@ public class DamageTask extends BukkitRunnable {
             }
         }
 
-        return true;
+        return !isInProtectedArena(player.getLocation());
+    }
+
+    /**
+     * Checks if a location is in a boss arena with storm protection.
+     */
+    private boolean isInProtectedArena(Location loc) {
+        return bossArenas != null && loc.getWorld() != null
+                && bossArenas.isStormProtected(loc.getWorld(), loc.getX(), loc.getY(), loc.getZ());
     }
 
     /**
@@ -419,7 +677,7 @@ public class DamageTask extends BukkitRunnable {
 
         // Get player exposure state
         UUID playerId = player.getUniqueId();
-        PlayerStormExposure exposure = playerExposure.computeIfAbsent(playerId, PlayerStormExposure::new);
+        PlayerStormExposure exposure = playerExposure.computeIfAbsent(playerId, this::newExposure);
 
         // Check for immunity
         if (exposure.hasImmunity()) {
@@ -452,16 +710,17 @@ public class DamageTask extends BukkitRunnable {
             double newHealth = Math.max(0, currentHealth - damageAmount);
 
             // Debug logging
-            if (config.isLogExposureSamples()) {
-                plugin.getLogger().info(String.format("Damaging %s: %.2f damage (%.0f%% multiplier), %.1f -> %.1f health",
-                    player.getName(), damageAmount, damageMultiplier * 100, currentHealth, newHealth));
+            if (debugLog.shouldLog(DebugCategory.EXPOSURE)) {
+                debugLog.log(DebugCategory.EXPOSURE, "Damaging %s: %.2f damage (%.0f%% multiplier), %.1f -> %.1f health",
+                    player.getName(), damageAmount, damageMultiplier * 100, currentHealth, newHealth);
             }
 
             player.setHealth(newHealth);
             exposure.recordDamage();
-        } else if (config.isLogExposureSamples()) {
-            plugin.getLogger().info(String.format("No damage for %s: damageAmount=%.2f, multiplier=%.0f%%",
-                player.getName(), damageAmount, damageMultiplier * 100));
+            plugin.getMetrics().recordPlayerDamage(currentHealth - newHealth);
+        } else if (debugLog.shouldLog(DebugCategory.EXPOSURE)) {
+            debugLog.log(DebugCategory.EXPOSURE, "No damage for %s: damageAmount=%.2f, multiplier=%.0f%%",
+                player.getName(), damageAmount, damageMultiplier * 100);
         }
 
         // Blindness effect removed - too disruptive for gameplay
@@ -501,6 +760,7 @@ public class DamageTask extends BukkitRunnable {
         world.getLivingEntities().stream()
             .filter(entity -> !(entity instanceof Player))
             .filter(entity -> {
+                perfTimer.addWork(1);
                 Location loc = entity.getLocation();
                 double dx = loc.getX() - stormLoc.getX();
                 double dz = loc.getZ() - stormLoc.getZ();
@@ -514,40 +774,29 @@ public class DamageTask extends BukkitRunnable {
      * Optimized mob damage check for multiple storms.
      * Only checks mobs within the actual damage radius of storms.
      */
-    private void checkMobsNearMultiStorms() {
-        for (String worldName : config.getEnabledWorlds()) {
-            World world = Bukkit.getWorld(worldName);
-            if (world == null) continue;
-
-            // Only check storms in this world
-            List<TravelingStorm> worldStorms = activeStorms.stream()
-                .filter(s -> s.getCurrentLocation().getWorld().equals(world))
-                .toList();
+    private void checkMobsNearMultiStorms(StormTable stormTable) {
+        if (stormCandidates.length < stormTable.size()) {
+            stormCandidates = new int[stormTable.size()];
+        }
+        for (StormWorlds.Partition partition : plugin.getStormWorlds().all()) {
+            World world = partition.getWorld();
 
-            if (worldStorms.isEmpty()) continue;
+            // Only check worlds with storms
+            if (!stormTable.hasStormsIn(world)) continue;
 
             // Get all mobs in this world
             world.getLivingEntities().stream()
                 .filter(entity -> !(entity instanceof Player))
                 .forEach(entity -> {
+                    perfTimer.addWork(1);
                     Location entityLoc = entity.getLocation();
                     double totalDamage = 0;
 
-                    // Check entity against each storm in this world
-                    for (TravelingStorm storm : worldStorms) {
-                        Location stormLoc = storm.getCurrentLocation();
-                        double damageRadius = storm.getCurrentRadius();
-                        double damageRadiusSquared = damageRadius * damageRadius;
-
-                        // Only check if entity is within storm's actual damage radius
-                        double dx = entityLoc.getX() - stormLoc.getX();
-                        double dz = entityLoc.getZ() - stormLoc.getZ();
-                        double distSquared = dx * dx + dz * dz;
-
-                        if (distSquared <= damageRadiusSquared) {
-                            if (isEntityExposedToMultiStorm(entity, storm)) {
-                                totalDamage += storm.getCurrentDamagePerSecond();
-                            }
+                    // Check entity against each storm whose damage radius contains it
+                    int count = stormTable.findContaining(world, entityLoc.getX(), entityLoc.getZ(), stormCandidates);
+                    for (int i = 0; i < count; i++) {
+                        if (isEntityExposedToMultiStorm(entity, entityLoc, stormTable.storm(stormCandidates[i]))) {
+                            totalDamage += stormTable.damagePerSecond(stormCandidates[i]);
                         }
                     }
 
@@ -567,17 +816,21 @@ public class DamageTask extends BukkitRunnable {
         World world = loc.getWorld();
 
         // Check if in enabled world
-        if (world == null || !config.getEnabledWorlds().contains(world.getName())) {
+        if (world == null || !plugin.getStormWorlds().isEnabled(world)) {
             return false;
         }
 
         // If using traveling storm, check if entity is within storm's current radius
         if (travelingStorm != null && config.isTravelingStormsEnabled()) {
-            if (!travelingStorm.isLocationInStorm(loc, travelingStorm.getCurrentRadius())) {
+            if (!travelingStorm.isInWorld(world) || !travelingStorm.containsXZ(loc.getX(), loc.getZ())) {
                 return false; // Entity not in storm radius
             }
         }
 
+        if (isInProtectedArena(loc)) {
+            return false;
+        }
+
         // Quick check: compare entity Y to highest block Y
         int highestBlockY = world.getHighestBlockYAt(loc);
         int entityY = loc.getBlockY();
@@ -672,39 +925,55 @@ public class DamageTask extends BukkitRunnable {
         double damageAmount = actualDamagePerSecond * (checkInterval / 20.0);
 
         if (damageAmount > 0) {
-            double newHealth = Math.max(0, entity.getHealth() - damageAmount);
+            double currentHealth = entity.getHealth();
+            double newHealth = Math.max(0, currentHealth - damageAmount);
             entity.setHealth(newHealth);
+            plugin.getMetrics().recordMobDamage(currentHealth - newHealth);
         }
     }
 
     /**
-     * Fires essence award event for exposed players.
+     * Accrues essence for exposed players.
      * Note: Stormcraft no longer directly awards essence.
-     * The Stormcraft-Essence plugin listens for this event and handles the actual deposit.
+     * The ledger batches it into StormcraftEssenceAwardEvents, which the Stormcraft-Essence
+     * plugin listens for to handle the actual deposit.
      */
     private void awardEssence(Player player, StormProfile profile) {
-        if (!config.isEconomyEnabled()) {
+        StormcraftSettings.Economy economy = config.getSettings().economy();
+        if (!economy.enabled()) {
             return;
         }
 
         // Calculate base essence based on rate and storm type multiplier
-        double baseEssence = config.getEssencePerTick();
-        double multiplier = config.getEssenceMultipliers().getOrDefault(profile.getType(), 1.0);
+        double baseEssence = economy.essencePerTick();
+        double multiplier = economy.essenceMultipliers().getOrDefault(profile.getType(), 1.0);
 
         // Apply zone multiplier if zones enabled
-        if (zoneManager != null && zoneManager.isEnabled()) {
-            ZoneSettings zoneSettings = zoneManager.getSettingsAt(player.getLocation());
+        ZoneManager.ZoneType zone = ZoneManager.ZoneType.SAFE_ZONE;
+        if (zoneManager != null && zoneManager.isEnabled(player.getWorld())) {
+            zone = zoneManager.getZoneAt(player.getLocation());
+            ZoneSettings zoneSettings = zoneManager.getSettingsForZone(zone);
             multiplier *= zoneSettings.getEssenceMultiplier();
         }
 
         double essence = baseEssence * multiplier;
 
-        // Fire event - let handlers (Stormcraft-Essence) deposit the essence
+        // Accrue - the ledger fires the award event when it flushes
         int checkInterval = config.getExposureCheckIntervalTicks();
-        StormcraftEssenceAwardEvent essenceEvent = new StormcraftEssenceAwardEvent(
-                player, essence, profile.getType(), checkInterval, player.getLocation()
-        );
-        Bukkit.getPluginManager().callEvent(essenceEvent);
+        EssenceAccrualLedger ledger = plugin.getEssenceLedger();
+        if (ledger != null) {
+            ledger.accrue(player, profile.getType(), zone, essence, checkInterval);
+        }
+    }
+
+    /**
+     * Pays out a player's accrued essence once they are no longer exposed.
+     */
+    private void flushEssence(Player player) {
+        EssenceAccrualLedger ledger = plugin.getEssenceLedger();
+        if (ledger != null && ledger.hasPending(player.getUniqueId())) {
+            ledger.flush(player);
+        }
     }
 
     /**
@@ -0,0 +1,68 @@
+package dev.ked.stormcraft.schedule;
+
+import dev.ked.stormcraft.StormcraftPlugin;
+import org.bukkit.Bukkit;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Last known position of every online player, for global-region code on Folia, which can't read
+ * players owned by other regions. Once a second a task on each player's own thread records where
+ * they stand, so a position is at most a second and a region tick old.
+ * Only run on Folia; on Paper the main thread reads players directly (see {@link ProximitySnapshot}).
+ */
+public final class PlayerPositions {
+    private final StormcraftPlugin plugin;
+    private final Map<UUID, Position> positions = new ConcurrentHashMap<>();
+    private TaskHandle refreshTask;
+
+    /**
+     * Where a player stood when their thread last recorded them.
+     */
+    public record Position(Player player, World world, double x, double z) {
+    }
+
+    public PlayerPositions(StormcraftPlugin plugin) {
+        this.plugin = plugin;
+    }
+
+    public void start() {
+        refreshTask = plugin.getTaskScheduler().runTimer(this::refresh, 0L, 20L);
+    }
+
+    public void stop() {
+        if (refreshTask != null) {
+            refreshTask.cancel();
+            refreshTask = null;
+        }
+        positions.clear();
+    }
+
+    /**
+     * Asks each player's thread to record their position, and forgets players who left.
+     */
+    private void refresh() {
+        positions.values().removeIf(position -> !position.player().isOnline());
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            plugin.getTaskScheduler().runForEntity(player, () -> record(player));
+        }
+    }
+
+    private void record(Player player) {
+        Location location = player.getLocation();
+        positions.put(player.getUniqueId(), new Position(player, location.getWorld(), location.getX(), location.getZ()));
+    }
+
+    /**
+     * Gets every recorded position. Safe to call from any thread.
+     */
+    public Collection<Position> all() {
+        return positions.values();
+    }
+}
@@ -0,0 +1,196 @@
+package dev.ked.stormcraft.schedule;
+
+import dev.ked.stormcraft.model.TravelingStorm;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.entity.Player;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Where every online player stands relative to the storms, captured once per tick.
+ * For each player it holds their world, position and yaw, the storm with the nearest edge
+ * and the storms covering them, so the damage check, the tracker and the storm managers don't
+ * each call player.getLocation() and measure every storm again, and all see the same positions.
+ *
+ * Built lazily on the main thread by {@link StormManager}, the first time it's asked for in a tick, and
+ * refreshed in place after that, reusing its arrays, so read it within the tick and don't keep it.
+ * The embedded {@link StormTable} keeps scratch space, so query it from the main thread only.
+ * Not built on Folia, where players are only read on their own threads.
+ */
+public final class ProximitySnapshot {
+    private long tick = -1;
+    private final StormTable storms = new StormTable();
+    private int size;
+
+    private Player[] players = new Player[0];
+    private World[] worlds = new World[0];
+    private double[] x = new double[0];
+    private double[] y = new double[0];
+    private double[] z = new double[0];
+    private float[] yaw = new float[0];
+    private int[] nearestStorm = new int[0];
+    private double[] edgeDistance = new double[0];
+
+    // Covering storms of player i are cover[coverStart[i]] .. cover[coverStart[i + 1] - 1]
+    private int[] coverStart = new int[1];
+    private int[] cover = new int[4];
+    private int[] candidates = new int[0];
+
+    // Copied into one reused Location instead of a new one per player
+    private final Location scratch = new Location(null, 0, 0, 0);
+
+    ProximitySnapshot() {
+    }
+
+    /**
+     * Measures every player against every storm, reusing the arrays from the last refresh. Main thread only.
+     */
+    void refresh(long tick, Collection<? extends Player> online, Collection<TravelingStorm> activeStorms) {
+        this.tick = tick;
+        storms.refresh(activeStorms);
+
+        int capacity = online.size();
+        if (players.length < capacity) {
+            int grown = Math.max(capacity, players.length * 2);
+            players = new Player[grown];
+            worlds = new World[grown];
+            x = new double[grown];
+            y = new double[grown];
+            z = new double[grown];
+            yaw = new float[grown];
+            nearestStorm = new int[grown];
+            edgeDistance = new double[grown];
+            coverStart = new int[grown + 1];
+        }
+        if (candidates.length < storms.size()) {
+            candidates = new int[storms.size()];
+        }
+
+        int previousSize = size;
+        size = 0;
+        int coverSize = 0;
+        for (Player player : online) {
+            if (size == capacity) {
+                break;
+            }
+            player.getLocation(scratch);
+            World world = scratch.getWorld();
+
+            players[size] = player;
+            worlds[size] = world;
+            x[size] = scratch.getX();
+            y[size] = scratch.getY();
+            z[size] = scratch.getZ();
+            yaw[size] = scratch.getYaw();
+
+            int nearest = storms.findNearestEdge(world, x[size], z[size]);
+            nearestStorm[size] = nearest;
+            edgeDistance[size] = nearest >= 0 ? storms.edgeDistance(nearest, x[size], z[size]) : Double.MAX_VALUE;
+
+            coverStart[size] = coverSize;
+            int count = storms.findContaining(world, x[size], z[size], candidates);
+            if (coverSize + count > cover.length) {
+                cover = Arrays.copyOf(cover, Math.max(cover.length * 2, coverSize + count));
+            }
+            System.arraycopy(candidates, 0, cover, coverSize, count);
+            coverSize += count;
+            size++;
+        }
+        coverStart[size] = coverSize;
+
+        // Don't hold on to players and worlds from a bigger refresh
+        if (previousSize > size) {
+            Arrays.fill(players, size, previousSize, null);
+            Arrays.fill(worlds, size, previousSize, null);
+        }
+        scratch.setWorld(null);
+    }
+
+    public long getTick() {
+        return tick;
+    }
+
+    /**
+     * Storms as they were when the snapshot was taken. Storm indices below refer to this table.
+     */
+    public StormTable getStorms() {
+        return storms;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public Player getPlayer(int index) {
+        return players[index];
+    }
+
+    public World getWorld(int index) {
+        return worlds[index];
+    }
+
+    public double getX(int index) {
+        return x[index];
+    }
+
+    public double getY(int index) {
+        return y[index];
+    }
+
+    public double getZ(int index) {
+        return z[index];
+    }
+
+    public float getYaw(int index) {
+        return yaw[index];
+    }
+
+    /**
+     * Builds a Location for a player's captured position (allocates, use only when an API needs one).
+     */
+    public Location getLocation(int index) {
+        return new Location(worlds[index], x[index], y[index], z[index], yaw[index], 0);
+    }
+
+    /**
+     * Gets the storm with the nearest edge in the player's world, or null if there is none.
+     */
+    public TravelingStorm getNearestStorm(int index) {
+        return nearestStorm[index] >= 0 ? storms.storm(nearestStorm[index]) : null;
+    }
+
+    /**
+     * Distance from the player to the nearest storm edge, 0 if inside, Double.MAX_VALUE if no storm is in their world.
+     */
+    public double getEdgeDistance(int index) {
+        return edgeDistance[index];
+    }
+
+    /**
+     * Number of storms whose current radius covers the player.
+     */
+    public int getCoverCount(int index) {
+        return coverStart[index + 1] - coverStart[index];
+    }
+
+    /**
+     * Gets the table index of the n-th storm covering the player.
+     */
+    public int getCoveringStorm(int index, int n) {
+        return cover[coverStart[index] + n];
+    }
+
+    /**
+     * Checks if a storm (by table index) covers the player.
+     */
+    public boolean isCoveredBy(int index, int stormIndex) {
+        for (int i = coverStart[index]; i < coverStart[index + 1]; i++) {
+            if (cover[i] == stormIndex) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -19,7 +19,6 @@ import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.World;
 import org.bukkit.WeatherType;
-import org.bukkit.scheduler.BukkitTask;
 
 import java.util.*;
 import java.util.concurrent.ThreadLocalRandom;
@@ -33,27 +32,34 @@ public class StormManager {
     private final PlayerExposureUtil exposureUtil;
     private final WorldGuardIntegration worldGuardIntegration;
     private final ZoneManager zoneManager;
+    private final StormWorlds worlds;
     private final Random random = new Random();
 
     // Storm state
     private StormPhase currentPhase = StormPhase.IDLE;
     private long nextStormTimeMillis = 0;
-    private long nextBurstTimeMillis = 0; // For erratic spawning
     private ActiveStorm activeStorm = null;
     private TravelingStorm travelingStorm = null; // Legacy single storm support
-    private List<TravelingStorm> activeStorms = new ArrayList<>(); // Multiple storms
+    private List<TravelingStorm> activeStorms = new ArrayList<>(); // Multiple storms, across all worlds
     private StormProfile upcomingProfile = null;
 
     // Tasks
-    private BukkitTask scheduleCheckTask;
+    private TaskHandle scheduleCheckTask;
     private CountdownTask countdownTask;
     private DamageTask damageTask;
     private TravelingStormManager travelingStormManager; // Legacy single storm
-    private List<TravelingStormManager> activeStormManagers = new ArrayList<>(); // Multiple storms
+    private List<TravelingStormManager> activeStormManagers = new ArrayList<>(); // Multiple storms, across all worlds
     private BlockDamageTask blockDamageTask;
     private StormDropsManager stormDropsManager;
     private OreGenerationManager oreGenerationManager;
-    private BukkitTask stormDurationTask;
+    private TaskHandle stormDurationTask;
+
+    // Player positions relative to storms, rebuilt on first use in a tick while multi-storm tasks run
+    private final ProximitySnapshot proximitySnapshot = new ProximitySnapshot();
+    private boolean proximityEnabled = false;
+
+    // Folia: player positions recorded on their own threads, for the storm managers' range checks
+    private PlayerPositions playerPositions;
     private dev.ked.stormcraft.ui.StormTracker stormTracker;
 
     public StormManager(StormcraftPlugin plugin, ConfigManager config,
@@ -64,21 +70,29 @@ public class StormManager {
         this.exposureUtil = exposureUtil;
         this.worldGuardIntegration = worldGuardIntegration;
         this.zoneManager = zoneManager;
+        this.worlds = plugin.getStormWorlds();
     }
 
     public void start() {
+        if (plugin.getTaskScheduler().isRegionThreaded()) {
+            playerPositions = new PlayerPositions(plugin);
+            playerPositions.start();
+        }
+
         // For erratic spawning mode, always seed initial storms on server start
         if (config.isErraticSpawningEnabled() && config.isTravelingStormsEnabled() && zoneManager.isEnabled()) {
-            // Seed initial storm burst with varying lifetimes
-            spawnStormBurst(true);
-            scheduleNextBurst();
+            // Seed each world's initial storm burst with varying lifetimes
+            for (StormWorlds.Partition partition : worlds.all()) {
+                spawnStormBurst(partition, true);
+                scheduleNextBurst(partition);
+            }
         } else if (nextStormTimeMillis == 0) {
             // Traditional storm system - only initialize if not loaded from data
             scheduleNextStorm();
         }
 
         // Start periodic check for storm scheduling (every 20 ticks = 1 second)
-        scheduleCheckTask = Bukkit.getScheduler().runTaskTimer(plugin, this::checkStormSchedule, 20L, 20L);
+        scheduleCheckTask = plugin.getTaskScheduler().runTimer(this::checkStormSchedule, 20L, 20L);
 
         // Start ore generation manager (passive ore spawning)
         if (config.isOreGenerationEnabled() && zoneManager.isEnabled()) {
@@ -105,6 +119,21 @@ public class StormManager {
         if (travelingStormManager != null) {
             travelingStormManager.cancel();
         }
+        for (StormWorlds.Partition partition : worlds.all()) {
+            if (partition.seedTask != null) {
+                partition.seedTask.cancel();
+                partition.seedTask = null;
+            }
+            partition.pendingSeeds = 0;
+        }
+        proximityEnabled = false;
+        if (playerPositions != null) {
+            playerPositions.stop();
+            playerPositions = null;
+        }
+        for (TravelingStormManager manager : activeStormManagers) {
+            manager.cancel();
+        }
         if (blockDamageTask != null) {
             blockDamageTask.cancel();
         }
@@ -126,11 +155,13 @@ public class StormManager {
     private void checkStormSchedule() {
         long now = System.currentTimeMillis();
 
-        // Check for erratic burst spawning
+        // Check for erratic burst spawning, on each world's own schedule
         if (config.isErraticSpawningEnabled() && config.isTravelingStormsEnabled() && zoneManager.isEnabled()) {
-            if (now >= nextBurstTimeMillis) {
-                spawnStormBurst(false);
-                scheduleNextBurst();
+            for (StormWorlds.Partition partition : worlds.all()) {
+                if (now >= partition.nextBurstTimeMillis) {
+                    spawnStormBurst(partition, false);
+                    scheduleNextBurst(partition);
+                }
             }
             return;
         }
@@ -161,17 +192,17 @@ public class StormManager {
     }
 
     /**
-     * Schedules the next storm burst (for erratic spawning).
+     * Schedules a world's next storm burst (for erratic spawning).
      */
-    private void scheduleNextBurst() {
+    private void scheduleNextBurst(StormWorlds.Partition partition) {
         int minDelay = config.getMinBurstDelaySeconds();
         int maxDelay = config.getMaxBurstDelaySeconds();
         int delaySeconds = ThreadLocalRandom.current().nextInt(minDelay, maxDelay + 1);
 
-        nextBurstTimeMillis = System.currentTimeMillis() + (delaySeconds * 1000L);
+        partition.nextBurstTimeMillis = System.currentTimeMillis() + (delaySeconds * 1000L);
 
         if (config.isLogScheduling()) {
-            plugin.getLogger().info("Next storm burst scheduled in " + delaySeconds + "s");
+            plugin.getLogger().info("Next storm burst in " + partition.getWorld().getName() + " scheduled in " + delaySeconds + "s");
         }
     }
 
@@ -179,19 +210,7 @@ public class StormManager {
      * Selects a burst size using weighted random selection.
      */
     private int selectWeightedBurstSize() {
-        Map<Integer, Double> weights = config.getBurstChanceWeights();
-        double totalWeight = weights.values().stream().mapToDouble(Double::doubleValue).sum();
-        double randomValue = random.nextDouble() * totalWeight;
-
-        double cumulative = 0.0;
-        for (Map.Entry<Integer, Double> entry : weights.entrySet()) {
-            cumulative += entry.getValue();
-            if (randomValue <= cumulative) {
-                return entry.getKey();
-            }
-        }
-
-        return config.getMinBurstSize(); // Fallback
+        return config.getBurstSizeTable().pick(random.nextDouble(), config.getMinBurstSize());
     }
 
     /**
@@ -259,31 +278,51 @@ public class StormManager {
         boolean useTravelingStorm = config.isTravelingStormsEnabled() && zoneManager.isEnabled();
 
         if (useTravelingStorm) {
-            // Use traveling storm system
-            World world = null;
-            if (!config.getEnabledWorlds().isEmpty()) {
-                world = Bukkit.getWorld(config.getEnabledWorlds().get(0));
-            }
-
-            // Fallback to default world if configured world not found
-            if (world == null) {
+            // Use traveling storm system, in a random enabled world
+            StormWorlds.Partition partition = worlds.random(random);
+            World world;
+            if (partition != null) {
+                world = partition.getWorld();
+            } else {
+                // Fallback to default world if no configured world is loaded
                 world = Bukkit.getWorlds().get(0);
                 plugin.getLogger().warning("Configured world not found for storm spawn. Using default world: " + world.getName());
             }
 
+            // Landfall happens once the spawn site has been picked off-thread
             travelingStormManager = new TravelingStormManager(plugin, config, zoneManager);
-            travelingStormManager.startTravelingStorm(upcomingProfile, actualDuration, actualDamage, world, actualDuration, this::endStorm);
-            travelingStorm = travelingStormManager.getActiveStorm();
+            travelingStormManager.startTravelingStorm(upcomingProfile, actualDuration, actualDamage, world, actualDuration,
+                    this::endStorm, storm -> {
+                        travelingStorm = storm;
+                        storm.setChangeListener(this::onStormChanged);
+                        beginStormEffects(true, actualDuration);
+                    }, this::onTravelingStormFailed);
         } else {
             // Use traditional stationary storm system
             activeStorm = new ActiveStorm(upcomingProfile, actualDuration, actualDamage);
-            stormDurationTask = Bukkit.getScheduler().runTaskTimer(plugin, this::tickStormDuration, 20L, 20L);
+            stormDurationTask = plugin.getTaskScheduler().runTimer(this::tickStormDuration, 20L, 20L);
 
             // Fire storm start event
             StormcraftStormStartEvent startEvent = new StormcraftStormStartEvent(activeStorm);
             Bukkit.getPluginManager().callEvent(startEvent);
+
+            beginStormEffects(false, actualDuration);
         }
+    }
 
+    /**
+     * Callback when the traveling storm couldn't be spawned: back to idle, with the next storm scheduled.
+     */
+    private void onTravelingStormFailed() {
+        travelingStormManager = null;
+        currentPhase = StormPhase.IDLE;
+        scheduleNextStorm();
+    }
+
+    /**
+     * Sets the weather, announces landfall and starts the per-storm tasks.
+     */
+    private void beginStormEffects(boolean useTravelingStorm, int actualDuration) {
         // Set weather to thunder in enabled worlds
         setStormWeather();
 
@@ -334,10 +373,11 @@ public class StormManager {
     }
 
     /**
-     * Spawns a burst of traveling storms (erratic spawning mode).
+     * Spawns a burst of traveling storms in one world (erratic spawning mode).
+     * maxConcurrentStorms applies to each world separately.
      * @param isInitialSeed If true, storms will have varying time remaining to simulate already-active storms
      */
-    private void spawnStormBurst(boolean isInitialSeed) {
+    private void spawnStormBurst(StormWorlds.Partition partition, boolean isInitialSeed) {
         int maxConcurrent = config.getMaxConcurrentStorms();
 
         // For initial seed, spawn ~70% of max concurrent storms
@@ -348,7 +388,8 @@ public class StormManager {
                     ", burstSize=" + burstSize + ", maxConcurrent=" + maxConcurrent);
         }
 
-        int currentCount = activeStorms.size();
+        // Includes storms still being planned or waiting to be seeded
+        int currentCount = partition.managers.size() + partition.pendingSeeds;
 
         // Limit burst size to not exceed max concurrent storms
         if (currentCount >= maxConcurrent) {
@@ -361,76 +402,125 @@ public class StormManager {
         // Reduce burst size if it would exceed the limit
         int actualBurstSize = Math.min(burstSize, maxConcurrent - currentCount);
 
-        // Get world with null check
-        World world = null;
-        if (!config.getEnabledWorlds().isEmpty()) {
-            world = Bukkit.getWorld(config.getEnabledWorlds().get(0));
+        World world = partition.getWorld();
+        if (config.isLogScheduling()) {
+            plugin.getLogger().info("Spawning storm burst: " + actualBurstSize + " storms (total: " + (currentCount + actualBurstSize) + "/" + maxConcurrent + ") in world: " + world.getName());
         }
 
-        // Fallback to default world if configured world not found
-        if (world == null) {
-            world = Bukkit.getWorlds().get(0); // Default world
-            plugin.getLogger().warning("Configured world not found for storm spawn. Using default world: " + world.getName());
+        // Startup seeding is spread over the first few seconds instead of blocking onEnable
+        if (isInitialSeed) {
+            seedStormsGradually(partition, actualBurstSize);
+            return;
         }
 
-        if (config.isLogScheduling()) {
-            plugin.getLogger().info("Spawning storm burst: " + actualBurstSize + " storms (total: " + (currentCount + actualBurstSize) + "/" + maxConcurrent + ") in world: " + world.getName());
+        for (int i = 0; i < actualBurstSize; i++) {
+            spawnBurstStorm(partition, false);
         }
+    }
 
-        for (int i = 0; i < actualBurstSize; i++) {
-            StormProfile profile = selectRandomStormProfile();
-
-            // Randomize duration
-            int minDuration = profile.getMinDurationSeconds();
-            int maxDuration = profile.getMaxDurationSeconds();
-            int actualDuration = ThreadLocalRandom.current().nextInt(minDuration, maxDuration + 1);
-
-            // Randomize damage
-            double minDamage = profile.getMinDamagePerSecond();
-            double maxDamage = profile.getMaxDamagePerSecond();
-            double actualDamage = minDamage + (ThreadLocalRandom.current().nextDouble() * (maxDamage - minDamage));
-
-            // For initial seed, randomize remaining time to simulate storms already in progress
-            int initialRemainingSeconds = actualDuration;
-            if (isInitialSeed) {
-                // Storms can be anywhere from 10% to 100% of their lifetime remaining
-                double remainingPercent = 0.1 + (ThreadLocalRandom.current().nextDouble() * 0.9);
-                initialRemainingSeconds = (int) (actualDuration * remainingPercent);
-
-                if (config.isLogScheduling()) {
-                    plugin.getLogger().info("Initial seed storm: duration=" + actualDuration +
-                            "s, remaining=" + initialRemainingSeconds + "s (" +
-                            String.format("%.0f", remainingPercent * 100) + "%), damage=" +
-                            String.format("%.1f", actualDamage) + " HP/s");
-                }
+    /**
+     * Starts a world's initial seed a few storms at a time, every seedIntervalTicks.
+     */
+    private void seedStormsGradually(StormWorlds.Partition partition, int count) {
+        partition.pendingSeeds = count;
+        int perRun = config.getSeedStormsPerRun();
+        partition.seedTask = plugin.getTaskScheduler().runTimer(() -> {
+            int batch = Math.min(perRun, partition.pendingSeeds);
+            for (int i = 0; i < batch; i++) {
+                spawnBurstStorm(partition, true);
             }
+            partition.pendingSeeds -= batch;
+            if (partition.pendingSeeds <= 0 && partition.seedTask != null) {
+                partition.seedTask.cancel();
+                partition.seedTask = null;
+            }
+        }, 1L, config.getSeedIntervalTicks());
+    }
 
-            // Create individual storm manager
-            TravelingStormManager manager = new TravelingStormManager(plugin, config, zoneManager);
-            manager.startTravelingStorm(profile, actualDuration, actualDamage, world, initialRemainingSeconds, () -> onStormEnd(manager));
-            activeStormManagers.add(manager);
+    /**
+     * Rolls and starts one storm of a burst. Its site and path are planned off-thread,
+     * and it joins activeStorms through {@link #onStormSpawned} once ready.
+     */
+    private void spawnBurstStorm(StormWorlds.Partition partition, boolean isInitialSeed) {
+        StormProfile profile = selectRandomStormProfile();
+
+        // Randomize duration
+        int minDuration = profile.getMinDurationSeconds();
+        int maxDuration = profile.getMaxDurationSeconds();
+        int actualDuration = ThreadLocalRandom.current().nextInt(minDuration, maxDuration + 1);
+
+        // Randomize damage
+        double minDamage = profile.getMinDamagePerSecond();
+        double maxDamage = profile.getMaxDamagePerSecond();
+        double actualDamage = minDamage + (ThreadLocalRandom.current().nextDouble() * (maxDamage - minDamage));
+
+        // For initial seed, randomize remaining time to simulate storms already in progress
+        int initialRemainingSeconds = actualDuration;
+        if (isInitialSeed) {
+            // Storms can be anywhere from 10% to 100% of their lifetime remaining
+            double remainingPercent = 0.1 + (ThreadLocalRandom.current().nextDouble() * 0.9);
+            initialRemainingSeconds = (int) (actualDuration * remainingPercent);
 
-            TravelingStorm storm = manager.getActiveStorm();
-            if (storm != null) {
-                activeStorms.add(storm);
+            if (config.isLogScheduling()) {
+                plugin.getLogger().info("Initial seed storm: duration=" + actualDuration +
+                        "s, remaining=" + initialRemainingSeconds + "s (" +
+                        String.format("%.0f", remainingPercent * 100) + "%), damage=" +
+                        String.format("%.1f", actualDamage) + " HP/s");
             }
         }
 
-        // Set weather and update tasks
-        setStormWeather();
-        startMultiStormTasks();
+        // Create individual storm manager; the storm joins activeStorms once it has spawned
+        TravelingStormManager manager = new TravelingStormManager(plugin, config, zoneManager);
+        activeStormManagers.add(manager);
+        partition.managers.add(manager);
+        manager.startTravelingStorm(profile, actualDuration, actualDamage, partition.getWorld(), initialRemainingSeconds,
+                () -> onStormEnd(partition, manager), storm -> onStormSpawned(partition, storm),
+                () -> onStormEnd(partition, manager));
+    }
+
+    /**
+     * Callback when a burst storm has spawned. The shared tasks start with the first storm in any world.
+     */
+    private void onStormSpawned(StormWorlds.Partition partition, TravelingStorm storm) {
+        storm.setChangeListener(this::onStormChanged);
+        activeStorms.add(storm);
+        partition.storms.add(storm);
+        if (damageTask == null) {
+            setStormWeather();
+            startMultiStormTasks();
+        } else {
+            // Players skipped as far from every storm may be close to this one
+            damageTask.wakeAllPlayers();
+        }
     }
 
     /**
-     * Callback when an individual storm ends.
+     * Callback when another plugin (Stormclear, the API) moves a storm or changes its speed.
+     * Players the damage check is skipping were timed against the old path, so all of them are checked again.
      */
-    private void onStormEnd(TravelingStormManager endedManager) {
+    private void onStormChanged() {
+        if (damageTask != null) {
+            damageTask.wakeAllPlayers();
+        }
+    }
+
+    /**
+     * Callback when an individual storm ends, or fails to spawn. Frees its slot under the storm cap.
+     */
+    private void onStormEnd(StormWorlds.Partition partition, TravelingStormManager endedManager) {
         activeStormManagers.remove(endedManager);
-        if (endedManager.getActiveStorm() != null) {
-            activeStorms.remove(endedManager.getActiveStorm());
+        partition.managers.remove(endedManager);
+
+        // The manager lets go of its storm before calling back, so drop the world's storms no manager still runs
+        for (Iterator<TravelingStorm> it = partition.storms.iterator(); it.hasNext(); ) {
+            TravelingStorm storm = it.next();
+            if (!isRunning(partition, storm)) {
+                it.remove();
+                activeStorms.remove(storm);
+            }
         }
 
-        // If all storms ended, clean up
+        // If all storms in every world ended, clean up
         if (activeStormManagers.isEmpty()) {
             clearMultiStormTasks();
             clearStormWeather();
@@ -441,6 +531,33 @@ public class StormManager {
         }
     }
 
+    private static boolean isRunning(StormWorlds.Partition partition, TravelingStorm storm) {
+        for (TravelingStormManager manager : partition.managers) {
+            if (manager.getActiveStorm() == storm) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Ends every storm in a world storms no longer run in (unloaded, or taken out of the config),
+     * including ones still being planned. Called by {@link StormWorlds} when it drops the world's partition.
+     */
+    void endWorldStorms(StormWorlds.Partition partition) {
+        activeStorms.removeAll(partition.storms);
+        partition.storms.clear();
+        for (TravelingStormManager manager : new ArrayList<>(partition.managers)) {
+            if (manager.hasActiveStorm()) {
+                manager.endStorm();
+            } else {
+                // Not spawned yet: cancelling stops the launch, so clean up here
+                manager.cancel();
+                onStormEnd(partition, manager);
+            }
+        }
+    }
+
     /**
      * Starts tasks for multiple storms.
      */
@@ -450,6 +567,9 @@ public class StormManager {
             return;
         }
 
+        // Shared player/storm proximity for the tasks below (Folia reads players on their own threads)
+        proximityEnabled = !plugin.getTaskScheduler().isRegionThreaded();
+
         // Start damage task (handles all storms)
         int checkInterval = config.getExposureCheckIntervalTicks();
         damageTask = new DamageTask(plugin, config, exposureUtil, worldGuardIntegration, zoneManager);
@@ -482,6 +602,7 @@ public class StormManager {
      * Clears all multi-storm tasks.
      */
     private void clearMultiStormTasks() {
+        proximityEnabled = false;
         if (damageTask != null) {
             damageTask.cancel();
             damageTask = null;
@@ -623,21 +744,9 @@ public class StormManager {
      * Selects a random storm profile based on configured weights.
      */
     private StormProfile selectRandomStormProfile() {
-        Map<StormType, Double> weights = config.getStormWeights();
-        double totalWeight = weights.values().stream().mapToDouble(Double::doubleValue).sum();
-
-        double randomValue = random.nextDouble() * totalWeight;
-        double cumulative = 0.0;
-
-        for (Map.Entry<StormType, Double> entry : weights.entrySet()) {
-            cumulative += entry.getValue();
-            if (randomValue <= cumulative) {
-                return config.getDamageProfiles().get(entry.getKey());
-            }
-        }
-
         // Fallback to medium
-        return config.getDamageProfiles().get(StormType.MEDIUM);
+        StormType type = config.getStormTypeTable().pick(random.nextDouble(), StormType.MEDIUM);
+        return config.getDamageProfiles().get(type);
     }
 
     /**
@@ -650,13 +759,11 @@ public class StormManager {
             return;
         }
 
-        for (String worldName : config.getEnabledWorlds()) {
-            World world = Bukkit.getWorld(worldName);
-            if (world != null) {
-                world.setStorm(true);
-                world.setThundering(true);
-                world.setWeatherDuration(Integer.MAX_VALUE);
-            }
+        for (StormWorlds.Partition partition : plugin.getStormWorlds().all()) {
+            World world = partition.getWorld();
+            world.setStorm(true);
+            world.setThundering(true);
+            world.setWeatherDuration(Integer.MAX_VALUE);
         }
     }
 
@@ -670,13 +777,11 @@ public class StormManager {
             return;
         }
 
-        for (String worldName : config.getEnabledWorlds()) {
-            World world = Bukkit.getWorld(worldName);
-            if (world != null) {
-                world.setStorm(false);
-                world.setThundering(false);
-                world.setWeatherDuration(0);
-            }
+        for (StormWorlds.Partition partition : plugin.getStormWorlds().all()) {
+            World world = partition.getWorld();
+            world.setStorm(false);
+            world.setThundering(false);
+            world.setWeatherDuration(0);
         }
     }
 
@@ -777,7 +882,7 @@ public class StormManager {
         damageTask.runTaskTimer(plugin, checkInterval, checkInterval);
 
         // Restart duration task
-        stormDurationTask = Bukkit.getScheduler().runTaskTimer(plugin, this::tickStormDuration, 20L, 20L);
+        stormDurationTask = plugin.getTaskScheduler().runTimer(this::tickStormDuration, 20L, 20L);
 
         setStormWeather();
     }
@@ -794,6 +899,29 @@ public class StormManager {
         return currentPhase;
     }
 
+    /**
+     * Gets this tick's player/storm proximity snapshot, or null when it isn't being built
+     * (no multi-storm tasks running, or Folia). The first call in a server tick measures the players;
+     * later calls in the same tick return it as is. Main thread only.
+     */
+    public ProximitySnapshot getProximitySnapshot() {
+        if (!proximityEnabled) {
+            return null;
+        }
+        int tick = Bukkit.getCurrentTick();
+        if (proximitySnapshot.getTick() != tick) {
+            proximitySnapshot.refresh(tick, Bukkit.getOnlinePlayers(), activeStorms);
+        }
+        return proximitySnapshot;
+    }
+
+    /**
+     * Gets the player positions recorded on their own threads, or null when not on Folia.
+     */
+    public PlayerPositions getPlayerPositions() {
+        return playerPositions;
+    }
+
     /**
      * Gets the list of active storms (for multi-storm system).
      */
@@ -801,6 +929,14 @@ public class StormManager {
         return new ArrayList<>(activeStorms);
     }
 
+    /**
+     * Gets the active storms in one world (for multi-storm system).
+     */
+    public List<TravelingStorm> getActiveStorms(World world) {
+        StormWorlds.Partition partition = worlds.get(world);
+        return partition != null ? partition.getStorms() : new ArrayList<>();
+    }
+
     /**
      * Checks if there are any active storms (for multi-storm system).
      */
@@ -815,17 +951,26 @@ public class StormManager {
         return damageTask;
     }
 
+    /**
+     * Reseeds the random draws of the running damage and block damage tasks.
+     * Called by the trace recorder with each frame's seed, and by the offline replay with the recorded one.
+     */
+    public void reseedTasks(long seed) {
+        if (damageTask != null) {
+            damageTask.reseed(seed);
+        }
+        if (blockDamageTask != null) {
+            blockDamageTask.reseed(seed);
+        }
+    }
+
     /**
      * Checks if a location is inside any active storm.
      */
     public boolean isLocationInAnyStorm(Location location) {
         for (TravelingStorm storm : activeStorms) {
-            Location stormLoc = storm.getCurrentLocation();
-            if (stormLoc.getWorld().equals(location.getWorld())) {
-                double distance = location.distance(stormLoc);
-                if (distance <= storm.getCurrentRadius()) {
-                    return true;
-                }
+            if (storm.isInWorld(location.getWorld()) && storm.containsXZ(location.getX(), location.getZ())) {
+                return true;
             }
         }
         return false;
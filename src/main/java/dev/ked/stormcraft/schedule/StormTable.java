@@ -0,0 +1,220 @@
+package dev.ked.stormcraft.schedule;
+
+import dev.ked.stormcraft.model.TravelingStorm;
+import org.bukkit.World;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Per-tick copy of storm centers, squared radii and DPS in parallel primitive arrays.
+ * Refreshed once per damage run so that checking every player against every storm is
+ * a tight loop over doubles instead of a method call (and radius/phase math) per pair.
+ * Storms are grouped by world into contiguous ranges, so a lookup only walks the storms in the
+ * player's own world and a second storm world doesn't add to the per-player cost.
+ * The arrays are reused between runs. Not thread-safe: owned by the task that refreshes it.
+ */
+public final class StormTable {
+    private TravelingStorm[] storms = new TravelingStorm[0];
+    private double[] x = new double[0];
+    private double[] z = new double[0];
+    private double[] radiusSq = new double[0];
+    private double[] damagePerSecond = new double[0];
+    private double[] maxRadius = new double[0];
+    private double[] speed = new double[0];
+    private double[] distanceSq = new double[0];
+    private int size;
+
+    // Per-world ranges of the arrays above: storms in rangeWorlds[r] are at [rangeStart[r], rangeEnd[r])
+    private World[] rangeWorlds = new World[0];
+    private int[] rangeStart = new int[0];
+    private int[] rangeEnd = new int[0];
+    private int rangeCount;
+
+    /**
+     * Copies the current state of the given storms. Call on the thread that moves them.
+     */
+    public void refresh(Collection<TravelingStorm> source) {
+        ensureCapacity(source.size());
+
+        // Count storms per world (there are only ever a few worlds, so a linear scan beats a map)
+        Arrays.fill(rangeWorlds, 0, rangeCount, null);
+        rangeCount = 0;
+        for (TravelingStorm storm : source) {
+            int range = range(storm.getWorld());
+            if (range < 0) {
+                range = addRange(storm.getWorld());
+            }
+            rangeEnd[range]++;
+        }
+        int offset = 0;
+        for (int r = 0; r < rangeCount; r++) {
+            rangeStart[r] = offset;
+            offset += rangeEnd[r];
+            rangeEnd[r] = rangeStart[r];
+        }
+
+        for (TravelingStorm storm : source) {
+            int count = rangeEnd[range(storm.getWorld())]++;
+            storms[count] = storm;
+            x[count] = storm.centerX();
+            z[count] = storm.centerZ();
+            radiusSq[count] = storm.radiusSq();
+            damagePerSecond[count] = storm.getCurrentDamagePerSecond();
+            maxRadius[count] = storm.getDamageRadius();
+            speed[count] = storm.getCurrentSpeed();
+        }
+        // Drop references to storms that have ended since the last refresh
+        if (offset < size) {
+            Arrays.fill(storms, offset, size, null);
+        }
+        size = offset;
+    }
+
+    /**
+     * Gets the range holding a world's storms, or -1 if it has none.
+     */
+    private int range(World world) {
+        for (int r = 0; r < rangeCount; r++) {
+            if (rangeWorlds[r] == world) {
+                return r;
+            }
+        }
+        return -1;
+    }
+
+    private int addRange(World world) {
+        if (rangeCount == rangeWorlds.length) {
+            int newCapacity = Math.max(4, rangeCount * 2);
+            rangeWorlds = Arrays.copyOf(rangeWorlds, newCapacity);
+            rangeStart = Arrays.copyOf(rangeStart, newCapacity);
+            rangeEnd = Arrays.copyOf(rangeEnd, newCapacity);
+        }
+        rangeWorlds[rangeCount] = world;
+        rangeStart[rangeCount] = 0;
+        rangeEnd[rangeCount] = 0;
+        return rangeCount++;
+    }
+
+    /**
+     * Writes the indices of every storm whose radius contains the given position into {@code out}
+     * and returns how many there are. {@code out} must hold at least {@link #size()} entries.
+     */
+    public int findContaining(World world, double px, double pz, int[] out) {
+        int range = range(world);
+        if (range < 0) {
+            return 0;
+        }
+        int start = rangeStart[range];
+        int end = rangeEnd[range];
+
+        // Kept free of branches and calls so the JIT can vectorize it
+        for (int i = start; i < end; i++) {
+            double dx = x[i] - px;
+            double dz = z[i] - pz;
+            distanceSq[i] = dx * dx + dz * dz;
+        }
+
+        int count = 0;
+        for (int i = start; i < end; i++) {
+            if (distanceSq[i] <= radiusSq[i]) {
+                out[count++] = i;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Earliest time in seconds a player at the given position could be inside any storm in their world,
+     * assuming every storm reaches full size and heads straight for them. Infinite if no storm is in the world.
+     */
+    public double secondsUntilContact(World world, double px, double pz, double playerSpeed) {
+        double earliest = Double.POSITIVE_INFINITY;
+        int range = range(world);
+        if (range < 0) {
+            return earliest;
+        }
+        for (int i = rangeStart[range]; i < rangeEnd[range]; i++) {
+            double dx = x[i] - px;
+            double dz = z[i] - pz;
+            double seconds = ContactScheduler.secondsUntilContact(Math.sqrt(dx * dx + dz * dz), maxRadius[i], speed[i], playerSpeed);
+            earliest = Math.min(earliest, seconds);
+        }
+        return earliest;
+    }
+
+    /**
+     * Gets the index of the storm in the given world whose edge is closest to the position, or -1 if none.
+     */
+    public int findNearestEdge(World world, double px, double pz) {
+        int nearest = -1;
+        double nearestDistance = Double.MAX_VALUE;
+        int range = range(world);
+        if (range < 0) {
+            return nearest;
+        }
+        for (int i = rangeStart[range]; i < rangeEnd[range]; i++) {
+            double distance = edgeDistance(i, px, pz);
+            if (distance < nearestDistance) {
+                nearestDistance = distance;
+                nearest = i;
+            }
+        }
+        return nearest;
+    }
+
+    /**
+     * Horizontal distance from a position to a storm's current edge, 0 if inside.
+     */
+    public double edgeDistance(int index, double px, double pz) {
+        double dx = x[index] - px;
+        double dz = z[index] - pz;
+        return Math.max(0, Math.sqrt(dx * dx + dz * dz) - Math.sqrt(radiusSq[index]));
+    }
+
+    /**
+     * Gets the index of a storm in the table, or -1 if it isn't in it.
+     */
+    public int indexOf(TravelingStorm storm) {
+        for (int i = 0; i < size; i++) {
+            if (storms[i] == storm) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Checks if any storm in the table is in the given world.
+     */
+    public boolean hasStormsIn(World world) {
+        return range(world) >= 0;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= storms.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, storms.length * 2);
+        storms = Arrays.copyOf(storms, newCapacity);
+        x = new double[newCapacity];
+        z = new double[newCapacity];
+        radiusSq = new double[newCapacity];
+        damagePerSecond = new double[newCapacity];
+        maxRadius = new double[newCapacity];
+        speed = new double[newCapacity];
+        distanceSq = new double[newCapacity];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public TravelingStorm storm(int index) {
+        return storms[index];
+    }
+
+    public double damagePerSecond(int index) {
+        return damagePerSecond[index];
+    }
+}
@@ -0,0 +1,36 @@
+package dev.ked.stormcraft.schedule;
+
+import dev.ked.stormcraft.StormcraftPlugin;
+
+/**
+ * Base class for Stormcraft's repeating tasks, replacing BukkitRunnable so the same task
+ * can run on Paper's main thread or Folia's global region.
+ */
+public abstract class StormTask implements Runnable {
+    private TaskHandle handle;
+    private boolean cancelled;
+
+    /**
+     * Schedules this task through the plugin's {@link TaskScheduler}.
+     */
+    public synchronized void runTaskTimer(StormcraftPlugin plugin, long delayTicks, long periodTicks) {
+        if (handle != null) {
+            throw new IllegalStateException("Already scheduled");
+        }
+        handle = plugin.getTaskScheduler().runTimer(this, delayTicks, periodTicks);
+    }
+
+    /**
+     * Cancels the task. Safe to call before it has been scheduled.
+     */
+    public synchronized void cancel() {
+        cancelled = true;
+        if (handle != null) {
+            handle.cancel();
+        }
+    }
+
+    public synchronized boolean isCancelled() {
+        return cancelled;
+    }
+}
@@ -0,0 +1,153 @@
+package dev.ked.stormcraft.schedule;
+
+import dev.ked.stormcraft.StormcraftPlugin;
+import dev.ked.stormcraft.config.ConfigManager;
+import dev.ked.stormcraft.model.TravelingStorm;
+import org.bukkit.World;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * The worlds storms run in: one {@link Partition} per loaded enabled world, in a dense array.
+ * Each partition holds its world's storms and burst schedule, so worlds spawn and end storms
+ * independently. Checking whether a world is enabled is a scan of a few references instead of
+ * a string comparison against the configured names.
+ *
+ * Rebuilt on reload and when worlds load or unload; partitions for worlds that stay enabled are
+ * kept, so their running storms and schedules carry over, and storms in dropped worlds are ended. The array is replaced as a whole, so
+ * lookups are safe from any thread. Partition state itself is main thread only.
+ */
+public final class StormWorlds {
+    private final StormcraftPlugin plugin;
+    private final ConfigManager config;
+    private volatile Partition[] partitions = new Partition[0];
+
+    public StormWorlds(StormcraftPlugin plugin, ConfigManager config) {
+        this.plugin = plugin;
+        this.config = config;
+    }
+
+    /**
+     * Resolves the configured world names to loaded worlds.
+     */
+    public void refresh() {
+        refresh(null);
+    }
+
+    /**
+     * Resolves the configured world names to loaded worlds, leaving out one that is being unloaded.
+     */
+    public void refresh(World unloading) {
+        Partition[] previous = partitions;
+        List<Partition> resolved = new ArrayList<>();
+        for (String worldName : config.getEnabledWorlds()) {
+            World world = plugin.getServer().getWorld(worldName);
+            if (world == null || world == unloading) {
+                continue;
+            }
+            Partition partition = null;
+            for (Partition old : previous) {
+                if (old.world == world) {
+                    partition = old;
+                    break;
+                }
+            }
+            if (partition == null) {
+                partition = new Partition(world);
+            }
+            partition.index = resolved.size();
+            resolved.add(partition);
+        }
+        partitions = resolved.toArray(new Partition[0]);
+
+        // Worlds that were dropped stop seeding, and their storms end
+        for (Partition old : previous) {
+            if (resolved.contains(old)) {
+                continue;
+            }
+            if (old.seedTask != null) {
+                old.seedTask.cancel();
+                old.seedTask = null;
+                old.pendingSeeds = 0;
+            }
+            StormManager stormManager = plugin.getStormManager();
+            if (stormManager != null) {
+                stormManager.endWorldStorms(old);
+            }
+        }
+    }
+
+    /**
+     * Gets the partition for a world, or null if storms don't run there.
+     */
+    public Partition get(World world) {
+        for (Partition partition : partitions) {
+            if (partition.world == world) {
+                return partition;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Checks if storms run in a world.
+     */
+    public boolean isEnabled(World world) {
+        return get(world) != null;
+    }
+
+    /**
+     * Gets every partition, indexed by {@link Partition#getIndex()}. Don't modify the array.
+     */
+    public Partition[] all() {
+        return partitions;
+    }
+
+    /**
+     * Picks a random enabled world, or null if none is loaded.
+     */
+    public Partition random(Random random) {
+        Partition[] current = partitions;
+        return current.length == 0 ? null : current[random.nextInt(current.length)];
+    }
+
+    public int size() {
+        return partitions.length;
+    }
+
+    /**
+     * One world's storms and burst schedule.
+     */
+    public static final class Partition {
+        private final World world;
+        private volatile int index;
+
+        // Managed by StormManager on the main thread
+        final List<TravelingStormManager> managers = new ArrayList<>();
+        final List<TravelingStorm> storms = new ArrayList<>();
+        long nextBurstTimeMillis = 0;
+        int pendingSeeds = 0;
+        TaskHandle seedTask;
+
+        Partition(World world) {
+            this.world = world;
+        }
+
+        public World getWorld() {
+            return world;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        /**
+         * Gets the storms currently active in this world.
+         */
+        public List<TravelingStorm> getStorms() {
+            return new ArrayList<>(storms);
+        }
+    }
+}
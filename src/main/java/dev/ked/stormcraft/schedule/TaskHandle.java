@@ -0,0 +1,10 @@
+package dev.ked.stormcraft.schedule;
+
+/**
+ * A scheduled task that can be cancelled, independent of the server's scheduler implementation.
+ */
+public interface TaskHandle {
+    void cancel();
+
+    boolean isCancelled();
+}
@@ -0,0 +1,71 @@
+package dev.ked.stormcraft.schedule;
+
+import dev.ked.stormcraft.StormcraftPlugin;
+import org.bukkit.Location;
+import org.bukkit.entity.Entity;
+
+/**
+ * Schedules Stormcraft's work on whichever threading model the server uses.
+ * On Paper everything runs on the main thread, as before. On Folia, global work (storm simulation,
+ * timers) runs on the global region, and work touching an entity or a block runs on the region that owns it.
+ */
+public interface TaskScheduler {
+    /**
+     * Runs a repeating task on the main thread (Paper) or the global region (Folia).
+     */
+    TaskHandle runTimer(Runnable task, long delayTicks, long periodTicks);
+
+    /**
+     * Runs a task once after a delay on the main thread (Paper) or the global region (Folia).
+     */
+    TaskHandle runLater(Runnable task, long delayTicks);
+
+    /**
+     * Runs a task on the main thread (Paper) or the global region (Folia) on the next tick.
+     */
+    void runGlobal(Runnable task);
+
+    /**
+     * Runs a task on a background thread. The task must not touch the world.
+     */
+    void runAsync(Runnable task);
+
+    /**
+     * Runs a task on the thread that owns the entity. Runs immediately if the current thread already owns it.
+     * The task is skipped if the entity is removed before it runs.
+     */
+    void runForEntity(Entity entity, Runnable task);
+
+    /**
+     * Runs a task on the entity's thread after a delay.
+     */
+    void runForEntityLater(Entity entity, Runnable task, long delayTicks);
+
+    /**
+     * Runs a task on the thread that owns the location's chunk. Runs immediately if the current thread already owns it.
+     */
+    void runAtLocation(Location location, Runnable task);
+
+    /**
+     * Whether the server ticks regions on separate threads (Folia).
+     */
+    boolean isRegionThreaded();
+
+    /**
+     * Current time in milliseconds for the gameplay timers that count in real time
+     * (exposure grace and cooldown, immunity, contact-check sleeps). The server's schedulers use the system clock.
+     */
+    long currentTimeMillis();
+
+    /**
+     * Picks the scheduler for the running server.
+     */
+    static TaskScheduler create(StormcraftPlugin plugin) {
+        try {
+            Class.forName("io.papermc.paper.threadedregions.RegionizedServer");
+            return new FoliaTaskScheduler(plugin);
+        } catch (ClassNotFoundException e) {
+            return new BukkitTaskScheduler(plugin);
+        }
+    }
+}
@@ -4,24 +4,29 @@ import dev.ked.stormcraft.StormcraftPlugin;
 import dev.ked.stormcraft.config.ConfigManager;
 import dev.ked.stormcraft.model.StormProfile;
 import dev.ked.stormcraft.model.TravelingStorm;
+import dev.ked.stormcraft.perf.TaskTimer;
+import dev.ked.stormcraft.zones.BiomeWeightRaster;
+import dev.ked.stormcraft.zones.ZoneImageMap;
 import dev.ked.stormcraft.zones.ZoneManager;
 import dev.ked.stormcraft.zones.ZoneSettings;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
 import org.bukkit.World;
-import org.bukkit.scheduler.BukkitRunnable;
+import org.bukkit.generator.BiomeProvider;
 
 import java.util.Random;
+import java.util.function.Consumer;
 
 /**
  * Manages a traveling storm that moves across the map toward the Stormlands.
  * Updates storm position, Dynmap marker, and handles storm lifecycle.
  */
-public class TravelingStormManager extends BukkitRunnable {
+public class TravelingStormManager extends StormTask {
     private final StormcraftPlugin plugin;
     private final ConfigManager config;
     private final ZoneManager zoneManager;
     private final Random random = new Random();
+    private final TaskTimer perfTimer;
 
     private TravelingStorm activeStorm;
     private Runnable onStormEndCallback;
@@ -38,37 +43,88 @@ public class TravelingStormManager extends BukkitRunnable {
         this.plugin = plugin;
         this.config = config;
         this.zoneManager = zoneManager;
+        this.perfTimer = plugin.getPerfMonitor().timer("TravelingStormManager");
     }
 
     /**
      * Starts a traveling storm.
+     * The spawn site and path are planned on a background thread (biome sampling never loads chunks),
+     * then the storm is created on the main thread and handed to {@code onStart}. If planning fails or the
+     * world unloads first, the manager is cancelled and {@code onFailed} runs on the main thread instead.
      * @param profile Storm profile
      * @param durationSeconds Storm duration
      * @param actualDamage Actual damage per second
      * @param world World to spawn storm in
      * @param initialRemainingSeconds Initial time remaining (for seeding storms in progress)
      * @param onEnd Callback when storm ends
+     * @param onStart Callback with the new storm once it has spawned
+     * @param onFailed Callback when the storm could not be spawned
      */
     public void startTravelingStorm(StormProfile profile, int durationSeconds,
-                                   double actualDamage, World world, int initialRemainingSeconds, Runnable onEnd) {
+                                   double actualDamage, World world, int initialRemainingSeconds,
+                                   Runnable onEnd, Consumer<TravelingStorm> onStart, Runnable onFailed) {
         this.onStormEndCallback = onEnd;
 
-        // Get spawn location
-        Location spawnLocation = getRandomSpawnLocation(world);
+        plugin.getTaskScheduler().runAsync(() -> {
+            try {
+                Location spawnLocation = getRandomSpawnLocation(world);
 
-        // Randomize movement speed from profile's range
-        double minSpeed = profile.getMinMovementSpeed();
-        double maxSpeed = profile.getMaxMovementSpeed();
-        double actualSpeed = minSpeed + (random.nextDouble() * (maxSpeed - minSpeed));
+                // Randomize movement speed from profile's range
+                double minSpeed = profile.getMinMovementSpeed();
+                double maxSpeed = profile.getMaxMovementSpeed();
+                double actualSpeed = minSpeed + (random.nextDouble() * (maxSpeed - minSpeed));
 
-        // Generate path waypoints (straight, curved, or wandering)
-        java.util.List<Location> waypoints = generateStormPath(world, spawnLocation, durationSeconds, actualSpeed);
+                // Generate path waypoints (straight, curved, or wandering)
+                java.util.List<Location> waypoints = generateStormPath(world, spawnLocation, durationSeconds, actualSpeed);
 
-        // Randomize radius from profile's range
-        double minRadius = profile.getMinRadius();
-        double maxRadius = profile.getMaxRadius();
-        double actualRadius = minRadius + (random.nextDouble() * (maxRadius - minRadius));
+                // Randomize radius from profile's range
+                double minRadius = profile.getMinRadius();
+                double maxRadius = profile.getMaxRadius();
+                double actualRadius = minRadius + (random.nextDouble() * (maxRadius - minRadius));
 
+                if (!plugin.isEnabled()) {
+                    return;
+                }
+                plugin.getTaskScheduler().runGlobal(() -> {
+                    // Stopped while the storm was being planned
+                    if (isCancelled()) {
+                        return;
+                    }
+                    if (Bukkit.getWorld(world.getUID()) == null) {
+                        abandonStorm(onFailed);
+                        return;
+                    }
+                    launchStorm(profile, durationSeconds, actualDamage, initialRemainingSeconds,
+                            spawnLocation, waypoints, actualSpeed, actualRadius);
+                    onStart.accept(activeStorm);
+                });
+            } catch (RuntimeException e) {
+                plugin.getLogger().warning("Failed to plan a traveling storm in " + world.getName() + ": " + e);
+                if (plugin.isEnabled()) {
+                    plugin.getTaskScheduler().runGlobal(() -> abandonStorm(onFailed));
+                }
+            }
+        });
+    }
+
+    /**
+     * Gives up on a storm that never spawned. Main thread only.
+     */
+    private void abandonStorm(Runnable onFailed) {
+        // Already cleaned up by whoever cancelled the manager
+        if (isCancelled()) {
+            return;
+        }
+        cancel();
+        onFailed.run();
+    }
+
+    /**
+     * Creates the planned storm and starts moving it. Main thread only.
+     */
+    private void launchStorm(StormProfile profile, int durationSeconds, double actualDamage, int initialRemainingSeconds,
+                             Location spawnLocation, java.util.List<Location> waypoints,
+                             double actualSpeed, double actualRadius) {
         // Get ramp-up duration
         int rampUpSeconds = config.isDamageRampUpEnabled() ? config.getDamageRampUpSeconds() : 0;
 
@@ -113,6 +169,15 @@ public class TravelingStormManager extends BukkitRunnable {
 
     @Override
     public void run() {
+        perfTimer.begin();
+        try {
+            runMovement();
+        } finally {
+            perfTimer.end();
+        }
+    }
+
+    private void runMovement() {
         if (activeStorm == null) {
             cancel();
             return;
@@ -130,8 +195,8 @@ public class TravelingStormManager extends BukkitRunnable {
         if (isActive != wasActiveLastTick && config.isLogScheduling()) {
             String state = isActive ? "ACTIVE" : "DORMANT";
             plugin.getLogger().info(String.format("Storm at (%d, %d) became %s (%s players within %.0f blocks)",
-                (int)activeStorm.getCurrentLocation().getX(),
-                (int)activeStorm.getCurrentLocation().getZ(),
+                (int)activeStorm.centerX(),
+                (int)activeStorm.centerZ(),
                 state,
                 isActive ? "has" : "no",
                 activeRange));
@@ -239,17 +304,35 @@ public class TravelingStormManager extends BukkitRunnable {
     private void sendMessageToNearbyPlayers(net.kyori.adventure.text.Component message) {
         if (activeStorm == null) return;
 
-        org.bukkit.Location stormLoc = activeStorm.getCurrentLocation();
-        double radius = activeStorm.getCurrentRadius();
-        double radiusSquared = radius * radius;
+        TravelingStorm storm = activeStorm;
+
+        ProximitySnapshot proximity = plugin.getStormManager().getProximitySnapshot();
+        int stormIndex = proximity != null ? proximity.getStorms().indexOf(storm) : -1;
+        if (stormIndex >= 0) {
+            for (int index = 0; index < proximity.size(); index++) {
+                if (proximity.isCoveredBy(index, stormIndex)) {
+                    proximity.getPlayer(index).sendMessage(message);
+                }
+            }
+            return;
+        }
+
+        // Folia: other regions' players are only read on their own threads, so use their recorded positions
+        PlayerPositions positions = plugin.getStormManager().getPlayerPositions();
+        if (positions != null) {
+            for (PlayerPositions.Position position : positions.all()) {
+                if (storm.isInWorld(position.world()) && storm.containsXZ(position.x(), position.z())) {
+                    position.player().sendMessage(message);
+                }
+            }
+            return;
+        }
 
         org.bukkit.Bukkit.getOnlinePlayers().stream()
-            .filter(p -> p.getWorld().equals(stormLoc.getWorld()))
+            .filter(p -> storm.isInWorld(p.getWorld()))
             .filter(p -> {
                 org.bukkit.Location pLoc = p.getLocation();
-                double dx = pLoc.getX() - stormLoc.getX();
-                double dz = pLoc.getZ() - stormLoc.getZ();
-                return (dx * dx + dz * dz) <= radiusSquared;
+                return storm.containsXZ(pLoc.getX(), pLoc.getZ());
             })
             .forEach(p -> p.sendMessage(message));
     }
@@ -284,18 +367,39 @@ public class TravelingStormManager extends BukkitRunnable {
             return false;
         }
 
-        double activeRange = config.getStormActiveRange();
-        double activeRangeSquared = activeRange * activeRange;
-        Location stormLoc = activeStorm.getCurrentLocation();
+        double activeRangeSquared = config.getStormActiveRangeSquared();
+        TravelingStorm storm = activeStorm;
+
+        ProximitySnapshot proximity = plugin.getStormManager().getProximitySnapshot();
+        if (proximity != null) {
+            for (int index = 0; index < proximity.size(); index++) {
+                perfTimer.addWork(1);
+                if (storm.isInWorld(proximity.getWorld(index))
+                        && storm.distanceSqXZ(proximity.getX(index), proximity.getZ(index)) <= activeRangeSquared) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        PlayerPositions positions = plugin.getStormManager().getPlayerPositions();
+        if (positions != null) {
+            for (PlayerPositions.Position position : positions.all()) {
+                perfTimer.addWork(1);
+                if (storm.isInWorld(position.world())
+                        && storm.distanceSqXZ(position.x(), position.z()) <= activeRangeSquared) {
+                    return true;
+                }
+            }
+            return false;
+        }
 
         return Bukkit.getOnlinePlayers().stream()
-            .filter(p -> p.getWorld().equals(stormLoc.getWorld()))
+            .filter(p -> storm.isInWorld(p.getWorld()))
             .anyMatch(p -> {
+                perfTimer.addWork(1);
                 Location pLoc = p.getLocation();
-                double dx = pLoc.getX() - stormLoc.getX();
-                double dz = pLoc.getZ() - stormLoc.getZ();
-                double distSquared = dx * dx + dz * dz;
-                return distSquared <= activeRangeSquared;
+                return storm.distanceSqXZ(pLoc.getX(), pLoc.getZ()) <= activeRangeSquared;
             });
     }
 
@@ -309,8 +413,8 @@ public class TravelingStormManager extends BukkitRunnable {
 
         if (config.isLogScheduling()) {
             plugin.getLogger().info("Traveling storm ended at (" +
-                                  (int)activeStorm.getCurrentLocation().getX() + ", " +
-                                  (int)activeStorm.getCurrentLocation().getZ() + ")");
+                                  (int)activeStorm.centerX() + ", " +
+                                  (int)activeStorm.centerZ() + ")");
         }
 
         activeStorm = null;
@@ -329,9 +433,9 @@ public class TravelingStormManager extends BukkitRunnable {
     private java.util.List<Location> generateStormPath(World world, Location spawn, int duration, double speed) {
         java.util.List<Location> waypoints = new java.util.ArrayList<>();
 
-        double centerX = zoneManager.getCenterX();
-        double centerZ = zoneManager.getCenterZ();
-        double stormlandsRadius = zoneManager.getStormlandsRadius();
+        double centerX = zoneManager.getCenterX(world);
+        double centerZ = zoneManager.getCenterZ(world);
+        double stormlandsRadius = zoneManager.getStormlandsRadius(world);
 
         // Calculate total distance storm can travel
         double maxTravelDistance = speed * duration;
@@ -404,9 +508,17 @@ public class TravelingStormManager extends BukkitRunnable {
      * Gets a random point within the Stormlands zone.
      */
     private Location getRandomPointInStormlands(World world) {
-        double centerX = zoneManager.getCenterX();
-        double centerZ = zoneManager.getCenterZ();
-        double stormlandsRadius = zoneManager.getStormlandsRadius();
+        ZoneImageMap map = zoneManager.getZoneMap(world);
+        if (map != null) {
+            Location location = map.sample(world, ZoneManager.ZoneType.STORMLANDS, random);
+            if (location != null) {
+                return location;
+            }
+        }
+
+        double centerX = zoneManager.getCenterX(world);
+        double centerZ = zoneManager.getCenterZ(world);
+        double stormlandsRadius = zoneManager.getStormlandsRadius(world);
 
         double angle = random.nextDouble() * 2 * Math.PI;
         double distance = random.nextDouble() * stormlandsRadius;
@@ -424,7 +536,7 @@ public class TravelingStormManager extends BukkitRunnable {
      */
     private Location getRandomSpawnLocation(World world) {
         // Priority: Use WorldGuard regions if available
-        if (zoneManager.isUsingWorldGuardRegions()) {
+        if (zoneManager.isUsingWorldGuardRegions(world)) {
             // Try stormzone first (70% chance), then stormlands (30% chance)
             String regionName = random.nextDouble() < 0.7 ? "stormzone" : "stormlands";
             Location location = zoneManager.getWorldGuardIntegration().getRandomLocationInRegion(world, regionName, random);
@@ -445,27 +557,48 @@ public class TravelingStormManager extends BukkitRunnable {
         }
 
         // Fallback: Circular zones
-        if (!zoneManager.isEnabled()) {
+        if (!zoneManager.isEnabled(world)) {
             // Random location within 5000 blocks of spawn
-            return getBestBiomeLocation(world, 0, 0, 0, 5000, null);
+            return getBestBiomeLocation(world, 0, 0, 0, 5000);
         }
 
-        double centerX = zoneManager.getCenterX();
-        double centerZ = zoneManager.getCenterZ();
+        double centerX = zoneManager.getCenterX(world);
+        double centerZ = zoneManager.getCenterZ(world);
+
+        // Weighted draw from the precomputed biome raster once it's ready
+        BiomeWeightRaster raster = plugin.getBiomeRasterCache().get(world);
+        if (raster != null) {
+            Location location = raster.sample(world, random);
+            if (location != null) {
+                return location;
+            }
+        }
+
+        // Zone map without a raster yet: anywhere in the drawn Stormlands or Storm Zone
+        ZoneImageMap map = zoneManager.getZoneMap(world);
+        if (map != null) {
+            Location location = map.sampleStormArea(world, random);
+            if (location != null) {
+                return location;
+            }
+        }
 
         // Spawn anywhere from center to edge of safe zone (0-12000 radius)
-        double maxRadius = zoneManager.getSafeZoneRadius();
+        double maxRadius = zoneManager.getSafeZoneRadius(world);
 
         // Random location across entire map
-        return getBestBiomeLocation(world, centerX, centerZ, 0, maxRadius, null);
+        return getBestBiomeLocation(world, centerX, centerZ, 0, maxRadius);
     }
 
     /**
      * Generates multiple candidate locations and picks the best one based on biome preferences.
-     * Tries up to 10 locations and picks the one with the highest biome weight.
+     * Tries up to 10 locations and picks the one with the highest biome weight, using the
+     * preferences of the zone each candidate falls in.
+     * Biomes come from the world's biome provider, so no chunks are loaded and this is safe off the main thread.
      */
     private Location getBestBiomeLocation(World world, double centerX, double centerZ,
-                                         double minRadius, double maxRadius, dev.ked.stormcraft.zones.ZoneManager.ZoneType zone) {
+                                         double minRadius, double maxRadius) {
+        BiomeProvider biomes = world.getBiomeProvider() != null ? world.getBiomeProvider() : world.vanillaBiomeProvider();
         Location bestLocation = null;
         double bestWeight = 0.0;
         int attempts = 10; // Try 10 candidates
@@ -477,14 +610,13 @@ public class TravelingStormManager extends BukkitRunnable {
             double z = centerZ + (Math.sin(angle) * distance);
 
             Location candidate = new Location(world, x, 64, z);
-            org.bukkit.block.Biome biome = world.getBiome((int)x, 64, (int)z);
 
-            // Get biome weight from zone settings
+            // Get biome weight from the settings of the zone the candidate is in
             double weight = 1.0; // Default neutral weight
-            if (zone != null) {
-                ZoneSettings settings = zoneManager.getSettingsForZone(zone);
+            if (zoneManager.isEnabled(world)) {
+                ZoneSettings settings = zoneManager.getSettingsForZone(zoneManager.getZoneAt(candidate));
                 if (settings != null) {
-                    weight = settings.getBiomeWeight(biome);
+                    weight = settings.getBiomeWeight(biomes.getBiome(world, (int) x, 64, (int) z));
                 }
             }
 
@@ -507,11 +639,11 @@ public class TravelingStormManager extends BukkitRunnable {
      * Gets the center of the Stormlands (storm target).
      */
     private Location getStormlandsCenter(World world) {
-        if (!zoneManager.isEnabled()) {
+        if (!zoneManager.isEnabled(world)) {
             return new Location(world, 0, 64, 0); // World spawn
         }
 
-        return new Location(world, zoneManager.getCenterX(), 64, zoneManager.getCenterZ());
+        return new Location(world, zoneManager.getCenterX(world), 64, zoneManager.getCenterZ(world));
     }
 
     /**
@@ -522,7 +654,7 @@ public class TravelingStormManager extends BukkitRunnable {
             return false;
         }
 
-        return activeStorm.isLocationInStorm(location, activeStorm.getCurrentRadius());
+        return activeStorm.isInWorld(location.getWorld()) && activeStorm.containsXZ(location.getX(), location.getZ());
     }
 
     public TravelingStorm getActiveStorm() {
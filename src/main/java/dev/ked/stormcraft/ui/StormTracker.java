@@ -1,8 +1,13 @@
 package dev.ked.stormcraft.ui;
 
 import dev.ked.stormcraft.StormcraftPlugin;
+import dev.ked.stormcraft.api.StormWorldSnapshot;
 import dev.ked.stormcraft.config.ConfigManager;
 import dev.ked.stormcraft.model.TravelingStorm;
+import dev.ked.stormcraft.perf.TaskTimer;
+import dev.ked.stormcraft.perf.ThrottleGovernor;
+import dev.ked.stormcraft.schedule.ProximitySnapshot;
+import dev.ked.stormcraft.schedule.StormTask;
 import dev.ked.stormcraft.zones.ZoneManager;
 import net.kyori.adventure.bossbar.BossBar;
 import net.kyori.adventure.text.Component;
@@ -10,28 +15,29 @@ import net.kyori.adventure.text.format.NamedTextColor;
 import net.kyori.adventure.text.format.TextDecoration;
 import org.bukkit.Bukkit;
 import org.bukkit.Location;
+import org.bukkit.World;
 import org.bukkit.entity.Player;
-import org.bukkit.scheduler.BukkitRunnable;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Tracks and displays traveling storm information to players.
  * Uses ActionBar for nearby storms and BossBar for active storm proximity.
  */
-public class StormTracker extends BukkitRunnable {
+public class StormTracker extends StormTask {
     private final StormcraftPlugin plugin;
     private final ConfigManager config;
     private final ZoneManager zoneManager;
     private final StormUIPreferences uiPreferences;
+    private final TaskTimer perfTimer;
 
     private TravelingStorm activeStorm;
     private List<TravelingStorm> activeStorms = new ArrayList<>();
-    private final Map<UUID, BossBar> playerBossBars = new HashMap<>();
+    private final Map<UUID, BossBar> playerBossBars = new ConcurrentHashMap<>();
 
     // Cardinal directions
     private static final String[] DIRECTIONS = {"N", "NE", "E", "SE", "S", "SW", "W", "NW"};
@@ -41,6 +47,7 @@ public class StormTracker extends BukkitRunnable {
         this.config = config;
         this.zoneManager = zoneManager;
         this.uiPreferences = uiPreferences;
+        this.perfTimer = plugin.getPerfMonitor().timer("StormTracker");
     }
 
     public void setActiveStorm(TravelingStorm storm) {
@@ -62,15 +69,29 @@ public class StormTracker extends BukkitRunnable {
 
     @Override
     public void run() {
+        // Skipped runs while the server is lagging
+        if (!plugin.getThrottleGovernor().shouldRun(ThrottleGovernor.Subsystem.TRACKER)) {
+            return;
+        }
+
+        perfTimer.begin();
+        try {
+            runTracking();
+        } finally {
+            perfTimer.end();
+        }
+    }
+
+    private void runTracking() {
         // Multi-storm system - show closest storm
         if (!activeStorms.isEmpty()) {
             runMultiStormTracking();
             return;
         }
 
-        // Single storm system (legacy)
+        // Single storm system (legacy); the storm is published in the snapshot like any other
         if (activeStorm != null) {
-            runSingleStormTracking();
+            trackFromSnapshot();
             return;
         }
 
@@ -78,44 +99,21 @@ public class StormTracker extends BukkitRunnable {
         showZoneActionbarForAllPlayers();
     }
 
-    private void runSingleStormTracking() {
-        Location stormLocation = activeStorm.getCurrentLocation();
-        double damageRadius = activeStorm.getCurrentRadius();
-
+    private void showZoneActionbarForAllPlayers() {
         for (Player player : Bukkit.getOnlinePlayers()) {
-            // Skip if player not in enabled world
-            if (!config.getEnabledWorlds().contains(player.getWorld().getName())) {
-                continue;
-            }
-
-            Location playerLoc = player.getLocation();
-
-            // Calculate distance to storm edge
-            double distanceToCenter = playerLoc.distance(stormLocation);
-            double distanceToEdge = Math.max(0, distanceToCenter - damageRadius);
-
-            // Determine if player should see storm info
-            boolean showTracker = shouldShowTracker(player, distanceToEdge);
-
-            if (showTracker) {
-                // Single storm
-                updatePlayerStormDisplay(player, activeStorm, distanceToEdge);
-            } else {
-                removePlayerDisplay(player);
-            }
+            perfTimer.addWork(1);
+            plugin.getTaskScheduler().runForEntity(player, () -> showZoneActionbar(player));
         }
     }
 
-    private void showZoneActionbarForAllPlayers() {
-        for (Player player : Bukkit.getOnlinePlayers()) {
-            if (!config.getEnabledWorlds().contains(player.getWorld().getName())) {
-                continue;
-            }
+    private void showZoneActionbar(Player player) {
+        if (!plugin.getStormWorlds().isEnabled(player.getWorld())) {
+            return;
+        }
 
-            UUID playerId = player.getUniqueId();
-            if (uiPreferences.isActionbarEnabled(playerId)) {
-                showActionBar(player, null, 0, 0); // Zone display doesn't need storm params
-            }
+        UUID playerId = player.getUniqueId();
+        if (uiPreferences.isActionbarEnabled(playerId)) {
+            showActionBar(player);
         }
     }
 
@@ -124,65 +122,79 @@ public class StormTracker extends BukkitRunnable {
      * Shows the closest storm to each player.
      */
     private void runMultiStormTracking() {
-        for (Player player : Bukkit.getOnlinePlayers()) {
-            // Skip if player not in enabled world
-            if (!config.getEnabledWorlds().contains(player.getWorld().getName())) {
-                removePlayerDisplay(player);
-                continue;
+        // Nearest storm and edge distance were already measured this tick for the damage check
+        ProximitySnapshot proximity = plugin.getStormManager().getProximitySnapshot();
+        if (proximity != null) {
+            for (int index = 0; index < proximity.size(); index++) {
+                perfTimer.addWork(1);
+                Player player = proximity.getPlayer(index);
+                if (player.isOnline()) {
+                    showClosestStorm(player, proximity.getWorld(index), proximity.getNearestStorm(index),
+                            proximity.getEdgeDistance(index));
+                }
             }
+            return;
+        }
 
-            Location playerLoc = player.getLocation();
+        trackFromSnapshot();
+    }
 
-            // Sort storms by distance to edge (same as /storms command)
-            java.util.List<TravelingStorm> sortedStorms = getSortedStormsByDistance(player);
+    /**
+     * Shows each player their closest storm from the published snapshot. The work runs on each
+     * player's own thread (Folia), so it never reads the live storms.
+     */
+    private void trackFromSnapshot() {
+        StormWorldSnapshot snapshot = plugin.getSnapshotService().getSnapshot();
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            perfTimer.addWork(1);
+            plugin.getTaskScheduler().runForEntity(player, () -> trackClosestStorm(player, snapshot));
+        }
+    }
 
-            if (sortedStorms.isEmpty()) {
-                removePlayerDisplay(player);
-                continue;
-            }
+    private void trackClosestStorm(Player player, StormWorldSnapshot snapshot) {
+        Location playerLoc = player.getLocation();
+        World world = playerLoc.getWorld();
 
-            // Show closest storm (storm #1)
-            TravelingStorm closestStorm = sortedStorms.get(0);
-            Location stormLocation = closestStorm.getCurrentLocation();
-            double distanceToCenter = playerLoc.distance(stormLocation);
-            double damageRadius = closestStorm.getCurrentRadius();
+        // Skip if player not in enabled world
+        if (!plugin.getStormWorlds().isEnabled(world)) {
+            removePlayerDisplay(player);
+            return;
+        }
 
-            // Calculate distance to edge (0 if inside storm)
-            double distanceToEdge = Math.max(0, distanceToCenter - damageRadius);
+        // Closest storm by distance to edge (same ordering as /storms command), 0 if inside
+        int closest = snapshot.findNearestEdge(world.getUID(), playerLoc.getX(), playerLoc.getZ());
+        if (closest < 0) {
+            removePlayerDisplay(player);
+            return;
+        }
 
-            // Determine if player should see storm info
-            boolean showTracker = shouldShowTracker(player, distanceToEdge);
+        double distanceToEdge = Math.max(0, snapshot.edgeDistance(closest, playerLoc.getX(), playerLoc.getZ()));
+        updatePlayerStormDisplay(player, snapshot.getCenterX(closest), snapshot.getCenterZ(closest),
+                snapshot.getTargetX(closest), snapshot.getTargetZ(closest), snapshot.getSpeed(closest), distanceToEdge);
+    }
 
-            if (showTracker) {
-                // Storm number is 1 (closest storm)
-                updatePlayerStormDisplay(player, closestStorm, distanceToEdge);
-            } else {
-                removePlayerDisplay(player);
-            }
+    private void showClosestStorm(Player player, World world, TravelingStorm closestStorm, double distanceToEdge) {
+        // Skip if player not in enabled world
+        if (!plugin.getStormWorlds().isEnabled(world)) {
+            removePlayerDisplay(player);
+            return;
         }
-    }
 
-    /**
-     * Gets storms sorted by distance to edge (same sorting as /storms command).
-     */
-    private java.util.List<TravelingStorm> getSortedStormsByDistance(Player player) {
-        java.util.List<TravelingStorm> sorted = new java.util.ArrayList<>(activeStorms);
-        sorted.sort((s1, s2) -> {
-            Location loc1 = s1.getCurrentLocation();
-            Location loc2 = s2.getCurrentLocation();
-            if (!loc1.getWorld().equals(player.getWorld())) return 1;
-            if (!loc2.getWorld().equals(player.getWorld())) return -1;
-
-            // Calculate distance to edge (0 if inside storm)
-            double distToCenter1 = player.getLocation().distance(loc1);
-            double distToEdge1 = Math.max(0, distToCenter1 - s1.getCurrentRadius());
-
-            double distToCenter2 = player.getLocation().distance(loc2);
-            double distToEdge2 = Math.max(0, distToCenter2 - s2.getCurrentRadius());
-
-            return Double.compare(distToEdge1, distToEdge2);
-        });
-        return sorted;
+        if (closestStorm == null) {
+            removePlayerDisplay(player);
+            return;
+        }
+
+        // Determine if player should see storm info
+        boolean showTracker = shouldShowTracker(player, distanceToEdge);
+
+        if (showTracker) {
+            // Storm number is 1 (closest storm)
+            updatePlayerStormDisplay(player, closestStorm.centerX(), closestStorm.centerZ(),
+                    closestStorm.targetX(), closestStorm.targetZ(), closestStorm.getCurrentSpeed(), distanceToEdge);
+        } else {
+            removePlayerDisplay(player);
+        }
     }
 
     /**
@@ -198,10 +210,8 @@ public class StormTracker extends BukkitRunnable {
      * Updates storm display for a player.
      * Shows both actionbar and bossbar based on user preferences.
      */
-    private void updatePlayerStormDisplay(Player player, TravelingStorm storm, double distanceToEdge) {
-        Location stormLoc = storm.getCurrentLocation();
-        double damageRadius = storm.getCurrentRadius();
-
+    private void updatePlayerStormDisplay(Player player, double stormX, double stormZ,
+                                          double targetX, double targetZ, double stormSpeed, double distanceToEdge) {
         // Set player weather to rain if inside storm
         boolean isInStorm = distanceToEdge == 0;
         if (isInStorm) {
@@ -213,12 +223,12 @@ public class StormTracker extends BukkitRunnable {
 
         // Show actionbar if enabled for this player
         if (uiPreferences.isActionbarEnabled(playerId)) {
-            showActionBar(player, null, distanceToEdge, damageRadius);
+            showActionBar(player);
         }
 
         // Show bossbar if enabled for this player
         if (uiPreferences.isBossbarEnabled(playerId)) {
-            showBossBar(player, storm, distanceToEdge);
+            showBossBar(player, stormX, stormZ, targetX, targetZ, stormSpeed, distanceToEdge);
         } else {
             // If bossbar disabled, remove it if it exists
             removePlayerBossBar(player);
@@ -229,9 +239,9 @@ public class StormTracker extends BukkitRunnable {
      * Shows storm info on player's ActionBar.
      * Gets exposure/immunity status from DamageTask if available.
      */
-    private void showActionBar(Player player, String direction, double distance, double damageRadius) {
+    private void showActionBar(Player player) {
         // Show current zone instead of storm info
-        if (!zoneManager.isEnabled()) {
+        if (!zoneManager.isEnabled(player.getWorld())) {
             return; // Don't show anything if zones disabled
         }
 
@@ -269,7 +279,8 @@ public class StormTracker extends BukkitRunnable {
     /**
      * Shows storm info on player's BossBar.
      */
-    private void showBossBar(Player player, TravelingStorm storm, double distanceToEdge) {
+    private void showBossBar(Player player, double stormX, double stormZ,
+                             double targetX, double targetZ, double stormSpeed, double distanceToEdge) {
         UUID playerId = player.getUniqueId();
         BossBar bossBar = playerBossBars.get(playerId);
 
@@ -285,10 +296,6 @@ public class StormTracker extends BukkitRunnable {
             player.showBossBar(bossBar);
         }
 
-        Location playerLoc = player.getLocation();
-        Location stormLoc = storm.getCurrentLocation();
-        double damageRadius = storm.getCurrentRadius();
-
         // Update boss bar content
         Component title;
         BossBar.Color color;
@@ -296,7 +303,7 @@ public class StormTracker extends BukkitRunnable {
 
         if (distanceToEdge == 0) {
             // IN STORM - show escape direction relative to player facing
-            String escapeDirection = getEscapeDirectionRelative(player, storm);
+            String escapeDirection = getEscapeDirectionRelative(player, stormX, stormZ, targetX, targetZ, stormSpeed);
 
             title = Component.text("⚡ ", NamedTextColor.RED, TextDecoration.BOLD)
                     .append(Component.text("ACTIVE STORM", NamedTextColor.RED, TextDecoration.BOLD))
@@ -306,7 +313,7 @@ public class StormTracker extends BukkitRunnable {
             progress = 1.0f;
         } else {
             // Show approaching storm relative to player facing
-            String direction = getDirectionRelative(player, stormLoc);
+            String direction = getDirectionRelative(player, stormX, stormZ);
             int distanceBlocks = (int) distanceToEdge;
 
             title = Component.text("⛈ ", NamedTextColor.YELLOW)
@@ -358,7 +365,10 @@ public class StormTracker extends BukkitRunnable {
      */
     private void clearAllBossBars() {
         for (Player player : Bukkit.getOnlinePlayers()) {
-            removePlayerDisplay(player);
+            BossBar bossBar = playerBossBars.remove(player.getUniqueId());
+            if (bossBar != null) {
+                plugin.getTaskScheduler().runForEntity(player, () -> player.hideBossBar(bossBar));
+            }
         }
         playerBossBars.clear();
     }
@@ -369,16 +379,16 @@ public class StormTracker extends BukkitRunnable {
      */
     private String getEscapeDirection(Player player, TravelingStorm storm) {
         Location playerLoc = player.getLocation();
-        Location stormLoc = storm.getCurrentLocation();
+        double stormX = storm.centerX();
+        double stormZ = storm.centerZ();
 
         // Calculate direction from storm center to player (away from storm)
-        double dx = playerLoc.getX() - stormLoc.getX();
-        double dz = playerLoc.getZ() - stormLoc.getZ();
+        double dx = playerLoc.getX() - stormX;
+        double dz = playerLoc.getZ() - stormZ;
 
         // Get storm's current target waypoint to determine movement direction
-        Location targetLoc = storm.getTargetLocation();
-        double stormDx = targetLoc.getX() - stormLoc.getX();
-        double stormDz = targetLoc.getZ() - stormLoc.getZ();
+        double stormDx = storm.targetX() - stormX;
+        double stormDz = storm.targetZ() - stormZ;
 
         // Normalize storm movement vector
         double stormDistance = Math.sqrt(stormDx * stormDx + stormDz * stormDz);
@@ -439,18 +449,17 @@ public class StormTracker extends BukkitRunnable {
      * Gets the escape direction relative to player's facing direction.
      * When facing the escape direction, arrow points up. When facing opposite, arrow points down.
      */
-    private String getEscapeDirectionRelative(Player player, TravelingStorm storm) {
+    private String getEscapeDirectionRelative(Player player, double stormX, double stormZ,
+                                              double targetX, double targetZ, double stormSpeed) {
         Location playerLoc = player.getLocation();
-        Location stormLoc = storm.getCurrentLocation();
 
         // Calculate direction from storm center to player (away from storm)
-        double dx = playerLoc.getX() - stormLoc.getX();
-        double dz = playerLoc.getZ() - stormLoc.getZ();
+        double dx = playerLoc.getX() - stormX;
+        double dz = playerLoc.getZ() - stormZ;
 
         // Get storm's current target waypoint to determine movement direction
-        Location targetLoc = storm.getTargetLocation();
-        double stormDx = targetLoc.getX() - stormLoc.getX();
-        double stormDz = targetLoc.getZ() - stormLoc.getZ();
+        double stormDx = targetX - stormX;
+        double stormDz = targetZ - stormZ;
 
         // Normalize storm movement vector
         double stormDistance = Math.sqrt(stormDx * stormDx + stormDz * stormDz);
@@ -464,7 +473,6 @@ public class StormTracker extends BukkitRunnable {
 
         // Player run speed ~5.6 blocks/s (walking), sprint ~7.0 blocks/s
         double playerSpeed = 7.0;
-        double stormSpeed = storm.getMovementSpeed();
 
         // If storm is chasing faster than player can run, flip the direction
         if (dotProduct > 0 && stormSpeed > playerSpeed) {
@@ -480,9 +488,10 @@ public class StormTracker extends BukkitRunnable {
     /**
      * Gets storm direction relative to player's facing direction.
      */
-    private String getDirectionRelative(Player player, Location targetLocation) {
-        double dx = targetLocation.getX() - player.getLocation().getX();
-        double dz = targetLocation.getZ() - player.getLocation().getZ();
+    private String getDirectionRelative(Player player, double targetX, double targetZ) {
+        Location playerLoc = player.getLocation();
+        double dx = targetX - playerLoc.getX();
+        double dz = targetZ - playerLoc.getZ();
         return getRelativeDirectionWithArrow(player, dx, dz);
     }
 
@@ -0,0 +1,186 @@
+package dev.ked.stormcraft.zones;
+
+import dev.ked.stormcraft.StormcraftPlugin;
+import dev.ked.stormcraft.config.ConfigManager;
+import org.bukkit.Location;
+import org.bukkit.World;
+import org.bukkit.block.Biome;
+import org.bukkit.generator.BiomeProvider;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.CRC32;
+
+/**
+ * Builds and caches a {@link BiomeWeightRaster} per world for storm spawn selection.
+ * Rasters are generated in the background from the world's biome provider (no chunk loading)
+ * and stored in plugins/Stormcraft/cache, keyed by world seed and a hash of the zone config,
+ * so they are only rebuilt when the seed or the zone biome preferences change.
+ * Used with circular zones and zone maps; WorldGuard-region spawning is unaffected.
+ */
+public class BiomeRasterCache {
+    private final StormcraftPlugin plugin;
+    private final ConfigManager config;
+    private final ZoneManager zoneManager;
+    private final Map<String, BiomeWeightRaster> rasters = new ConcurrentHashMap<>();
+    private final Set<String> building = ConcurrentHashMap.newKeySet();
+
+    public BiomeRasterCache(StormcraftPlugin plugin, ConfigManager config, ZoneManager zoneManager) {
+        this.plugin = plugin;
+        this.config = config;
+        this.zoneManager = zoneManager;
+    }
+
+    /**
+     * Starts loading or building rasters for every enabled world.
+     */
+    public void warm() {
+        for (String worldName : config.getEnabledWorlds()) {
+            World world = plugin.getServer().getWorld(worldName);
+            if (world != null) {
+                get(world);
+            }
+        }
+    }
+
+    /**
+     * Gets the raster for a world if it's ready and up to date. Otherwise starts building it
+     * in the background and returns null, so callers fall back to direct sampling.
+     * Safe to call from any thread.
+     */
+    public BiomeWeightRaster get(World world) {
+        if (!config.isBiomeRasterEnabled() || !zoneManager.isEnabled(world) || zoneManager.isUsingWorldGuardRegions(world)) {
+            return null;
+        }
+
+        long seed = world.getSeed();
+        long configHash = configHash(world);
+        BiomeWeightRaster raster = rasters.get(world.getName());
+        if (raster != null && raster.matches(seed, configHash)) {
+            return raster;
+        }
+
+        if (building.add(world.getName())) {
+            plugin.getTaskScheduler().runAsync(() -> {
+                try {
+                    rasters.put(world.getName(), loadOrBuild(world, seed, configHash));
+                } catch (IOException e) {
+                    plugin.getLogger().warning("Could not build biome raster for " + world.getName() + ": " + e.getMessage());
+                } finally {
+                    building.remove(world.getName());
+                }
+            });
+        }
+        return null;
+    }
+
+    private BiomeWeightRaster loadOrBuild(World world, long seed, long configHash) throws IOException {
+        File folder = new File(plugin.getDataFolder(), "cache");
+        folder.mkdirs();
+        String prefix = "biome-raster-" + world.getName() + "-";
+        File file = new File(folder, prefix + Long.toHexString(seed) + "-" + Long.toHexString(configHash) + ".bin");
+
+        if (file.exists()) {
+            BiomeWeightRaster cached = BiomeWeightRaster.open(file);
+            if (cached != null && cached.matches(seed, configHash)) {
+                return cached;
+            }
+        }
+
+        // Rasters for an old seed or config are left mapped until GC, so they're deleted rather than overwritten
+        File[] stale = folder.listFiles((dir, name) -> name.startsWith(prefix) && !name.equals(file.getName()));
+        if (stale != null) {
+            for (File old : stale) {
+                old.delete();
+            }
+        }
+
+        long start = System.currentTimeMillis();
+        BiomeWeightRaster raster = build(world, seed, configHash, file);
+        plugin.getLogger().info("Built biome raster for " + world.getName() + " (" + raster.getWidth() + "x"
+                + raster.getHeight() + " cells) in " + (System.currentTimeMillis() - start) + "ms");
+        return raster;
+    }
+
+    /**
+     * Samples the biome at each cell center and weighs it with the preferences of the zone it's in.
+     * Cells outside the safe-zone radius (or outside the zone map, when one is loaded) get no weight.
+     */
+    private BiomeWeightRaster build(World world, long seed, long configHash, File file) throws IOException {
+        BiomeProvider biomes = world.getBiomeProvider() != null ? world.getBiomeProvider() : world.vanillaBiomeProvider();
+        int cellSize = config.getBiomeRasterCellSize();
+        double radius = zoneManager.getSafeZoneRadius(world);
+        double centerX = zoneManager.getCenterX(world);
+        double centerZ = zoneManager.getCenterZ(world);
+
+        ZoneImageMap map = zoneManager.getZoneMap(world);
+
+        int originX = (int) Math.floor(centerX - radius);
+        int originZ = (int) Math.floor(centerZ - radius);
+        int width = (int) Math.ceil(radius * 2 / cellSize);
+        int height = width;
+        if (map != null) {
+            originX = map.getOriginX();
+            originZ = map.getOriginZ();
+            width = (int) Math.ceil((double) map.getWidth() * map.getBlocksPerPixel() / cellSize);
+            height = (int) Math.ceil((double) map.getHeight() * map.getBlocksPerPixel() / cellSize);
+        }
+        float[] weights = new float[width * height];
+
+        for (int row = 0; row < height; row++) {
+            for (int col = 0; col < width; col++) {
+                double x = originX + col * cellSize + cellSize / 2.0;
+                double z = originZ + row * cellSize + cellSize / 2.0;
+                double dx = x - centerX;
+                double dz = z - centerZ;
+                if (map == null && dx * dx + dz * dz > radius * radius) {
+                    continue;
+                }
+
+                ZoneSettings settings = zoneManager.getSettingsForZone(zoneManager.getZoneAt(new Location(world, x, 64, z)));
+                double weight = 1.0;
+                if (settings != null) {
+                    weight = settings.getBiomeWeight(biomes.getBiome(world, (int) x, 64, (int) z));
+                }
+                weights[row * width + col] = (float) Math.max(0, weight);
+            }
+        }
+
+        return BiomeWeightRaster.write(file, seed, configHash, originX, originZ, cellSize, width, height, weights);
+    }
+
+    /**
+     * Hash of everything that shapes the raster: zone geometry, cell size and each zone's biome preferences.
+     */
+    private long configHash(World world) {
+        StringBuilder key = new StringBuilder();
+        key.append(zoneManager.getCenterX(world)).append(',').append(zoneManager.getCenterZ(world)).append(',')
+                .append(zoneManager.getStormlandsRadius(world)).append(',').append(zoneManager.getStormZoneRadius(world)).append(',')
+                .append(zoneManager.getSafeZoneRadius(world)).append(',').append(config.getBiomeRasterCellSize());
+        ZoneImageMap map = zoneManager.getZoneMap(world);
+        if (map != null) {
+            key.append(",map=").append(map.getSourceHash());
+        }
+        for (ZoneManager.ZoneType zone : ZoneManager.ZoneType.values()) {
+            key.append('|').append(zone.name());
+            ZoneSettings settings = zoneManager.getSettingsForZone(zone);
+            if (settings == null) {
+                continue;
+            }
+            Map<String, Double> sorted = new TreeMap<>();
+            for (Map.Entry<Biome, Double> entry : settings.getBiomePreferences().entrySet()) {
+                sorted.put(entry.getKey().getKey().toString(), entry.getValue());
+            }
+            sorted.forEach((biome, weight) -> key.append(';').append(biome).append('=').append(weight));
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(key.toString().getBytes(StandardCharsets.UTF_8));
+        return crc.getValue();
+    }
+}
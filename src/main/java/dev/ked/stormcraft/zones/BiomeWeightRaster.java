@@ -0,0 +1,203 @@
+package dev.ked.stormcraft.zones;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Random;
+
+/**
+ * Coarse grid of spawn weights (zone biome preference per cell) stored in a memory-mapped file.
+ * The file also holds a Vose alias table, so drawing a spawn cell proportional to its weight
+ * is O(1) and never touches the world. Read-only once built, so it can be sampled from any thread.
+ *
+ * Layout (big-endian): header, then per cell a float weight, float alias probability and int alias cell.
+ */
+public final class BiomeWeightRaster {
+    static final int MAGIC = 0x53434252; // "SCBR"
+    static final int VERSION = 1;
+    private static final int HEADER_BYTES = 4 + 4 + 8 + 8 + 4 * 5 + 8;
+    private static final int CELL_BYTES = 12;
+
+    private final long seed;
+    private final long configHash;
+    private final int originX;
+    private final int originZ;
+    private final int cellSize;
+    private final int width;
+    private final int height;
+    private final double totalWeight;
+    private final MappedByteBuffer buffer;
+
+    private BiomeWeightRaster(long seed, long configHash, int originX, int originZ, int cellSize,
+                              int width, int height, double totalWeight, MappedByteBuffer buffer) {
+        this.seed = seed;
+        this.configHash = configHash;
+        this.originX = originX;
+        this.originZ = originZ;
+        this.cellSize = cellSize;
+        this.width = width;
+        this.height = height;
+        this.totalWeight = totalWeight;
+        this.buffer = buffer;
+    }
+
+    /**
+     * Writes a raster built from per-cell weights (row-major, {@code width * height}) and maps it.
+     */
+    static BiomeWeightRaster write(File file, long seed, long configHash, int originX, int originZ, int cellSize,
+                                   int width, int height, float[] weights) throws IOException {
+        int cells = width * height;
+        float[] probability = new float[cells];
+        int[] alias = new int[cells];
+        double totalWeight = buildAliasTable(weights, probability, alias);
+
+        ByteBuffer out = ByteBuffer.allocate(HEADER_BYTES + cells * CELL_BYTES);
+        out.putInt(MAGIC).putInt(VERSION).putLong(seed).putLong(configHash)
+                .putInt(originX).putInt(originZ).putInt(cellSize).putInt(width).putInt(height)
+                .putDouble(totalWeight);
+        for (int i = 0; i < cells; i++) {
+            out.putFloat(weights[i]).putFloat(probability[i]).putInt(alias[i]);
+        }
+        out.flip();
+
+        // Written to a temp file first so a crash never leaves a truncated raster behind
+        File temp = new File(file.getParentFile(), file.getName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp.toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (out.hasRemaining()) {
+                channel.write(out);
+            }
+        }
+        try {
+            Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            Files.deleteIfExists(temp.toPath());
+            throw e;
+        }
+        return open(file);
+    }
+
+    /**
+     * Maps an existing raster file. Returns null if it isn't a valid raster.
+     */
+    static BiomeWeightRaster open(File file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_BYTES) {
+                return null;
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+                return null;
+            }
+
+            int width = buffer.getInt(36);
+            int height = buffer.getInt(40);
+            if (width <= 0 || height <= 0 || channel.size() != HEADER_BYTES + (long) width * height * CELL_BYTES) {
+                return null;
+            }
+            return new BiomeWeightRaster(buffer.getLong(8), buffer.getLong(16), buffer.getInt(24), buffer.getInt(28),
+                    buffer.getInt(32), width, height, buffer.getDouble(44), buffer);
+        }
+    }
+
+    /**
+     * Vose's alias method: fills per-cell acceptance probabilities and alias cells. Returns the total weight.
+     */
+    private static double buildAliasTable(float[] weights, float[] probability, int[] alias) {
+        int cells = weights.length;
+        double total = 0;
+        for (float weight : weights) {
+            total += weight;
+        }
+        if (total <= 0) {
+            return 0;
+        }
+
+        double[] scaled = new double[cells];
+        ArrayDeque<Integer> small = new ArrayDeque<>();
+        ArrayDeque<Integer> large = new ArrayDeque<>();
+        for (int i = 0; i < cells; i++) {
+            scaled[i] = weights[i] * cells / total;
+            (scaled[i] < 1.0 ? small : large).add(i);
+        }
+
+        while (!small.isEmpty() && !large.isEmpty()) {
+            int less = small.poll();
+            int more = large.poll();
+            probability[less] = (float) scaled[less];
+            alias[less] = more;
+            scaled[more] = (scaled[more] + scaled[less]) - 1.0;
+            (scaled[more] < 1.0 ? small : large).add(more);
+        }
+        // Leftovers are 1.0 up to rounding
+        for (int i : large) {
+            probability[i] = 1.0f;
+            alias[i] = i;
+        }
+        for (int i : small) {
+            probability[i] = 1.0f;
+            alias[i] = i;
+        }
+        return total;
+    }
+
+    /**
+     * Draws a random location, picking cells in proportion to their weight.
+     * Returns null if every cell has zero weight.
+     */
+    public Location sample(World world, Random random) {
+        if (totalWeight <= 0) {
+            return null;
+        }
+
+        int cell = random.nextInt(width * height);
+        int base = HEADER_BYTES + cell * CELL_BYTES;
+        if (random.nextFloat() >= buffer.getFloat(base + 4)) {
+            cell = buffer.getInt(base + 8);
+        }
+
+        double x = originX + (double) (cell % width) * cellSize + random.nextDouble() * cellSize;
+        double z = originZ + (double) (cell / width) * cellSize + random.nextDouble() * cellSize;
+        return new Location(world, x, 64, z);
+    }
+
+    /**
+     * Gets the stored weight of the cell containing a block position (0 outside the raster).
+     */
+    public float getWeightAt(double x, double z) {
+        int cellX = (int) Math.floor((x - originX) / cellSize);
+        int cellZ = (int) Math.floor((z - originZ) / cellSize);
+        if (cellX < 0 || cellZ < 0 || cellX >= width || cellZ >= height) {
+            return 0;
+        }
+        return buffer.getFloat(HEADER_BYTES + (cellZ * width + cellX) * CELL_BYTES);
+    }
+
+    /**
+     * Checks if this raster was built for the given world seed and zone configuration.
+     */
+    public boolean matches(long seed, long configHash) {
+        return this.seed == seed && this.configHash == configHash;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public int getCellSize() {
+        return cellSize;
+    }
+}
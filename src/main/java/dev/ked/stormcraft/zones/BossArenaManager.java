@@ -1,28 +1,50 @@
 package dev.ked.stormcraft.zones;
 
+import com.sk89q.worldedit.math.BlockVector3;
+import com.sk89q.worldguard.protection.regions.ProtectedRegion;
 import dev.ked.stormcraft.StormcraftPlugin;
 import dev.ked.stormcraft.config.ConfigManager;
 import dev.ked.stormcraft.integration.WorldGuardIntegration;
 import org.bukkit.Location;
+import org.bukkit.World;
 import org.bukkit.configuration.ConfigurationSection;
 import org.bukkit.configuration.file.FileConfiguration;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Manages boss arena zones where players are protected from storms.
+ * Lookups go through a per-world grid of 64-block cells, each listing the arenas whose bounding box
+ * overlaps it, so a check only tests the arenas near the position however many are defined.
+ * WorldGuard arenas are indexed by their region's bounding box and confirmed against the region itself.
+ *
+ * WorldGuard has no reload event, so every few seconds a lookup checks that each indexed world still
+ * resolves to the same regions; a reload, redefine or removal rebuilds that world's index.
+ * Lookups that find their world's index already built count as hits in the "arena-index" cache metrics.
+ * Safe to call from any thread.
  */
 public class BossArenaManager {
+    private static final int CELL_SHIFT = 6; // 64-block cells
+    private static final int MAX_CELLS_PER_ARENA = 1024; // Larger arenas are checked on every lookup
+    private static final long VALIDATE_INTERVAL_NANOS = 5_000_000_000L;
+
     private final StormcraftPlugin plugin;
     private final ConfigManager config;
     private final WorldGuardIntegration worldGuard;
 
-    // Arena definitions
-    private final List<BossArena> arenas = new ArrayList<>();
-    private final Map<String, BossArena> arenasByName = new HashMap<>();
+    // Arena definitions, replaced as a whole on reload
+    private volatile List<BossArena> arenas = List.of();
+    private volatile Map<String, BossArena> arenasByName = Map.of();
+
+    private final Map<UUID, ArenaIndex> indexes = new ConcurrentHashMap<>();
+    private volatile long nextValidateNanos = System.nanoTime() + VALIDATE_INTERVAL_NANOS;
 
     public BossArenaManager(StormcraftPlugin plugin, ConfigManager config, WorldGuardIntegration worldGuard) {
         this.plugin = plugin;
@@ -31,78 +53,103 @@ public class BossArenaManager {
         loadArenas();
     }
 
+    /**
+     * Re-reads arena definitions from config and drops every index.
+     */
+    public void reload() {
+        loadArenas();
+    }
+
     /**
      * Loads boss arena definitions from config.
      */
     private void loadArenas() {
         FileConfiguration cfg = plugin.getConfig();
         ConfigurationSection arenasSection = cfg.getConfigurationSection("bossArenas");
+        List<BossArena> loaded = new ArrayList<>();
+        Map<String, BossArena> byName = new HashMap<>();
 
-        if (arenasSection == null) {
-            return;
-        }
+        if (arenasSection != null) {
+            for (String arenaName : arenasSection.getKeys(false)) {
+                ConfigurationSection arenaSection = arenasSection.getConfigurationSection(arenaName);
+                if (arenaSection == null) continue;
 
-        for (String arenaName : arenasSection.getKeys(false)) {
-            ConfigurationSection arenaSection = arenasSection.getConfigurationSection(arenaName);
-            if (arenaSection == null) continue;
+                BossArena arena = new BossArena(arenaName);
 
-            BossArena arena = new BossArena(arenaName);
+                // Load WorldGuard region if specified
+                if (arenaSection.contains("worldGuardRegion")) {
+                    arena.setWorldGuardRegion(arenaSection.getString("worldGuardRegion"));
+                }
 
-            // Load WorldGuard region if specified
-            if (arenaSection.contains("worldGuardRegion")) {
-                arena.setWorldGuardRegion(arenaSection.getString("worldGuardRegion"));
-            }
+                // Load coordinate bounds if specified
+                if (arenaSection.contains("bounds")) {
+                    ConfigurationSection boundsSection = arenaSection.getConfigurationSection("bounds");
+                    if (boundsSection != null) {
+                        String world = boundsSection.getString("world", "world");
+                        double minX = boundsSection.getDouble("minX");
+                        double minY = boundsSection.getDouble("minY");
+                        double minZ = boundsSection.getDouble("minZ");
+                        double maxX = boundsSection.getDouble("maxX");
+                        double maxY = boundsSection.getDouble("maxY");
+                        double maxZ = boundsSection.getDouble("maxZ");
 
-            // Load coordinate bounds if specified
-            if (arenaSection.contains("bounds")) {
-                ConfigurationSection boundsSection = arenaSection.getConfigurationSection("bounds");
-                if (boundsSection != null) {
-                    String world = boundsSection.getString("world", "world");
-                    double minX = boundsSection.getDouble("minX");
-                    double minY = boundsSection.getDouble("minY");
-                    double minZ = boundsSection.getDouble("minZ");
-                    double maxX = boundsSection.getDouble("maxX");
-                    double maxY = boundsSection.getDouble("maxY");
-                    double maxZ = boundsSection.getDouble("maxZ");
-
-                    arena.setBounds(world, minX, minY, minZ, maxX, maxY, maxZ);
+                        arena.setBounds(world, minX, minY, minZ, maxX, maxY, maxZ);
+                    }
                 }
-            }
 
-            // Load protection settings
-            arena.setStormProtection(arenaSection.getBoolean("stormProtection", true));
-            arena.setShowWarnings(arenaSection.getBoolean("showWarnings", true));
-            arena.setDescription(arenaSection.getString("description", "Boss Arena"));
+                // Load protection settings
+                arena.setStormProtection(arenaSection.getBoolean("stormProtection", true));
+                arena.setShowWarnings(arenaSection.getBoolean("showWarnings", true));
+                arena.setDescription(arenaSection.getString("description", "Boss Arena"));
 
-            arenas.add(arena);
-            arenasByName.put(arenaName.toLowerCase(), arena);
+                loaded.add(arena);
+                byName.put(arenaName.toLowerCase(), arena);
 
-            plugin.getLogger().info("Loaded boss arena: " + arenaName);
+                plugin.getLogger().info("Loaded boss arena: " + arenaName);
+            }
         }
+
+        arenas = Collections.unmodifiableList(loaded);
+        arenasByName = byName;
+        indexes.clear();
     }
 
     /**
      * Checks if a location is within any boss arena.
      */
     public boolean isInBossArena(Location location) {
-        for (BossArena arena : arenas) {
-            if (arena.contains(location, worldGuard)) {
-                return true;
-            }
-        }
-        return false;
+        return getArenaAt(location) != null;
     }
 
     /**
      * Gets the boss arena at a location, if any.
      */
     public BossArena getArenaAt(Location location) {
-        for (BossArena arena : arenas) {
-            if (arena.contains(location, worldGuard)) {
-                return arena;
-            }
+        if (location.getWorld() == null) {
+            return null;
         }
-        return null;
+        return getArenaAt(location.getWorld(), location.getX(), location.getY(), location.getZ());
+    }
+
+    /**
+     * Gets the boss arena at a position, if any. Where arenas overlap, the first one in the config wins.
+     */
+    public BossArena getArenaAt(World world, double x, double y, double z) {
+        if (arenas.isEmpty()) {
+            return null;
+        }
+        return index(world).find(x, y, z, false);
+    }
+
+    /**
+     * Checks if a position is inside an arena with storm protection, where storms deal no damage
+     * and don't degrade blocks.
+     */
+    public boolean isStormProtected(World world, double x, double y, double z) {
+        if (arenas.isEmpty()) {
+            return false;
+        }
+        return index(world).find(x, y, z, true) != null;
     }
 
     /**
@@ -119,6 +166,193 @@ public class BossArenaManager {
         return new ArrayList<>(arenas);
     }
 
+    /**
+     * Gets the size of a world's arena index, building it if needed.
+     */
+    public IndexStats getIndexStats(World world) {
+        ArenaIndex index = index(world);
+        return new IndexStats(index.entries.length, index.cells.size(), index.oversized.length);
+    }
+
+    private ArenaIndex index(World world) {
+        long now = System.nanoTime();
+        if (now - nextValidateNanos >= 0) {
+            nextValidateNanos = now + VALIDATE_INTERVAL_NANOS;
+            validate();
+        }
+
+        List<BossArena> current = arenas;
+        ArenaIndex index = indexes.get(world.getUID());
+        // An index built from the arena list before a reload is stale even if it raced the reload's clear
+        boolean hit = index != null && index.source == current;
+        if (!hit) {
+            index = new ArenaIndex(world, current);
+            indexes.put(world.getUID(), index);
+        }
+        plugin.getMetrics().recordCacheLookup("arena-index", hit);
+        return index;
+    }
+
+    /**
+     * Drops indexes whose WorldGuard regions were reloaded, defined, redefined or removed since they were built.
+     */
+    private void validate() {
+        for (ArenaIndex index : indexes.values()) {
+            List<BossArena> source = index.source;
+            for (int i = 0; i < source.size(); i++) {
+                if (lookupRegion(index.world, source.get(i)) != index.regions[i]) {
+                    indexes.remove(index.world.getUID(), index);
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the WorldGuard region backing an arena in a world, or null if the arena uses coordinate bounds
+     * (or its region isn't defined there).
+     */
+    private ProtectedRegion lookupRegion(World world, BossArena arena) {
+        if (arena.getWorldGuardRegion() == null || worldGuard == null || !worldGuard.isEnabled()) {
+            return null;
+        }
+        return worldGuard.getRegion(world, arena.getWorldGuardRegion());
+    }
+
+    private static long cellKey(int cellX, int cellZ) {
+        return ((long) cellX << 32) | (cellZ & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Index sizes for diagnostics.
+     */
+    public record IndexStats(int arenas, int cells, int oversized) {
+    }
+
+    /**
+     * One indexed arena in one world: its bounding box, plus the region to confirm against if it's a WorldGuard arena.
+     */
+    private static final class Entry {
+        final int order;
+        final BossArena arena;
+        final ProtectedRegion region;
+        final double minX, minY, minZ;
+        final double maxX, maxY, maxZ;
+
+        Entry(int order, BossArena arena, ProtectedRegion region,
+              double minX, double minY, double minZ, double maxX, double maxY, double maxZ) {
+            this.order = order;
+            this.arena = arena;
+            this.region = region;
+            this.minX = minX;
+            this.minY = minY;
+            this.minZ = minZ;
+            this.maxX = maxX;
+            this.maxY = maxY;
+            this.maxZ = maxZ;
+        }
+
+        boolean contains(double x, double y, double z) {
+            if (x < minX || x > maxX || y < minY || y > maxY || z < minZ || z > maxZ) {
+                return false;
+            }
+            return region == null || region.contains((int) Math.floor(x), (int) Math.floor(y), (int) Math.floor(z));
+        }
+    }
+
+    /**
+     * Grid of arena bounding boxes for one world. Immutable once built.
+     */
+    private final class ArenaIndex {
+        final World world;
+        final List<BossArena> source;
+        final ProtectedRegion[] regions; // Region each arena resolved to when built, by arena position
+        final Entry[] entries;
+        final Map<Long, int[]> cells = new HashMap<>();
+        final int[] oversized;
+
+        ArenaIndex(World world, List<BossArena> source) {
+            this.world = world;
+            this.source = source;
+            this.regions = new ProtectedRegion[source.size()];
+
+            List<Entry> built = new ArrayList<>();
+            for (int i = 0; i < source.size(); i++) {
+                BossArena arena = source.get(i);
+                if (arena.getWorldGuardRegion() != null && worldGuard != null && worldGuard.isEnabled()) {
+                    // WorldGuard arenas ignore their bounds, as they always have
+                    ProtectedRegion region = lookupRegion(world, arena);
+                    regions[i] = region;
+                    if (region != null) {
+                        BlockVector3 min = region.getMinimumPoint();
+                        BlockVector3 max = region.getMaximumPoint();
+                        built.add(new Entry(i, arena, region, min.getX(), min.getY(), min.getZ(),
+                                max.getX() + 1, max.getY() + 1, max.getZ() + 1));
+                    }
+                } else if (arena.hasBounds() && arena.getWorldName().equals(world.getName())) {
+                    built.add(new Entry(i, arena, null, arena.getMinX(), arena.getMinY(), arena.getMinZ(),
+                            arena.getMaxX(), arena.getMaxY(), arena.getMaxZ()));
+                }
+            }
+            this.entries = built.toArray(new Entry[0]);
+
+            int[] large = new int[0];
+            for (int e = 0; e < entries.length; e++) {
+                Entry entry = entries[e];
+                int minCellX = (int) Math.floor(entry.minX) >> CELL_SHIFT;
+                int minCellZ = (int) Math.floor(entry.minZ) >> CELL_SHIFT;
+                int maxCellX = (int) Math.floor(entry.maxX) >> CELL_SHIFT;
+                int maxCellZ = (int) Math.floor(entry.maxZ) >> CELL_SHIFT;
+                long cellCount = (long) (maxCellX - minCellX + 1) * (maxCellZ - minCellZ + 1);
+                if (cellCount > MAX_CELLS_PER_ARENA) {
+                    large = append(large, e);
+                    continue;
+                }
+                for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+                    for (int cellZ = minCellZ; cellZ <= maxCellZ; cellZ++) {
+                        cells.merge(cellKey(cellX, cellZ), new int[]{e}, (existing, added) -> append(existing, added[0]));
+                    }
+                }
+            }
+            this.oversized = large;
+        }
+
+        /**
+         * Gets the first arena (in config order) containing the position, optionally only storm-protected ones.
+         */
+        BossArena find(double x, double y, double z, boolean protectingOnly) {
+            int[] bucket = cells.get(cellKey((int) Math.floor(x) >> CELL_SHIFT, (int) Math.floor(z) >> CELL_SHIFT));
+            Entry best = null;
+            if (bucket != null) {
+                best = firstMatch(bucket, best, x, y, z, protectingOnly);
+            }
+            best = firstMatch(oversized, best, x, y, z, protectingOnly);
+            return best != null ? best.arena : null;
+        }
+
+        private Entry firstMatch(int[] candidates, Entry best, double x, double y, double z, boolean protectingOnly) {
+            for (int e : candidates) {
+                Entry entry = entries[e];
+                if (best != null && entry.order >= best.order) {
+                    continue;
+                }
+                if (protectingOnly && !entry.arena.hasStormProtection()) {
+                    continue;
+                }
+                if (entry.contains(x, y, z)) {
+                    best = entry;
+                }
+            }
+            return best;
+        }
+
+        private static int[] append(int[] array, int value) {
+            int[] grown = Arrays.copyOf(array, array.length + 1);
+            grown[array.length] = value;
+            return grown;
+        }
+    }
+
     /**
      * Represents a boss arena zone.
      */
@@ -183,6 +417,14 @@ public class BossArenaManager {
         // Getters and setters
         public String getName() { return name; }
         public String getWorldGuardRegion() { return worldGuardRegion; }
+        public boolean hasBounds() { return hasBounds; }
+        public String getWorldName() { return world; }
+        public double getMinX() { return minX; }
+        public double getMinY() { return minY; }
+        public double getMinZ() { return minZ; }
+        public double getMaxX() { return maxX; }
+        public double getMaxY() { return maxY; }
+        public double getMaxZ() { return maxZ; }
         public boolean hasStormProtection() { return stormProtection; }
         public void setStormProtection(boolean protection) { this.stormProtection = protection; }
         public boolean shouldShowWarnings() { return showWarnings; }
@@ -190,4 +432,4 @@ public class BossArenaManager {
         public String getDescription() { return description; }
         public void setDescription(String desc) { this.description = desc; }
     }
-}
\ No newline at end of file
+}
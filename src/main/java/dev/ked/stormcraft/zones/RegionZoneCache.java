@@ -0,0 +1,257 @@
+package dev.ked.stormcraft.zones;
+
+import com.sk89q.worldedit.math.BlockVector3;
+import com.sk89q.worldguard.protection.regions.ProtectedCuboidRegion;
+import com.sk89q.worldguard.protection.regions.ProtectedRegion;
+import dev.ked.stormcraft.StormcraftPlugin;
+import dev.ked.stormcraft.integration.WorldGuardIntegration;
+import org.bukkit.World;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Chunk-resolution zone map for WorldGuard-region zones.
+ * The stormlands/stormzone/safezone regions are looked up once per world and kept, and each chunk
+ * is classified the first time it's queried: if every column in it is in the same zone, later lookups
+ * are a single byte read. Chunks straddling a region edge, and regions that don't span the full world
+ * height, fall back to asking the cached regions directly.
+ *
+ * WorldGuard has no reload event, so every few seconds a lookup checks that the cached regions are still
+ * the ones WorldGuard holds; a reload, redefine or removal replaces them and the world's map is rebuilt.
+ * Lookups answered from a classified chunk count as hits in the "region-zones" cache metrics.
+ * Safe to call from any thread.
+ */
+public class RegionZoneCache {
+    private static final String[] REGION_NAMES = {"stormlands", "stormzone", "safezone"};
+    private static final ZoneManager.ZoneType[] REGION_ZONES = {
+            ZoneManager.ZoneType.STORMLANDS, ZoneManager.ZoneType.STORM_ZONE, ZoneManager.ZoneType.SAFE_ZONE};
+    private static final ZoneManager.ZoneType[] ZONES = ZoneManager.ZoneType.values();
+
+    // Chunk codes: 0 = not classified yet, ordinal + 1 = whole chunk in that zone
+    private static final byte UNKNOWN = 0;
+    private static final byte MIXED = -1;
+
+    private static final long VALIDATE_INTERVAL_NANOS = 5_000_000_000L;
+    private static final int MAX_CHUNKS = 4 * 1024 * 1024; // 4 MB per world
+
+    private final StormcraftPlugin plugin;
+    private final WorldGuardIntegration worldGuard;
+    private final Map<UUID, WorldZones> worlds = new ConcurrentHashMap<>();
+    private volatile long nextValidateNanos = System.nanoTime() + VALIDATE_INTERVAL_NANOS;
+
+    public RegionZoneCache(StormcraftPlugin plugin, WorldGuardIntegration worldGuard) {
+        this.plugin = plugin;
+        this.worldGuard = worldGuard;
+    }
+
+    /**
+     * Gets the zone at a block position. Outside every region counts as the safe zone.
+     */
+    public ZoneManager.ZoneType getZone(World world, int x, int y, int z) {
+        long now = System.nanoTime();
+        if (now - nextValidateNanos >= 0) {
+            nextValidateNanos = now + VALIDATE_INTERVAL_NANOS;
+            validate();
+        }
+        WorldZones zones = worlds.computeIfAbsent(world.getUID(), id -> new WorldZones(world, lookupRegions(world)));
+        byte code = zones.chunkCode(x, z);
+        plugin.getMetrics().recordCacheLookup("region-zones", code != UNKNOWN && code != MIXED);
+        return zones.getZone(x, y, z);
+    }
+
+    /**
+     * Drops every cached map, e.g. after the zone config is reloaded.
+     */
+    public void invalidate() {
+        worlds.clear();
+    }
+
+    private ProtectedRegion[] lookupRegions(World world) {
+        ProtectedRegion[] regions = new ProtectedRegion[REGION_NAMES.length];
+        for (int i = 0; i < REGION_NAMES.length; i++) {
+            regions[i] = worldGuard.getRegion(world, REGION_NAMES[i]);
+        }
+        return regions;
+    }
+
+    /**
+     * Drops maps whose regions were reloaded, redefined or removed since they were built.
+     */
+    private void validate() {
+        for (WorldZones zones : worlds.values()) {
+            ProtectedRegion[] current = lookupRegions(zones.world);
+            for (int i = 0; i < current.length; i++) {
+                if (current[i] != zones.regions[i]) {
+                    worlds.remove(zones.world.getUID(), zones);
+                    plugin.getLogger().info("WorldGuard zone regions changed in " + zones.world.getName() + ", rebuilding zone map");
+                    break;
+                }
+            }
+        }
+    }
+
+    private static byte code(ZoneManager.ZoneType zone) {
+        return (byte) (zone.ordinal() + 1);
+    }
+
+    private static final class WorldZones {
+        final World world;
+        final ProtectedRegion[] regions;
+        final int minChunkX;
+        final int minChunkZ;
+        final int width;
+        final int height;
+        final byte[] chunks; // null if there's nothing to map (no regions, partial height or too large)
+
+        WorldZones(World world, ProtectedRegion[] regions) {
+            this.world = world;
+            this.regions = regions;
+
+            int minX = Integer.MAX_VALUE;
+            int minZ = Integer.MAX_VALUE;
+            int maxX = Integer.MIN_VALUE;
+            int maxZ = Integer.MIN_VALUE;
+            boolean mappable = false;
+            for (ProtectedRegion region : regions) {
+                if (region == null) {
+                    continue;
+                }
+                BlockVector3 min = region.getMinimumPoint();
+                BlockVector3 max = region.getMaximumPoint();
+                // Per-chunk answers ignore Y, so only regions spanning the whole world height can be mapped
+                if (min.getY() > world.getMinHeight() || max.getY() < world.getMaxHeight() - 1) {
+                    mappable = false;
+                    minX = Integer.MAX_VALUE;
+                    break;
+                }
+                mappable = true;
+                minX = Math.min(minX, min.getX() >> 4);
+                minZ = Math.min(minZ, min.getZ() >> 4);
+                maxX = Math.max(maxX, max.getX() >> 4);
+                maxZ = Math.max(maxZ, max.getZ() >> 4);
+            }
+
+            long cells = mappable ? (long) (maxX - minX + 1) * (maxZ - minZ + 1) : 0;
+            if (mappable && cells <= MAX_CHUNKS) {
+                this.minChunkX = minX;
+                this.minChunkZ = minZ;
+                this.width = maxX - minX + 1;
+                this.height = maxZ - minZ + 1;
+                this.chunks = new byte[(int) cells];
+            } else {
+                this.minChunkX = 0;
+                this.minChunkZ = 0;
+                this.width = 0;
+                this.height = 0;
+                this.chunks = null;
+            }
+        }
+
+        /**
+         * Gets the cached code for a block's chunk, without classifying it. UNKNOWN outside the map,
+         * MIXED when there is no map, so a lookup there always counts as a miss.
+         */
+        byte chunkCode(int x, int z) {
+            if (chunks == null) {
+                return MIXED;
+            }
+            int cellX = (x >> 4) - minChunkX;
+            int cellZ = (z >> 4) - minChunkZ;
+            if (cellX < 0 || cellZ < 0 || cellX >= width || cellZ >= height) {
+                return code(ZoneManager.ZoneType.SAFE_ZONE);
+            }
+            return chunks[cellZ * width + cellX];
+        }
+
+        ZoneManager.ZoneType getZone(int x, int y, int z) {
+            if (chunks == null) {
+                return lookup(x, y, z);
+            }
+
+            int cellX = (x >> 4) - minChunkX;
+            int cellZ = (z >> 4) - minChunkZ;
+            if (cellX < 0 || cellZ < 0 || cellX >= width || cellZ >= height) {
+                return ZoneManager.ZoneType.SAFE_ZONE; // Outside every region's bounds
+            }
+
+            int index = cellZ * width + cellX;
+            byte code = chunks[index];
+            if (code == UNKNOWN) {
+                // Racing threads compute the same value, so the unsynchronized write is harmless
+                code = classify(x >> 4, z >> 4);
+                chunks[index] = code;
+            }
+            return code == MIXED ? lookup(x, y, z) : ZONES[code - 1];
+        }
+
+        /**
+         * Exact lookup against the cached regions, in priority order.
+         */
+        ZoneManager.ZoneType lookup(int x, int y, int z) {
+            for (int i = 0; i < regions.length; i++) {
+                if (regions[i] != null && regions[i].contains(x, y, z)) {
+                    return REGION_ZONES[i];
+                }
+            }
+            return ZoneManager.ZoneType.SAFE_ZONE;
+        }
+
+        /**
+         * Works out whether a whole chunk is in one zone. Bounding boxes settle most chunks
+         * (and all cuboid regions); chunks near a non-cuboid region's edge are checked column by column.
+         */
+        byte classify(int chunkX, int chunkZ) {
+            int minX = chunkX << 4;
+            int minZ = chunkZ << 4;
+            int maxX = minX + 15;
+            int maxZ = minZ + 15;
+
+            boolean undecided = false;
+            for (ProtectedRegion region : regions) {
+                if (region == null) {
+                    continue;
+                }
+                BlockVector3 min = region.getMinimumPoint();
+                BlockVector3 max = region.getMaximumPoint();
+                boolean outside = maxX < min.getX() || minX > max.getX() || maxZ < min.getZ() || minZ > max.getZ();
+                if (outside) {
+                    continue;
+                }
+                boolean inside = minX >= min.getX() && maxX <= max.getX() && minZ >= min.getZ() && maxZ <= max.getZ();
+                if (inside && region instanceof ProtectedCuboidRegion) {
+                    // Higher-priority regions were already decided, so this one wins
+                    return undecided ? sampleColumns(minX, minZ) : code(zoneOf(region));
+                }
+                undecided = true;
+            }
+            if (!undecided) {
+                return code(ZoneManager.ZoneType.SAFE_ZONE);
+            }
+            return sampleColumns(minX, minZ);
+        }
+
+        private ZoneManager.ZoneType zoneOf(ProtectedRegion region) {
+            for (int i = 0; i < regions.length; i++) {
+                if (regions[i] == region) {
+                    return REGION_ZONES[i];
+                }
+            }
+            return ZoneManager.ZoneType.SAFE_ZONE;
+        }
+
+        private byte sampleColumns(int minX, int minZ) {
+            int y = world.getMinHeight();
+            ZoneManager.ZoneType first = lookup(minX, y, minZ);
+            for (int dx = 0; dx < 16; dx++) {
+                for (int dz = 0; dz < 16; dz++) {
+                    if (lookup(minX + dx, y, minZ + dz) != first) {
+                        return MIXED;
+                    }
+                }
+            }
+            return code(first);
+        }
+    }
+}
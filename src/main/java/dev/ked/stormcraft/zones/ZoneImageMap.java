@@ -0,0 +1,247 @@
+package dev.ked.stormcraft.zones;
+
+import org.bukkit.Location;
+import org.bukkit.World;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Random;
+
+/**
+ * Hand-drawn zone layout: one zone per cell of {@code blocksPerPixel} blocks, stored as a byte grid
+ * in a memory-mapped file. The image is centered on the zone center, so moving the center doesn't
+ * need a rebuild. The file also lists the Stormlands and Storm Zone cells, so drawing a random point
+ * in either zone is O(1) whatever its shape. Read-only once built, so it can be sampled from any thread.
+ *
+ * Layout (big-endian): header, one byte per cell (zone ordinal, row-major), then the int indices of
+ * every Stormlands cell followed by every Storm Zone cell.
+ */
+public final class ZoneImageMap {
+    static final int MAGIC = 0x53435A4D; // "SCZM"
+    static final int VERSION = 1;
+    private static final int HEADER_BYTES = 4 + 4 + 8 + 4 * 5;
+
+    // Pixels further than this from every zone color (or mostly transparent) count as the safe zone
+    private static final int MAX_COLOR_DISTANCE_SQ = 64 * 64 * 3;
+
+    private static final ZoneManager.ZoneType[] ZONES = ZoneManager.ZoneType.values();
+
+    private final long sourceHash;
+    private final int blocksPerPixel;
+    private final int width;
+    private final int height;
+    private final int stormlandsCells;
+    private final int stormZoneCells;
+    private final int originX;
+    private final int originZ;
+    private final MappedByteBuffer buffer;
+
+    private ZoneImageMap(long sourceHash, int blocksPerPixel, int width, int height, int stormlandsCells,
+                         int stormZoneCells, double centerX, double centerZ, MappedByteBuffer buffer) {
+        this.sourceHash = sourceHash;
+        this.blocksPerPixel = blocksPerPixel;
+        this.width = width;
+        this.height = height;
+        this.stormlandsCells = stormlandsCells;
+        this.stormZoneCells = stormZoneCells;
+        this.originX = (int) Math.floor(centerX - (double) width * blocksPerPixel / 2);
+        this.originZ = (int) Math.floor(centerZ - (double) height * blocksPerPixel / 2);
+        this.buffer = buffer;
+    }
+
+    /**
+     * Decodes a PNG, matches each pixel to the nearest zone color and writes the grid to {@code file}.
+     * {@code colors} holds the RGB color of each zone, indexed by ordinal.
+     */
+    static void build(byte[] png, int blocksPerPixel, int[] colors, long sourceHash, File file) throws IOException {
+        BufferedImage image = ImageIO.read(new ByteArrayInputStream(png));
+        if (image == null) {
+            throw new IOException("not a readable image");
+        }
+
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int cells = width * height;
+        byte[] grid = new byte[cells];
+        int[] counts = new int[ZONES.length];
+        int[] row = new int[width];
+        // Read a row at a time so a large map never needs a full int[] copy of the image
+        for (int y = 0; y < height; y++) {
+            image.getRGB(0, y, width, 1, row, 0, width);
+            for (int x = 0; x < width; x++) {
+                int zone = matchColor(row[x], colors);
+                grid[y * width + x] = (byte) zone;
+                counts[zone]++;
+            }
+        }
+
+        int stormlands = ZoneManager.ZoneType.STORMLANDS.ordinal();
+        int stormZone = ZoneManager.ZoneType.STORM_ZONE.ordinal();
+        ByteBuffer out = ByteBuffer.allocate(HEADER_BYTES + cells + (counts[stormlands] + counts[stormZone]) * 4);
+        out.putInt(MAGIC).putInt(VERSION).putLong(sourceHash)
+                .putInt(blocksPerPixel).putInt(width).putInt(height)
+                .putInt(counts[stormlands]).putInt(counts[stormZone]);
+        out.put(grid);
+        for (int zone : new int[]{stormlands, stormZone}) {
+            for (int i = 0; i < cells; i++) {
+                if (grid[i] == zone) {
+                    out.putInt(i);
+                }
+            }
+        }
+        out.flip();
+
+        // Written to a temp file first so a crash never leaves a truncated map behind
+        File temp = new File(file.getParentFile(), file.getName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp.toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (out.hasRemaining()) {
+                channel.write(out);
+            }
+        }
+        try {
+            Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            Files.deleteIfExists(temp.toPath());
+            throw e;
+        }
+    }
+
+    /**
+     * Maps an existing grid file, centered on the given zone center. Returns null if it isn't a valid grid.
+     * The whole file is checked, so a corrupt or hand-edited grid is rejected here rather than failing lookups.
+     */
+    static ZoneImageMap open(File file, double centerX, double centerZ) throws IOException {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            if (channel.size() < HEADER_BYTES) {
+                return null;
+            }
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+                return null;
+            }
+
+            int blocksPerPixel = buffer.getInt(16);
+            int width = buffer.getInt(20);
+            int height = buffer.getInt(24);
+            int stormlandsCells = buffer.getInt(28);
+            int stormZoneCells = buffer.getInt(32);
+            long expected = HEADER_BYTES + (long) width * height + (long) (stormlandsCells + stormZoneCells) * 4;
+            if (blocksPerPixel <= 0 || width <= 0 || height <= 0 || stormlandsCells < 0 || stormZoneCells < 0
+                    || channel.size() != expected) {
+                return null;
+            }
+
+            // Every cell must be a zone ordinal and every listed cell must be in the grid, or lookups would throw later
+            int cells = width * height;
+            for (int i = 0; i < cells; i++) {
+                int zone = buffer.get(HEADER_BYTES + i);
+                if (zone < 0 || zone >= ZONES.length) {
+                    return null;
+                }
+            }
+            for (int i = 0; i < stormlandsCells + stormZoneCells; i++) {
+                int cell = buffer.getInt(HEADER_BYTES + cells + i * 4);
+                if (cell < 0 || cell >= cells) {
+                    return null;
+                }
+            }
+            return new ZoneImageMap(buffer.getLong(8), blocksPerPixel, width, height, stormlandsCells,
+                    stormZoneCells, centerX, centerZ, buffer);
+        }
+    }
+
+    private static int matchColor(int argb, int[] colors) {
+        int safe = ZoneManager.ZoneType.SAFE_ZONE.ordinal();
+        if ((argb >>> 24) < 128) {
+            return safe;
+        }
+
+        int best = safe;
+        int bestDistance = MAX_COLOR_DISTANCE_SQ;
+        for (int zone = 0; zone < colors.length; zone++) {
+            int dr = ((argb >> 16) & 0xFF) - ((colors[zone] >> 16) & 0xFF);
+            int dg = ((argb >> 8) & 0xFF) - ((colors[zone] >> 8) & 0xFF);
+            int db = (argb & 0xFF) - (colors[zone] & 0xFF);
+            int distance = dr * dr + dg * dg + db * db;
+            if (distance <= bestDistance) {
+                bestDistance = distance;
+                best = zone;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Gets the zone at a block position. Everything outside the image is the safe zone.
+     */
+    public ZoneManager.ZoneType getZone(int x, int z) {
+        int cellX = Math.floorDiv(x - originX, blocksPerPixel);
+        int cellZ = Math.floorDiv(z - originZ, blocksPerPixel);
+        if (cellX < 0 || cellZ < 0 || cellX >= width || cellZ >= height) {
+            return ZoneManager.ZoneType.SAFE_ZONE;
+        }
+        return ZONES[buffer.get(HEADER_BYTES + cellZ * width + cellX)];
+    }
+
+    /**
+     * Draws a uniformly random point in the Stormlands or the Storm Zone. Returns null if the map has none.
+     */
+    public Location sample(World world, ZoneManager.ZoneType zone, Random random) {
+        return switch (zone) {
+            case STORMLANDS -> sampleCell(world, 0, stormlandsCells, random);
+            case STORM_ZONE -> sampleCell(world, stormlandsCells, stormZoneCells, random);
+            case SAFE_ZONE -> null;
+        };
+    }
+
+    /**
+     * Draws a uniformly random point anywhere in the Stormlands or the Storm Zone. Returns null if the map has neither.
+     */
+    public Location sampleStormArea(World world, Random random) {
+        return sampleCell(world, 0, stormlandsCells + stormZoneCells, random);
+    }
+
+    private Location sampleCell(World world, int first, int count, Random random) {
+        if (count <= 0) {
+            return null;
+        }
+        int cell = buffer.getInt(HEADER_BYTES + width * height + (first + random.nextInt(count)) * 4);
+        double x = originX + (double) (cell % width) * blocksPerPixel + random.nextDouble() * blocksPerPixel;
+        double z = originZ + (double) (cell / width) * blocksPerPixel + random.nextDouble() * blocksPerPixel;
+        return new Location(world, x, 64, z);
+    }
+
+    public long getSourceHash() {
+        return sourceHash;
+    }
+
+    public int getBlocksPerPixel() {
+        return blocksPerPixel;
+    }
+
+    public int getOriginX() {
+        return originX;
+    }
+
+    public int getOriginZ() {
+        return originZ;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+}
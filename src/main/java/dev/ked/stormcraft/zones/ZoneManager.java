@@ -2,91 +2,279 @@ package dev.ked.stormcraft.zones;
 
 import dev.ked.stormcraft.StormcraftPlugin;
 import dev.ked.stormcraft.config.ConfigManager;
+import dev.ked.stormcraft.config.StormcraftSettings;
 import dev.ked.stormcraft.integration.WorldGuardIntegration;
 import org.bukkit.Location;
 import org.bukkit.World;
 
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+
 /**
  * Manages zone boundaries and determines which zone a location is in.
- * Prioritizes WorldGuard regions (stormlands, stormzone, safezone) over circular zones.
+ * Prioritizes WorldGuard regions (stormlands, stormzone, safezone), then a zone map image, then circular zones.
  * Circular zones are used as fallback if WorldGuard is not available or regions not found.
+ *
+ * Each loaded world gets its own layout: WorldGuard mode is decided by the regions defined in that world,
+ * and the center, radii and zone map can be overridden per world under zones.worlds. Zone settings
+ * (multipliers, storm weights, biome preferences) are shared. Layouts are rebuilt on reload and when a
+ * world loads, and replaced as a whole array, so lookups are safe from any thread.
  */
 public class ZoneManager {
     private final StormcraftPlugin plugin;
     private final ConfigManager config;
     private final WorldGuardIntegration worldGuardIntegration;
+    private final RegionZoneCache regionZoneCache;
 
-    // Zone center coordinates
-    private double centerX;
-    private double centerZ;
-
-    // Zone radii (squared for performance)
-    private double stormlandsRadiusSquared;
-    private double stormZoneRadiusSquared;
-    private double safeZoneRadiusSquared;
-
-    // Zone settings
-    private ZoneSettings stormlandsSettings;
-    private ZoneSettings stormZoneSettings;
-    private ZoneSettings safeZoneSettings;
+    // Per-zone settings and the main layout, from one config load
+    private volatile StormcraftSettings.Zones zones;
+    private volatile WorldZones[] worldZones = new WorldZones[0];
+    // Main layout without WorldGuard, for worlds loaded since the last load
+    private volatile WorldZones fallbackZones;
 
     private boolean enabled;
-    private boolean usingWorldGuardRegions = false;
+    // Bumped on every load, so a background map load that finishes after a newer reload is dropped
+    private int zoneMapGeneration = 0;
 
     public ZoneManager(StormcraftPlugin plugin, ConfigManager config, WorldGuardIntegration worldGuardIntegration) {
         this.plugin = plugin;
         this.config = config;
         this.worldGuardIntegration = worldGuardIntegration;
-        loadZoneConfig();
+        this.regionZoneCache = new RegionZoneCache(plugin, worldGuardIntegration);
+        loadZoneConfig(false);
     }
 
+    /**
+     * Reloads the zone settings. A configured zone map is loaded in the background (converting a large
+     * PNG takes a while) and swapped in once ready; until then the previous map stays in use.
+     */
     public void loadZoneConfig() {
-        this.enabled = config.isZoneSystemEnabled();
+        loadZoneConfig(true);
+    }
+
+    private void loadZoneConfig(boolean loadMapInBackground) {
+        int generation = ++zoneMapGeneration;
 
         // Load zone settings regardless (used for damage multipliers, etc.)
-        this.stormlandsSettings = config.getStormlandsSettings();
-        this.stormZoneSettings = config.getStormZoneSettings();
-        this.safeZoneSettings = config.getSafeZoneSettings();
+        StormcraftSettings.Zones loaded = config.getSettings().zones();
+        WorldZones[] previous = worldZones;
+        this.zones = loaded;
+        regionZoneCache.invalidate();
+
+        List<World> worlds = plugin.getServer().getWorlds();
+        WorldZones[] resolved = new WorldZones[worlds.size()];
+        boolean anyEnabled = loaded.enabled();
+        // Worlds sharing a zone map file and center share the loaded map
+        Map<String, List<WorldZones>> mapUsers = new LinkedHashMap<>();
+        for (int i = 0; i < resolved.length; i++) {
+            World world = worlds.get(i);
+            WorldZones layout = resolveWorld(world, loaded.forWorld(world.getName()));
+            resolved[i] = layout;
+            anyEnabled |= layout.isEnabled();
+            if (layout.usingWorldGuardRegions || !layout.zones.enabled() || !layout.zones.imageMapEnabled()) {
+                continue;
+            }
+            // Until the new map is ready, keep the one the world had
+            for (WorldZones old : previous) {
+                if (old.world == world) {
+                    layout.zoneMap = old.zoneMap;
+                }
+            }
+            mapUsers.computeIfAbsent(mapKey(layout.zones), key -> new ArrayList<>()).add(layout);
+        }
+        this.worldZones = resolved;
+        this.fallbackZones = new WorldZones(null, loaded, false);
+        this.enabled = anyEnabled;
+
+        if (mapUsers.isEmpty()) {
+            return;
+        }
+        if (!loadMapInBackground) {
+            for (List<WorldZones> users : mapUsers.values()) {
+                applyZoneMap(users, loadZoneMap(users.get(0).zones));
+            }
+            return;
+        }
+        // One task loads them in turn, as worlds can share an image file and its cached grid
+        plugin.getTaskScheduler().runAsync(() -> {
+            for (List<WorldZones> users : mapUsers.values()) {
+                ZoneImageMap map = loadZoneMap(users.get(0).zones);
+                plugin.getTaskScheduler().runGlobal(() -> {
+                    if (generation == zoneMapGeneration) {
+                        applyZoneMap(users, map);
+                    }
+                });
+            }
+        });
+    }
+
+    /**
+     * Drops an unloading world's layout, so it doesn't keep the world in memory.
+     */
+    public void forgetWorld(World world) {
+        List<WorldZones> kept = new ArrayList<>();
+        for (WorldZones layout : worldZones) {
+            if (layout.world != world) {
+                kept.add(layout);
+            }
+        }
+        worldZones = kept.toArray(new WorldZones[0]);
+    }
+
+    /**
+     * Decides how a world's zones are resolved: WorldGuard regions if the world defines all three,
+     * otherwise its circular layout (and zone map, once loaded).
+     */
+    private WorldZones resolveWorld(World world, StormcraftSettings.Zones layout) {
+        // Only worlds storms run in are logged
+        boolean log = config.getSettings().worlds().nameSet().contains(world.getName());
+        String prefix = "Zone system (" + world.getName() + "): ";
 
         // Check if WorldGuard regions are available (priority)
         if (worldGuardIntegration.isEnabled()) {
-            World world = plugin.getServer().getWorlds().get(0); // Primary world
             boolean hasStormlands = worldGuardIntegration.hasRegion(world, "stormlands");
             boolean hasStormZone = worldGuardIntegration.hasRegion(world, "stormzone");
             boolean hasSafeZone = worldGuardIntegration.hasRegion(world, "safezone");
 
             if (hasStormlands && hasStormZone && hasSafeZone) {
-                usingWorldGuardRegions = true;
-                plugin.getLogger().info("Zone system: Using WorldGuard regions (stormlands, stormzone, safezone)");
-                return;
-            } else if (hasStormlands || hasStormZone || hasSafeZone) {
-                plugin.getLogger().warning("Zone system: Some WorldGuard regions found but not all three (stormlands, stormzone, safezone). Falling back to circular zones.");
+                if (log) {
+                    plugin.getLogger().info(prefix + "Using WorldGuard regions (stormlands, stormzone, safezone)");
+                }
+                return new WorldZones(world, layout, true);
+            } else if (log && (hasStormlands || hasStormZone || hasSafeZone)) {
+                plugin.getLogger().warning(prefix + "Some WorldGuard regions found but not all three (stormlands, stormzone, safezone). Falling back to circular zones.");
             }
         }
 
         // Fallback to circular zones
-        usingWorldGuardRegions = false;
+        if (log && !layout.enabled()) {
+            plugin.getLogger().info(prefix + "Disabled (circular zones not enabled, WorldGuard regions not found)");
+        } else if (log && !layout.imageMapEnabled()) {
+            logCircularZones(prefix, layout);
+        }
+        return new WorldZones(world, layout, false);
+    }
 
-        if (!enabled) {
-            plugin.getLogger().info("Zone system: Disabled (circular zones not enabled, WorldGuard regions not found)");
+    private static String mapKey(StormcraftSettings.Zones layout) {
+        return layout.imageMapFile() + "|" + layout.imageMapBlocksPerPixel() + "|" + layout.centerX() + "|" + layout.centerZ();
+    }
+
+    /**
+     * Swaps in a loaded zone map (null if it failed) for the worlds using it, in one write per world
+     * so lookups see either the old map or the new one.
+     */
+    private void applyZoneMap(List<WorldZones> users, ZoneImageMap map) {
+        StormcraftSettings.Zones layout = users.get(0).zones;
+        for (WorldZones user : users) {
+            user.zoneMap = map;
+        }
+        // Only worlds storms run in are logged
+        Set<String> stormWorlds = config.getSettings().worlds().nameSet();
+        List<String> names = users.stream().map(user -> user.world.getName()).filter(stormWorlds::contains).toList();
+        if (names.isEmpty()) {
             return;
         }
+        String prefix = "Zone system (" + String.join(", ", names) + "): ";
+        if (map != null) {
+            plugin.getLogger().info(prefix + "Using zone map " + layout.imageMapFile() + " (" + map.getWidth() + "x"
+                    + map.getHeight() + " pixels, " + map.getBlocksPerPixel() + " blocks per pixel)");
+            return;
+        }
+        plugin.getLogger().warning(prefix + "Zone map could not be loaded. Falling back to circular zones.");
+        logCircularZones(prefix, layout);
+    }
+
+    private void logCircularZones(String prefix, StormcraftSettings.Zones loaded) {
+        plugin.getLogger().info(prefix + "Using circular zones - Stormlands=" + loaded.stormlandsRadius() +
+                               ", StormZone=" + loaded.stormZoneRadius() +
+                               ", SafeZone=" + loaded.safeZoneRadius());
+    }
+
+    /**
+     * Loads the configured zone map. PNGs are converted to a grid in the cache folder, keyed by a hash
+     * of the image and its settings, so later loads just map the cached file. Returns null on failure.
+     * Touches only files, so it may run off the main thread.
+     */
+    private ZoneImageMap loadZoneMap(StormcraftSettings.Zones settings) {
+        double centerX = settings.centerX();
+        double centerZ = settings.centerZ();
+        File file = new File(plugin.getDataFolder(), settings.imageMapFile());
+        if (!file.isFile()) {
+            plugin.getLogger().warning("Zone map file not found: " + file.getPath());
+            return null;
+        }
 
-        this.centerX = config.getZoneCenterX();
-        this.centerZ = config.getZoneCenterZ();
+        try {
+            if (!file.getName().toLowerCase(Locale.ROOT).endsWith(".png")) {
+                ZoneImageMap grid = ZoneImageMap.open(file, centerX, centerZ);
+                if (grid == null) {
+                    plugin.getLogger().warning("Zone map " + file.getName() + " is not a valid zone grid");
+                }
+                return grid;
+            }
 
-        // Load zone radii and square them for distance checks
-        double stormlandsRadius = config.getStormlandsRadius();
-        double stormZoneRadius = config.getStormZoneRadius();
-        double safeZoneRadius = config.getSafeZoneRadius();
+            byte[] png = Files.readAllBytes(file.toPath());
+            int blocksPerPixel = settings.imageMapBlocksPerPixel();
+            Map<String, Integer> configured = settings.imageMapColors();
+            int[] colors = new int[ZoneType.values().length];
+            colors[ZoneType.STORMLANDS.ordinal()] = configured.getOrDefault("stormlands", ZoneType.STORMLANDS.getColor());
+            colors[ZoneType.STORM_ZONE.ordinal()] = configured.getOrDefault("stormZone", ZoneType.STORM_ZONE.getColor());
+            colors[ZoneType.SAFE_ZONE.ordinal()] = configured.getOrDefault("safeZone", ZoneType.SAFE_ZONE.getColor());
+
+            CRC32 crc = new CRC32();
+            crc.update(png);
+            crc.update((blocksPerPixel + "," + colors[0] + "," + colors[1] + "," + colors[2]).getBytes(StandardCharsets.UTF_8));
+            long sourceHash = crc.getValue();
+
+            File folder = new File(plugin.getDataFolder(), "cache");
+            folder.mkdirs();
+            // One set of grids per image file, so worlds with different maps don't delete each other's
+            String prefix = "zone-map-" + Integer.toHexString(settings.imageMapFile().hashCode()) + "-";
+            File cached = new File(folder, prefix + Long.toHexString(sourceHash) + ".bin");
+            if (cached.exists()) {
+                ZoneImageMap map = ZoneImageMap.open(cached, centerX, centerZ);
+                if (map != null && map.getSourceHash() == sourceHash) {
+                    return map;
+                }
+            }
 
-        this.stormlandsRadiusSquared = stormlandsRadius * stormlandsRadius;
-        this.stormZoneRadiusSquared = stormZoneRadius * stormZoneRadius;
-        this.safeZoneRadiusSquared = safeZoneRadius * safeZoneRadius;
+            // Grids for an old image are left mapped until GC, so they're deleted rather than overwritten
+            File[] stale = folder.listFiles((dir, name) -> name.startsWith(prefix) && !name.equals(cached.getName()));
+            if (stale != null) {
+                for (File old : stale) {
+                    old.delete();
+                }
+            }
 
-        plugin.getLogger().info("Zone system: Using circular zones - Stormlands=" + stormlandsRadius +
-                               ", StormZone=" + stormZoneRadius +
-                               ", SafeZone=" + safeZoneRadius);
+            long start = System.currentTimeMillis();
+            ZoneImageMap.build(png, blocksPerPixel, colors, sourceHash, cached);
+            plugin.getLogger().info("Built zone grid from " + file.getName() + " in " + (System.currentTimeMillis() - start) + "ms");
+            return ZoneImageMap.open(cached, centerX, centerZ);
+        } catch (IOException e) {
+            plugin.getLogger().warning("Could not load zone map " + file.getName() + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Gets a world's zone layout. Worlds loaded since the last load use the main layout without WorldGuard.
+     */
+    private WorldZones layout(World world) {
+        for (WorldZones layout : worldZones) {
+            if (layout.world == world) {
+                return layout;
+            }
+        }
+        return fallbackZones;
     }
 
     /**
@@ -96,29 +284,34 @@ public class ZoneManager {
      * @return The zone type
      */
     public ZoneType getZoneAt(Location location) {
-        // Use WorldGuard regions if available
-        if (usingWorldGuardRegions) {
-            if (worldGuardIntegration.isInRegion(location, "stormlands")) {
-                return ZoneType.STORMLANDS;
-            } else if (worldGuardIntegration.isInRegion(location, "stormzone")) {
-                return ZoneType.STORM_ZONE;
-            } else if (worldGuardIntegration.isInRegion(location, "safezone")) {
-                return ZoneType.SAFE_ZONE;
-            }
-            // If not in any defined region, default to safe zone
+        if (location.getWorld() == null) {
             return ZoneType.SAFE_ZONE;
         }
+        WorldZones layout = layout(location.getWorld());
+
+        // Use WorldGuard regions if available (outside every region counts as the safe zone)
+        if (layout.usingWorldGuardRegions) {
+            return regionZoneCache.getZone(location.getWorld(), location.getBlockX(), location.getBlockY(), location.getBlockZ());
+        }
 
         // Fallback to circular zones
-        if (!enabled) {
+        StormcraftSettings.Zones current = layout.zones;
+        if (!current.enabled()) {
             return ZoneType.SAFE_ZONE; // Default to safe if zones disabled
         }
 
-        double distanceSquared = getDistanceSquaredFromCenter(location);
+        ZoneImageMap map = layout.zoneMap;
+        if (map != null) {
+            return map.getZone(location.getBlockX(), location.getBlockZ());
+        }
+
+        double dx = location.getX() - current.centerX();
+        double dz = location.getZ() - current.centerZ();
+        double distanceSquared = dx * dx + dz * dz;
 
-        if (distanceSquared <= stormlandsRadiusSquared) {
+        if (distanceSquared <= current.stormlandsRadiusSquared()) {
             return ZoneType.STORMLANDS;
-        } else if (distanceSquared <= stormZoneRadiusSquared) {
+        } else if (distanceSquared <= current.stormZoneRadiusSquared()) {
             return ZoneType.STORM_ZONE;
         } else {
             return ZoneType.SAFE_ZONE;
@@ -126,18 +319,19 @@ public class ZoneManager {
     }
 
     /**
-     * Gets the distance squared from a location to the zone center.
+     * Gets the distance squared from a location to its world's zone center.
      * @param location The location
      * @return Distance squared (avoiding expensive sqrt)
      */
     public double getDistanceSquaredFromCenter(Location location) {
-        double dx = location.getX() - centerX;
-        double dz = location.getZ() - centerZ;
+        StormcraftSettings.Zones current = layout(location.getWorld()).zones;
+        double dx = location.getX() - current.centerX();
+        double dz = location.getZ() - current.centerZ();
         return dx * dx + dz * dz;
     }
 
     /**
-     * Gets the actual distance from a location to the zone center.
+     * Gets the actual distance from a location to its world's zone center.
      * @param location The location
      * @return Distance in blocks
      */
@@ -149,31 +343,32 @@ public class ZoneManager {
      * Checks if a location is in the Stormlands.
      */
     public boolean isInStormlands(Location location) {
-        return enabled && getZoneAt(location) == ZoneType.STORMLANDS;
+        return layout(location.getWorld()).zones.enabled() && getZoneAt(location) == ZoneType.STORMLANDS;
     }
 
     /**
      * Checks if a location is in the Storm Zone.
      */
     public boolean isInStormZone(Location location) {
-        return enabled && getZoneAt(location) == ZoneType.STORM_ZONE;
+        return layout(location.getWorld()).zones.enabled() && getZoneAt(location) == ZoneType.STORM_ZONE;
     }
 
     /**
      * Checks if a location is in a Safe Zone.
      */
     public boolean isInSafeZone(Location location) {
-        return !enabled || getZoneAt(location) == ZoneType.SAFE_ZONE;
+        return !layout(location.getWorld()).zones.enabled() || getZoneAt(location) == ZoneType.SAFE_ZONE;
     }
 
     /**
      * Gets the settings for a specific zone type.
      */
     public ZoneSettings getSettingsForZone(ZoneType zoneType) {
+        StormcraftSettings.Zones current = zones;
         return switch (zoneType) {
-            case STORMLANDS -> stormlandsSettings;
-            case STORM_ZONE -> stormZoneSettings;
-            case SAFE_ZONE -> safeZoneSettings;
+            case STORMLANDS -> current.stormlandsSettings();
+            case STORM_ZONE -> current.stormZoneSettings();
+            case SAFE_ZONE -> current.safeZoneSettings();
         };
     }
 
@@ -185,48 +380,87 @@ public class ZoneManager {
     }
 
     // Getters
+
+    /**
+     * Checks if zones are active in any world.
+     */
     public boolean isEnabled() {
-        return enabled || usingWorldGuardRegions;
+        return enabled;
+    }
+
+    /**
+     * Checks if zones are active in a world, from WorldGuard regions or its zone layout.
+     */
+    public boolean isEnabled(World world) {
+        return layout(world).isEnabled();
     }
 
-    public boolean isUsingWorldGuardRegions() {
-        return usingWorldGuardRegions;
+    public boolean isUsingWorldGuardRegions(World world) {
+        return layout(world).usingWorldGuardRegions;
+    }
+
+    /**
+     * Gets a world's loaded zone map, or null if its zones come from WorldGuard regions or circular radii.
+     */
+    public ZoneImageMap getZoneMap(World world) {
+        return layout(world).zoneMap;
     }
 
     public WorldGuardIntegration getWorldGuardIntegration() {
         return worldGuardIntegration;
     }
 
-    public double getCenterX() {
-        return centerX;
+    public double getCenterX(World world) {
+        return layout(world).zones.centerX();
     }
 
-    public double getCenterZ() {
-        return centerZ;
+    public double getCenterZ(World world) {
+        return layout(world).zones.centerZ();
     }
 
-    public double getStormlandsRadius() {
-        return Math.sqrt(stormlandsRadiusSquared);
+    public double getStormlandsRadius(World world) {
+        return layout(world).zones.stormlandsRadius();
     }
 
-    public double getStormZoneRadius() {
-        return Math.sqrt(stormZoneRadiusSquared);
+    public double getStormZoneRadius(World world) {
+        return layout(world).zones.stormZoneRadius();
     }
 
-    public double getSafeZoneRadius() {
-        return Math.sqrt(safeZoneRadiusSquared);
+    public double getSafeZoneRadius(World world) {
+        return layout(world).zones.safeZoneRadius();
     }
 
     public ZoneSettings getStormlandsSettings() {
-        return stormlandsSettings;
+        return zones.stormlandsSettings();
     }
 
     public ZoneSettings getStormZoneSettings() {
-        return stormZoneSettings;
+        return zones.stormZoneSettings();
     }
 
     public ZoneSettings getSafeZoneSettings() {
-        return safeZoneSettings;
+        return zones.safeZoneSettings();
+    }
+
+    /**
+     * One world's zone layout and how its zones are resolved.
+     */
+    private static final class WorldZones {
+        private final World world;
+        private final StormcraftSettings.Zones zones;
+        private final boolean usingWorldGuardRegions;
+        // Set once the world's zone map has loaded
+        private volatile ZoneImageMap zoneMap;
+
+        private WorldZones(World world, StormcraftSettings.Zones zones, boolean usingWorldGuardRegions) {
+            this.world = world;
+            this.zones = zones;
+            this.usingWorldGuardRegions = usingWorldGuardRegions;
+        }
+
+        private boolean isEnabled() {
+            return zones.enabled() || usingWorldGuardRegions;
+        }
     }
 
     /**